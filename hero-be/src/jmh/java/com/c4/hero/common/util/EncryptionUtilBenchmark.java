@@ -0,0 +1,113 @@
+package com.c4.hero.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Class Name: EncryptionUtilBenchmark
+ * Description: 복호화 비용 비교 (호출마다 키/Cipher 생성 vs 키 캐시 + 스레드별 Cipher 재사용)
+ *
+ *  - decryptPerCall / decryptThreadLocal : 1건 복호화 (ns/op)
+ *  - columnPerCall / decryptColumn       : rows 건 목록 복호화 (조직도 전체 복호화, us/op)
+ *    rows 가 PARALLEL_DECRYPT_THRESHOLD(2,000) 이상이면 decryptColumn 은 병렬로 처리
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EncryptionUtilBenchmark
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class EncryptionUtilBenchmark {
+
+    private static final String SECRET = "hero-benchmark-secret-key";
+
+    private EncryptionUtil encryptionUtil;
+    private byte[] single;
+
+    @Setup
+    public void setUp() {
+        encryptionUtil = new EncryptionUtil(SECRET);
+        single = encryptionUtil.encrypt("user0@hero.com");
+    }
+
+    /**
+     * 목록 복호화 대상 (rows 건의 암호화 주소)
+     */
+    @State(Scope.Benchmark)
+    public static class Column {
+
+        @Param({"500", "5000"})
+        private int rows;
+
+        private List<byte[]> values;
+
+        @Setup
+        public void setUp() {
+            EncryptionUtil encryptionUtil = new EncryptionUtil(SECRET);
+            values = new ArrayList<>(IntStream.range(0, rows)
+                    .mapToObj(i -> encryptionUtil.encrypt("서울시 강남구 테헤란로 " + i + "길"))
+                    .toList());
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String decryptPerCall() throws Exception {
+        return new String(perCall(single), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String decryptThreadLocal() {
+        return encryptionUtil.decrypt(single);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void columnPerCall(Column column, Blackhole blackhole) throws Exception {
+        for (byte[] value : column.values) {
+            blackhole.consume(new String(perCall(value), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> decryptColumn(Column column) {
+        return encryptionUtil.decryptColumn(column.values, value -> value);
+    }
+
+    /**
+     * 기존 방식: 호출마다 키와 Cipher 를 새로 생성
+     */
+    private static byte[] perCall(byte[] input) throws Exception {
+        byte[] keyBytes = new byte[16];
+        byte[] sourceKey = SECRET.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < sourceKey.length; i++) {
+            keyBytes[i % 16] ^= sourceKey[i];
+        }
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyBytes, "AES"));
+        return cipher.doFinal(input);
+    }
+}
@@ -0,0 +1,121 @@
+package com.c4.hero.domain.approval.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <pre>
+ * Class Name: ApprovalDocNoAllocatorBenchmark
+ * Description: 문서 번호 발급 처리량 비교 (블록 예약 vs 결재 트랜잭션 동안 시퀀스 행 락)
+ *
+ *  - 최종 승인 1건 = 번호 발급 + 나머지 결재 처리(txMicros 동안 대기) + 커밋
+ *  - ROW_LOCK : 누락 없는 모드. 시퀀스 행 락을 커밋까지 잡으므로 승인끼리 직렬화
+ *  - BLOCK    : block-size 개를 별도 트랜잭션으로 예약하고 락은 예약 순간에만 잡음
+ *  - 시퀀스 행 락은 ReentrantLock, DB 왕복은 reserveMicros 대기로 대체 (DB 없이 경합 구조만 비교)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApprovalDocNoAllocatorBenchmark
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성 (ApprovalDocNoAllocatorTest 의 처리량 측정 이동)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ApprovalDocNoAllocatorBenchmark {
+
+    public enum AllocationMode { BLOCK, ROW_LOCK }
+
+    @Param({"BLOCK", "ROW_LOCK"})
+    private AllocationMode mode;
+
+    @Param({"50"})
+    private int blockSize;
+
+    /** 시퀀스 행 SELECT ... FOR UPDATE + UPDATE 왕복 시간 */
+    @Param({"200"})
+    private long reserveMicros;
+
+    /** 번호 발급 이후 커밋까지 나머지 결재 처리 시간 */
+    @Param({"2000"})
+    private long txMicros;
+
+    private LockingReserveService reserveService;
+    private ApprovalDocNoAllocator allocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reserveService = new LockingReserveService(reserveMicros);
+        allocator = new ApprovalDocNoAllocator(reserveService, blockSize, mode == AllocationMode.ROW_LOCK);
+    }
+
+    @Benchmark
+    public String approve() {
+        String docNo = allocator.next();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(txMicros));
+        reserveService.commit();
+        return docNo;
+    }
+
+    /**
+     * 시퀀스 행 락을 흉내 내는 예약 서비스
+     * reserveBlock 은 예약 직후 커밋(락 해제), reserveInCurrentTransaction 은 commit() 까지 락 유지
+     */
+    static final class LockingReserveService extends ApprovalSequenceReserveService {
+
+        private final ReentrantLock rowLock = new ReentrantLock(true);
+        private final long reserveNanos;
+        private long currentVal;
+
+        LockingReserveService(long reserveMicros) {
+            super(null);
+            this.reserveNanos = TimeUnit.MICROSECONDS.toNanos(reserveMicros);
+        }
+
+        @Override
+        public long reserveBlock(String seqType, long count) {
+            rowLock.lock();
+            try {
+                return reserve(count);
+            } finally {
+                rowLock.unlock();
+            }
+        }
+
+        @Override
+        public long reserveInCurrentTransaction(String seqType) {
+            rowLock.lock();
+            return reserve(1);
+        }
+
+        /** 결재 트랜잭션 커밋 - 이 스레드가 잡고 있는 행 락 해제 */
+        void commit() {
+            if (rowLock.isHeldByCurrentThread()) {
+                rowLock.unlock();
+            }
+        }
+
+        private long reserve(long count) {
+            LockSupport.parkNanos(reserveNanos);
+            long first = currentVal + 1;
+            currentVal += count;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.mapper.DashBoardMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name: DashBoardLoadBenchmark
+ * Description: 평가 대시보드 전체 조회 비교 (변경 전 단일 조인 vs 단계별 조회) - 실제 DB 대상
+ *
+ *  - legacyJoin : 변경 전 selectAllDashBoard (템플릿 ~ 평가서 항목 점수 한 번에 조인, 중첩 resultMap 으로 접기)
+ *  - stagedLoad : EvaluationDashBoardService.selectDashBoard(null) (평가 ID → 단계별 IN 조회 → 메모리 조립)
+ *  - 측정: 호출 1회 지연 시간 (ms/op), 조회 행 수는 Setup 에서 1회 출력
+ *      legacy 행 수 = 같은 조인의 COUNT(*), staged 행 수 = 단계별 쿼리 결과 행 합계
+ *  - 호출마다 새 SqlSession 을 열어 1차 캐시를 쓰지 않음
+ *
+ * 실행 (DB 접속 정보는 환경 변수, 운영 DB 가 아닌 복제본/스테이징 대상으로 실행)
+ *  BENCH_DB_URL=jdbc:mariadb://localhost:3306/hero BENCH_DB_USERNAME=... BENCH_DB_PASSWORD=... \
+ *      ./gradlew jmh -PjmhIncludes=DashBoardLoadBenchmark
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DashBoardLoadBenchmark {
+
+    private HikariDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+    private final RowCounter rowCounter = new RowCounter();
+
+    @Setup
+    public void setUp() throws IOException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(requiredEnv("BENCH_DB_URL"));
+        dataSource.setUsername(requiredEnv("BENCH_DB_USERNAME"));
+        dataSource.setPassword(System.getenv().getOrDefault("BENCH_DB_PASSWORD", ""));
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setReadOnly(true);
+
+        // MyBatisConfig 와 같은 동작 옵션
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setCallSettersOnNulls(true);
+        configuration.setJdbcTypeForNull(JdbcType.NULL);
+        configuration.getTypeAliasRegistry().registerAliases("com.c4.hero.domain");
+        configuration.addInterceptor(rowCounter);
+        addMapper(configuration, "mapper/evaluation/DashBoardMapper.xml");
+        addMapper(configuration, "benchmark/LegacyDashBoardMapper.xml");
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            long legacyRows = session.getMapper(LegacyDashBoardMapper.class).countAllDashBoardRows();
+
+            rowCounter.reset();
+            List<DashBoardResponseDTO> staged =
+                    new EvaluationDashBoardService(session.getMapper(DashBoardMapper.class)).selectDashBoard(null);
+
+            System.out.printf("%n[DashBoardLoadBenchmark] rows fetched - legacy join: %,d (1 query), "
+                            + "staged: %,d (%d queries), templates: %d%n",
+                    legacyRows, rowCounter.rows.get(), rowCounter.queries.get(), staged.size());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<DashBoardResponseDTO> legacyJoin() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(LegacyDashBoardMapper.class).selectAllDashBoard();
+        }
+    }
+
+    @Benchmark
+    public List<DashBoardResponseDTO> stagedLoad() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return new EvaluationDashBoardService(session.getMapper(DashBoardMapper.class)).selectDashBoard(null);
+        }
+    }
+
+    private static void addMapper(Configuration configuration, String resource) throws IOException {
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    private static String requiredEnv(String name) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(name + " 환경 변수가 필요합니다. (DashBoardLoadBenchmark 는 실제 DB 대상)");
+        }
+        return value;
+    }
+
+    /**
+     * 조회 결과 행 수 집계 (단계별 조회는 resultType 이 평평하므로 결과 목록 크기 = 가져온 행 수)
+     */
+    @Intercepts(@Signature(type = Executor.class, method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}))
+    static final class RowCounter implements Interceptor {
+
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong queries = new AtomicLong();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            if (result instanceof List<?> list) {
+                rows.addAndGet(list.size());
+                queries.incrementAndGet();
+            }
+            return result;
+        }
+
+        void reset() {
+            rows.set(0);
+            queries.set(0);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name: LegacyDashBoardMapper
+ * Description: 단계별 조회 이전의 단일 조인 대시보드 조회 (benchmark/LegacyDashBoardMapper.xml, 벤치마크 전용)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public interface LegacyDashBoardMapper {
+
+    /** 템플릿 ~ 평가서 항목 점수까지 한 번에 조인한 대시보드 전체 */
+    List<DashBoardResponseDTO> selectAllDashBoard();
+
+    /** selectAllDashBoard 가 가져오는 행 수 */
+    long countAllDashBoardRows();
+}
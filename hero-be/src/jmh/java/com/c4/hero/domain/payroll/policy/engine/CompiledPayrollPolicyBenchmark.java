@@ -0,0 +1,125 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * Class Name: CompiledPayrollPolicyBenchmark
+ * Description: 컴파일된 급여 항목 정책의 사원 1명당 평가 비용 (us/op)
+ *
+ *  - 규칙 200개: FIXED / RATE / FORMULA 수당과 RATE 공제를 섞고,
+ *    대상은 전체 / 부서 / 직급 / 사원 지정을 섞음 (사원마다 적용 규칙 수가 다름)
+ *  - 사원 10,000명을 한 번에 평가하고 OperationsPerInvocation 으로 나눠 사원 1명당 시간으로 보고
+ *  - compile 은 배치당 1회이므로 측정에서 제외 (Setup)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CompiledPayrollPolicyBenchmark
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompiledPayrollPolicyBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int DEPARTMENTS = 50;
+    private static final int GRADES = 8;
+
+    @Param({"200"})
+    private int ruleCount;
+
+    private CompiledPayrollPolicy policy;
+    private final int[] employeeIds = new int[EMPLOYEES];
+    private final int[] departmentIds = new int[EMPLOYEES];
+    private final int[] gradeIds = new int[EMPLOYEES];
+    private final int[] baseSalaries = new int[EMPLOYEES];
+    private final int[] overtimePays = new int[EMPLOYEES];
+    private final int[] workedMinutes = new int[EMPLOYEES];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        List<PolicyRuleDefinition> definitions = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            definitions.add(definition(i, random));
+        }
+        policy = CompiledPayrollPolicy.compile(1, definitions);
+
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employeeIds[i] = i + 1;
+            departmentIds[i] = random.nextInt(DEPARTMENTS) + 1;
+            gradeIds[i] = random.nextInt(GRADES) + 1;
+            baseSalaries[i] = 2_500_000 + random.nextInt(5_000_000);
+            overtimePays[i] = random.nextInt(500_000);
+            workedMinutes[i] = 9_000 + random.nextInt(2_000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public void evaluatePerEmployee(Blackhole blackhole) {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            blackhole.consume(policy.evaluate(employeeIds[i], departmentIds[i], gradeIds[i],
+                    baseSalaries[i], overtimePays[i], workedMinutes[i]));
+        }
+    }
+
+    /**
+     * 규칙 i 번: 계산 방식은 i % 4, 대상은 i % 5 로 순환 (마지막 1/5 은 공제)
+     */
+    private static PolicyRuleDefinition definition(int i, SplittableRandom random) {
+        boolean deduction = i % 5 == 4;
+        ItemType itemType = deduction ? ItemType.DEDUCTION : ItemType.ALLOWANCE;
+        String code = (deduction ? "D" : "A") + i;
+
+        List<PolicyRuleDefinition.Target> targets = switch (i % 5) {
+            case 1 -> List.of(new PolicyRuleDefinition.Target(
+                    PayrollTargetType.DEPARTMENT, String.valueOf(random.nextInt(DEPARTMENTS) + 1)));
+            case 2 -> List.of(new PolicyRuleDefinition.Target(
+                    PayrollTargetType.POSITION, String.valueOf(random.nextInt(GRADES) + 1)));
+            case 3 -> List.of(new PolicyRuleDefinition.Target(
+                    PayrollTargetType.EMPLOYEE, String.valueOf(random.nextInt(EMPLOYEES) + 1)));
+            default -> List.of();
+        };
+
+        if (deduction) {
+            return new PolicyRuleDefinition(i, itemType, code, code, "N", CalcMethod.RATE, null,
+                    new BigDecimal("0.45"), BaseAmountType.GROSS_PAY, 10, RoundingModeType.FLOOR, i, null, targets);
+        }
+        return switch (i % 4) {
+            case 0 -> new PolicyRuleDefinition(i, itemType, code, code, "Y", CalcMethod.FIXED, 10_000 + i, null,
+                    null, 1, RoundingModeType.HALF_UP, i, null, targets);
+            case 1 -> new PolicyRuleDefinition(i, itemType, code, code, "Y", CalcMethod.RATE, null,
+                    new BigDecimal("1.5"), BaseAmountType.BASE_SALARY, 10, RoundingModeType.HALF_UP, i, null, targets);
+            default -> new PolicyRuleDefinition(i, itemType, code, code, "N", CalcMethod.FORMULA, null, null,
+                    null, 10, RoundingModeType.HALF_UP, i,
+                    "max(BASE_SALARY * 0.01, 20000) + WORKED_HOURS * 100 + OVERTIME_PAY * 0.1", targets);
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.c4.hero.common.ai;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <pre>
+ * Class Name: AiGateway
+ * Description: AI 서버(Fast API) 비동기 호출 게이트웨이
+ *
+ *  - 서블릿 스레드를 점유하지 않도록 CompletableFuture 로 결과 반환 (block() 미사용)
+ *  - 동시 호출 한도(bulkhead): 한도 초과 요청은 대기 없이 AI_SERVER_BUSY 로 거절
+ *  - 호출 1회당 타임아웃, 일시적 오류는 지수 백오프 + 지터로 재시도
+ *  - 결과 캐시: "URI + 요청 본문(JSON, 맵 키 정렬)" 의 SHA-256 을 키로 사용
+ *    같은 요청이 동시에 들어오면 서버 호출은 한 번만 수행하고 결과를 공유
+ *    실패한 호출은 캐시에 남지 않음
+ *
+ * History
+ * 2026/01/19 (동근) 최초 작성
+ * 2026/01/22 (동근) 동시 호출 한도를 결과 전달 전에 반납하도록 변경 (Mono.using)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+public class AiGateway {
+
+    private static final double RETRY_JITTER = 0.5;
+
+    private final WebClient webClient;
+    private final ObjectWriter keyWriter;
+    private final AiGatewaySpec spec;
+    private final Semaphore permits;
+    private final AsyncCache<String, Object> resultCache;
+
+    /**
+     * @param webClient    AI 서버 WebClient (baseUrl 설정 완료)
+     * @param objectMapper 캐시 키 생성용 ObjectMapper
+     * @param spec         호출 정책
+     */
+    public AiGateway(WebClient webClient, ObjectMapper objectMapper, AiGatewaySpec spec) {
+        this.webClient = webClient;
+        this.keyWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.spec = spec;
+        this.permits = new Semaphore(spec.maxConcurrent());
+        this.resultCache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.cacheTtl())
+                .maximumSize(spec.cacheMaxSize())
+                .buildAsync();
+    }
+
+    /**
+     * AI 서버 POST 호출 (결과 캐시 적용)
+     *
+     * @param uri          요청 경로
+     * @param body         요청 본문
+     * @param responseType 응답 타입
+     * @return 응답 결과 (실패 시 BusinessException 으로 완료)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> post(String uri, Object body, ParameterizedTypeReference<T> responseType) {
+        CompletableFuture<Object> shared = resultCache.get(
+                cacheKey(uri, body),
+                (key, executor) -> call(uri, body, responseType).toFuture()
+        );
+        // 호출자가 취소해도 공유 중인 캐시 엔트리에 영향이 없도록 복사본 반환
+        return (CompletableFuture<T>) (CompletableFuture<?>) shared.copy();
+    }
+
+    /**
+     * 현재 진행 중인 AI 서버 호출 수
+     *
+     * @return 진행 중 호출 수
+     */
+    public int inFlight() {
+        return spec.maxConcurrent() - permits.availablePermits();
+    }
+
+    /* =================== private =================== */
+
+    private <T> Mono<T> call(String uri, Object body, ParameterizedTypeReference<T> responseType) {
+        // eager 정리: 결과/오류가 호출자에게 전달되기 전에 동시 호출 한도를 반납 (취소 시에도 반납)
+        return Mono.using(
+                        this::acquirePermit,
+                        permit -> webClient.post()
+                                .uri(uri)
+                                .bodyValue(body)
+                                .retrieve()
+                                .bodyToMono(responseType)
+                                .timeout(spec.timeout())
+                                .retryWhen(Retry.backoff(spec.maxRetries(), spec.retryBackoff())
+                                        .jitter(RETRY_JITTER)
+                                        .filter(AiGateway::isTransient)
+                                        .doBeforeRetry(signal -> log.warn("AI 서버 호출 재시도 - uri={}, attempt={}, cause={}",
+                                                uri, signal.totalRetries() + 1, signal.failure().toString()))
+                                        .onRetryExhaustedThrow((retrySpec, signal) -> signal.failure())),
+                        permit -> permits.release(),
+                        true
+                )
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> toBusinessException(uri, e));
+    }
+
+    private Semaphore acquirePermit() {
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.AI_SERVER_BUSY);
+        }
+        return permits;
+    }
+
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+
+    private static BusinessException toBusinessException(String uri, Throwable e) {
+        if (e instanceof TimeoutException) {
+            log.warn("AI 서버 응답 시간 초과 - uri={}", uri);
+            return new BusinessException(ErrorCode.AI_SERVER_TIMEOUT);
+        }
+        if (e instanceof WebClientResponseException response) {
+            log.warn("AI 서버 오류 응답 - uri={}, status={}, body={}",
+                    uri, response.getStatusCode().value(), response.getResponseBodyAsString());
+        } else {
+            log.warn("AI 서버 호출 실패 - uri={}, cause={}", uri, e.toString());
+        }
+        return new BusinessException(ErrorCode.AI_SERVER_ERROR);
+    }
+
+    private String cacheKey(String uri, Object body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(uri.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0x1F);
+            digest.update(keyWriter.writeValueAsBytes(body));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.c4.hero.common.ai;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * Record Name: AiGatewaySpec
+ * Description: AI 서버 호출 정책 (동시 요청 한도, 타임아웃, 재시도, 결과 캐시)
+ *
+ * History
+ * 2026/01/19 (동근) 최초 작성
+ * </pre>
+ *
+ * @param maxConcurrent 동시 호출 한도 (초과 시 즉시 거절)
+ * @param timeout       호출 1회당 응답 대기 시간
+ * @param maxRetries    일시적 오류(5xx/429/연결 실패/타임아웃) 재시도 횟수
+ * @param retryBackoff  첫 재시도 대기 시간 (지수 증가 + 지터)
+ * @param cacheTtl      분석 결과 캐시 보관 시간
+ * @param cacheMaxSize  분석 결과 캐시 최대 건수
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record AiGatewaySpec(
+        int maxConcurrent,
+        Duration timeout,
+        int maxRetries,
+        Duration retryBackoff,
+        Duration cacheTtl,
+        long cacheMaxSize
+) {
+}
@@ -0,0 +1,49 @@
+package com.c4.hero.common.cache;
+
+/**
+ * <pre>
+ * Class Name: CacheNames
+ * Description: 2단 캐시(L1 Caffeine / L2 Redis) 캐시 이름 상수
+ *              캐시별 TTL 은 CacheConfig 에서 지정
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * 2026/01/21 (동근) 사원별 알림 설정 캐시 추가
+ * 2026/01/22 (동근) 사원 이름 캐시 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+public final class CacheNames {
+
+    /** 결재 서식 목록 (즐겨찾기 제외) */
+    public static final String APPROVAL_TEMPLATES = "approvalTemplates";
+
+    /** 결재 서식 단건 (key: templateId) */
+    public static final String APPROVAL_TEMPLATE = "approvalTemplate";
+
+    /** 사원별 즐겨찾기 서식 ID 목록 (key: employeeId) */
+    public static final String APPROVAL_BOOKMARKS = "approvalBookmarks";
+
+    /** 직급 목록 */
+    public static final String GRADES = "grades";
+
+    /** 직책 목록 */
+    public static final String JOB_TITLES = "jobTitles";
+
+    /** 퇴사 사유 목록 */
+    public static final String EXIT_REASONS = "exitReasons";
+
+    /** 사원 검색 옵션 (부서/직급/직책명) */
+    public static final String EMPLOYEE_SEARCH_OPTIONS = "employeeSearchOptions";
+
+    /** 사원별 알림 설정 (key: employeeId) */
+    public static final String NOTIFICATION_SETTINGS = "notificationSettings";
+
+    /** 사원 표시 이름 (key: employeeId) */
+    public static final String EMPLOYEE_NAMES = "employeeNames";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,33 @@
+package com.c4.hero.common.cache;
+
+/**
+ * <pre>
+ * DTO Name : CacheStatsResponseDTO
+ * Description : 2단 캐시 적중/미스 통계 응답 DTO
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param cacheName   캐시 이름
+ * @param l1Hits      L1(Caffeine) 적중 수
+ * @param l2Hits      L2(Redis) 적중 수
+ * @param misses      미스(DB 조회) 수
+ * @param hitRatio    전체 적중률 (0~1)
+ * @param l1Size      현재 L1 엔트리 수(근사치)
+ * @param l2Errors    L2 호출 실패 수
+ * @param l2Available L2 사용 가능 여부 (장애 시 일정 시간 L1 단독 동작)
+ */
+public record CacheStatsResponseDTO(
+        String cacheName,
+        long l1Hits,
+        long l2Hits,
+        long misses,
+        double hitRatio,
+        long l1Size,
+        long l2Errors,
+        boolean l2Available
+) {}
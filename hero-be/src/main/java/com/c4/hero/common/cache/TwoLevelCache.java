@@ -0,0 +1,232 @@
+package com.c4.hero.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * Class Name: TwoLevelCache
+ * Description: L1(프로세스 내 Caffeine) + L2(Redis) 2단 캐시
+ *
+ * 조회 순서
+ *  - L1 → L2 → 원본(DB) 순으로 조회하고, 하위 계층에서 찾은 값은 상위 계층에 채움
+ *  - 동일 키 동시 미스는 L1(Caffeine) 단에서 한 번만 원본을 조회 (@Cacheable(sync = true))
+ *
+ * 무효화
+ *  - evict/clear 는 L1, L2 를 함께 비우고 다른 인스턴스에 무효화 메시지를 발행
+ *  - 메시지를 받은 인스턴스는 해당 캐시의 L1 만 비움 (L2 는 공유 저장소)
+ *
+ * 장애 처리
+ *  - L2 접근 실패(DataAccessException) 시 일정 시간 L2 를 건너뛰고 L1 단독으로 동작
+ *  - L2 가 꺼진 동안의 evict 는 L2 에 반영되지 않으므로 L2 TTL 이 최대 지연이 됨
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final Consumer<String> invalidationPublisher;
+    private final long remoteRetryMillis;
+
+    private volatile long remoteSuspendedUntil;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder l2Errors = new LongAdder();
+
+    /**
+     * @param name                  캐시 이름
+     * @param local                 L1 Caffeine 캐시
+     * @param remote                L2 캐시 (null 이면 L1 단독)
+     * @param invalidationPublisher 다른 인스턴스로 L1 무효화를 알리는 발행자 (캐시 이름 전달)
+     * @param remoteRetryMillis     L2 장애 시 재시도까지 대기 시간(ms)
+     */
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            Cache remote,
+            Consumer<String> invalidationPublisher,
+            long remoteRetryMillis
+    ) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteRetryMillis = remoteRetryMillis;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+
+        value = remoteGet(key);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(key, value);
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return (T) fromStoreValue(value);
+        }
+        return (T) fromStoreValue(local.get(key, k -> loadThrough(k, valueLoader)));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        local.put(key, storeValue);
+        remoteRun(() -> remote.put(key, storeValue));
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        remoteRun(() -> remote.evict(key));
+        publishInvalidation();
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        remoteRun(remote::clear);
+        publishInvalidation();
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 시 L1 만 비움
+     */
+    public void invalidateLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * 현재까지의 적중/미스 통계
+     *
+     * @return 캐시 통계
+     */
+    public CacheStatsResponseDTO stats() {
+        long l1 = l1Hits.sum();
+        long l2 = l2Hits.sum();
+        long miss = misses.sum();
+        long total = l1 + l2 + miss;
+        return new CacheStatsResponseDTO(
+                name,
+                l1,
+                l2,
+                miss,
+                total == 0 ? 0.0 : (double) (l1 + l2) / total,
+                local.estimatedSize(),
+                l2Errors.sum(),
+                isRemoteAvailable()
+        );
+    }
+
+    /* =================== private =================== */
+
+    /**
+     * L1 미스 시 L2 → 원본 순으로 값을 가져오고 L2 에 채움
+     */
+    private Object loadThrough(Object key, Callable<?> valueLoader) {
+        Object value = remoteGet(key);
+        if (value != null) {
+            l2Hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        Object loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        Object storeValue = toStoreValue(loaded);
+        remoteRun(() -> remote.put(key, storeValue));
+        return storeValue;
+    }
+
+    private Object remoteGet(Object key) {
+        Cache.ValueWrapper wrapper = remoteCall(() -> remote.get(key));
+        return wrapper != null ? wrapper.get() : null;
+    }
+
+    private void remoteRun(Runnable operation) {
+        remoteCall(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private void publishInvalidation() {
+        if (invalidationPublisher == null) {
+            return;
+        }
+        remoteRun(() -> invalidationPublisher.accept(name));
+    }
+
+    private <T> T remoteCall(Supplier<T> operation) {
+        if (!isRemoteAvailable()) {
+            return null;
+        }
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            l2Errors.increment();
+            remoteSuspendedUntil = System.currentTimeMillis() + remoteRetryMillis;
+            log.warn("L2 캐시 접근 실패, {}ms 동안 L1 단독 동작 - cache={}, cause={}",
+                    remoteRetryMillis, name, e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            // 역직렬화 실패 등 개별 엔트리 문제는 미스로 처리
+            l2Errors.increment();
+            log.warn("L2 캐시 처리 실패 - cache={}, cause={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isRemoteAvailable() {
+        return remote != null && System.currentTimeMillis() >= remoteSuspendedUntil;
+    }
+}
@@ -0,0 +1,138 @@
+package com.c4.hero.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * Class Name: TwoLevelCacheManager
+ * Description: TwoLevelCache 생성/관리 및 인스턴스 간 L1 무효화 메시지 처리
+ *
+ *  - 트랜잭션 인지(transactionAware): put/evict 는 커밋 이후에 반영되어
+ *    롤백된 변경이 캐시에 남거나, 커밋 전 재조회로 이전 값이 다시 채워지는 것을 방지
+ *  - 무효화 메시지 형식: "{instanceId}:{cacheName}" (자기 자신이 보낸 메시지는 무시)
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private static final String MESSAGE_SEPARATOR = ":";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCacheSpec> specs;
+    private final TwoLevelCacheSpec defaultSpec;
+    private final CacheManager remoteCacheManager;
+    private final Consumer<String> messagePublisher;
+    private final long remoteRetryMillis;
+
+    /**
+     * @param specs              캐시별 보관 정책
+     * @param defaultSpec        정책이 없는 캐시의 기본 보관 정책
+     * @param remoteCacheManager L2 캐시 매니저 (null 이면 L1 단독)
+     * @param messagePublisher   무효화 메시지 발행자 (메시지 본문 전달, null 이면 발행 안 함)
+     * @param remoteRetryMillis  L2 장애 시 재시도까지 대기 시간(ms)
+     */
+    public TwoLevelCacheManager(
+            Map<String, TwoLevelCacheSpec> specs,
+            TwoLevelCacheSpec defaultSpec,
+            CacheManager remoteCacheManager,
+            Consumer<String> messagePublisher,
+            long remoteRetryMillis
+    ) {
+        this.specs = Map.copyOf(specs);
+        this.defaultSpec = defaultSpec;
+        this.remoteCacheManager = remoteCacheManager;
+        this.messagePublisher = messagePublisher;
+        this.remoteRetryMillis = remoteRetryMillis;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return specs.entrySet().stream()
+                .map(entry -> createCache(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name, defaultSpec);
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 처리
+     *
+     * @param message "{instanceId}:{cacheName}"
+     */
+    public void handleInvalidationMessage(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || instanceId.equals(message.substring(0, separator))) {
+            return;
+        }
+
+        TwoLevelCache cache = unwrap(lookupCache(message.substring(separator + 1)));
+        if (cache != null) {
+            cache.invalidateLocal();
+            log.debug("원격 무효화 수신 - cache={}", cache.getName());
+        }
+    }
+
+    /**
+     * 전체 캐시 적중/미스 통계
+     *
+     * @return 캐시별 통계
+     */
+    public List<CacheStatsResponseDTO> getStats() {
+        return getCacheNames().stream()
+                .sorted()
+                .map(name -> unwrap(lookupCache(name)))
+                .filter(Objects::nonNull)
+                .map(TwoLevelCache::stats)
+                .toList();
+    }
+
+    /* =================== private =================== */
+
+    private TwoLevelCache createCache(String name, TwoLevelCacheSpec spec) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .expireAfterWrite(spec.localTtl())
+                .maximumSize(spec.localMaxSize())
+                .build();
+
+        Cache remote = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+
+        return new TwoLevelCache(
+                name,
+                local,
+                remote,
+                messagePublisher != null
+                        ? cacheName -> messagePublisher.accept(instanceId + MESSAGE_SEPARATOR + cacheName)
+                        : null,
+                remoteRetryMillis
+        );
+    }
+
+    private static TwoLevelCache unwrap(Cache cache) {
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache : null;
+    }
+}
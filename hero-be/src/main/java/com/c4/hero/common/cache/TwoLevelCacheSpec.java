@@ -0,0 +1,25 @@
+package com.c4.hero.common.cache;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * Record Name: TwoLevelCacheSpec
+ * Description: 캐시별 L1/L2 보관 정책
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param localTtl     L1(프로세스 내) 만료 시간 - 다른 인스턴스의 무효화 메시지 유실 시 최대 지연
+ * @param localMaxSize L1 최대 엔트리 수
+ * @param remoteTtl    L2(Redis) 만료 시간
+ */
+public record TwoLevelCacheSpec(
+        Duration localTtl,
+        long localMaxSize,
+        Duration remoteTtl
+) {}
@@ -1,11 +1,19 @@
 package com.c4.hero.common.config;
 
+import com.c4.hero.common.ai.AiGateway;
+import com.c4.hero.common.ai.AiGatewaySpec;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
 
 /**
  * <pre>
@@ -14,22 +22,67 @@ import org.springframework.web.reactive.function.client.WebClient;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/01/19 (동근) 연결 타임아웃 및 비동기 호출 게이트웨이(AiGateway) 설정 추가
  * </pre>
  *
  * @author 승민
- * @version 1.0
+ * @version 1.1
  */
 
 @Configuration
 public class AiClientConfig {
 
+    @Value("${ai.client.connect-timeout-millis:3000}")
+    private int connectTimeoutMillis;
+
+    @Value("${ai.client.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Value("${ai.client.max-concurrent:8}")
+    private int maxConcurrent;
+
+    @Value("${ai.client.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${ai.client.retry-backoff-millis:500}")
+    private long retryBackoffMillis;
+
+    @Value("${ai.client.cache-ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    @Value("${ai.client.cache-max-size:500}")
+    private long cacheMaxSize;
+
     @Bean
     public WebClient aiWebClient(
             @Value("${ai.server.base-url}") String baseUrl
     ) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis);
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
+
+    /**
+     * AI 서버 비동기 호출 게이트웨이
+     *
+     * @param aiWebClient  AI 서버 WebClient
+     * @param objectMapper 캐시 키 생성용 ObjectMapper
+     * @return AI 게이트웨이
+     */
+    @Bean
+    public AiGateway aiGateway(WebClient aiWebClient, ObjectMapper objectMapper) {
+        return new AiGateway(aiWebClient, objectMapper, new AiGatewaySpec(
+                maxConcurrent,
+                Duration.ofSeconds(timeoutSeconds),
+                maxRetries,
+                Duration.ofMillis(retryBackoffMillis),
+                Duration.ofMinutes(cacheTtlMinutes),
+                cacheMaxSize
+        ));
+    }
 }
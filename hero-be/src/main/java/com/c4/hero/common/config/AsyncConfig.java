@@ -1,7 +1,15 @@
 package com.c4.hero.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * <pre>
@@ -11,14 +19,100 @@ import org.springframework.scheduling.annotation.EnableAsync;
  *
  * History
  * 2025/12/11 (혜원) 최초 작성
+ * 2026/01/12 (동근) 급여 배치 계산 전용 스레드 풀 추가
+ * 2026/01/15 (동근) 급여 배치 계산 작업(Job) 실행기 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    // @EnableAsync만 있으면 기본 설정으로 작동
-    // 필요 시 ThreadPoolTaskExecutor 커스터마이징 가능
-}
\ No newline at end of file
+
+    /**
+     * @Async 기본 실행기
+     * 전용 실행기 빈이 추가되면 스프링 부트 기본 실행기가 등록되지 않으므로 명시적으로 선언
+     *
+     * @return 기본 비동기 실행기
+     */
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setThreadNamePrefix("task-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 급여 배치 계산 전용 실행기
+     * - 동시 실행 수(parallelism)만큼만 워커를 두어 DB 커넥션 풀 고갈 방지
+     * - 큐가 가득 차면 호출 스레드에서 실행(CallerRuns)하여 자연스럽게 속도 조절
+     * - 워커 스레드에서도 @PayrollAdminOnly 인가가 통과하도록 SecurityContext 전파
+     *
+     * @param parallelism   동시 계산 청크 수
+     * @param queueCapacity 대기 청크 수
+     * @return 급여 계산 실행기
+     */
+    @Bean(name = "payrollCalculationExecutor")
+    public ThreadPoolTaskExecutor payrollCalculationExecutor(
+            @Value("${payroll.batch.parallelism:4}") int parallelism,
+            @Value("${payroll.batch.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payroll-calc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(securityContextPropagatingDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 급여 배치 계산 작업(Job) 실행기
+     * - HTTP 요청 스레드와 분리하여 장시간 배치 계산을 백그라운드로 실행
+     * - 작업 자체는 payrollCalculationExecutor 에 청크를 분배하는 조정자 역할
+     *
+     * @param concurrency 동시에 실행 가능한 배치 작업 수
+     * @return 급여 배치 작업 실행기
+     */
+    @Bean(name = "payrollBatchJobExecutor")
+    public ThreadPoolTaskExecutor payrollBatchJobExecutor(
+            @Value("${payroll.batch.job-concurrency:2}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("payroll-job-");
+        executor.setTaskDecorator(securityContextPropagatingDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 제출 시점의 SecurityContext 를 워커 스레드로 복사하는 TaskDecorator
+     *
+     * @return TaskDecorator
+     */
+    private TaskDecorator securityContextPropagatingDecorator() {
+        return runnable -> {
+            SecurityContext context = SecurityContextHolder.getContext();
+            return () -> {
+                SecurityContext previous = SecurityContextHolder.getContext();
+                try {
+                    SecurityContextHolder.setContext(context);
+                    runnable.run();
+                } finally {
+                    SecurityContextHolder.setContext(previous);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.c4.hero.common.config;
+
+import com.c4.hero.common.cache.CacheNames;
+import com.c4.hero.common.cache.TwoLevelCacheManager;
+import com.c4.hero.common.cache.TwoLevelCacheSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name: CacheConfig
+ * Description: 기준정보(서식/직급/직책/퇴사사유 등) 2단 캐시 설정
+ *              L1: 인스턴스 내 Caffeine, L2: Redis (인스턴스 간 공유)
+ *
+ *  - cache.redis.enabled 기본값 false: L2/무효화 메시지 없이 L1 단독으로 동작
+ *    (Redis 가 구성된 환경에서만 spring.data.redis.* 와 함께 true 로 설정)
+ *  - 인스턴스 간 L1 무효화는 Redis Pub/Sub(CACHE_INVALIDATION_CHANNEL)로 전파
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * 2026/01/21 (동근) 알림 설정 캐시 정책 추가
+ * 2026/01/22 (동근) 사원 이름 캐시 정책 추가
+ * 2026/01/22 (동근) Redis 미구성 환경 보호를 위해 cache.redis.enabled 기본값 false
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.3
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CACHE_INVALIDATION_CHANNEL = "hero:cache:invalidation";
+
+    private static final String REDIS_KEY_PREFIX = "hero:cache:";
+
+    /** 기준정보 기본 정책: L1 10분, L2 1시간 */
+    private static final TwoLevelCacheSpec MASTER_DATA_SPEC =
+            new TwoLevelCacheSpec(Duration.ofMinutes(10), 1_000, Duration.ofHours(1));
+
+    @Value("${cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${cache.redis.retry-after-seconds:30}")
+    private long redisRetryAfterSeconds;
+
+    /**
+     * 2단 캐시 매니저
+     *
+     * @param connectionFactory Redis 커넥션 팩토리
+     * @param redisTemplate     무효화 메시지 발행용 템플릿
+     * @return 캐시 매니저
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate
+    ) {
+        Map<String, TwoLevelCacheSpec> specs = cacheSpecs();
+
+        RedisCacheManager redisCacheManager = null;
+        if (redisEnabled) {
+            // devtools 재시작 클래스로더에서도 역직렬화되도록 애플리케이션 클래스로더 지정
+            RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig(CacheConfig.class.getClassLoader())
+                    .prefixCacheNameWith(REDIS_KEY_PREFIX)
+                    .disableCachingNullValues();
+
+            Map<String, RedisCacheConfiguration> redisConfigs = new HashMap<>();
+            specs.forEach((name, spec) -> redisConfigs.put(name, base.entryTtl(spec.remoteTtl())));
+
+            redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                    .cacheDefaults(base.entryTtl(MASTER_DATA_SPEC.remoteTtl()))
+                    .withInitialCacheConfigurations(redisConfigs)
+                    .build();
+            redisCacheManager.afterPropertiesSet();
+        }
+
+        return new TwoLevelCacheManager(
+                specs,
+                MASTER_DATA_SPEC,
+                redisCacheManager,
+                redisEnabled ? message -> redisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, message) : null,
+                Duration.ofSeconds(redisRetryAfterSeconds).toMillis()
+        );
+    }
+
+    /**
+     * 다른 인스턴스의 L1 무효화 메시지 구독
+     * Redis 미사용 시 리스너를 등록하지 않아 커넥션을 맺지 않음
+     *
+     * @param connectionFactory Redis 커넥션 팩토리
+     * @param cacheManager      2단 캐시 매니저
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (redisEnabled) {
+            container.addMessageListener(
+                    (message, pattern) -> cacheManager.handleInvalidationMessage(
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CACHE_INVALIDATION_CHANNEL)
+            );
+        }
+        return container;
+    }
+
+    /**
+     * 캐시별 보관 정책
+     *  - 즐겨찾기/알림 설정/사원 이름은 사원 수만큼 키가 생기므로 L1 크기를 크게, TTL 은 짧게 유지
+     */
+    private Map<String, TwoLevelCacheSpec> cacheSpecs() {
+        Map<String, TwoLevelCacheSpec> specs = new HashMap<>();
+        specs.put(CacheNames.APPROVAL_TEMPLATES, MASTER_DATA_SPEC);
+        specs.put(CacheNames.APPROVAL_TEMPLATE, MASTER_DATA_SPEC);
+        specs.put(CacheNames.APPROVAL_BOOKMARKS,
+                new TwoLevelCacheSpec(Duration.ofMinutes(1), 10_000, Duration.ofMinutes(30)));
+        specs.put(CacheNames.GRADES, MASTER_DATA_SPEC);
+        specs.put(CacheNames.JOB_TITLES, MASTER_DATA_SPEC);
+        specs.put(CacheNames.EXIT_REASONS, MASTER_DATA_SPEC);
+        specs.put(CacheNames.EMPLOYEE_SEARCH_OPTIONS, MASTER_DATA_SPEC);
+        specs.put(CacheNames.NOTIFICATION_SETTINGS,
+                new TwoLevelCacheSpec(Duration.ofMinutes(5), 10_000, Duration.ofMinutes(30)));
+        specs.put(CacheNames.EMPLOYEE_NAMES,
+                new TwoLevelCacheSpec(Duration.ofMinutes(5), 10_000, Duration.ofMinutes(30)));
+        return specs;
+    }
+}
@@ -3,15 +3,23 @@ package com.c4.hero.common.config;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.InstanceProfileCredentialsProvider; // ★ 이거 추가됨!
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
 
+    private static final long MB = 1024L * 1024L;
+
     // 1. 뒤에 ':'를 붙여서, yml에 값이 없으면 빈 문자열("")이 들어오게 방어
     @Value("${cloud.aws.credentials.access-key:}")
     private String accessKey;
@@ -22,13 +30,24 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 4. S3 호환 로컬 서버(MinIO, LocalStack 등)로 붙을 때만 지정 (예: http://localhost:9000)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard();
+
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+
         // 2. 핵심: 키가 비어있으면 IAM Role (Instance Profile) 사용
         if (accessKey.isEmpty() || secretKey.isEmpty()) {
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
+            return builder
                     .withCredentials(InstanceProfileCredentialsProvider.getInstance())
                     .build();
         }
@@ -36,11 +55,31 @@ public class S3Config {
         // 3. 키가 있으면 로컬 개발용 Access Key 사용
         else {
             BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
+            return builder
                     .withCredentials(new AWSStaticCredentialsProvider(credentials))
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    // 5. 첨부파일 동시 업로드용 TransferManager (전송 스레드 풀은 TransferManager 가 소유)
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(
+            AmazonS3 amazonS3,
+            @Value("${cloud.aws.s3.transfer.threads:8}") int threads,
+            @Value("${cloud.aws.s3.transfer.multipart-threshold-mb:16}") long multipartThresholdMb,
+            @Value("${cloud.aws.s3.transfer.part-size-mb:8}") long partSizeMb
+    ) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(threads))
+                .withMultipartUploadThreshold(multipartThresholdMb * MB)
+                .withMinimumUploadPartSize(partSizeMb * MB)
+                .build();
+    }
+
+    // 6. 종료 시 전송 스레드만 정리 (shutdownNow() 기본값은 AmazonS3 클라이언트까지 종료하므로 false 로 호출)
+    @Bean
+    public DisposableBean transferManagerShutdown(TransferManager transferManager) {
+        return () -> transferManager.shutdownNow(false);
+    }
+}
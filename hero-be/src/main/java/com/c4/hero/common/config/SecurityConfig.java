@@ -1,8 +1,10 @@
 package com.c4.hero.common.config;
 
+import com.c4.hero.common.response.ResponseHeaders;
 import com.c4.hero.domain.auth.security.AuthenticationFilter;
 import com.c4.hero.domain.auth.security.JwtUtil;
 import com.c4.hero.domain.auth.security.JwtVerificationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,10 +42,13 @@ import java.util.Arrays;
  * 2025/12/11 (혜원) WebSocket 설정 추가
  * 2025/12/14 (혜원) 개발 편의성을 위해 모든 시큐리티 허용
  * 2026/01/03 (동근) 급여 도메인 권한 인가 정책 구조 추가
+ * 2026/01/19 (동근) 비동기 재디스패치(ASYNC) 인가 허용
+ * 2026/01/22 (동근) 평가 일괄 저장 결과 헤더 노출
+ * 2026/01/22 (동근) 노출 헤더를 공통 ResponseHeaders 상수로 참조 (도메인 DTO 의존 제거)
  * </pre>
  *
  * @author 혜원
- * @version 1.4
+ * @version 1.7
  */
 @Configuration
 @EnableWebSecurity
@@ -92,6 +97,8 @@ public class SecurityConfig {
 
                 // URL별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+//                         비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 //                         WebsSocket
                                 .requestMatchers("/ws/**").permitAll()
 //                         Preflight 요청은 모두 허용
@@ -227,7 +234,10 @@ public class SecurityConfig {
 
         // 클라이언트에서 접근할 수 있도록 헤더 노출
         configuration.setExposedHeaders(Arrays.asList(
-                JwtUtil.AUTHORIZATION_HEADER
+                JwtUtil.AUTHORIZATION_HEADER,
+                ResponseHeaders.INSERTED_ROWS,
+                ResponseHeaders.UPDATED_ROWS,
+                ResponseHeaders.ELAPSED_MS
         ));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,12 +1,16 @@
 package com.c4.hero.common.config;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 /**
  * <pre>
  * Class Name: WebMvcConfig
@@ -14,19 +18,25 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  *
  * - 정적 리소스 경로 설정
  * - 파일 업로드 경로 매핑
+ * - 비동기 요청(CompletableFuture 반환) 타임아웃 설정
  *
  * History
  * 2025/11/28 (혜원) 최초 작성
  * 2025/12/08 (승민) addCorsMappings 메서드 추가
  * 2025/12/10 (승민) addCorsMappings 메서드 삭제
+ * 2026/01/19 (동근) 비동기 요청 타임아웃 설정 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    /** AI 분석 호출(재시도 포함)이 끝날 때까지 기다릴 수 있도록 컨테이너 기본값(30초)보다 길게 설정 */
+    @Value("${spring.mvc.async.request-timeout:120s}")
+    private Duration asyncRequestTimeout;
+
     /**
      * 정적 리소스 핸들러 설정
      * 파일 업로드 경로를 URL로 접근 가능하도록 매핑
@@ -45,6 +55,16 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addResourceLocations("file:./files/");
     }
 
+    /**
+     * 비동기 요청 타임아웃 설정
+     *
+     * @param configurer AsyncSupportConfigurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
     @Bean
     public ModelMapper modelMapper() {
         return new ModelMapper();
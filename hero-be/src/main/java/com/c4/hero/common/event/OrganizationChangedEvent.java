@@ -0,0 +1,25 @@
+package com.c4.hero.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChangedEvent
+ * Description: 조직 구성 변경 이벤트 - 부서/소속/직급/직책/인사발령 변경 시 발행
+ *              조직도 스냅샷이 커밋 이후 다음 조회 시점에 재생성되도록 무효화하는 용도
+ *
+ * History
+ * 2026/01/17 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrganizationChangedEvent {
+
+    /** 변경 사유 (로그용, 예: DEPARTMENT_TRANSFER) */
+    private final String reason;
+}
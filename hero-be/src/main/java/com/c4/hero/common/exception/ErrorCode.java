@@ -25,10 +25,13 @@ import org.springframework.http.HttpStatus;
  * 2025-12-29 (승건) 파일 업로드 실패 추가
  * 2025-12-31 (승건) 파일 크기 초과 추가
  * 2026-01-05 (민철) 결재 관련 에러 코드 추가
+ * 2026-01-15 (동근) 급여 배치 계산 작업 관련 에러 코드 추가
+ * 2026-01-19 (동근) AI 분석 서버 연동 관련 에러 코드 추가
+ * 2026-01-22 (동근) 급여 항목 정책 변환 에러 코드 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.7
+ * @version 2.0
  */
 @Getter
 @RequiredArgsConstructor
@@ -214,6 +217,21 @@ public enum ErrorCode {
      */
     PAYROLL_BATCH_HAS_FAILED(HttpStatus.CONFLICT, "P108", "실패(FAILED) 처리된 사원이 있어 배치를 확정할 수 없습니다."),
 
+    /**
+     * 동일 배치의 계산 작업이 이미 실행 중인 경우 (다른 노드 포함)
+     */
+    PAYROLL_BATCH_JOB_RUNNING(HttpStatus.CONFLICT, "P109", "해당 배치의 계산 작업이 이미 실행 중입니다."),
+
+    /**
+     * 요청한 급여 배치 계산 작업을 찾을 수 없는 경우
+     */
+    PAYROLL_BATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "P110", "급여 배치 계산 작업을 찾을 수 없습니다."),
+
+    /**
+     * 급여 항목 정책을 계산 규칙으로 변환할 수 없는 경우 (수식 오류, 대상 값 오류 등)
+     */
+    PAYROLL_POLICY_INVALID(HttpStatus.BAD_REQUEST, "P111", "급여 항목 정책을 계산 규칙으로 변환할 수 없습니다."),
+
 
     // ===== 승진(Promotion) 관련 에러 =====
     /**
@@ -283,6 +301,22 @@ public enum ErrorCode {
      */
     CLOCK_OUT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TC005", "퇴근 처리에 실패했습니다."),
 
+    // ===== AI 분석 서버 연동 관련 에러 =====
+    /**
+     * 동시 분석 요청 한도 초과
+     */
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI001", "AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    /**
+     * AI 서버 응답 시간 초과
+     */
+    AI_SERVER_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI002", "AI 분석 응답 시간이 초과되었습니다."),
+
+    /**
+     * AI 서버 오류 응답 또는 연결 실패
+     */
+    AI_SERVER_ERROR(HttpStatus.BAD_GATEWAY, "AI003", "AI 분석 서버 오류가 발생했습니다."),
+
     // ===== 결재 관련 에러 =====
 
     /* 2. 결재 - 문서/템플릿 존재 여부 */
@@ -0,0 +1,119 @@
+package com.c4.hero.common.pagination;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <pre>
+ * Class Name: PageCursor
+ * Description: 커서(seek) 페이지네이션의 위치 값
+ *
+ * - (정렬 키, ID) 쌍으로 "마지막으로 본 행"을 표현 (예: (work_date, attendance_id), (draft_date, doc_id))
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출 → 내부 구조에 의존하지 않도록 함
+ * - 정렬 키는 ISO-8601 문자열(LocalDate / LocalDateTime)로 보관
+ * - 정렬 키가 NULL 인 행은 빈 키로 보관하고, dateKey()/dateTimeKey() 는 null 을 반환
+ *   (NULL 정렬 키가 가능한 조회는 cursorId 로 다음 페이지 여부를 판단하고 NULL 행을 따로 조건 처리)
+ *
+ * 사용 예시:
+ * String cursor = PageCursor.encode(last.getWorkDate(), last.getAttendanceId());
+ * PageCursor decoded = PageCursor.decode(cursor);   // null/빈 문자열이면 null (첫 페이지)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) NULL 정렬 키 커서 지원
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public record PageCursor(String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 커서 문자열 생성
+     *
+     * @param key 정렬 키 (LocalDate, LocalDateTime 등 toString 이 ISO-8601 인 값, NULL 가능)
+     * @param id  동률 정렬용 ID
+     * @return 불투명 커서 문자열
+     */
+    public static String encode(Object key, long id) {
+        String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @return 커서 (null/빈 문자열이면 null → 첫 페이지)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid();
+            }
+            return new PageCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류 (NumberFormatException 포함)
+            throw invalid();
+        }
+    }
+
+    /**
+     * 정렬 키가 NULL 인 행의 커서인지 여부
+     *
+     * @return NULL 정렬 키 여부
+     */
+    public boolean isNullKey() {
+        return key.isEmpty();
+    }
+
+    /**
+     * 정렬 키를 날짜로 해석
+     *
+     * @return 정렬 키 날짜 (NULL 정렬 키면 null)
+     */
+    public LocalDate dateKey() {
+        if (isNullKey()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * 정렬 키를 일시로 해석
+     *
+     * @return 정렬 키 일시 (NULL 정렬 키면 null)
+     */
+    public LocalDateTime dateTimeKey() {
+        if (isNullKey()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 페이지 커서입니다.");
+    }
+}
@@ -0,0 +1,85 @@
+package com.c4.hero.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name: CursorPageResponse
+ * Description: 커서(seek) 방식으로 페이징 처리된 응답 포맷
+ *
+ * - OFFSET 대신 "마지막으로 본 행" 이후를 인덱스로 바로 찾아가므로 깊은 페이지도 조회 비용이 일정
+ * - 다음 페이지 존재 여부는 size + 1 건을 조회해 판단 (COUNT 쿼리 불필요)
+ * - 전체 개수는 요청한 경우에만 첫 페이지에서 한 번 계산 (이후 페이지는 null)
+ *
+ * 사용 예시:
+ * CursorPageResponse.of(rows, size, row -> PageCursor.encode(row.getWorkDate(), row.getAttendanceId()), null)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ * @param <T> 응답 데이터 타입
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    /** 한 번에 조회 가능한 최대 건수 */
+    public static final int MAX_SIZE = 100;
+
+    /** 데이터 목록 */
+    private List<T> content;
+
+    /** 페이지 크기 */
+    private int size;
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 전체 데이터 개수 (요청 시 첫 페이지에서만 제공, 그 외 null) */
+    private Long totalElements;
+
+    /**
+     * 페이지 크기 보정 (1 ~ MAX_SIZE)
+     *
+     * @param size 요청 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    public static int safeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * 커서 페이징 응답 생성
+     *
+     * @param rows          size + 1 건까지 조회한 결과
+     * @param size          페이지 크기
+     * @param cursorOf      행 → 커서 문자열 변환 함수
+     * @param totalElements 전체 데이터 개수 (미계산 시 null)
+     * @param <T>           응답 데이터 타입
+     * @return 커서 페이징 응답
+     */
+    public static <T> CursorPageResponse<T> of(
+            List<T> rows, int size, Function<T, String> cursorOf, Long totalElements) {
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+}
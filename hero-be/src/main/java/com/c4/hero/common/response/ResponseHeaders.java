@@ -0,0 +1,29 @@
+package com.c4.hero.common.response;
+
+/**
+ * <pre>
+ * Class Name: ResponseHeaders
+ * Description: 클라이언트에 노출하는 공통 커스텀 응답 헤더 이름 상수
+ *              CORS 노출 헤더 목록(SecurityConfig)과 각 컨트롤러가 함께 참조
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성 (EvaluationSaveResultDTO 의 헤더 상수 이동)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class ResponseHeaders {
+
+    /** INSERT 행 수 */
+    public static final String INSERTED_ROWS = "X-Inserted-Rows";
+
+    /** UPDATE 행 수 */
+    public static final String UPDATED_ROWS = "X-Updated-Rows";
+
+    /** 처리 시간 (ms) */
+    public static final String ELAPSED_MS = "X-Elapsed-Ms";
+
+    private ResponseHeaders() {
+    }
+}
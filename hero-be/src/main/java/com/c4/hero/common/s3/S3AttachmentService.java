@@ -0,0 +1,216 @@
+package com.c4.hero.common.s3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: S3AttachmentService
+ * Description: 첨부파일 일괄 업로드/삭제 서비스
+ *
+ *  - 업로드: TransferManager(S3Config 빈) 로 여러 파일을 동시에 전송 (병렬성은 파일 단위)
+ *            multipart-threshold 이상 파일은 part-size 단위 멀티파트 업로드
+ *            MultipartFile 스트림을 그대로 넘기므로 파일 전체를 메모리에 올리지 않음
+ *            (InputStream 원본은 TransferManager 가 파트를 순차 전송 - 한 파일의 파트는 병렬로 올라가지 않음)
+ *  - 업로드 중 하나라도 실패하면 나머지를 중단하고 이미 올라간 파일을 삭제한 뒤 FILE_UPLOAD_ERROR
+ *  - 삭제: DeleteObjectsRequest 로 1,000건 단위 일괄 삭제 (존재 확인 없이 1회 요청)
+ *  - 트랜잭션 보상
+ *      deleteOnRollback  : 트랜잭션 전에 올린 파일을 롤백 시 삭제
+ *      deleteAfterCommit : DB 삭제가 커밋된 뒤에만 S3 에서 삭제 (롤백 시 파일 유지)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 멀티파트 파트 전송 방식 주석 정정
+ * 2026/01/22 (동근) TransferManager 를 S3Config 빈으로 분리하여 주입
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@Slf4j
+@Service
+public class S3AttachmentService {
+
+    /** DeleteObjects 요청당 최대 키 수 (S3 제한) */
+    private static final int DELETE_BATCH_SIZE = 1_000;
+
+    private final AmazonS3 amazonS3;
+    private final S3Service s3Service;
+    private final TransferManager transferManager;
+    private final String bucket;
+
+    public S3AttachmentService(
+            AmazonS3 amazonS3,
+            S3Service s3Service,
+            TransferManager transferManager,
+            @Value("${cloud.aws.s3.bucket}") String bucket
+    ) {
+        this.amazonS3 = amazonS3;
+        this.s3Service = s3Service;
+        this.transferManager = transferManager;
+        this.bucket = bucket;
+    }
+
+    /**
+     * 파일 일괄 업로드 (동시 전송, 전부 끝날 때까지 대기)
+     *
+     * @param files     업로드할 파일 목록
+     * @param directory S3 디렉토리 경로
+     * @return 업로드된 파일 목록 (요청 순서 유지)
+     * @throws IllegalArgumentException 파일이 비었거나 지원하지 않는 형식인 경우 (전송 시작 전 검증)
+     * @throws BusinessException        전송 실패 시 (FILE_UPLOAD_ERROR, 이미 올라간 파일은 삭제)
+     */
+    public List<S3UploadedFile> uploadAll(List<MultipartFile> files, String directory) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 전송 전에 전부 검증 (중간에 실패해 일부만 올라가는 일이 없도록)
+        List<String> keys = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            keys.add(s3Service.createObjectKey(file, directory));
+        }
+
+        // 2. 동시 전송
+        List<Upload> uploads = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentType(file.getContentType());
+                metadata.setContentLength(file.getSize());
+
+                PutObjectRequest request = new PutObjectRequest(bucket, keys.get(i), file.getInputStream(), metadata)
+                        .withCannedAcl(CannedAccessControlList.Private);
+
+                uploads.add(transferManager.upload(request));
+            }
+
+            // 3. 완료 대기
+            List<S3UploadedFile> uploaded = new ArrayList<>(files.size());
+            for (int i = 0; i < uploads.size(); i++) {
+                uploads.get(i).waitForCompletion();
+                MultipartFile file = files.get(i);
+                uploaded.add(new S3UploadedFile(keys.get(i), file.getOriginalFilename(), file.getSize()));
+            }
+
+            log.info("S3 첨부파일 업로드 성공 - {}건, directory: {}", uploaded.size(), directory);
+            return uploaded;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uploadFailed(uploads, keys, e);
+        } catch (IOException | AmazonClientException e) {
+            throw uploadFailed(uploads, keys, e);
+        }
+    }
+
+    /**
+     * 파일 일괄 삭제 (실패해도 예외를 던지지 않고 로그만 남김)
+     *
+     * @param keys 삭제할 S3 키 목록
+     */
+    public void deleteAll(List<String> keys) {
+        List<String> targets = keys.stream()
+                .filter(key -> key != null && !key.isEmpty())
+                .distinct()
+                .toList();
+
+        for (int from = 0; from < targets.size(); from += DELETE_BATCH_SIZE) {
+            List<String> chunk = targets.subList(from, Math.min(from + DELETE_BATCH_SIZE, targets.size()));
+            try {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(chunk.toArray(String[]::new))
+                        .withQuiet(true));
+                log.info("S3 파일 일괄 삭제 성공 - {}건", chunk.size());
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error ->
+                        log.error("S3 파일 삭제 실패 - Key: {}, code: {}", error.getKey(), error.getCode()));
+            } catch (Exception e) {
+                log.error("S3 파일 일괄 삭제 실패 - {}건", chunk.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 업로드한 파일 삭제 (트랜잭션 밖이면 아무것도 하지 않음)
+     *
+     * @param files 트랜잭션 전에 업로드한 파일 목록
+     */
+    public void deleteOnRollback(List<S3UploadedFile> files) {
+        if (files.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        List<String> keys = files.stream().map(S3UploadedFile::key).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    log.info("트랜잭션 롤백 - 업로드한 첨부파일 {}건 삭제", keys.size());
+                    deleteAll(keys);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 파일 삭제 (트랜잭션 밖이면 바로 삭제)
+     *
+     * @param keys 삭제할 S3 키 목록
+     */
+    public void deleteAfterCommit(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteAll(keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteAll(keys);
+            }
+        });
+    }
+
+    /**
+     * 진행중 전송 중단 + 올라간 파일 삭제 후 업로드 실패 예외 생성
+     */
+    private BusinessException uploadFailed(List<Upload> uploads, List<String> keys, Exception cause) {
+        log.error("S3 첨부파일 업로드 실패 - {}건 중단", keys.size(), cause);
+
+        for (Upload upload : uploads) {
+            try {
+                upload.abort();
+            } catch (Exception ignore) {
+                // 이미 끝난 전송은 중단할 것이 없음
+            }
+        }
+        deleteAll(keys);
+
+        return new BusinessException(ErrorCode.FILE_UPLOAD_ERROR);
+    }
+}
@@ -4,6 +4,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +13,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,21 +28,41 @@ import java.util.UUID;
  * History
  * 2025/12/28 (혜원) 최초 작성
  * 2026/01/01 (민철) 파일 확장자 추가
+ * 2026/01/22 (동근) 업로드 키 생성/검증 분리, 삭제 시 존재 확인 요청 제거
+ * 2026/01/22 (동근) Presigned URL 캐시(만료 임박 전까지 재사용) 및 일괄 생성 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.1
+ * @version 1.3
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+    /** Presigned URL 캐시 최대 엔트리 수 (URL 1건 약 1KB) */
+    private static final int PRESIGNED_URL_CACHE_SIZE = 20_000;
+
+    /** 남은 유효기간이 발급 유효기간의 이 비율 아래로 내려가면 새로 서명 */
+    private static final double PRESIGNED_URL_REUSE_RATIO = 0.5;
+
+    /** 만료 시각 정렬 단위 (같은 구간에 서명한 URL 은 만료 시각이 같음) */
+    private static final long EXPIRY_BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
     private final AmazonS3 amazonS3;
 
+    /** (S3 키, 만료 일수) → 서명된 URL */
+    private final Cache<PresignedUrlKey, PresignedUrl> presignedUrlCache = Caffeine.newBuilder()
+            .maximumSize(PRESIGNED_URL_CACHE_SIZE)
+            .build();
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    private record PresignedUrlKey(String s3Key, int expirationDays) {}
+
+    private record PresignedUrl(String url, long reuseUntil) {}
+
     /**
      * 파일 업로드
      *
@@ -45,23 +71,8 @@ public class S3Service {
      * @return 업로드된 파일의 URL
      */
     public String uploadFile(MultipartFile file, String directory) {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다.");
-        }
-
-        // 원본 파일명
         String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            throw new IllegalArgumentException("파일명이 없습니다.");
-        }
-
-        // 파일 확장자 검증
-        String extension = getFileExtension(originalFilename);
-        validateImageFile(extension);
-
-        // 고유한 파일명 생성
-        String uniqueFilename = generateUniqueFilename(originalFilename);
-        String s3Key = directory + "/" + uniqueFilename;
+        String s3Key = createObjectKey(file, directory);
 
         try {
             // 메타데이터 설정
@@ -90,6 +101,33 @@ public class S3Service {
         }
     }
 
+    /**
+     * 업로드할 파일 검증 및 S3 키 생성
+     *
+     * @param file 업로드할 파일
+     * @param directory S3 디렉토리 경로
+     * @return S3 키 (directory/uuid.확장자)
+     */
+    String createObjectKey(MultipartFile file, String directory) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        // 원본 파일명
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null) {
+            throw new IllegalArgumentException("파일명이 없습니다.");
+        }
+
+        // 파일 확장자 검증
+        String extension = getFileExtension(originalFilename);
+        validateImageFile(extension);
+
+        // 고유한 파일명 생성
+        String uniqueFilename = generateUniqueFilename(originalFilename);
+        return directory + "/" + uniqueFilename;
+    }
+
     /**
      * 파일 삭제
      *
@@ -101,10 +139,9 @@ public class S3Service {
         }
 
         try {
-            if (amazonS3.doesObjectExist(bucket, s3Key)) {
-                amazonS3.deleteObject(bucket, s3Key);
-                log.info("S3 파일 삭제 성공 - Key: {}", s3Key);
-            }
+            // 없는 키 삭제도 성공으로 처리되므로 존재 확인 없이 바로 삭제
+            amazonS3.deleteObject(bucket, s3Key);
+            log.info("S3 파일 삭제 성공 - Key: {}", s3Key);
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패 - Key: {}", s3Key, e);
             // 삭제 실패해도 예외를 던지지 않음 (로그만 남김)
@@ -142,6 +179,12 @@ public class S3Service {
 
     /**
      * Presigned URL 생성
+     * <pre>
+     * 같은 (S3 키, 만료 일수) 조합은 남은 유효기간이 절반 이상이면 이전에 서명한 URL 을 그대로 반환
+     * - 조직도 등 대량 조회 시 매번 서명(HMAC)하지 않음
+     * - 같은 URL 이 반복 응답되므로 브라우저 이미지 캐시가 유지됨
+     * 만료 시각은 1시간 단위로 내림 정렬 (요청한 유효기간보다 최대 1시간 짧을 수 있음)
+     * </pre>
      *
      * @param s3Key S3 키
      * @param expirationDays 만료 일수
@@ -152,17 +195,27 @@ public class S3Service {
             return null;
         }
 
+        long now = System.currentTimeMillis();
+        PresignedUrlKey cacheKey = new PresignedUrlKey(s3Key, expirationDays);
+
+        PresignedUrl cached = presignedUrlCache.getIfPresent(cacheKey);
+        if (cached != null && now < cached.reuseUntil()) {
+            return cached.url();
+        }
+
         try {
             // 만료 시간 설정
-            Date expiration = new Date();
-            long expirationTime = expiration.getTime();
-            expirationTime += (long) expirationDays * 24 * 60 * 60 * 1000;
-            expiration.setTime(expirationTime);
+            long validity = Duration.ofDays(expirationDays).toMillis();
+            long expirationTime = (now + validity) / EXPIRY_BUCKET_MILLIS * EXPIRY_BUCKET_MILLIS;
+            Date expiration = new Date(expirationTime);
 
             // Presigned URL 생성
             String presignedUrl = amazonS3.generatePresignedUrl(bucket, s3Key, expiration).toString();
             log.debug("Presigned URL 생성 - Key: {}, 만료: {}일", s3Key, expirationDays);
 
+            presignedUrlCache.put(cacheKey,
+                    new PresignedUrl(presignedUrl, now + (long) (validity * PRESIGNED_URL_REUSE_RATIO)));
+
             return presignedUrl;
 
         } catch (Exception e) {
@@ -171,6 +224,33 @@ public class S3Service {
         }
     }
 
+    /**
+     * Presigned URL 일괄 생성 (캐시에 없는 키만 서명)
+     *
+     * @param s3Keys S3 키 목록 (null/빈 키는 제외)
+     * @param expirationDays 만료 일수
+     * @return S3 키 → Presigned URL
+     */
+    public Map<String, String> generatePresignedUrls(Collection<String> s3Keys, int expirationDays) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String s3Key : s3Keys) {
+            if (s3Key != null && !s3Key.isEmpty() && !urls.containsKey(s3Key)) {
+                urls.put(s3Key, generatePresignedUrl(s3Key, expirationDays));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Presigned URL 일괄 생성 (기본 7일)
+     *
+     * @param s3Keys S3 키 목록
+     * @return S3 키 → Presigned URL
+     */
+    public Map<String, String> generatePresignedUrls(Collection<String> s3Keys) {
+        return generatePresignedUrls(s3Keys, 7);
+    }
+
     /**
      * Presigned URL 생성 (기본 7일)
      *
@@ -0,0 +1,23 @@
+package com.c4.hero.common.s3;
+
+/**
+ * <pre>
+ * Record Name : S3UploadedFile
+ * Description : S3 업로드 완료 파일 정보 (첨부파일 DB 저장용)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param key              S3 키
+ * @param originalFilename 원본 파일명
+ * @param size             파일 크기 (byte)
+ */
+public record S3UploadedFile(
+        String key,
+        String originalFilename,
+        long size
+) {}
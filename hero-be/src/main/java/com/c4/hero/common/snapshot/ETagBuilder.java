@@ -0,0 +1,64 @@
+package com.c4.hero.common.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * <pre>
+ * Class Name: ETagBuilder
+ * Description: 스냅샷 구성 값으로부터 강한 ETag 생성
+ *              인스턴스와 무관하게 같은 데이터면 같은 ETag 가 나오도록
+ *              생성 시각이 아닌 구성 값의 해시(SHA-256 앞 16바이트)를 사용
+ *
+ * History
+ * 2026/01/17 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public class ETagBuilder {
+
+    private static final byte FIELD_SEPARATOR = 0x1F;
+
+    private final MessageDigest digest;
+
+    public ETagBuilder() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 값 추가 (null 도 구분되도록 구분자와 함께 기록)
+     *
+     * @param values 추가할 값
+     * @return this
+     */
+    public ETagBuilder add(Object... values) {
+        for (Object value : values) {
+            if (value instanceof byte[] bytes) {
+                digest.update(bytes);
+            } else if (value != null) {
+                digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(FIELD_SEPARATOR);
+        }
+        return this;
+    }
+
+    /**
+     * ETag 생성
+     *
+     * @param prefix ETag 접두어 (리소스 구분용)
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public String build(String prefix) {
+        byte[] hash = digest.digest();
+        return "\"" + prefix + "-" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+    }
+}
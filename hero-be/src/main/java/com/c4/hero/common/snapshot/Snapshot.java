@@ -0,0 +1,25 @@
+package com.c4.hero.common.snapshot;
+
+import java.time.Instant;
+
+/**
+ * <pre>
+ * Record Name: Snapshot
+ * Description: 한 번 만들어진 뒤 변경되지 않는 조회용 스냅샷과 그 ETag
+ *
+ * History
+ * 2026/01/17 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param value   스냅샷 값 (불변)
+ * @param etag    HTTP ETag (따옴표 포함)
+ * @param builtAt 생성 시각
+ */
+public record Snapshot<T>(
+        T value,
+        String etag,
+        Instant builtAt
+) {}
@@ -0,0 +1,79 @@
+package com.c4.hero.common.snapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * Class Name: SnapshotHolder
+ * Description: 변경 이벤트 기반으로 재생성되는 조회용 스냅샷 보관소
+ *
+ *  - invalidate() 는 세대(generation)만 올리고, 실제 재생성은 다음 조회 시 한 번만 수행
+ *    (연속된 변경 이벤트를 하나의 재생성으로 합침)
+ *  - 재생성 중 들어온 무효화는 다음 조회에서 다시 반영
+ *  - maxAge 가 지나면 이벤트가 없어도 재생성 (이벤트 누락/외부 변경 대비)
+ *
+ * History
+ * 2026/01/17 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public class SnapshotHolder<T> {
+
+    private final Supplier<Snapshot<T>> builder;
+    private final Duration maxAge;
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot<T> current;
+    private volatile long builtGeneration = -1;
+
+    /**
+     * @param builder 스냅샷 생성 함수
+     * @param maxAge  최대 보관 시간
+     */
+    public SnapshotHolder(Supplier<Snapshot<T>> builder, Duration maxAge) {
+        this.builder = builder;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 현재 스냅샷 조회 (무효화되었거나 만료된 경우 재생성)
+     *
+     * @return 스냅샷
+     */
+    public Snapshot<T> get() {
+        Snapshot<T> snapshot = current;
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            snapshot = current;
+            if (isFresh(snapshot)) {
+                return snapshot;
+            }
+            long target = generation.get();
+            snapshot = builder.get();
+            current = snapshot;
+            builtGeneration = target;
+            return snapshot;
+        }
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 재생성)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private boolean isFresh(Snapshot<T> snapshot) {
+        return snapshot != null
+                && builtGeneration == generation.get()
+                && snapshot.builtAt().plus(maxAge).isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,193 @@
+package com.c4.hero.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * Class Name: BlindIndexUtil
+ * Description: 암호화 컬럼 검색용 블라인드 인덱스 유틸리티
+ *
+ * - 평문을 정규화한 뒤 HMAC-SHA256(전용 키) 으로 해시해 검색용 값 생성
+ *   (암호문 자체로 비교하지 않으므로 암호화 방식/키가 바뀌어도 검색 값은 유지)
+ * - 완전 일치 : index()  → 32바이트, 컬럼에 일반 인덱스로 저장 (정규화 값이 같으면 충돌하므로 UNIQUE 아님)
+ *               검색어가 완전한 이메일/전화번호(isCompleteEmail/isCompletePhone)면 토큰 대신 이 값으로 조회
+ * - 부분 일치 : tokens() → 정규화 값의 3-gram 각각을 해시해 앞 8바이트만 저장
+ *               검색어의 3-gram 이 모두 있는 행을 후보로 찾음 (키 없이는 토큰을 평문으로 되돌릴 수 없음)
+ * - 필드(EMAIL/PHONE)를 해시 입력에 포함해 필드가 달라지면 같은 값이라도 다른 토큰이 됨
+ *
+ * 키: encryption.blind-index-key (없으면 encryption.secret-key 에서 파생, 암호화 키를 그대로 쓰지 않음)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 완전 일치 인덱스 UNIQUE 제거에 맞춰 주석 정정
+ * 2026/01/22 (동근) 완전한 이메일/전화번호 검색어 판별 추가 (완전 일치 인덱스 조회용)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@Component
+public class BlindIndexUtil {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /** n-gram 길이 (부분 검색어 최소 길이) */
+    public static final int GRAM_SIZE = 3;
+
+    /** 토큰 길이 (byte) - 검색 후보를 줄이는 용도라 충돌 확률만 충분히 낮으면 됨 */
+    private static final int TOKEN_LENGTH = 8;
+
+    public static final String FIELD_EMAIL = "EMAIL";
+    public static final String FIELD_PHONE = "PHONE";
+
+    /** 완전한 이메일 (local@domain.tld) */
+    private static final Pattern COMPLETE_EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+
+    /** 완전한 전화번호 자릿수 (휴대전화 010-1234-5678 → 11자리, 더 짧으면 다른 번호의 일부일 수 있어 부분 검색) */
+    private static final int COMPLETE_PHONE_DIGITS = 11;
+
+    private final SecretKeySpec keySpec;
+    private final ThreadLocal<Mac> mac;
+
+    public BlindIndexUtil(
+            @Value("${encryption.blind-index-key:}") String blindIndexKey,
+            @Value("${encryption.secret-key}") String secretKey
+    ) {
+        byte[] key = blindIndexKey.isBlank()
+                ? hmac(secretKey.getBytes(StandardCharsets.UTF_8), "hero-blind-index".getBytes(StandardCharsets.UTF_8))
+                : blindIndexKey.getBytes(StandardCharsets.UTF_8);
+        keySpec = new SecretKeySpec(key, ALGORITHM);
+        mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 이메일 정규화 (앞뒤 공백 제거, 소문자)
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 전화번호 정규화 (숫자만 남김, 010-1234-5678 → 01012345678)
+     */
+    public static String normalizePhone(String phone) {
+        return phone == null ? null : phone.replaceAll("[^0-9]", "");
+    }
+
+    /**
+     * 완전한 이메일 검색어인지 (부분 검색 대신 완전 일치 인덱스로 조회)
+     */
+    public static boolean isCompleteEmail(String email) {
+        String normalized = normalizeEmail(email);
+        return normalized != null && COMPLETE_EMAIL.matcher(normalized).matches();
+    }
+
+    /**
+     * 완전한 전화번호 검색어인지 (부분 검색 대신 완전 일치 인덱스로 조회)
+     */
+    public static boolean isCompletePhone(String phone) {
+        String normalized = normalizePhone(phone);
+        return normalized != null && normalized.length() >= COMPLETE_PHONE_DIGITS;
+    }
+
+    /**
+     * 이메일 완전 일치 인덱스
+     *
+     * @param email 평문 이메일
+     * @return 32바이트 인덱스 (값이 없으면 null)
+     */
+    public byte[] emailIndex(String email) {
+        return index(FIELD_EMAIL, normalizeEmail(email));
+    }
+
+    /**
+     * 전화번호 완전 일치 인덱스
+     *
+     * @param phone 평문 전화번호
+     * @return 32바이트 인덱스 (값이 없으면 null)
+     */
+    public byte[] phoneIndex(String phone) {
+        return index(FIELD_PHONE, normalizePhone(phone));
+    }
+
+    /**
+     * 이메일 부분 일치 토큰
+     *
+     * @param email 평문 이메일 (저장 시 전체 값, 검색 시 검색어)
+     * @return 중복 없는 토큰 목록 (3자 미만이면 빈 목록)
+     */
+    public List<byte[]> emailTokens(String email) {
+        return tokens(FIELD_EMAIL, normalizeEmail(email));
+    }
+
+    /**
+     * 전화번호 부분 일치 토큰
+     *
+     * @param phone 평문 전화번호 (저장 시 전체 값, 검색 시 검색어)
+     * @return 중복 없는 토큰 목록 (숫자 3자리 미만이면 빈 목록)
+     */
+    public List<byte[]> phoneTokens(String phone) {
+        return tokens(FIELD_PHONE, normalizePhone(phone));
+    }
+
+    private byte[] index(String field, String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return null;
+        }
+        return digest(field, normalized);
+    }
+
+    private List<byte[]> tokens(String field, String normalized) {
+        if (normalized == null || normalized.length() < GRAM_SIZE) {
+            return List.of();
+        }
+
+        // 같은 3-gram 이 여러 번 나와도 토큰은 한 번만 (검색 시 "모든 토큰 포함" 개수 비교 기준)
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+
+        return grams.stream()
+                .map(gram -> Arrays.copyOf(digest(field, gram), TOKEN_LENGTH))
+                .toList();
+    }
+
+    private byte[] digest(String field, String value) {
+        Mac current = mac.get();
+        current.update(field.getBytes(StandardCharsets.UTF_8));
+        current.update((byte) ':');
+        return current.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(keySpec);
+            return instance;
+        } catch (Exception e) {
+            throw new IllegalStateException("블라인드 인덱스 Mac 초기화 실패", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(key, ALGORITHM));
+            return instance.doFinal(data);
+        } catch (Exception e) {
+            throw new IllegalStateException("블라인드 인덱스 키 파생 실패", e);
+        }
+    }
+}
@@ -8,6 +8,9 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * <pre>
@@ -20,13 +23,19 @@ import java.util.Base64;
  *
  * 주의: SECRET_KEY는 반드시 환경변수로 관리할 것
  *
+ * 성능
+ * - 키(SecretKeySpec)는 생성 시 1회만 만들고, Cipher 는 스레드별로 초기화해 재사용
+ *   (ECB 는 IV 가 없어 doFinal 후 같은 키로 바로 재사용 가능)
+ * - 목록 복호화는 decryptColumn 으로 한 번에 처리 (대량이면 병렬)
+ *
  * History
  * 2025/11/28 (혜원) 최초 작성
  * 2025/12/30 (승건) mariaDB의 AES 로직과 호환되도록 수정
+ * 2026/01/22 (동근) 키 캐시 + 스레드별 Cipher 재사용, 목록 일괄 복호화(decryptColumn) 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @Component
@@ -37,10 +46,20 @@ public class EncryptionUtil {
     private final String ALGORITHM = "AES/ECB/PKCS5Padding";
     private final String SECRET_KEY;
 
+    /** 이 건수 이상이면 decryptColumn 을 병렬(ForkJoin 공용 풀)로 처리 */
+    private static final int PARALLEL_DECRYPT_THRESHOLD = 2_000;
+
+    private final SecretKeySpec secretKeySpec;
+    private final ThreadLocal<Cipher> encryptCipher;
+    private final ThreadLocal<Cipher> decryptCipher;
+
     public EncryptionUtil(
             @Value("${encryption.secret-key}") String secretKey
     ) {
         SECRET_KEY = secretKey;
+        secretKeySpec = getSecretKeySpec();
+        encryptCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
     }
 
     /**
@@ -56,16 +75,11 @@ public class EncryptionUtil {
         if(plainText == null) return null;
 
         try {
-            // 암호화 키 생성 (128비트 = 16바이트로 조정)
-            SecretKeySpec secretKey = getSecretKeySpec();
-
-            // Cipher 인스턴스 생성 및 암호화 모드 설정
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-
             // 평문을 바이트로 변환 후 암호화
-            return cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            return encryptCipher.get().doFinal(plainText.getBytes(StandardCharsets.UTF_8));
         } catch (Exception e) {
+            // 실패한 Cipher 는 상태를 보장할 수 없으므로 버리고 다음 호출에서 새로 초기화
+            encryptCipher.remove();
             throw new RuntimeException("암호화 실패", e);
         }
     }
@@ -81,19 +95,29 @@ public class EncryptionUtil {
     public String decrypt(byte[] encryptedData) {
         if (encryptedData == null) return null;
         try {
-            // 복호화 키 생성 (128비트 = 16바이트로 조정)
-            SecretKeySpec secretKey = getSecretKeySpec();
-
-            // Cipher 인스턴스 생성 및 복호화 모드 설정
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decryptedData = cipher.doFinal(encryptedData);
+            byte[] decryptedData = decryptCipher.get().doFinal(encryptedData);
             return new String(decryptedData, StandardCharsets.UTF_8);
         } catch (Exception e) {
+            decryptCipher.remove();
             throw new RuntimeException("복호화 실패", e);
         }
     }
 
+    /**
+     * 목록의 암호화 컬럼 일괄 복호화
+     * 조직도처럼 직원 목록 전체를 복호화할 때 사용 (PARALLEL_DECRYPT_THRESHOLD 건 이상이면 병렬 처리)
+     *
+     * @param rows   대상 목록
+     * @param column 암호화 컬럼 추출 함수 (예: Employee::getEmail)
+     * @return rows 와 같은 순서의 평문 목록 (값이 없거나 복호화 실패 시 null)
+     */
+    public <T> List<String> decryptColumn(List<T> rows, Function<T, byte[]> column) {
+        Stream<T> stream = rows.size() >= PARALLEL_DECRYPT_THRESHOLD ? rows.parallelStream() : rows.stream();
+        return stream
+                .map(row -> decryptOrNull(column.apply(row)))
+                .toList();
+    }
+
     /**
      * 문자열을 AES 암호화 후 Base64 인코딩하여 문자열로 반환
      * 테스트나 로그 출력 시 사용 (실제 DB 저장에는 encrypt() 사용 권장)
@@ -118,6 +142,31 @@ public class EncryptionUtil {
         return decrypt(decoded);
     }
 
+    /**
+     * 복호화 (실패 시 null, 목록 처리에서 한 건 실패로 전체가 실패하지 않도록)
+     */
+    private String decryptOrNull(byte[] encryptedData) {
+        try {
+            return decrypt(encryptedData);
+        } catch (RuntimeException e) {
+            log.warn("복호화 실패 - error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 모드별 Cipher 생성 (스레드당 1회)
+     */
+    private Cipher newCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(mode, secretKeySpec);
+            return cipher;
+        } catch (Exception e) {
+            throw new IllegalStateException("Cipher 초기화 실패", e);
+        }
+    }
+
     /**
      * MariaDB 호환 키 생성 메서드
      * 키 길이가 16바이트(128비트)가 되도록 조정
@@ -1,6 +1,8 @@
 package com.c4.hero.domain.approval.controller;
 
+import com.c4.hero.common.response.CursorPageResponse;
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.common.snapshot.Snapshot;
 import com.c4.hero.domain.approval.dto.response.*;
 import com.c4.hero.domain.approval.dto.organization.*;
 import com.c4.hero.domain.approval.entity.ApprovalResignType;
@@ -24,9 +26,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -47,11 +52,14 @@ import java.util.stream.Collectors;
  * 2025/12/26 (민철) 조직도 조회 api 추가
  * 2025/12/26 (민철) 문서함 목록 조회 구현 (PageResponse 사용)
  * 2025/12/28 (민철) 작성화면 UI 에 필요한 렌더링용 데이터 조회 api
+ * 2026/01/17 (동근) 조직도 조회 ETag/304 지원
+ * 2026/01/22 (동근) 문서함 목록 커서(seek) 조회 api
+ * 2026/01/22 (동근) 문서함 탭별 개수 조회 api
  *
  * </pre>
  *
  * @author 민철
- * @version 2.2
+ * @version 2.5
  */
 @Slf4j
 @RestController
@@ -155,6 +163,63 @@ public class ApprovalQueryController {
         return ResponseEntity.ok().body(response);
     }
 
+    /**
+     * 문서함 탭별 문서 개수 조회
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @return ResponseEntity<ApprovalInboxCountResponseDTO> 탭별 문서 개수
+     */
+    @Operation(
+            summary = "문서함 탭별 개수 조회",
+            description = "문서함 탭(all/que/request/reject/ref/end/draft)별 문서 개수를 한 번에 조회함 (탭 배지 표시용)"
+    )
+    @GetMapping("/inbox/counts")
+    public ResponseEntity<ApprovalInboxCountResponseDTO> getInboxCounts(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(approvalQueryService.getInboxCounts(userDetails.getEmployeeId()));
+    }
+
+    /**
+     * 문서함 문서 목록 커서 조회 (탭별 필터링)
+     *
+     * @param cursor       이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size         페이지 크기 (최대 100)
+     * @param tab          탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param fromDate     시작일
+     * @param toDate       종료일
+     * @param sortBy       정렬 기준
+     * @param condition    검색 조건
+     * @param includeCount 첫 페이지에서 전체 개수 포함 여부
+     * @param userDetails  인증된 사용자 정보
+     * @return ResponseEntity<CursorPageResponse<ApprovalDocumentsResponseDTO>> 문서 목록 (다음 커서 포함)
+     */
+    @Operation(
+            summary = "문서함 문서 목록 커서 조회",
+            description = "문서함 목록을 커서 기반으로 조회함 (깊은 페이지도 조회 비용 일정). " +
+                    "첫 요청은 cursor 없이 호출하고 이후 응답의 nextCursor 를 전달"
+    )
+    @GetMapping("/inbox/documents/cursor")
+    public ResponseEntity<CursorPageResponse<ApprovalDocumentsResponseDTO>> getInboxDocumentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "all") String tab,
+            @RequestParam(required = false) String fromDate,
+            @RequestParam(required = false) String toDate,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String condition,
+            @RequestParam(defaultValue = "false") boolean includeCount,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Integer employeeId = userDetails.getEmployeeId();
+
+        CursorPageResponse<ApprovalDocumentsResponseDTO> response = approvalQueryService.getInboxDocumentsByCursor(
+                cursor, size, tab, fromDate, toDate, sortBy, condition, employeeId, includeCount
+        );
+
+        return ResponseEntity.ok().body(response);
+    }
+
     /**
      * 문서 상세 조회
      *
@@ -188,7 +253,9 @@ public class ApprovalQueryController {
     /**
      * 조직도 전체 조회
      * 계층 구조로 조직도를 조회함
+     * If-None-Match 가 현재 스냅샷 ETag 와 같으면 본문 없이 304 를 반환함
      *
+     * @param webRequest 조건부 요청 헤더 확인용
      * @return ResponseEntity<OrganizationTreeResponseDTO> 조직도 트리 구조
      */
     @Operation(
@@ -196,11 +263,18 @@ public class ApprovalQueryController {
             description = "계층 구조로 된 전체 조직도를 조회함. 부서와 직원 정보를 트리 형태로 반환함"
     )
     @GetMapping("/organization/tree")
-    public ResponseEntity<OrganizationTreeResponseDTO> getOrganizationTree() {
+    public ResponseEntity<OrganizationTreeResponseDTO> getOrganizationTree(WebRequest webRequest) {
 
-        OrganizationTreeResponseDTO response = organizationService.getOrganizationTree();
+        Snapshot<OrganizationTreeResponseDTO> snapshot = organizationService.getOrganizationTreeSnapshot();
 
-        return ResponseEntity.ok().body(response);
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(snapshot.value());
     }
 
 
@@ -0,0 +1,45 @@
+package com.c4.hero.domain.approval.dto;
+
+import lombok.Data;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalReminderTargetDTO
+ * Description : 결재 대기 독촉 대상 DTO
+ *               진행중 문서의 대기(PENDING) 결재선 1건 = 1행
+ *
+ * History
+ *   2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Data
+public class ApprovalReminderTargetDTO {
+
+    /**
+     * 문서 ID
+     */
+    private Integer docId;
+
+    /**
+     * 문서 제목
+     */
+    private String title;
+
+    /**
+     * 기안자 이름
+     */
+    private String drafterName;
+
+    /**
+     * 대기중인 결재자 사원 ID
+     */
+    private Integer approverId;
+
+    /**
+     * 대기 일수 (문서 생성일 기준)
+     */
+    private Integer waitingDays;
+}
@@ -1,7 +1,10 @@
 package com.c4.hero.domain.approval.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 /**
  * <pre>
  * Class Name: ApprovalDocumentsResponseDTO
@@ -11,11 +14,12 @@ import lombok.Data;
  * History
  * 2025/12/17 (민철) 최초작성
  * 2026/01/01 (민철) 필드 주석 추가
+ * 2026/01/22 (동근) 커서 조회용 기안일시 원본 필드 추가
  *
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 
 @Data
@@ -73,4 +77,10 @@ public class ApprovalDocumentsResponseDTO {
      * 형식: yyyy년 MM월 dd일
      */
     private String drafterAt;
+
+    /**
+     * 기안일시 원본 (커서 생성용, 응답에는 미포함)
+     */
+    @JsonIgnore
+    private LocalDateTime draftedAt;
 }
\ No newline at end of file
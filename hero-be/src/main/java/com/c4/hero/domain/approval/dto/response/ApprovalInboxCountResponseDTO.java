@@ -0,0 +1,56 @@
+package com.c4.hero.domain.approval.dto.response;
+
+import lombok.Data;
+
+/**
+ * <pre>
+ * Class Name: ApprovalInboxCountResponseDTO
+ * Description: 문서함 탭별 문서 개수 응답 DTO (탭 배지 표시용)
+ *
+ * History
+ * 2026/01/22 (동근) 최초작성
+ *
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+
+@Data
+public class ApprovalInboxCountResponseDTO {
+
+    /**
+     * 전체 (all)
+     */
+    private long allCount;
+
+    /**
+     * 대기 (que) - 본인이 상신한 진행중 문서
+     */
+    private long queCount;
+
+    /**
+     * 요청 (request) - 본인 결재 대기 문서
+     */
+    private long requestCount;
+
+    /**
+     * 반려 (reject)
+     */
+    private long rejectCount;
+
+    /**
+     * 참조 (ref)
+     */
+    private long refCount;
+
+    /**
+     * 승인 (end)
+     */
+    private long endCount;
+
+    /**
+     * 임시저장 (draft)
+     */
+    private long draftCount;
+}
@@ -2,6 +2,9 @@ package com.c4.hero.domain.approval.dto.response;
 
 import lombok.*;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * <pre>
  * Class Name  : ApprovalTemplateResponseDTO
@@ -12,16 +15,20 @@ import lombok.*;
  * 2025/12/15 (민철) 최초 작성
  * 2025/12/19 (민철) ApprovalTemplate.java 문서 템플릿 필드명 수정에 따른 getter메서드 수정
  * 2026/01/01 (민철) 필드 주석 추가
+ * 2026/01/16 (동근) 2단 캐시(Redis) 저장을 위해 Serializable 구현
  * </pre>
  *
  * @author 민철
- * @version 1.2
+ * @version 1.3
  */
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ApprovalTemplateResponseDTO {
+public class ApprovalTemplateResponseDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * 서식 템플릿 ID
@@ -22,4 +22,11 @@ public class ApprovalSequence {
     public void increment() {
         this.currentVal++;
     }
+
+    // 비즈니스 로직: count 개 번호를 한 번에 예약하고 첫 번호 반환
+    public long reserve(long count) {
+        long first = this.currentVal + 1;
+        this.currentVal += count;
+        return first;
+    }
 }
\ No newline at end of file
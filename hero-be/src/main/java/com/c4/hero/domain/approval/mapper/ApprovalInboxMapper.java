@@ -0,0 +1,52 @@
+package com.c4.hero.domain.approval.mapper;
+
+import com.c4.hero.domain.approval.dto.response.ApprovalInboxCountResponseDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * <pre>
+ * Interface Name: ApprovalInboxMapper
+ * Description: 사원별 결재 문서함 인덱스(tbl_approval_inbox) 갱신/집계 매퍼
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface ApprovalInboxMapper {
+
+    /**
+     * 문서 1건의 인덱스 행 삭제
+     *
+     * @param docId 문서 ID
+     * @return 삭제된 행 수
+     */
+    int deleteByDocId(@Param("docId") Integer docId);
+
+    /**
+     * 문서의 기안자/결재자/참조자별 인덱스 행 적재
+     *
+     * @param docId 문서 ID (null 이면 전체 문서)
+     * @return 적재된 행 수
+     */
+    int insertForDocument(@Param("docId") Integer docId);
+
+    /**
+     * 인덱스 적재 여부
+     *
+     * @return 한 건이라도 있으면 true
+     */
+    boolean existsAny();
+
+    /**
+     * 문서함 탭별 문서 개수
+     *
+     * @param employeeId 사원 ID
+     * @return 탭별 개수
+     */
+    ApprovalInboxCountResponseDTO countByTab(@Param("employeeId") Integer employeeId);
+}
@@ -2,10 +2,12 @@ package com.c4.hero.domain.approval.mapper;
 
 import com.c4.hero.domain.approval.dto.ApprovalDefaultLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalDefaultRefDTO;
+import com.c4.hero.domain.approval.dto.ApprovalReminderTargetDTO;
 import com.c4.hero.domain.approval.dto.response.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 /**
  * <pre>
@@ -16,11 +18,15 @@ import java.util.List;
  * 2025/12/25 (민철) 작성화면 관련 결재선/참조목록 자동지정을 위한 조회 mapper
  * 2025/12/26 (민철) 문서함 조회 메서드 추가
  * 2025/12/29 (민철) countInboxDocuments에 sortBy 파라미터 추가
+ * 2026/01/22 (동근) 문서함 커서(seek) 조회 추가
+ * 2026/01/22 (동근) 문서함 조회를 사원별 문서함 인덱스(tbl_approval_inbox) 기반으로 변경
+ * 2026/01/22 (동근) 결재 독촉 대상 일괄 조회 추가
+ * 2026/01/22 (동근) 문서함 커서 조회에서 기안일시 NULL 문서 처리
  *
  * </pre>
  *
  * @author 민철
- * @version 2.1
+ * @version 2.5
  */
 @Mapper
 public interface ApprovalMapper {
@@ -86,6 +92,33 @@ public interface ApprovalMapper {
             @Param("condition") String condition
     );
 
+    /**
+     * 문서함 목록 커서(seek) 조회 (탭별 필터링)
+     * (draft_date, doc_id) 가 커서보다 작은 문서부터 limit 건 조회
+     *
+     * @param employeeId 조회할 직원 ID
+     * @param tab        탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param cursorAt   커서 기안일시 (기안일시가 없는 문서의 커서면 null)
+     * @param cursorId   커서 문서 ID (null이면 첫 페이지)
+     * @param limit      조회 건수 (다음 페이지 확인용 1건 포함)
+     * @param fromDate   시작일
+     * @param toDate     종료일
+     * @param sortBy     검색 필드
+     * @param condition  필터 조건
+     * @return 문서 목록
+     */
+    List<ApprovalDocumentsResponseDTO> selectInboxDocumentsSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("tab") String tab,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit,
+            @Param("fromDate") String fromDate,
+            @Param("toDate") String toDate,
+            @Param("sortBy") String sortBy,
+            @Param("condition") String condition
+    );
+
     /**
      * 문서 상세 정보 조회
      *
@@ -117,4 +150,13 @@ public interface ApprovalMapper {
      * @return 첨부파일 목록
      */
     List<ApprovalAttachmentResponseDTO> selectApprovalAttachments(@Param("docId") Integer docId);
-}
\ No newline at end of file
+
+    /**
+     * 결재 독촉 대상 조회
+     * 진행중 문서 중 생성 후 thresholdDays 일 이상 지난 문서의 대기 결재선 전체
+     *
+     * @param thresholdDays 독촉 기준 대기 일수
+     * @return 독촉 대상 목록 (대기 결재선 1건 = 1행)
+     */
+    List<ApprovalReminderTargetDTO> selectReminderTargets(@Param("thresholdDays") int thresholdDays);
+}
@@ -2,7 +2,8 @@ package com.c4.hero.domain.approval.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
-import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.s3.S3AttachmentService;
+import com.c4.hero.common.s3.S3UploadedFile;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalReferenceDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
@@ -13,18 +14,19 @@ import com.c4.hero.domain.approval.event.ApprovalCompletedEvent;
 import com.c4.hero.domain.approval.event.ApprovalRejectedEvent;
 import com.c4.hero.domain.approval.exception.*;
 import com.c4.hero.domain.approval.repository.*;
-import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import com.c4.hero.domain.employee.service.EmployeeNameCacheService;
 import com.c4.hero.domain.notification.event.approval.ApprovalNotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.c4.hero.common.cache.CacheNames;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,10 +55,16 @@ import java.util.Optional;
  *   2026/01/02 (민철) 문서번호 생성 동시성 처리 (비관적 락 적용)
  *   2026/01/02 (민철) 메서드 주석 개선
  *   2026/01/02 (혜원) 결재 알림 이벤트 발행 추가
+ *   2026/01/16 (동근) 즐겨찾기 변경 시 즐겨찾기 캐시 무효화
+ *   2026/01/22 (동근) 문서 생성/상신/결재/회수/삭제 시 사원별 문서함 인덱스 동기화
+ *   2026/01/22 (동근) 이벤트 발행 시 서식/사원 이름을 캐시(ApprovalTemplateCacheService, EmployeeNameCacheService)에서 조회
+ *   2026/01/22 (동근) 문서 번호 채번을 블록 예약 방식(ApprovalDocNoAllocator)으로 변경
+ *   2026/01/22 (동근) 첨부파일을 트랜잭션 전에 동시 업로드(롤백 시 삭제), 삭제는 커밋 후 일괄 처리
+ *   2026/01/22 (동근) 미사용 결재 독촉 이벤트 발행 메서드 제거 (ApprovalReminderScheduler 가 직접 발송)
  * </pre>
  *
  * @author 민철
- * @version 3.0
+ * @version 3.6
  */
 @Slf4j
 @Service
@@ -69,10 +77,13 @@ public class ApprovalCommandService {
     private final ApprovalReferenceRepository referenceRepository;
     private final ApprovalBookmarkRepository bookmarkRepository;
     private final ApprovalTemplateRepository templateRepository;
-    private final ApprovalSequenceRepository sequenceRepository;
+    private final ApprovalDocNoAllocator docNoAllocator;
     private final ApplicationEventPublisher eventPublisher;
-    private final S3Service s3Service;
-    private final EmployeeRepository employeeRepository;
+    private final S3AttachmentService attachmentService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApprovalTemplateCacheService templateCacheService;
+    private final EmployeeNameCacheService employeeNameCacheService;
+    private final ApprovalInboxService inboxService;
 
 
     /**
@@ -86,6 +97,7 @@ public class ApprovalCommandService {
      * @return 즐겨찾기 상태 (true: 등록됨, false: 해제됨)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.APPROVAL_BOOKMARKS, key = "#empId")
     public boolean toggleBookmark(Integer empId, Integer templateId) {
         Optional<ApprovalBookmark> bookmark =
                 bookmarkRepository.findByEmpIdAndTemplateId(empId, templateId);
@@ -111,7 +123,7 @@ public class ApprovalCommandService {
      * 1. 문서 본문 저장
      * 2. 결재선 저장 (seq=1 기안자는 APPROVED, 나머지는 PENDING)
      * 3. 참조자 저장
-     * 4. 첨부파일 S3 업로드 및 DB 저장
+     * 4. 첨부파일 DB 저장 (S3 업로드는 트랜잭션 시작 전에 동시 처리, 롤백 시 삭제)
      * 5. 상신(INPROGRESS)인 경우 결재선 확인
      *    5-1. 결재선이 기안자(seq=1)만 있으면 자동 승인 처리
      *    5-2. 문서 번호 생성 및 승인 완료 이벤트 발행
@@ -125,13 +137,29 @@ public class ApprovalCommandService {
      * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
      * @throws BusinessException           문서번호 생성 실패 시
      */
-    @Transactional
     public Integer createDocument(
             Integer employeeId,
             ApprovalRequestDTO dto,
             List<MultipartFile> files,
             String status
     ) {
+        List<S3UploadedFile> uploaded = uploadAttachments(files);
+
+        return transactionTemplate.execute(tx -> {
+            attachmentService.deleteOnRollback(uploaded);
+            return createDocumentInTransaction(employeeId, dto, uploaded, status);
+        });
+    }
+
+    /**
+     * 문서 생성 트랜잭션 본문 (첨부파일은 트랜잭션 전에 업로드 완료)
+     */
+    private Integer createDocumentInTransaction(
+            Integer employeeId,
+            ApprovalRequestDTO dto,
+            List<S3UploadedFile> uploaded,
+            String status
+    ) {
 
         ApprovalDocument document = createApprovalDocument(employeeId, dto, status);
         ApprovalDocument savedDoc = documentRepository.save(document);
@@ -144,8 +172,8 @@ public class ApprovalCommandService {
             saveReferences(savedDoc.getDocId(), dto.getReferences());
         }
 
-        if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, savedDoc);
+        if (!uploaded.isEmpty()) {
+            saveAttachments(uploaded, savedDoc);
         }
 
         if ("INPROGRESS".equals(status)) {
@@ -177,6 +205,8 @@ public class ApprovalCommandService {
             }
         }
 
+        syncInbox(savedDoc.getDocId());
+
         return savedDoc.getDocId();
     }
 
@@ -184,40 +214,15 @@ public class ApprovalCommandService {
     /**
      * 문서 번호 생성 (Format: HERO-yyyy-00001)
      * <pre>
-     * 동시성 제어:
-     * - DB의 비관적 락(Pessimistic Lock)을 사용하여 동시 접근 제어
-     * - SELECT ... FOR UPDATE 쿼리로 다른 트랜잭션의 접근 차단
-     * - 트랜잭션 커밋 시점에 락이 해제됨
-     *
-     * 처리 흐름:
-     * 1. 채번 키 생성 (예: HERO-2026)
-     * 2. 비관적 락으로 시퀀스 조회 (없으면 새로 생성)
-     * 3. 번호 증가 (메모리 상 변경)
-     * 4. 변경 사항 저장 (트랜잭션 커밋 시 DB 반영 및 락 해제)
-     * 5. 포맷팅하여 반환 (HERO-2026-00001)
-     *
-     * 주의사항:
-     * - 이 메서드는 반드시 @Transactional 안에서 호출되어야 락이 유지됨
-     * - 트랜잭션 외부에서 호출 시 락이 즉시 해제되어 동시성 문제 발생 가능
+     * 채번은 ApprovalDocNoAllocator 에 위임
+     * - 기본: 인스턴스별로 예약해 둔 번호 블록에서 락 없이 발급
+     * - approval.doc-no.gap-free=true: 이 트랜잭션 안에서 시퀀스 행을 잠그고 발급 (누락 없음)
      * </pre>
      *
      * @return 생성된 문서 번호 (예: HERO-2026-00001)
      */
     private String generateDocNo() {
-        String currentYear = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy"));
-        String seqType = "HERO-" + currentYear;
-
-        ApprovalSequence sequence = sequenceRepository.findBySeqTypeWithLock(seqType)
-                .orElseGet(() -> ApprovalSequence.builder()
-                        .seqType(seqType)
-                        .currentVal(0L)
-                        .build());
-
-        sequence.increment();
-
-        sequenceRepository.save(sequence);
-
-        return seqType + "-" + String.format("%05d", sequence.getCurrentVal());
+        return docNoAllocator.next();
     }
 
     /**
@@ -301,36 +306,44 @@ public class ApprovalCommandService {
 
 
     /**
-     * 첨부파일을 S3에 업로드하고 DB에 저장
+     * 첨부파일 S3 업로드 (트랜잭션 시작 전 호출)
      * <pre>
      * 처리 흐름:
-     * 1. S3에 파일 업로드 (S3Service 호출)
-     * 2. 반환된 S3 Key를 DB에 저장
-     * 3. 원본 파일명, 파일 크기 등 메타데이터도 함께 저장
+     * 1. 모든 파일 검증 후 동시 업로드 (큰 파일은 멀티파트)
+     * 2. 하나라도 실패하면 이미 올라간 파일을 삭제하고 실패 처리
+     * 3. 이후 트랜잭션이 롤백되면 deleteOnRollback 으로 업로드한 파일 삭제
      * </pre>
      *
-     * @param files    업로드할 파일 목록
-     * @param document 문서 엔티티
+     * @param files 업로드할 파일 목록
+     * @return 업로드된 파일 목록 (파일이 없으면 빈 목록)
      * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
      */
-    private void saveFilesToS3(List<MultipartFile> files, ApprovalDocument document) {
-        for (MultipartFile file : files) {
-            try {
-                String s3Key = s3Service.uploadFile(file, "approval");
+    private List<S3UploadedFile> uploadAttachments(List<MultipartFile> files) {
+        try {
+            return attachmentService.uploadAll(files, "approval");
+        } catch (BusinessException e) {
+            throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
 
-                ApprovalAttachment attachment = ApprovalAttachment.builder()
+    /**
+     * 업로드된 첨부파일 DB 저장
+     * <pre>
+     * S3 Key 와 원본 파일명, 파일 크기를 함께 저장
+     * </pre>
+     *
+     * @param uploaded 업로드된 파일 목록
+     * @param document 문서 엔티티
+     */
+    private void saveAttachments(List<S3UploadedFile> uploaded, ApprovalDocument document) {
+        attachmentRepository.saveAll(uploaded.stream()
+                .map(file -> ApprovalAttachment.builder()
                         .document(document)
-                        .originName(file.getOriginalFilename())
-                        .savePath(s3Key)
-                        .fileSize(file.getSize())
-                        .build();
-
-                attachmentRepository.save(attachment);
-
-            } catch (BusinessException e) {
-                throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
-        }
+                        .originName(file.originalFilename())
+                        .savePath(file.key())
+                        .fileSize(file.size())
+                        .build())
+                .toList());
     }
 
 
@@ -345,8 +358,8 @@ public class ApprovalCommandService {
      * 1. 문서 본문 업데이트
      * 2. 기존 결재선 삭제 후 재생성
      * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 (S3 및 DB)
-     * 5. 새 파일 업로드 (S3)
+     * 4. 기존 첨부파일 삭제 (DB 삭제, S3는 커밋 후 일괄 삭제)
+     * 5. 새 첨부파일 DB 저장 (S3 업로드는 트랜잭션 시작 전)
      * </pre>
      *
      * @param employeeId 사원 ID
@@ -360,13 +373,29 @@ public class ApprovalCommandService {
      * @throws ApprovalFileDeleteException       S3 파일 삭제 실패 시
      * @throws ApprovalFileUploadException       S3 파일 업로드 실패 시
      */
-    @Transactional
     public Integer updateDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
             List<MultipartFile> files
     ) {
+        List<S3UploadedFile> uploaded = uploadAttachments(files);
+
+        return transactionTemplate.execute(tx -> {
+            attachmentService.deleteOnRollback(uploaded);
+            return updateDraftDocumentInTransaction(employeeId, docId, dto, uploaded);
+        });
+    }
+
+    /**
+     * 임시저장 문서 수정 트랜잭션 본문 (첨부파일은 트랜잭션 전에 업로드 완료)
+     */
+    private Integer updateDraftDocumentInTransaction(
+            Integer employeeId,
+            Integer docId,
+            ApprovalRequestDTO dto,
+            List<S3UploadedFile> uploaded
+    ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
                 .orElseThrow(() -> new ApprovalDocumentNotFoundException(docId));
@@ -394,8 +423,8 @@ public class ApprovalCommandService {
 
         deleteAttachments(docId);
 
-        if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+        if (!uploaded.isEmpty()) {
+            saveAttachments(uploaded, document);
         }
 
         return docId;
@@ -406,24 +435,20 @@ public class ApprovalCommandService {
      * <pre>
      * 처리 흐름:
      * 1. DB에서 첨부파일 목록 조회
-     * 2. 각 파일에 대해 S3에서 삭제
-     * 3. DB에서 첨부파일 레코드 삭제
+     * 2. DB에서 첨부파일 레코드 삭제
+     * 3. 트랜잭션 커밋 후 S3에서 일괄 삭제 (롤백 시 파일 유지)
      * </pre>
      *
      * @param docId 문서 ID
-     * @throws ApprovalFileDeleteException S3 파일 삭제 실패 시
      */
     private void deleteAttachments(Integer docId) {
-        List<ApprovalAttachment> existingFiles = attachmentRepository.findByDocumentDocId(docId);
+        List<String> keys = attachmentRepository.findByDocumentDocId(docId).stream()
+                .map(ApprovalAttachment::getSavePath)
+                .toList();
 
-        for (ApprovalAttachment attachment : existingFiles) {
-            try {
-                s3Service.deleteFile(attachment.getSavePath());
-            } catch (BusinessException e) {
-                throw new ApprovalFileDeleteException(ErrorCode.FILE_DELETE_ERROR);
-            }
-        }
         attachmentRepository.deleteByDocumentDocId(docId);
+
+        attachmentService.deleteAfterCommit(keys);
     }
 
     /* ========================================== */
@@ -441,7 +466,7 @@ public class ApprovalCommandService {
      * 1. 문서 본문 업데이트
      * 2. 기존 결재선 삭제 후 재생성
      * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 후 새 파일 업로드
+     * 4. 기존 첨부파일 삭제 후 새 첨부파일 저장 (S3 업로드는 트랜잭션 시작 전)
      * 5. 결재선 확인
      *    - 결재선이 1단계(기안)만 있으면 자동 승인 처리
      *    - 2단계 이상이면 INPROGRESS 상태로 변경
@@ -462,13 +487,29 @@ public class ApprovalCommandService {
      * @throws ApprovalFileDeleteException        S3 파일 삭제 실패 시
      * @throws ApprovalFileUploadException        S3 파일 업로드 실패 시
      */
-    @Transactional
     public Integer submitDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
             List<MultipartFile> files
     ) {
+        List<S3UploadedFile> uploaded = uploadAttachments(files);
+
+        return transactionTemplate.execute(tx -> {
+            attachmentService.deleteOnRollback(uploaded);
+            return submitDraftDocumentInTransaction(employeeId, docId, dto, uploaded);
+        });
+    }
+
+    /**
+     * 임시저장 문서 상신 트랜잭션 본문 (첨부파일은 트랜잭션 전에 업로드 완료)
+     */
+    private Integer submitDraftDocumentInTransaction(
+            Integer employeeId,
+            Integer docId,
+            ApprovalRequestDTO dto,
+            List<S3UploadedFile> uploaded
+    ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
                 .orElseThrow(() -> new ApprovalDocumentNotFoundException(docId));
@@ -496,8 +537,8 @@ public class ApprovalCommandService {
 
         deleteAttachments(docId);
 
-        if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+        if (!uploaded.isEmpty()) {
+            saveAttachments(uploaded, document);
         }
 
         List<ApprovalLine> lines = lineRepository.findByDocIdOrderBySeqAsc(docId);
@@ -525,6 +566,8 @@ public class ApprovalCommandService {
             documentRepository.save(document);
         }
 
+        syncInbox(docId);
+
         return docId;
     }
 
@@ -593,6 +636,8 @@ public class ApprovalCommandService {
 
             publishApprovalRejectedNotificationEvent(document, request.getComment(), employeeId);
 
+            syncInbox(document.getDocId());
+
             return ApprovalActionResponseDTO.builder()
                     .success(true)
                     .message("반려 처리 완료")
@@ -618,6 +663,8 @@ public class ApprovalCommandService {
 
                 publishApprovalCompletedNotificationEvent(document, employeeId);
 
+                syncInbox(document.getDocId());
+
                 return ApprovalActionResponseDTO.builder()
                         .success(true)
                         .message("최종 승인 완료")
@@ -637,6 +684,8 @@ public class ApprovalCommandService {
 
                 document.changeStatus("INPROGRESS");
 
+                syncInbox(document.getDocId());
+
                 return ApprovalActionResponseDTO.builder()
                         .success(true)
                         .message("승인 처리 완료")
@@ -655,10 +704,9 @@ public class ApprovalCommandService {
      * @param document 승인 완료된 문서
      */
     private void publishApprovalCompletedEvent(ApprovalDocument document) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
         ApprovalCompletedEvent event = new ApprovalCompletedEvent(
                 document.getDocId(),
-                template.getTemplateKey(),
+                getTemplateKey(document),
                 document.getDetails(),
                 document.getDrafterId(),
                 document.getTitle()
@@ -677,10 +725,9 @@ public class ApprovalCommandService {
      * @param comment  반려 사유
      */
     private void publishApprovalRejectedEvent(ApprovalDocument document, String comment) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
         ApprovalRejectedEvent event = new ApprovalRejectedEvent(
                 document.getDocId(),
-                template.getTemplateKey(),
+                getTemplateKey(document),
                 document.getDetails(),
                 document.getDrafterId(),
                 comment
@@ -740,6 +787,8 @@ public class ApprovalCommandService {
 
         publishApprovalRecalledEvent(document);
 
+        syncInbox(docId);
+
         return "회수가 완료되었습니다.";
 
     }
@@ -771,12 +820,28 @@ public class ApprovalCommandService {
 
             documentRepository.deleteById(docId);
 
+            inboxService.removeDocument(docId);
+
         } catch (BusinessException ex) {
             throw new ApprovalFileDeleteException(ErrorCode.FILE_DELETE_ERROR);
         }
 
         return "삭제를 성공하였습니다.";
     }
+
+    /**
+     * 사원별 문서함 인덱스 동기화
+     * <pre>
+     * 문서/결재선/참조 변경분을 먼저 flush 한 뒤 같은 트랜잭션에서 해당 문서 행을 다시 계산
+     * (롤백 시 인덱스 변경도 함께 롤백)
+     * </pre>
+     *
+     * @param docId 문서 ID
+     */
+    private void syncInbox(Integer docId) {
+        documentRepository.flush();
+        inboxService.refreshDocument(docId);
+    }
     /* ========================================== */
     /* 신규 추가: 알림 헬퍼 메서드 */
     /* ========================================== */
@@ -792,9 +857,22 @@ public class ApprovalCommandService {
      * @return 사원 이름 (조회 실패 시 "")
      */
     private String getDrafterName(Integer employeeId) {
-        return employeeRepository.findById(employeeId)
-                .map(emp -> emp.getEmployeeName())
-                .orElse("");
+        String name = employeeNameCacheService.getEmployeeName(employeeId);
+        return name != null ? name : "";
+    }
+
+    /**
+     * 문서 서식 키 조회
+     * <pre>
+     * 이벤트에 넣을 서식 키를 서식 캐시에서 조회
+     * (한 번의 결재 처리에서 이벤트를 여러 건 발행해도 서식 테이블 조회는 캐시 미스 시 1회)
+     * </pre>
+     *
+     * @param document 결재 문서
+     * @return 서식 키
+     */
+    private String getTemplateKey(ApprovalDocument document) {
+        return templateCacheService.getTemplate(document.getTemplateId()).getTemplateKey();
     }
 
     /**
@@ -812,12 +890,10 @@ public class ApprovalCommandService {
      * @param approver 결재 대기중인 결재선 (다음 결재자)
      */
     private void publishApprovalRequestEvent(ApprovalDocument document, ApprovalLine approver) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
         ApprovalNotificationEvent.ApprovalRequestEvent event =
                 ApprovalNotificationEvent.ApprovalRequestEvent.builder()
                         .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
+                        .templateKey(getTemplateKey(document))
                         .title(document.getTitle())
                         .drafterId(document.getDrafterId())
                         .drafterName(getDrafterName(document.getDrafterId()))
@@ -843,12 +919,10 @@ public class ApprovalCommandService {
      * @param rejecterId 반려자 ID
      */
     private void publishApprovalRejectedNotificationEvent(ApprovalDocument document, String comment, Integer rejecterId) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
         ApprovalNotificationEvent.ApprovalRejectedEvent event =
                 ApprovalNotificationEvent.ApprovalRejectedEvent.builder()
                         .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
+                        .templateKey(getTemplateKey(document))
                         .title(document.getTitle())
                         .drafterId(document.getDrafterId())
                         .rejecterId(rejecterId)
@@ -873,12 +947,10 @@ public class ApprovalCommandService {
      * @param finalApproverId 최종 승인자 ID
      */
     private void publishApprovalCompletedNotificationEvent(ApprovalDocument document, Integer finalApproverId) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
         ApprovalNotificationEvent.ApprovalCompletedEvent event =
                 ApprovalNotificationEvent.ApprovalCompletedEvent.builder()
                         .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
+                        .templateKey(getTemplateKey(document))
                         .title(document.getTitle())
                         .drafterId(document.getDrafterId())
                         .approverId(finalApproverId)
@@ -901,12 +973,10 @@ public class ApprovalCommandService {
      * @param document 회수된 문서
      */
     private void publishApprovalRecalledEvent(ApprovalDocument document) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
         ApprovalNotificationEvent.ApprovalRecalledEvent event =
                 ApprovalNotificationEvent.ApprovalRecalledEvent.builder()
                         .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
+                        .templateKey(getTemplateKey(document))
                         .title(document.getTitle())
                         .drafterId(document.getDrafterId())
                         .recalledAt(LocalDateTime.now())
@@ -914,39 +984,4 @@ public class ApprovalCommandService {
 
         eventPublisher.publishEvent(event);
     }
-
-    /**
-     * 결재 대기 독촉 알림 이벤트 발행 (결재자에게)
-     * <pre>
-     * 호출 시점:
-     * - 스케줄러가 매일 오전 9시 자동 실행
-     * - N일 이상 대기중인 문서의 결재자에게 발송
-     *
-     * 수신자: 결재 대기중인 결재자
-     * 알림 내용: "OOO님의 'XXX' 문서가 N일째 결재 대기 중입니다."
-     *
-     * 사용처: ApprovalReminderScheduler에서 호출
-     * </pre>
-     *
-     * @param document    대기중인 문서
-     * @param approver    대기중인 결재자
-     * @param waitingDays 대기 일수
-     */
-    public void publishApprovalReminderEvent(ApprovalDocument document, ApprovalLine approver, int waitingDays) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
-        ApprovalNotificationEvent.ApprovalReminderEvent event =
-                ApprovalNotificationEvent.ApprovalReminderEvent.builder()
-                        .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
-                        .title(document.getTitle())
-                        .drafterId(document.getDrafterId())
-                        .drafterName(getDrafterName(document.getDrafterId()))
-                        .approverId(approver.getApproverId())
-                        .waitingDays(waitingDays)
-                        .requestedAt(document.getCreatedAt())
-                        .build();
-
-        eventPublisher.publishEvent(event);
-    }
 }
\ No newline at end of file
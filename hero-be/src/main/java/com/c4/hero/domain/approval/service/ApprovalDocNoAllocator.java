@@ -0,0 +1,153 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalDocNoAllocator
+ * Description : 문서 번호 발급기 (Format: HERO-yyyy-00001)
+ *
+ * 블록 모드 (기본)
+ *  - 인스턴스마다 block-size 개 번호를 한 번에 예약(시퀀스 행 락 1회)해 두고 AtomicLong 으로 락 없이 발급
+ *  - 최종 승인마다 시퀀스 행을 잠그던 방식과 달리 결재 트랜잭션끼리 같은 행에서 직렬화되지 않음
+ *  - 번호는 인스턴스 간 순서가 섞일 수 있고, 롤백/재기동/연도 변경 시 예약분 중 쓰지 않은 번호는 건너뜀
+ *  - 예약은 별도 트랜잭션이므로 결재 트랜잭션이 커넥션을 잡은 상태에서 커넥션 1개를 추가로 사용
+ *
+ * 누락 없는 모드 (approval.doc-no.gap-free=true, 감사 요건 시)
+ *  - 결재 트랜잭션 안에서 시퀀스 행을 잠그고 1개씩 발급 (기존 방식)
+ *  - 롤백 시 번호도 롤백되어 누락이 없지만 최종 승인 처리가 행 락에서 직렬화됨
+ *
+ * 연도 변경
+ *  - 채번 키에 연도가 포함되므로 새 연도 첫 발급 시 새 키로 예약하고 이전 연도 블록은 버림
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ApprovalDocNoAllocator {
+
+    private static final String PREFIX = "HERO-";
+
+    private final ApprovalSequenceReserveService reserveService;
+    private final int blockSize;
+    private final boolean gapFree;
+
+    /** 채번 키별 현재 블록 (연도 변경 시 이전 키 제거) */
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public ApprovalDocNoAllocator(
+            ApprovalSequenceReserveService reserveService,
+            @Value("${approval.doc-no.block-size:50}") int blockSize,
+            @Value("${approval.doc-no.gap-free:false}") boolean gapFree
+    ) {
+        this.reserveService = reserveService;
+        this.blockSize = blockSize;
+        this.gapFree = gapFree;
+    }
+
+    /**
+     * 오늘 날짜 기준 문서 번호 발급
+     * 누락 없는 모드에서는 반드시 @Transactional 안에서 호출해야 함
+     *
+     * @return 문서 번호 (예: HERO-2026-00001)
+     * @throws BusinessException 시퀀스 예약 실패 시 (DOC_NO_GENERATION_ERROR)
+     */
+    public String next() {
+        return next(LocalDate.now());
+    }
+
+    /**
+     * 기준일 연도로 문서 번호 발급
+     *
+     * @param today 기준일
+     * @return 문서 번호
+     */
+    String next(LocalDate today) {
+        String seqType = PREFIX + today.getYear();
+
+        long value = (gapFree || blockSize <= 1)
+                ? reserveService.reserveInCurrentTransaction(seqType)
+                : nextFromBlock(seqType);
+
+        return seqType + "-" + String.format("%05d", value);
+    }
+
+    /**
+     * 현재 블록에서 발급, 소진되면 한 스레드만 새 블록 예약
+     */
+    private long nextFromBlock(String seqType) {
+        while (true) {
+            Block block = blocks.get(seqType);
+            if (block != null) {
+                long value = block.take();
+                if (value > 0) {
+                    return value;
+                }
+            }
+
+            synchronized (this) {
+                // 대기하는 동안 다른 스레드가 이미 새 블록을 받았으면 그 블록에서 다시 시도
+                if (blocks.get(seqType) == block) {
+                    blocks.keySet().removeIf(key -> !key.equals(seqType));
+                    long first = reserveBlock(seqType);
+                    blocks.put(seqType, new Block(first, first + blockSize - 1));
+                    log.debug("문서 번호 블록 예약 - seqType: {}, {} ~ {}", seqType, first, first + blockSize - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 블록 예약 (새 연도 첫 예약 시 여러 인스턴스가 동시에 행을 만들면 PK 충돌이 날 수 있어 1회 재시도)
+     */
+    private long reserveBlock(String seqType) {
+        try {
+            return reserveService.reserveBlock(seqType, blockSize);
+        } catch (DataAccessException first) {
+            log.warn("문서 번호 블록 예약 재시도 - seqType: {}, cause: {}", seqType, first.getMessage());
+            try {
+                return reserveService.reserveBlock(seqType, blockSize);
+            } catch (DataAccessException e) {
+                log.error("문서 번호 블록 예약 실패 - seqType: {}", seqType, e);
+                throw new BusinessException(ErrorCode.DOC_NO_GENERATION_ERROR);
+            }
+        }
+    }
+
+    /**
+     * 예약된 번호 구간 [next, end]
+     */
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+
+        /**
+         * @return 발급 번호 (소진 시 -1)
+         */
+        private long take() {
+            long value = next.getAndIncrement();
+            return value <= end ? value : -1;
+        }
+    }
+}
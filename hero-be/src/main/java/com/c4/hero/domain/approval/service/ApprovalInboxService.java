@@ -0,0 +1,84 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.mapper.ApprovalInboxMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalInboxService
+ * Description : 사원별 결재 문서함 인덱스(tbl_approval_inbox) 유지 서비스
+ *
+ *  - ApprovalCommandService 의 문서 생성/상신/결재/회수 시 같은 트랜잭션에서 해당 문서 행만 다시 계산
+ *    (JPA 변경분이 반영되도록 호출 전에 flush 필요)
+ *  - 문서 삭제 시 해당 문서 행 삭제
+ *  - 기동 시 인덱스가 비어 있으면 전체 문서로 최초 적재
+ *    (이벤트 리스너에서 자기 호출하면 @Transactional 프록시를 거치지 않으므로 TransactionTemplate 으로 실행)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 기동 시 최초 적재를 TransactionTemplate 트랜잭션에서 실행
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalInboxService {
+
+    private final ApprovalInboxMapper inboxMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 문서 1건의 문서함 인덱스를 원본(문서/결재선/참조)으로 다시 계산
+     *
+     * @param docId 문서 ID
+     */
+    @Transactional
+    public void refreshDocument(Integer docId) {
+        inboxMapper.deleteByDocId(docId);
+        inboxMapper.insertForDocument(docId);
+    }
+
+    /**
+     * 문서 1건의 문서함 인덱스 삭제
+     *
+     * @param docId 문서 ID
+     */
+    @Transactional
+    public void removeDocument(Integer docId) {
+        inboxMapper.deleteByDocId(docId);
+    }
+
+    /**
+     * 인덱스가 비어 있으면 전체 문서로 최초 적재
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (inboxMapper.existsAny()) {
+            return;
+        }
+        int inserted = inboxMapper.insertForDocument(null);
+        log.info("결재 문서함 인덱스 최초 적재 완료 - rows={}", inserted);
+    }
+
+    /**
+     * 기동 시 최초 적재 (이미 적재되어 있으면 아무것도 하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> backfillIfEmpty());
+        } catch (Exception e) {
+            // 테이블 미생성 등으로 실패해도 기동은 계속
+            log.warn("결재 문서함 인덱스 최초 적재 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.c4.hero.domain.approval.service;
 
+import com.c4.hero.common.pagination.PageCursor;
+import com.c4.hero.common.response.CursorPageResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.approval.dto.ApprovalDefaultLineDTO;
@@ -9,16 +11,17 @@ import com.c4.hero.domain.approval.dto.response.*;
 import com.c4.hero.domain.approval.entity.*;
 import com.c4.hero.domain.approval.exception.ApprovalDocumentNotFoundException;
 import com.c4.hero.domain.approval.exception.ApprovalTemplateNotFoundException;
+import com.c4.hero.domain.approval.mapper.ApprovalInboxMapper;
 import com.c4.hero.domain.approval.mapper.ApprovalMapper;
-import com.c4.hero.domain.approval.repository.ApprovalAttachmentRepository;
-import com.c4.hero.domain.approval.repository.ApprovalBookmarkRepository;
-import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +32,8 @@ import java.util.stream.Collectors;
  *
  * 주요 기능:
  *   - 서식 목록 조회 (즐겨찾기 포함)
- *   - 문서함 목록 조회 (페이징, 탭별 필터링)
+ *   - 문서함 목록 조회 (페이징/커서, 탭별 필터링)
+ *   - 문서함 탭별 개수 조회 (배지)
  *   - 문서 상세 조회 (결재선, 참조자, 첨부파일 포함)
  *   - 서식 상세 조회 (자동 결재선/참조자 계산)
  *
@@ -41,21 +45,25 @@ import java.util.stream.Collectors;
  * 2025/12/26 (민철) 페이지 인덱스 음수 방지 로직 추가
  * 2026/01/01 (민철) 첨부파일 다운로드 URL 생성 추가
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/01/16 (동근) 서식 목록/단건, 즐겨찾기 조회에 2단 캐시(ApprovalTemplateCacheService) 적용
+ * 2026/01/22 (동근) 문서함 목록 커서(seek) 조회 추가
+ * 2026/01/22 (동근) 문서함 조회를 사원별 문서함 인덱스 기반으로 변경, 탭별 개수 조회 추가
+ * 2026/01/22 (동근) 첨부파일 다운로드 URL 일괄 생성 (첨부파일 엔티티 재조회 제거)
+ * 2026/01/22 (동근) 기안일시가 없는 문서의 커서 처리
  *
  * </pre>
  *
  * @author 민철
- * @version 2.4
+ * @version 2.9
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApprovalQueryService {
 
-    private final ApprovalTemplateRepository templateRepository;
-    private final ApprovalBookmarkRepository bookmarkRepository;
-    private final ApprovalAttachmentRepository attachmentRepository;
+    private final ApprovalTemplateCacheService templateCacheService;
     private final ApprovalMapper approvalMapper;
+    private final ApprovalInboxMapper inboxMapper;
     private final S3Service s3Service;
 
 
@@ -63,9 +71,9 @@ public class ApprovalQueryService {
      * 모든 결재 양식 조회 (즐겨찾기 여부 포함)
      * <pre>
      * 처리 흐름:
-     * 1. JPA로 전체 서식 목록 조회
-     * 2. 현재 사용자의 즐겨찾기 목록 조회 (성능 최적화를 위해 ID만 조회)
-     * 3. 각 서식에 즐겨찾기 여부 설정
+     * 1. 전체 서식 목록 조회 (캐시)
+     * 2. 현재 사용자의 즐겨찾기 목록 조회 (성능 최적화를 위해 ID만 조회, 캐시)
+     * 3. 각 서식에 즐겨찾기 여부 설정 (캐시된 DTO 는 공유되므로 복사본 반환)
      * </pre>
      * @param employeeId 현재 로그인한 사원 ID
      * @return 문서 템플릿 목록 (즐겨찾기 여부 포함)
@@ -73,9 +81,9 @@ public class ApprovalQueryService {
     @Transactional(readOnly = true)
     public List<ApprovalTemplateResponseDTO> getAllTemplates(Integer employeeId) {
 
-        List<ApprovalTemplate> templates = templateRepository.findAll();
+        List<ApprovalTemplateResponseDTO> templates = templateCacheService.getTemplates();
 
-        List<Integer> bookmarkedIds = bookmarkRepository.findTemplateIdsByEmpId(employeeId);
+        Set<Integer> bookmarkedIds = new HashSet<>(templateCacheService.getBookmarkedTemplateIds(employeeId));
 
         return templates.stream()
                 .map(t -> ApprovalTemplateResponseDTO.builder()
@@ -152,6 +160,80 @@ public class ApprovalQueryService {
                 employeeId, tab, offset, size, fromDate, toDate, sortBy, condition
         );
 
+        translateDocStatus(documents);
+
+        int totalElements = approvalMapper.countInboxDocuments(
+                employeeId, tab, fromDate, toDate, sortBy, condition
+        );
+
+        return PageResponse.of(documents, pageIndex, size, totalElements);
+    }
+
+    /**
+     * 문서함 목록 커서(seek) 조회 메소드
+     * <pre>
+     * - (기안일시, 문서 ID) 기준으로 이전 페이지의 마지막 문서 이후를 바로 조회 (OFFSET 미사용)
+     * - 기안일시가 없는 문서는 목록 맨 뒤에 오며, 커서는 빈 키(문서 ID만)로 만들어 이어서 조회
+     * - 전체 개수는 includeCount=true 인 첫 페이지 요청에서만 계산
+     * </pre>
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지 크기
+     * @param tab          탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param fromDate     시작일
+     * @param toDate       종료일
+     * @param sortBy       검색 필드
+     * @param condition    필터 조건
+     * @param employeeId   사원 ID
+     * @param includeCount 전체 개수 포함 여부
+     * @return CursorPageResponse<ApprovalDocumentsResponseDTO> 문서 목록 (다음 커서 포함)
+     */
+    public CursorPageResponse<ApprovalDocumentsResponseDTO> getInboxDocumentsByCursor(
+            String cursor, int size, String tab, String fromDate, String toDate,
+            String sortBy, String condition, Integer employeeId, boolean includeCount) {
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int safeSize = CursorPageResponse.safeSize(size);
+
+        if (tab == null || tab.isEmpty()) {
+            tab = "all";
+        }
+
+        List<ApprovalDocumentsResponseDTO> documents = approvalMapper.selectInboxDocumentsSeek(
+                employeeId, tab,
+                pageCursor != null ? pageCursor.dateTimeKey() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                safeSize + 1,
+                fromDate, toDate, sortBy, condition
+        );
+
+        translateDocStatus(documents);
+
+        Long totalElements = includeCount && pageCursor == null
+                ? (long) approvalMapper.countInboxDocuments(employeeId, tab, fromDate, toDate, sortBy, condition)
+                : null;
+
+        return CursorPageResponse.of(documents, safeSize,
+                doc -> PageCursor.encode(doc.getDraftedAt(), doc.getDocId()), totalElements);
+    }
+
+    /**
+     * 문서함 탭별 문서 개수 조회 (탭 배지 표시용)
+     * <pre>
+     * 사원별 문서함 인덱스에서 본인 행만 읽어 모든 탭의 개수를 한 번에 집계
+     * </pre>
+     * @param employeeId 사원 ID
+     * @return 탭별 문서 개수
+     */
+    public ApprovalInboxCountResponseDTO getInboxCounts(Integer employeeId) {
+        return inboxMapper.countByTab(employeeId);
+    }
+
+    /**
+     * 문서 상태 코드를 화면 표시용 문구로 변환
+     *
+     * @param documents 문서 목록
+     */
+    private void translateDocStatus(List<ApprovalDocumentsResponseDTO> documents) {
         documents.forEach(doc -> {
             if ("INPROGRESS".equals(doc.getDocStatus())) {
                 doc.setDocStatus("진행중");
@@ -163,12 +245,6 @@ public class ApprovalQueryService {
                 doc.setDocStatus("임시저장");
             }
         });
-
-        int totalElements = approvalMapper.countInboxDocuments(
-                employeeId, tab, fromDate, toDate, sortBy, condition
-        );
-
-        return PageResponse.of(documents, pageIndex, size, totalElements);
     }
 
     /**
@@ -211,24 +287,13 @@ public class ApprovalQueryService {
         List<ApprovalAttachmentResponseDTO> attachments = approvalMapper.selectApprovalAttachments(docId);
 
         if (attachments != null && !attachments.isEmpty()) {
-            List<ApprovalAttachment> entities = attachmentRepository.findByDocumentDocId(docId);
-
-            for (ApprovalAttachmentResponseDTO dto : attachments) {
-                try {
-                    ApprovalAttachment entity = entities.stream()
-                            .filter(e -> e.getFileId().equals(dto.getAttachmentId()))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (entity != null && entity.getSavePath() != null) {
-                        String presignedUrl = s3Service.generatePresignedUrl(entity.getSavePath(), 7);
-                        dto.setDownloadUrl(presignedUrl);
-                    } else {
-                    }
-                } catch (Exception e) {
-                    log.error("Presigned URL 생성 실패 - attachmentId: {}", dto.getAttachmentId(), e);
-
-                }
+            try {
+                // 다운로드 URL 일괄 생성 (fileUrl = S3 키, 만료가 멀면 이전 URL 재사용)
+                Map<String, String> downloadUrls = s3Service.generatePresignedUrls(
+                        attachments.stream().map(ApprovalAttachmentResponseDTO::getFileUrl).toList(), 7);
+                attachments.forEach(dto -> dto.setDownloadUrl(downloadUrls.get(dto.getFileUrl())));
+            } catch (Exception e) {
+                log.error("Presigned URL 생성 실패 - docId: {}", docId, e);
             }
         }
 
@@ -241,7 +306,7 @@ public class ApprovalQueryService {
      * 서식 화면 조회 메소드 (작성 화면 진입 시 사용)
      * <pre>
      * 처리 흐름:
-     * 1. JPA로 서식 기본 정보 조회 (서식명, 카테고리 등)
+     * 1. 서식 기본 정보 조회 (서식명, 카테고리 등, 캐시)
      * 2. MyBatis로 동적 결재선 조회
      *    - department_id가 0인 경우 기안자의 직속 부서장으로 변환
      *    - 기안자의 부서/직급에 따라 자동으로 결재선 계산
@@ -261,9 +326,9 @@ public class ApprovalQueryService {
     @Transactional(readOnly = true)
     public ApprovalTemplateDetailResponseDTO getTemplate(Integer employeeId, Integer templateId) {
 
-        ApprovalTemplate templateEntity = templateRepository.findByTemplateId(templateId);
+        ApprovalTemplateResponseDTO template = templateCacheService.getTemplate(templateId);
 
-        if (templateEntity == null) {
+        if (template == null) {
             throw new ApprovalTemplateNotFoundException(templateId);
         }
 
@@ -272,10 +337,10 @@ public class ApprovalQueryService {
         List<ApprovalDefaultRefDTO> refDTOs = approvalMapper.selectDefaultReferences(employeeId, templateId);
 
         return ApprovalTemplateDetailResponseDTO.builder()
-                .templateId(templateEntity.getTemplateId())
-                .templateName(templateEntity.getTemplateName())
-                .templateKey(templateEntity.getTemplateKey())
-                .category(templateEntity.getCategory())
+                .templateId(template.getTemplateId())
+                .templateName(template.getTemplateName())
+                .templateKey(template.getTemplateKey())
+                .category(template.getCategory())
                 .lines(lineDTOs)
                 .references(refDTOs)
                 .build();
@@ -0,0 +1,70 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.entity.ApprovalSequence;
+import com.c4.hero.domain.approval.repository.ApprovalSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalSequenceReserveService
+ * Description : 문서 번호 시퀀스(tbl_approval_sequence) 예약
+ *               비관적 락(SELECT ... FOR UPDATE)으로 시퀀스 행을 잠그고 번호를 증가시킴
+ *
+ *  - reserveBlock: 별도 트랜잭션(REQUIRES_NEW)에서 count 개를 예약하고 바로 커밋
+ *                  → 행 락은 예약 순간에만 잡히고 결재 트랜잭션 동안 유지되지 않음
+ *  - reserveInCurrentTransaction: 호출한 트랜잭션 안에서 1개 예약 (커밋 시 락 해제)
+ *                  → 결재가 롤백되면 번호도 함께 롤백되어 누락 없는 채번 보장
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성 (ApprovalCommandService.generateDocNo 에서 분리)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalSequenceReserveService {
+
+    private final ApprovalSequenceRepository sequenceRepository;
+
+    /**
+     * 새 트랜잭션에서 번호 블록 예약
+     *
+     * @param seqType 채번 키 (예: HERO-2026)
+     * @param count   예약할 번호 수
+     * @return 예약된 첫 번호 (첫 번호 ~ 첫 번호 + count - 1 사용 가능)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(String seqType, long count) {
+        return reserve(seqType, count);
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 번호 1개 예약
+     *
+     * @param seqType 채번 키 (예: HERO-2026)
+     * @return 예약된 번호
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserveInCurrentTransaction(String seqType) {
+        return reserve(seqType, 1);
+    }
+
+    private long reserve(String seqType, long count) {
+        ApprovalSequence sequence = sequenceRepository.findBySeqTypeWithLock(seqType)
+                .orElseGet(() -> ApprovalSequence.builder()
+                        .seqType(seqType)
+                        .currentVal(0L)
+                        .build());
+
+        long first = sequence.reserve(count);
+
+        sequenceRepository.save(sequence);
+
+        return first;
+    }
+}
@@ -0,0 +1,85 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.cache.CacheNames;
+import com.c4.hero.domain.approval.dto.response.ApprovalTemplateResponseDTO;
+import com.c4.hero.domain.approval.entity.ApprovalTemplate;
+import com.c4.hero.domain.approval.repository.ApprovalBookmarkRepository;
+import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalTemplateCacheService
+ * Description : 결재 서식 기준정보 캐시 조회
+ *               ApprovalQueryService 내부 호출 시에도 캐시 프록시를 거치도록 별도 빈으로 분리
+ *
+ * 캐시 무효화:
+ *   - 서식 기본 설정 변경: SettingsCommandService.applySettings
+ *   - 즐겨찾기 변경: ApprovalCommandService.toggleBookmark
+ *
+ * History
+ * 2026/01/16 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApprovalTemplateCacheService {
+
+    private final ApprovalTemplateRepository templateRepository;
+    private final ApprovalBookmarkRepository bookmarkRepository;
+
+    /**
+     * 전체 서식 목록 (즐겨찾기 여부 미포함)
+     *
+     * @return 서식 목록
+     */
+    @Cacheable(cacheNames = CacheNames.APPROVAL_TEMPLATES, key = "'all'", sync = true)
+    public List<ApprovalTemplateResponseDTO> getTemplates() {
+        return new ArrayList<>(templateRepository.findAll().stream()
+                .map(this::toResponse)
+                .toList());
+    }
+
+    /**
+     * 서식 단건 조회
+     *
+     * @param templateId 서식 ID
+     * @return 서식 정보 (없으면 null)
+     */
+    @Cacheable(cacheNames = CacheNames.APPROVAL_TEMPLATE, key = "#templateId", unless = "#result == null")
+    public ApprovalTemplateResponseDTO getTemplate(Integer templateId) {
+        ApprovalTemplate template = templateRepository.findByTemplateId(templateId);
+        return template != null ? toResponse(template) : null;
+    }
+
+    /**
+     * 사원의 즐겨찾기 서식 ID 목록
+     *
+     * @param employeeId 사원 ID
+     * @return 즐겨찾기 서식 ID 목록
+     */
+    @Cacheable(cacheNames = CacheNames.APPROVAL_BOOKMARKS, key = "#employeeId", sync = true)
+    public List<Integer> getBookmarkedTemplateIds(Integer employeeId) {
+        return new ArrayList<>(bookmarkRepository.findTemplateIdsByEmpId(employeeId));
+    }
+
+    private ApprovalTemplateResponseDTO toResponse(ApprovalTemplate template) {
+        return ApprovalTemplateResponseDTO.builder()
+                .templateId(template.getTemplateId())
+                .templateName(template.getTemplateName())
+                .templateKey(template.getTemplateKey())
+                .category(template.getCategory())
+                .description(template.getDescription())
+                .build();
+    }
+}
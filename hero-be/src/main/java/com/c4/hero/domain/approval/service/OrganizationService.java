@@ -1,5 +1,6 @@
 package com.c4.hero.domain.approval.service;
 
+import com.c4.hero.common.snapshot.Snapshot;
 import com.c4.hero.domain.approval.dto.organization.*;
 
 import java.util.List;
@@ -13,11 +14,12 @@ import java.util.List;
  * History
  * 2025/12/26 (민철) 최초 작성
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/01/17 (동근) 조직도 스냅샷(ETag) 조회 및 무효화 메서드 추가
  *
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 public interface OrganizationService {
 
@@ -42,6 +44,23 @@ public interface OrganizationService {
      */
     OrganizationTreeResponseDTO getOrganizationTree();
 
+    /**
+     * 조직도 스냅샷 조회
+     * <pre>
+     * 조직도 트리와 ETag 를 함께 반환 (조건부 요청 304 응답용)
+     * </pre>
+     * @return 조직도 스냅샷
+     */
+    Snapshot<OrganizationTreeResponseDTO> getOrganizationTreeSnapshot();
+
+    /**
+     * 조직도 스냅샷 무효화
+     * <pre>
+     * 부서/소속/직급/직책 변경 커밋 후 호출되어 다음 조회 시 재생성되도록 함
+     * </pre>
+     */
+    void invalidateOrganizationTree();
+
     /**
      * 직원 검색
      * <pre>
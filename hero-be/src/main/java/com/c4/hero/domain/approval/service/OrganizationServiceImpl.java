@@ -1,5 +1,8 @@
 package com.c4.hero.domain.approval.service;
 
+import com.c4.hero.common.snapshot.ETagBuilder;
+import com.c4.hero.common.snapshot.Snapshot;
+import com.c4.hero.common.snapshot.SnapshotHolder;
 import com.c4.hero.domain.approval.dto.organization.*;
 import com.c4.hero.domain.approval.mapper.OrganizationMapper;
 import lombok.RequiredArgsConstructor;
@@ -7,10 +10,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * <pre>
@@ -26,11 +31,13 @@ import java.util.stream.Collectors;
  * History
  * 2025/12/26 (민철) 최초 작성
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/01/17 (동근) 조직도 트리를 인덱스 기반 O(D+E) 생성 + 변경 이벤트 기반 불변 스냅샷으로 변경
+ * 2026/01/22 (동근) 조직도 스냅샷 최대 보관 시간 10분으로 단축 (다른 노드 변경 반영)
  *
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.3
  */
 @Slf4j
 @Service
@@ -40,19 +47,57 @@ public class OrganizationServiceImpl implements OrganizationService {
 
     private final OrganizationMapper organizationMapper;
 
+    /**
+     * 조직도 스냅샷 (조직 변경 이벤트로 무효화, 최대 10분 보관)
+     *  - 이벤트는 변경한 노드에서만 받으므로 다른 노드는 maxAge 로 수렴
+     *  - ETag 는 구성 값 해시라 재생성돼도 내용이 같으면 그대로 304 응답
+     */
+    private final SnapshotHolder<OrganizationTreeResponseDTO> organizationTree =
+            new SnapshotHolder<>(this::buildOrganizationTree, Duration.ofMinutes(10));
+
 
     /**
      * 조직도 전체 조회 (계층 구조)
      * <pre>
+     * 조직 변경 이벤트가 없으면 미리 만들어 둔 불변 스냅샷을 그대로 반환
+     * </pre>
+     * @return OrganizationTreeResponseDTO 조직도 트리 구조
+     */
+    @Override
+    public OrganizationTreeResponseDTO getOrganizationTree() {
+        return organizationTree.get().value();
+    }
+
+    /**
+     * 조직도 스냅샷(트리 + ETag) 조회
+     *
+     * @return 조직도 스냅샷
+     */
+    @Override
+    public Snapshot<OrganizationTreeResponseDTO> getOrganizationTreeSnapshot() {
+        return organizationTree.get();
+    }
+
+    /**
+     * 조직도 스냅샷 무효화 (다음 조회 시 재생성)
+     */
+    @Override
+    public void invalidateOrganizationTree() {
+        organizationTree.invalidate();
+    }
+
+
+    /**
+     * 조직도 스냅샷 생성 - O(부서 수 + 직원 수)
+     * <pre>
      * 처리 흐름:
      * 1. 모든 부서 조회 (MyBatis)
      * 2. 모든 직원 조회 (MyBatis)
-     * 3. 부서별 직원 그룹핑 (Stream API 사용)
-     * 4. depth=1인 최상위 부서만 필터링
-     * 5. 각 최상위 부서에 대해 재귀적으로 트리 구조 생성
+     * 3. 부서별 직원 / 상위 부서별 하위 부서 인덱스 생성 (한 번씩만 순회)
+     * 4. depth=1인 최상위 부서부터 인덱스를 따라 트리 구조 생성
      *    - 하위 부서 추가
      *    - 소속 직원 추가
-     * 6. 가상 루트 노드 생성 (전체 조직을 감싸는 루트)
+     * 5. 가상 루트 노드 생성 (전체 조직을 감싸는 루트)
      *
      * 트리 구조:
      * - 루트 (가상 노드)
@@ -68,29 +113,36 @@ public class OrganizationServiceImpl implements OrganizationService {
      * - "department": 부서 노드
      * - "employee": 직원 노드
      * </pre>
-     * @return OrganizationTreeResponseDTO 조직도 트리 구조
+     * @return 조직도 스냅샷
      */
-    @Override
-    public OrganizationTreeResponseDTO getOrganizationTree() {
+    private Snapshot<OrganizationTreeResponseDTO> buildOrganizationTree() {
 
         List<OrganizationDepartmentDTO> departments = organizationMapper.selectAllDepartments();
 
         List<OrganizationEmployeeDTO> employees = organizationMapper.selectAllEmployees();
 
-        Map<Integer, List<OrganizationEmployeeDTO>> employeesByDept = employees.stream()
-                .collect(Collectors.groupingBy(OrganizationEmployeeDTO::getDepartmentId));
+        ETagBuilder etag = new ETagBuilder();
 
-        List<OrganizationTreeNodeDTO> rootChildren = new ArrayList<>();
+        Map<Integer, List<OrganizationEmployeeDTO>> employeesByDept = new HashMap<>();
+        for (OrganizationEmployeeDTO employee : employees) {
+            employeesByDept.computeIfAbsent(employee.getDepartmentId(), k -> new ArrayList<>()).add(employee);
+            etag.add(employee.getEmployeeId(), employee.getDepartmentId(), employee.getEmployeeName(),
+                    employee.getGradeName(), employee.getJobTitleName());
+        }
 
-        List<OrganizationDepartmentDTO> topLevelDepts = departments.stream()
-                .filter(dept -> dept.getDepth() != null && dept.getDepth() == 1)
-                .collect(Collectors.toList());
+        Map<Integer, List<OrganizationDepartmentDTO>> childrenByParent = new HashMap<>();
+        for (OrganizationDepartmentDTO dept : departments) {
+            if (dept.getParentDepartmentId() != null) {
+                childrenByParent.computeIfAbsent(dept.getParentDepartmentId(), k -> new ArrayList<>()).add(dept);
+            }
+            etag.add(dept.getDepartmentId(), dept.getParentDepartmentId(), dept.getDepartmentName(), dept.getDepth());
+        }
 
+        List<OrganizationTreeNodeDTO> rootChildren = new ArrayList<>();
 
-        for (OrganizationDepartmentDTO topDept : topLevelDepts) {
-            OrganizationTreeNodeDTO deptNode = buildDepartmentNode(topDept, departments, employeesByDept);
-            if (deptNode != null) {
-                rootChildren.add(deptNode);
+        for (OrganizationDepartmentDTO topDept : departments) {
+            if (topDept.getDepth() != null && topDept.getDepth() == 1) {
+                rootChildren.add(buildDepartmentNode(topDept, childrenByParent, employeesByDept));
             }
         }
 
@@ -100,13 +152,14 @@ public class OrganizationServiceImpl implements OrganizationService {
                 .departmentName("전체 조직")
                 .depth(0)
                 .employeeCount(employees.size())
-                .children(rootChildren)
+                .children(List.copyOf(rootChildren))
                 .build();
 
-
-        return OrganizationTreeResponseDTO.builder()
+        OrganizationTreeResponseDTO tree = OrganizationTreeResponseDTO.builder()
                 .root(virtualRoot)
                 .build();
+
+        return new Snapshot<>(tree, etag.build("org-tree"), Instant.now());
     }
 
 
@@ -115,40 +168,33 @@ public class OrganizationServiceImpl implements OrganizationService {
      * <pre>
      * 처리 흐름:
      * 1. 하위 부서 찾기
-     *    - parentDepartmentId가 현재 부서 ID와 일치하는 부서 필터링
+     *    - 상위 부서 ID 인덱스에서 현재 부서의 하위 부서 목록 조회
      *    - 각 하위 부서에 대해 재귀 호출
      * 2. 소속 직원 추가
      *    - 현재 부서에 속한 직원들을 children에 추가
      * 3. 부서 노드 생성
-     *    - children에 하위 부서 + 소속 직원 포함
+     *    - children에 하위 부서 + 소속 직원 포함 (불변 리스트)
      *
      * 재귀 종료 조건:
      * - 하위 부서도 없고 소속 직원도 없는 경우 (leaf 노드)
      * </pre>
-     * @param dept            현재 부서
-     * @param allDepartments  전체 부서 목록
-     * @param employeesByDept 부서별 직원 맵 (key: departmentId, value: 직원 목록)
+     * @param dept             현재 부서
+     * @param childrenByParent 상위 부서별 하위 부서 맵 (key: parentDepartmentId)
+     * @param employeesByDept  부서별 직원 맵 (key: departmentId, value: 직원 목록)
      * @return OrganizationTreeNodeDTO 부서 노드 (하위 부서 및 소속 직원 포함)
      */
     private OrganizationTreeNodeDTO buildDepartmentNode(
             OrganizationDepartmentDTO dept,
-            List<OrganizationDepartmentDTO> allDepartments,
+            Map<Integer, List<OrganizationDepartmentDTO>> childrenByParent,
             Map<Integer, List<OrganizationEmployeeDTO>> employeesByDept
     ) {
         List<OrganizationTreeNodeDTO> children = new ArrayList<>();
 
-        List<OrganizationDepartmentDTO> subDepartments = allDepartments.stream()
-                .filter(d -> dept.getDepartmentId().equals(d.getParentDepartmentId()))
-                .collect(Collectors.toList());
-
-        for (OrganizationDepartmentDTO subDept : subDepartments) {
-            children.add(buildDepartmentNode(subDept, allDepartments, employeesByDept));
+        for (OrganizationDepartmentDTO subDept : childrenByParent.getOrDefault(dept.getDepartmentId(), List.of())) {
+            children.add(buildDepartmentNode(subDept, childrenByParent, employeesByDept));
         }
 
-        List<OrganizationEmployeeDTO> deptEmployees = employeesByDept.getOrDefault(
-                dept.getDepartmentId(),
-                new ArrayList<>()
-        );
+        List<OrganizationEmployeeDTO> deptEmployees = employeesByDept.getOrDefault(dept.getDepartmentId(), List.of());
 
         for (OrganizationEmployeeDTO employee : deptEmployees) {
             children.add(OrganizationTreeNodeDTO.createEmployeeNode(
@@ -164,7 +210,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 dept.getDepartmentName(),
                 dept.getDepth(),
                 deptEmployees.size(),
-                children
+                List.copyOf(children)
         );
     }
 
@@ -0,0 +1,75 @@
+package com.c4.hero.domain.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Entity Name: AttendanceMonthlyRollup
+ * Description: 직원별 월간 근태 집계(지각/결근/근무일/근무시간/점수) 엔티티 (ReadOnly)
+ *              근태 점수 대시보드/요약/반기 대시보드 조회용
+ *
+ *  - 갱신은 AttendanceRollupMapper(MyBatis upsert)로만 수행
+ *  - 직원의 해당 월 근태가 없으면 행이 없으며, 조회 시 0건/100점으로 간주
+ *
+ * History
+ * 2026/01/21 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Entity
+@Immutable
+@Table(name = "tbl_attendance_monthly_rollup")
+@NoArgsConstructor
+@Getter
+@ToString
+public class AttendanceMonthlyRollup {
+
+    /** 집계 PK */
+    @Id
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    /** 직원 ID */
+    @Column(name = "employee_id")
+    private Integer employeeId;
+
+    /** 집계 월 (해당 월 1일) */
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    /** 근무일 수 (결근 제외) */
+    @Column(name = "work_days")
+    private Integer workDays;
+
+    /** 지각 횟수 */
+    @Column(name = "late_count")
+    private Integer lateCount;
+
+    /** 결근 횟수 */
+    @Column(name = "absence_count")
+    private Integer absenceCount;
+
+    /** 근무 시간 합계 (분) */
+    @Column(name = "work_minutes")
+    private Integer workMinutes;
+
+    /** 근태 점수 (100 - 지각×1 - 결근×2, 휴직 여부는 조회 시 반영) */
+    @Column(name = "score")
+    private Integer score;
+
+    /** 갱신 일시 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
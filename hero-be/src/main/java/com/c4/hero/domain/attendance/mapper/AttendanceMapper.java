@@ -24,10 +24,11 @@ import java.util.Map;
  * 2025/12/30 (이지윤) 초과 근무 로직에 관한 mapper 추가
  * 2025/12/30 (이지윤) 근무제 수정 변경 로직에 관한 mapper 추가
  * 2026/01/02 (혜원) 알림 감지를 위한 mapper 추가
+ * 2026/01/22 (동근) 목록 커서(seek) 조회 추가
  * </pre>
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.3
  */
 @Mapper
 public interface AttendanceMapper {
@@ -106,6 +107,27 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 개인 근태 기록 목록을 커서(seek) 방식으로 조회합니다.
+     * (work_date, attendance_id) 가 커서보다 작은 행부터 정렬 순서대로 {@code limit} 건을 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 커서 날짜, null인 경우 첫 페이지
+     * @param cursorId   커서 ID (cursorDate가 있을 때만 사용)
+     * @param limit      조회할 데이터 개수 (다음 페이지 확인용 1건 포함)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 개인 근태 기록 리스트
+     */
+    List<PersonalDTO> selectPersonalSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 개인 근태 기록 단건 조회 (본인 소유 데이터만)
      *
@@ -174,6 +196,27 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 초과 근무 기록 목록을 커서(seek) 방식으로 조회합니다.
+     * (date, overtime_id) 가 커서보다 작은 행부터 정렬 순서대로 {@code limit} 건을 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 커서 날짜, null인 경우 첫 페이지
+     * @param cursorId   커서 ID (cursorDate가 있을 때만 사용)
+     * @param limit      조회할 데이터 개수 (다음 페이지 확인용 1건 포함)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 초과 근무 기록 리스트
+     */
+    List<OvertimeDTO> selectOvertimeSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 근태 정정(출퇴근 시간 수정) 요청 목록(페이지)을 조회합니다.
      *
@@ -219,6 +262,27 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 근태 정정 요청 목록을 커서(seek) 방식으로 조회합니다.
+     * (target_date, correction_request_id) 가 커서보다 작은 행부터 정렬 순서대로 {@code limit} 건을 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 커서 날짜, null인 경우 첫 페이지
+     * @param cursorId   커서 ID (cursorDate가 있을 때만 사용)
+     * @param limit      조회할 데이터 개수 (다음 페이지 확인용 1건 포함)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 근태 정정 요청 리스트
+     */
+    List<CorrectionDTO> selectCorrectionSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 근무제 정정 요청 목록(페이지)을 조회합니다.
      *
@@ -264,6 +328,27 @@ public interface AttendanceMapper {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 근무제 변경 이력 목록을 커서(seek) 방식으로 조회합니다.
+     * (date, work_system_change_log_id) 가 커서보다 작은 행부터 정렬 순서대로 {@code limit} 건을 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 커서 날짜, null인 경우 첫 페이지
+     * @param cursorId   커서 ID (cursorDate가 있을 때만 사용)
+     * @param limit      조회할 데이터 개수 (다음 페이지 확인용 1건 포함)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 근무제 변경 이력 리스트
+     */
+    List<ChangeLogDTO> selectChangeLogSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     void insertOvertime(
             @Param("employeeId") Integer employeeId,
             @Param("workDate") LocalDate workDate,
@@ -0,0 +1,65 @@
+package com.c4.hero.domain.attendance.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+/**
+ * <pre>
+ * Interface Name: AttendanceRollupMapper
+ * Description: 직원별 월간 근태 집계(tbl_attendance_monthly_rollup) 갱신 MyBatis Mapper
+ *
+ * History
+ * 2026/01/21 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface AttendanceRollupMapper {
+
+    /**
+     * 직원 1명의 한 달 집계를 원본 근태로 다시 계산해 저장합니다. (출퇴근/정정 시)
+     *
+     * @param employeeId 직원 ID
+     * @param monthStart 집계 월 1일
+     * @return 영향받은 행 수
+     */
+    int upsertEmployeeMonth(
+            @Param("employeeId") Integer employeeId,
+            @Param("monthStart") LocalDate monthStart
+    );
+
+    /**
+     * 기간 내 전 직원의 월별 집계를 원본 근태로 다시 계산해 저장합니다. (야간 보정/최초 적재)
+     *
+     * @param fromMonth 시작 월 1일 (null이면 처음부터)
+     * @param toMonth   종료 월 1일 (null이면 끝까지)
+     * @return 영향받은 행 수
+     */
+    int upsertMonths(
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth
+    );
+
+    /**
+     * 기간 내 원본 근태가 더 이상 없는 집계 행을 삭제합니다.
+     *
+     * @param fromMonth 시작 월 1일
+     * @param toMonth   종료 월 1일
+     * @return 삭제된 행 수
+     */
+    int deleteOrphanedMonths(
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth
+    );
+
+    /**
+     * 집계 행 존재 여부 (최초 적재 필요 여부 판단용)
+     *
+     * @return 집계 행이 하나라도 있으면 true
+     */
+    boolean existsAnyRollup();
+}
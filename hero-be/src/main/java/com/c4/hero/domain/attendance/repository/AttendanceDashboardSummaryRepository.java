@@ -14,6 +14,7 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/24 (이지윤) 최초 작성 및 코딩 컨벤션 적용
+ * 2026/01/21 (동근) 우수/위험 직원 수를 월간 근태 집계(AttendanceMonthlyRollup) 기준으로 조회
  * </pre>
  *
  * 부서별/기간별 기준으로:
@@ -33,9 +34,11 @@ import java.time.LocalDate;
  *  - 지각 상태:  a.state = '지각'
  *  - 결근 상태:  a.state = '결근'
  * </pre>
+ * 점수는 월간 근태 집계(tbl_attendance_monthly_rollup.score)에 미리 계산되어 있으며,
+ * 해당 월 집계가 없는 직원은 100점으로 간주합니다.
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 public interface AttendanceDashboardSummaryRepository extends JpaRepository<Employee, Integer> {
 
@@ -75,9 +78,9 @@ public interface AttendanceDashboardSummaryRepository extends JpaRepository<Empl
      *
      * <p>조회 조건</p>
      * <ul>
-     *     <li>{@code startDate} ~ {@code endDate} 기간의 근태 이력만 대상</li>
+     *     <li>집계 월이 {@code startDate} ~ {@code endDate} 에 속하는 월간 집계 기준 (월 단위 기간 전제)</li>
      *     <li>departmentId가 null이면 전체 부서, 값이 있으면 해당 부서만 대상</li>
-     *     <li>계산된 점수가 95점 이상인 직원 수를 집계</li>
+     *     <li>점수가 95점 이상인 재직(ACTIVE) 직원 수를 집계 (휴직자는 0점이므로 제외)</li>
      * </ul>
      *
      * @param departmentId 조회 대상 부서 ID (null이면 전체 부서)
@@ -90,27 +93,13 @@ public interface AttendanceDashboardSummaryRepository extends JpaRepository<Empl
             select count(e.employeeId)
             from Employee e
                 join e.employeeDepartment d
+                left join AttendanceMonthlyRollup r
+                    on r.employeeId = e.employeeId
+                   and r.monthStart between :startDate and :endDate
             where (:departmentId is null or d.departmentId = :departmentId)
-              and (e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE or e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE)
+              and e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE
               and e.employeeName != 'admin'
-              and e.employeeId in (
-                  select e2.employeeId
-                  from Employee e2
-                      join e2.employeeDepartment d2
-                      left join Attendance a
-                          on a.employee = e2
-                         and a.workDate between :startDate and :endDate
-                  where (:departmentId is null or d2.departmentId = :departmentId)
-                  group by e2.employeeId, e2.status
-                  having (
-                      case when e2.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0L
-                      else
-                          100L
-                          - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L) * 1L
-                          - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
-                      end
-                  ) >= 95L
-              )
+              and coalesce(r.score, 100) >= 95
             """
     )
     long countExcellentEmployees(
@@ -136,24 +125,13 @@ public interface AttendanceDashboardSummaryRepository extends JpaRepository<Empl
             select count(e.employeeId)
             from Employee e
                 join e.employeeDepartment d
+                left join AttendanceMonthlyRollup r
+                    on r.employeeId = e.employeeId
+                   and r.monthStart between :startDate and :endDate
             where (:departmentId is null or d.departmentId = :departmentId)
               and e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE
               and e.employeeName != 'admin'
-              and e.employeeId in (
-                  select e2.employeeId
-                  from Employee e2
-                      join e2.employeeDepartment d2
-                      left join Attendance a
-                          on a.employee = e2
-                         and a.workDate between :startDate and :endDate
-                  where (:departmentId is null or d2.departmentId = :departmentId)
-                  group by e2.employeeId
-                  having (
-                      100L
-                      - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L) * 1L
-                      - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
-                  ) <= 85L
-              )
+              and coalesce(r.score, 100) <= 85
             """
     )
     long countRiskyEmployees(
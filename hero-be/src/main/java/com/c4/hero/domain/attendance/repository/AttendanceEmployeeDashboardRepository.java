@@ -17,33 +17,34 @@ import java.util.List;
  *
  * History
  * 2025/12/24 이지윤 최초 작성
+ * 2026/01/21 동근 월별 집계/반기 요약을 월간 근태 집계(AttendanceMonthlyRollup) 기준으로 조회
  * </pre>
  *
  * - 월별 집계(차트용)
  * - 반기 요약(상단 카드용)
+ * - 기간은 월 단위(월 1일 기준)로 해석: 집계 월(monthStart)이 startDate ~ endDate 에 속하는 행
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 public interface AttendanceEmployeeDashboardRepository extends JpaRepository<Attendance, Integer> {
 
     /**
      * 직원의 기간 내 월별 근태 집계(차트용)
-     * - month(1~12) 기준 group by
+     * - 월간 근태 집계(직원-월 1행)를 그대로 조회
      * - 없는 달(0건)은 결과가 안 내려오므로 Service에서 0 채우기 필요
      */
     @Query("""
         select new com.c4.hero.domain.attendance.dto.AttendanceEmployeeMonthlyStatDTO(
-            cast(function('month', a.workDate) as integer),
-            coalesce(sum(case when a.state <> '결근' then 1L else 0L end), 0L),
-            coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L),
-            coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L)
+            cast(function('month', r.monthStart) as integer),
+            cast(r.workDays as long),
+            cast(r.lateCount as long),
+            cast(r.absenceCount as long)
         )
-        from Attendance a
-        where a.employee.employeeId = :employeeId
-          and a.workDate between :startDate and :endDate
-        group by function('month', a.workDate)
-        order by function('month', a.workDate) asc
+        from AttendanceMonthlyRollup r
+        where r.employeeId = :employeeId
+          and r.monthStart between :startDate and :endDate
+        order by r.monthStart asc
     """)
     List<AttendanceEmployeeMonthlyStatDTO> findEmployeeMonthlyStats(
             @Param("employeeId") Integer employeeId,
@@ -56,13 +57,13 @@ public interface AttendanceEmployeeDashboardRepository extends JpaRepository<Att
      */
     @Query("""
         select new com.c4.hero.domain.attendance.dto.AttendanceEmployeeHalfSummaryDTO(
-            coalesce(sum(case when a.state <> '결근' then 1L else 0L end), 0L),
-            coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L),
-            coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L)
+            coalesce(sum(r.workDays), 0L),
+            coalesce(sum(r.lateCount), 0L),
+            coalesce(sum(r.absenceCount), 0L)
         )
-        from Attendance a
-        where a.employee.employeeId = :employeeId
-          and a.workDate between :startDate and :endDate
+        from AttendanceMonthlyRollup r
+        where r.employeeId = :employeeId
+          and r.monthStart between :startDate and :endDate
     """)
     AttendanceEmployeeHalfSummaryDTO findEmployeeHalfSummary(
             @Param("employeeId") Integer employeeId,
@@ -0,0 +1,59 @@
+package com.c4.hero.domain.attendance.scheduler;
+
+import com.c4.hero.domain.attendance.service.AttendanceRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * <pre>
+ * Class Name: AttendanceRollupScheduler
+ * Description: 직원별 월간 근태 집계 야간 보정 스케줄러
+ *
+ *  - 매일 00:30 전월~당월 집계를 원본 근태로 다시 계산
+ *    (월초에 승인된 전월 근태 정정, 출퇴근 API 를 거치지 않고 적재된 결근 등 반영)
+ *  - 기동 시 집계 테이블이 비어 있으면 전체 기간 최초 적재
+ *
+ * History
+ * 2026/01/21 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceRollupScheduler {
+
+    private final AttendanceRollupService rollupService;
+
+    /**
+     * 매일 00:30 전월~당월 근태 집계를 보정합니다.
+     */
+    @Scheduled(cron = "0 30 0 * * *")
+    @SchedulerLock(name = "reconcileAttendanceRollup", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
+    public void reconcile() {
+        YearMonth current = YearMonth.now();
+        rollupService.rebuildMonths(current.minusMonths(1), current);
+    }
+
+    /**
+     * 기동 시 집계 테이블 최초 적재 (이미 적재되어 있으면 아무것도 하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            rollupService.backfillIfEmpty();
+        } catch (Exception e) {
+            // 테이블 미생성 등으로 실패해도 기동은 계속 (야간 보정에서 다시 시도)
+            log.warn("근태 월간 집계 최초 적재 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.mapper.AttendanceRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * <pre>
+ * Class Name: AttendanceRollupService
+ * Description: 직원별 월간 근태 집계(tbl_attendance_monthly_rollup) 유지 서비스
+ *
+ *  - 출퇴근(DashboardServiceImpl), 근태 정정 승인(AttendanceService.changeStatus) 시
+ *    같은 트랜잭션에서 해당 직원-월 한 행만 다시 계산
+ *  - 야간 보정(AttendanceRollupScheduler)으로 직접 적재/수정된 근태까지 전월~당월 재계산
+ *  - 집계 테이블이 비어 있으면 전체 기간을 한 번에 적재
+ *
+ * History
+ * 2026/01/21 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceRollupService {
+
+    private final AttendanceRollupMapper rollupMapper;
+
+    /**
+     * 근무일이 속한 달의 직원 집계를 다시 계산합니다.
+     * 원본 근태 변경과 같은 트랜잭션에서 호출해야 변경 내용이 함께 반영/롤백됩니다.
+     *
+     * @param employeeId 직원 ID
+     * @param workDate   변경된 근태의 근무일
+     */
+    @Transactional
+    public void refreshEmployeeMonth(Integer employeeId, LocalDate workDate) {
+        rollupMapper.upsertEmployeeMonth(employeeId, workDate.withDayOfMonth(1));
+    }
+
+    /**
+     * 기간 내 전 직원의 월별 집계를 다시 계산합니다.
+     *
+     * @param from 시작 월
+     * @param to   종료 월
+     */
+    @Transactional
+    public void rebuildMonths(YearMonth from, YearMonth to) {
+        LocalDate fromMonth = from.atDay(1);
+        LocalDate toMonth = to.atDay(1);
+
+        int upserted = rollupMapper.upsertMonths(fromMonth, toMonth);
+        int deleted = rollupMapper.deleteOrphanedMonths(fromMonth, toMonth);
+
+        log.info("근태 월간 집계 재계산 완료 - {} ~ {}, upsert={}, deleted={}", from, to, upserted, deleted);
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 전체 근태로 최초 적재합니다.
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollupMapper.existsAnyRollup()) {
+            return;
+        }
+        int upserted = rollupMapper.upsertMonths(null, null);
+        log.info("근태 월간 집계 최초 적재 완료 - rows={}", upserted);
+    }
+}
@@ -3,7 +3,9 @@ package com.c4.hero.domain.attendance.service;
 import com.c4.hero.common.exception.EntityNotFoundException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.pagination.PageCalculator;
+import com.c4.hero.common.pagination.PageCursor;
 import com.c4.hero.common.pagination.PageInfo;
+import com.c4.hero.common.response.CursorPageResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.attendance.dto.AttSummaryDTO;
 import com.c4.hero.domain.attendance.dto.AttendanceDashboardDTO;
@@ -44,6 +46,8 @@ import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +60,9 @@ import java.util.stream.Collectors;
  * 2025/12/09 (이지윤) 최초 작성
  * 2025/12/24 (이지윤) 대시보드/반기 대시보드/요약 카드 로직 추가 및 컨벤션 정리
  * 2026/01/07 (민철) 근태 이력 수정 로직 추가
+ * 2026/01/21 (동근) 근태 이력 수정 시 월간 근태 집계 갱신
+ * 2026/01/22 (동근) 개인 탭 목록 커서(seek) 조회 추가
+ * 2026/01/22 (동근) 개인 탭 커서 조회를 공통 seekPage 로 통합
  * </pre>
  *
  * 개인/부서 단위의 근태 이력 및 각종 요약/대시보드 데이터를 조회하는 도메인 서비스입니다.
@@ -66,7 +73,7 @@ import java.util.stream.Collectors;
  * 공통 페이지네이션/기간 보정 로직을 내부에서 처리합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.5
  */
 @Slf4j
 @Service
@@ -90,6 +97,9 @@ public class AttendanceService {
 
     /** 직원 기본 정보 조회용 JPA 레포지토리 */
     private final EmployeeRepository employeeRepository;
+
+    /** 월간 근태 집계(대시보드용) 갱신 서비스 */
+    private final AttendanceRollupService attendanceRollupService;
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     /** 근태 이력 수정 (지각, 결근 -> 정상) */
@@ -148,7 +158,10 @@ public class AttendanceService {
             }
 
             attendanceEntity.changeStatus( "정상", workDuration);
-            attendanceEmployeeDashboardRepository.save(attendanceEntity);
+            // 집계는 MyBatis 로 원본 근태를 다시 읽으므로 변경 내용을 먼저 flush
+            attendanceEmployeeDashboardRepository.saveAndFlush(attendanceEntity);
+            attendanceRollupService.refreshEmployeeMonth(
+                    attendanceEntity.getEmployee().getEmployeeId(), attendanceEntity.getWorkDate());
         } catch (JsonProcessingException e) {
             log.error("근태 상세정보 JSON 파싱 실패. drafterId={}, details={}",
                     drafterId, detailsJson, e);
@@ -171,6 +184,58 @@ public class AttendanceService {
         return LocalTime.parse(hhmm);
     }
 
+    /**
+     * 개인 탭 목록 공통 커서(seek) 조회
+     *
+     * <p>
+     * (날짜, ID) 커서보다 뒤의 행을 {@code size + 1} 건만 조회하므로 깊은 페이지도 OFFSET 없이 인덱스로 바로 찾아가며,
+     * 전체 개수(COUNT)는 요청한 경우 첫 페이지에서만 계산합니다.
+     * </p>
+     *
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지당 데이터 개수
+     * @param includeCount 전체 개수 포함 여부
+     * @param seekQuery    커서 이후 행 조회 쿼리
+     * @param countQuery   전체 개수 조회 쿼리
+     * @param cursorOf     행 → 다음 커서 변환
+     * @return 커서 페이지 응답 DTO
+     */
+    private <T> CursorPageResponse<T> seekPage(
+            String cursor,
+            int size,
+            boolean includeCount,
+            SeekQuery<T> seekQuery,
+            IntSupplier countQuery,
+            Function<T, String> cursorOf
+    ) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int safeSize = CursorPageResponse.safeSize(size);
+
+        List<T> rows = seekQuery.select(cursorDate(pageCursor), cursorId(pageCursor), safeSize + 1);
+
+        Long totalCount = includeCount && pageCursor == null
+                ? (long) countQuery.getAsInt()
+                : null;
+
+        return CursorPageResponse.of(rows, safeSize, cursorOf, totalCount);
+    }
+
+    /** 커서 정렬 키(날짜), 첫 페이지면 null */
+    private LocalDate cursorDate(PageCursor pageCursor) {
+        return pageCursor != null ? pageCursor.dateKey() : null;
+    }
+
+    /** 커서 ID, 첫 페이지면 null */
+    private Long cursorId(PageCursor pageCursor) {
+        return pageCursor != null ? pageCursor.id() : null;
+    }
+
+    /** 커서 위치(날짜, ID) 이후 행을 limit 건 조회하는 Mapper 호출 */
+    @FunctionalInterface
+    private interface SeekQuery<T> {
+        List<T> select(LocalDate cursorDate, Long cursorId, int limit);
+    }
+
     /**
      * 근태 조회용 기간(startDate, endDate)을 표현하는 내부 레코드입니다.
      *
@@ -535,6 +600,126 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 개인 근태 기록을 커서(seek) 방식으로 조회합니다.
+     *
+     * @param employeeId   직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지당 데이터 개수
+     * @param startDate    조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate      조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param includeCount 전체 개수 포함 여부
+     * @return 개인 근태 기록 커서 페이지 응답 DTO
+     */
+    public CursorPageResponse<PersonalDTO> getPersonalListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean includeCount
+    ) {
+        return seekPage(
+                cursor,
+                size,
+                includeCount,
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectPersonalSeek(
+                        employeeId, cursorDate, cursorId, limit, startDate, endDate),
+                () -> attendanceMapper.selectPersonalCount(employeeId, startDate, endDate),
+                row -> PageCursor.encode(row.getWorkDate(), row.getAttendanceId())
+        );
+    }
+
+    /**
+     * 초과 근무 기록을 커서(seek) 방식으로 조회합니다.
+     *
+     * @param employeeId   직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지당 데이터 개수
+     * @param startDate    조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate      조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param includeCount 전체 개수 포함 여부
+     * @return 초과 근무 기록 커서 페이지 응답 DTO
+     */
+    public CursorPageResponse<OvertimeDTO> getOvertimeListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean includeCount
+    ) {
+        return seekPage(
+                cursor,
+                size,
+                includeCount,
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectOvertimeSeek(
+                        employeeId, cursorDate, cursorId, limit, startDate, endDate),
+                () -> attendanceMapper.selectOvertimeCount(employeeId, startDate, endDate),
+                row -> PageCursor.encode(row.getDate(), row.getOvertimeId())
+        );
+    }
+
+    /**
+     * 근태 정정 요청 이력을 커서(seek) 방식으로 조회합니다.
+     *
+     * @param employeeId   직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지당 데이터 개수
+     * @param startDate    조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate      조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param includeCount 전체 개수 포함 여부
+     * @return 근태 정정 요청 이력 커서 페이지 응답 DTO
+     */
+    public CursorPageResponse<CorrectionDTO> getCorrectionListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean includeCount
+    ) {
+        return seekPage(
+                cursor,
+                size,
+                includeCount,
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectCorrectionSeek(
+                        employeeId, cursorDate, cursorId, limit, startDate, endDate),
+                () -> attendanceMapper.selectCorrectionCount(employeeId, startDate, endDate),
+                row -> PageCursor.encode(row.getDate(), row.getCorrectionId())
+        );
+    }
+
+    /**
+     * 근무제 변경 이력을 커서(seek) 방식으로 조회합니다.
+     *
+     * @param employeeId   직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor       이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size         페이지당 데이터 개수
+     * @param startDate    조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate      조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param includeCount 전체 개수 포함 여부
+     * @return 근무제 변경 이력 커서 페이지 응답 DTO
+     */
+    public CursorPageResponse<ChangeLogDTO> getChangeLogListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean includeCount
+    ) {
+        return seekPage(
+                cursor,
+                size,
+                includeCount,
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectChangeLogSeek(
+                        employeeId, cursorDate, cursorId, limit, startDate, endDate),
+                () -> attendanceMapper.selectChangeLogCount(employeeId, startDate, endDate),
+                row -> PageCursor.encode(row.getDate(), row.getWorkSystemChangeLogId())
+        );
+    }
+
     /**
      * 부서 근태 현황 페이지를 조회합니다.
      *
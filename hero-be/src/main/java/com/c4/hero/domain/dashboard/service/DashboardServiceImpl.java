@@ -2,6 +2,7 @@ package com.c4.hero.domain.dashboard.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.AttendanceRollupService;
 import com.c4.hero.domain.dashboard.dto.*;
 import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +21,11 @@ import java.time.format.DateTimeFormatter;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/01/21 (동근) 출퇴근 시 월간 근태 집계 갱신
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @Service
@@ -31,6 +33,7 @@ import java.time.format.DateTimeFormatter;
 public class DashboardServiceImpl implements DashboardService {
 
     private final DashboardMapper dashboardMapper;
+    private final AttendanceRollupService attendanceRollupService;
 
     /**
      * 출근 처리
@@ -75,6 +78,9 @@ public class DashboardServiceImpl implements DashboardService {
             throw new BusinessException(ErrorCode.CLOCK_IN_FAILED);
         }
 
+        // 6. 월간 근태 집계 갱신 (지각 여부 반영)
+        attendanceRollupService.refreshEmployeeMonth(employeeId, dto.getWorkDate());
+
         log.info("=== ✅ 출근 처리 완료 === templateId: {}", dto.getWorkSystemTemplateId());
     }
 
@@ -147,6 +153,9 @@ public class DashboardServiceImpl implements DashboardService {
             throw new BusinessException(ErrorCode.CLOCK_OUT_FAILED);
         }
 
+        // 10. 월간 근태 집계 갱신 (상태/근무시간 반영)
+        attendanceRollupService.refreshEmployeeMonth(employeeId, dto.getWorkDate());
+
         log.info("=== 퇴근 처리 완료 === 근무시간: {}분 ({}시간 {}분)",
                 workMinutes, workMinutes / 60, workMinutes % 60);
     }
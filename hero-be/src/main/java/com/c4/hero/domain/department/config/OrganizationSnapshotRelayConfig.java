@@ -0,0 +1,55 @@
+package com.c4.hero.domain.department.config;
+
+import com.c4.hero.domain.department.service.OrganizationSnapshotInvalidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * Class Name: OrganizationSnapshotRelayConfig
+ * Description: 노드 간 조직 스냅샷 무효화(Redis Pub/Sub) 구독 설정
+ *              cache.redis.enabled 기본값 false: 리스너를 등록하지 않아 인스턴스 단독으로 동작
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Configuration
+public class OrganizationSnapshotRelayConfig {
+
+    @Value("${cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    /**
+     * 다른 노드에서 발행한 조직 스냅샷 무효화 구독
+     *
+     * @param connectionFactory Redis 커넥션 팩토리
+     * @param invalidator       조직 스냅샷 무효화 서비스
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer organizationInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            OrganizationSnapshotInvalidator invalidator
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (redisEnabled) {
+            container.addMessageListener(
+                    (message, pattern) -> invalidator.handleInvalidationMessage(
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(OrganizationSnapshotInvalidator.INVALIDATION_CHANNEL)
+            );
+        }
+        return container;
+    }
+}
@@ -1,6 +1,7 @@
 package com.c4.hero.domain.department.controller;
 
 import com.c4.hero.common.response.CustomResponse;
+import com.c4.hero.common.snapshot.Snapshot;
 import com.c4.hero.domain.department.dto.DepartmentDTO;
 import com.c4.hero.domain.department.dto.EmployeeDepartmentHistoryDTO;
 import com.c4.hero.domain.department.dto.EmployeeGradeHistoryDTO;
@@ -13,11 +14,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,13 +35,14 @@ import java.util.List;
  * 2025/12/29 (승건) 조직도 조회 API 추가
  * 2025/12/29 (승건) 부서/직급 이력 조회 API 추가
  * 2026/01/07 (승건) 스웨거 작성
+ * 2026/01/17 (동근) 조직도 조회 ETag/304 지원
  * </pre>
  *
  * 공통으로 사용되는 부서 셀렉트 박스/필터(근태대시보드, 휴가 캘린더 등)를 위한
  * 부서 전체 목록 조회 API를 제공합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.3
  */
 @RestController
 @RequiredArgsConstructor
@@ -76,19 +81,28 @@ public class DepartmentController {
      * <ul>
      *     <li>부서 계층 구조와 각 부서에 속한 직원 정보를 포함합니다.</li>
      *     <li>퇴사한 직원은 제외됩니다.</li>
+     *     <li>If-None-Match 가 현재 스냅샷 ETag 와 같으면 본문 없이 304 를 반환합니다.</li>
      * </ul>
      *
+     * @param webRequest 조건부 요청 헤더 확인용
      * @return 조직도 트리 노드 리스트
      */
     @Operation(summary = "조직도 조회", description = "부서 계층 구조와 각 부서에 속한 직원 정보를 포함한 조직도를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)")
     })
     @GetMapping("/organization-chart")
-    public ResponseEntity<CustomResponse<List<OrganizationNodeDTO>>> getOrganizationChart() {
-        List<OrganizationNodeDTO> organizationChart = departmentService.getOrganizationChart();
-        return ResponseEntity.ok(CustomResponse.success(organizationChart));
+    public ResponseEntity<CustomResponse<List<OrganizationNodeDTO>>> getOrganizationChart(WebRequest webRequest) {
+        Snapshot<List<OrganizationNodeDTO>> snapshot = departmentService.getOrganizationChartSnapshot();
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(CustomResponse.success(snapshot.value()));
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.c4.hero.domain.department.event;
+
+import com.c4.hero.common.event.OrganizationChangedEvent;
+import com.c4.hero.domain.department.service.OrganizationSnapshotInvalidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChangedEventListener
+ * Description: 조직 변경 이벤트 수신 시 조직도 / 부서 계층 스냅샷 무효화
+ *
+ *  - 커밋 이후(AFTER_COMMIT)에만 무효화하여 커밋 전 데이터로 스냅샷이 다시 만들어지는 것을 방지
+ *  - 트랜잭션 밖에서 발행된 경우에도 즉시 무효화(fallbackExecution)
+ *
+ * History
+ * 2026/01/17 (동근) 최초 작성
+ * 2026/01/22 (동근) 부서 계층(하위 부서) 스냅샷 무효화 추가
+ * 2026/01/22 (동근) 무효화를 OrganizationSnapshotInvalidator 로 이동 (다른 노드에 전파)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationChangedEventListener {
+
+    private final OrganizationSnapshotInvalidator organizationSnapshotInvalidator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrganizationChanged(OrganizationChangedEvent event) {
+        organizationSnapshotInvalidator.invalidateAll(event.getReason());
+    }
+}
@@ -0,0 +1,186 @@
+package com.c4.hero.domain.department.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: DepartmentHierarchy
+ * Description: 부서 계층 클로저(closure) 인덱스 - 생성 후 변경되지 않는 불변 객체
+ *
+ *  - (상위 부서, 하위 부서, 깊이) 클로저 행을 메모리에 미리 펼쳐 둠
+ *    · 하위 부서 ID 목록(자기 자신 포함) 조회 O(1)
+ *    · "부서 X 가 부서 A 의 하위인가" 판정 O(1)
+ *  - 부서 N 개, 최대 깊이 H 기준 생성 비용 / 메모리 O(N × H)
+ *  - parent 가 순환하는 잘못된 데이터는 순환 지점에서 끊어 무한 탐색을 막음
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class DepartmentHierarchy {
+
+    /** 부서 ID → 자기 자신 포함 하위 부서 ID (너비 우선 순서) */
+    private final Map<Integer, List<Integer>> subtreeById;
+
+    /** 하위 부서 ID → (상위 부서 ID → 깊이), 자기 자신은 깊이 0 */
+    private final Map<Integer, Map<Integer, Integer>> ancestorDepthById;
+
+    private DepartmentHierarchy(Map<Integer, List<Integer>> subtreeById,
+                                Map<Integer, Map<Integer, Integer>> ancestorDepthById) {
+        this.subtreeById = subtreeById;
+        this.ancestorDepthById = ancestorDepthById;
+    }
+
+    /**
+     * 부서별 상위 부서 매핑으로 계층 인덱스 생성
+     *
+     * @param parentById 부서 ID → 상위 부서 ID (최상위는 null)
+     * @return 계층 인덱스
+     */
+    public static DepartmentHierarchy of(Map<Integer, Integer> parentById) {
+        Map<Integer, List<Integer>> childrenById = new HashMap<>();
+        parentById.forEach((departmentId, parentId) -> {
+            if (parentId != null && !parentId.equals(departmentId)) {
+                childrenById.computeIfAbsent(parentId, k -> new ArrayList<>()).add(departmentId);
+            }
+        });
+        childrenById.values().forEach(Collections::sort);
+
+        Map<Integer, List<Integer>> subtreeById = new HashMap<>();
+        Map<Integer, Map<Integer, Integer>> ancestorDepthById = new HashMap<>();
+
+        for (Integer departmentId : parentById.keySet()) {
+            subtreeById.put(departmentId, List.copyOf(walkDown(departmentId, childrenById)));
+            ancestorDepthById.put(departmentId, Collections.unmodifiableMap(walkUp(departmentId, parentById)));
+        }
+        return new DepartmentHierarchy(subtreeById, ancestorDepthById);
+    }
+
+    /**
+     * 자기 자신을 포함한 모든 하위 부서 ID
+     * 계층에 없는 부서는 자기 자신만 반환 (기존 재귀 조회와 동일)
+     *
+     * @param departmentId 부서 ID
+     * @return 하위 부서 ID 목록 (불변, null 이면 빈 목록)
+     */
+    public List<Integer> subtreeIds(Integer departmentId) {
+        if (departmentId == null) {
+            return List.of();
+        }
+        List<Integer> subtree = subtreeById.get(departmentId);
+        return subtree != null ? subtree : List.of(departmentId);
+    }
+
+    /**
+     * 여러 부서의 하위 부서 ID 합집합 (중복 제거, 입력 순서 유지)
+     *
+     * @param departmentIds 부서 ID 목록
+     * @return 하위 부서 ID 목록
+     */
+    public List<Integer> subtreeIds(Iterable<Integer> departmentIds) {
+        Set<Integer> result = new LinkedHashSet<>();
+        for (Integer departmentId : departmentIds) {
+            result.addAll(subtreeIds(departmentId));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 부서가 상위 부서의 하위(자기 자신 포함)인지 여부
+     *
+     * @param ancestorId   상위 부서 ID
+     * @param departmentId 확인할 부서 ID
+     * @return 하위 부서이면 true
+     */
+    public boolean isInSubtree(Integer ancestorId, Integer departmentId) {
+        if (ancestorId == null || departmentId == null) {
+            return false;
+        }
+        if (ancestorId.equals(departmentId)) {
+            return true;
+        }
+        Map<Integer, Integer> ancestors = ancestorDepthById.get(departmentId);
+        return ancestors != null && ancestors.containsKey(ancestorId);
+    }
+
+    /**
+     * 상위 부서 → 하위 부서 깊이
+     *
+     * @return 깊이 (자기 자신 0, 하위가 아니면 -1)
+     */
+    public int depth(Integer ancestorId, Integer departmentId) {
+        if (!isInSubtree(ancestorId, departmentId)) {
+            return -1;
+        }
+        Map<Integer, Integer> ancestors = ancestorDepthById.get(departmentId);
+        return ancestors == null ? 0 : ancestors.getOrDefault(ancestorId, 0);
+    }
+
+    /**
+     * 상위 부서 ID 목록 (가까운 순, 자기 자신 제외)
+     *
+     * @param departmentId 부서 ID
+     * @return 상위 부서 ID 목록
+     */
+    public List<Integer> ancestorIds(Integer departmentId) {
+        Map<Integer, Integer> ancestors = ancestorDepthById.get(departmentId);
+        if (ancestors == null) {
+            return List.of();
+        }
+        return ancestors.keySet().stream().skip(1).toList();
+    }
+
+    /** 부서 수 */
+    public int size() {
+        return subtreeById.size();
+    }
+
+    /** 클로저 행 수 (자기 자신 행 포함) */
+    public int closureSize() {
+        return ancestorDepthById.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static List<Integer> walkDown(Integer departmentId, Map<Integer, List<Integer>> childrenById) {
+        List<Integer> subtree = new ArrayList<>();
+        Set<Integer> visited = new HashSet<>();
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(departmentId);
+        visited.add(departmentId);
+
+        while (!queue.isEmpty()) {
+            Integer current = queue.poll();
+            subtree.add(current);
+            for (Integer child : childrenById.getOrDefault(current, List.of())) {
+                if (visited.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+        return subtree;
+    }
+
+    /** 자기 자신(깊이 0)부터 최상위까지 (삽입 순서 = 가까운 순) */
+    private static Map<Integer, Integer> walkUp(Integer departmentId, Map<Integer, Integer> parentById) {
+        Map<Integer, Integer> ancestors = new LinkedHashMap<>();
+        Integer current = departmentId;
+        int depth = 0;
+        while (current != null && !ancestors.containsKey(current)) {
+            ancestors.put(current, depth++);
+            current = parentById.get(current);
+        }
+        return ancestors;
+    }
+}
@@ -0,0 +1,99 @@
+package com.c4.hero.domain.department.service;
+
+import com.c4.hero.common.snapshot.Snapshot;
+import com.c4.hero.common.snapshot.SnapshotHolder;
+import com.c4.hero.domain.department.repository.DepartmentRepository;
+import com.c4.hero.domain.employee.entity.EmployeeDepartment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name: DepartmentHierarchyService
+ * Description: 부서 계층(하위 부서) 조회 공용 서비스
+ *
+ *  - 전체 부서를 1회 조회해 클로저 인덱스(DepartmentHierarchy)를 만들고 스냅샷으로 재사용
+ *    · 기존 부서별 재귀 조회(깊이 × 자식 수 만큼 쿼리) → 조회 시 쿼리 0회
+ *  - 부서 변경(SettingsCommandService.updateDepartments 등)은 OrganizationChangedEvent 커밋 후 무효화
+ *    (다른 인스턴스에는 OrganizationSnapshotInvalidator 가 Redis Pub/Sub 으로 전파)
+ *  - 전파가 꺼져 있거나 실패한 경우를 대비해 최대 10분만 보관
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 미사용 isInSubtree 제거, 무효화 노드 간 전파 안내 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepartmentHierarchyService {
+
+    private final DepartmentRepository departmentRepository;
+
+    /** 부서 계층 스냅샷 (조직 변경 이벤트로 무효화, 최대 10분 보관) */
+    private final SnapshotHolder<DepartmentHierarchy> hierarchy =
+            new SnapshotHolder<>(this::buildHierarchy, Duration.ofMinutes(10));
+
+    /**
+     * 현재 부서 계층
+     */
+    public DepartmentHierarchy getHierarchy() {
+        return hierarchy.get().value();
+    }
+
+    /**
+     * 자기 자신을 포함한 모든 하위 부서 ID
+     *
+     * @param departmentId 부서 ID
+     * @return 하위 부서 ID 목록 (null 이면 빈 목록)
+     */
+    public List<Integer> getSubtreeIds(Integer departmentId) {
+        return getHierarchy().subtreeIds(departmentId);
+    }
+
+    /**
+     * 여러 부서의 하위 부서 ID 합집합
+     *
+     * @param departmentIds 부서 ID 목록
+     * @return 하위 부서 ID 목록 (중복 제거)
+     */
+    public List<Integer> getSubtreeIds(List<Integer> departmentIds) {
+        if (departmentIds == null || departmentIds.isEmpty()) {
+            return List.of();
+        }
+        return getHierarchy().subtreeIds(departmentIds);
+    }
+
+    /**
+     * 부서 계층 스냅샷 무효화 (조직 변경 커밋 후 호출)
+     */
+    public void invalidate() {
+        hierarchy.invalidate();
+    }
+
+    private Snapshot<DepartmentHierarchy> buildHierarchy() {
+        long startedAt = System.nanoTime();
+
+        Map<Integer, Integer> parentById = new HashMap<>();
+        for (EmployeeDepartment department : departmentRepository.findAll()) {
+            parentById.put(department.getDepartmentId(), department.getParentDepartmentId());
+        }
+        DepartmentHierarchy built = DepartmentHierarchy.of(parentById);
+
+        log.info("부서 계층 스냅샷 생성 - 부서 {}개, 클로저 {}행, {} ms",
+                built.size(), built.closureSize(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        // HTTP 로 노출하지 않으므로 ETag 는 사용하지 않음
+        return new Snapshot<>(built, null, Instant.now());
+    }
+}
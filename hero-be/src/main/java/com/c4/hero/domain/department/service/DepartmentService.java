@@ -1,6 +1,9 @@
 package com.c4.hero.domain.department.service;
 
 import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.snapshot.ETagBuilder;
+import com.c4.hero.common.snapshot.Snapshot;
+import com.c4.hero.common.snapshot.SnapshotHolder;
 import com.c4.hero.common.util.EncryptionUtil;
 import com.c4.hero.domain.department.dto.DepartmentDTO;
 import com.c4.hero.domain.department.dto.EmployeeDepartmentHistoryDTO;
@@ -20,9 +23,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,6 +42,10 @@ import java.util.stream.Collectors;
  * 2025/12/24 (이지윤) 최초 작성 및 백엔드 코딩 컨벤션 적용
  * 2025/12/29 (승건) 조직도 조회 기능 추가
  * 2025/12/29 (승건) 부서/직급 이력 조회 기능 추가
+ * 2026/01/17 (동근) 조직도를 변경 이벤트 기반 불변 스냅샷(ETag 포함)으로 제공
+ * 2026/01/22 (동근) 조직도 프로필 Presigned URL 일괄 생성(캐시 재사용)
+ * 2026/01/22 (동근) 조직도 이메일 일괄 복호화
+ * 2026/01/22 (동근) 조직도 스냅샷 최대 보관 시간 10분으로 단축 (다른 노드 변경 반영)
  * </pre>
  *
  * 부서 엔티티(EmployeeDepartment)를 조회하여
@@ -47,7 +57,7 @@ import java.util.stream.Collectors;
  * - 조직도 조회
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.6
  */
 @Slf4j
 @Service
@@ -62,6 +72,14 @@ public class DepartmentService {
     private final EncryptionUtil encryptionUtil;
     private final S3Service s3Service;
 
+    /**
+     * 조직도 스냅샷 (조직 변경 이벤트로 무효화, 최대 10분 보관)
+     *  - 이벤트는 변경한 노드에서만 받으므로 다른 노드는 maxAge 로 수렴
+     *  - ETag 는 구성 값 해시라 재생성돼도 내용이 같으면 그대로 304 응답
+     */
+    private final SnapshotHolder<List<OrganizationNodeDTO>> organizationChart =
+            new SnapshotHolder<>(this::buildOrganizationChart, Duration.ofMinutes(10));
+
     /**
      * 전체 부서 목록을 조회하여 DepartmentDTO 리스트로 반환합니다.
      *
@@ -88,16 +106,52 @@ public class DepartmentService {
      * @return 최상위 부서 노드 리스트
      */
     public List<OrganizationNodeDTO> getOrganizationChart() {
+        return organizationChart.get().value();
+    }
+
+    /**
+     * 조직도 스냅샷(트리 + ETag)을 조회합니다.
+     * 조직 변경 이벤트가 없으면 미리 만들어 둔 스냅샷을 그대로 반환합니다.
+     *
+     * @return 조직도 스냅샷
+     */
+    public Snapshot<List<OrganizationNodeDTO>> getOrganizationChartSnapshot() {
+        return organizationChart.get();
+    }
+
+    /**
+     * 조직 변경 이벤트 수신 시 스냅샷을 무효화합니다. (다음 조회 시 재생성)
+     */
+    public void invalidateOrganizationChart() {
+        organizationChart.invalidate();
+    }
+
+    /**
+     * 조직도 스냅샷 생성 - O(부서 수 + 직원 수)
+     * <pre>
+     * 1. 부서 ID → 노드 맵 생성
+     * 2. 재직 직원을 부서/직급/직책과 함께 한 번에 조회하여 부서 노드에 추가
+     *    (이메일 복호화, 프로필 Presigned URL 생성은 스냅샷 생성 시 1회만 수행)
+     * 3. 부서별 직원 정렬
+     * 4. 부모 → 자식 연결 후 컬렉션을 불변으로 고정
+     * 5. 원본 값 해시 + 일자로 ETag 생성
+     *    (Presigned URL 은 7일 유효, ETag 에 일자 포함 → 클라이언트도 하루에 한 번은 새로 받음)
+     * </pre>
+     *
+     * @return 조직도 스냅샷
+     */
+    private Snapshot<List<OrganizationNodeDTO>> buildOrganizationChart() {
+        long startedAt = System.nanoTime();
+        ETagBuilder etag = new ETagBuilder().add(LocalDate.now());
+
         // 1. 모든 부서 조회
         List<EmployeeDepartment> allDepartments = departmentRepository.findAll();
 
-        // 2. 퇴사하지 않은 모든 직원 조회
-        List<Employee> allEmployees = employeeRepository.findAllByStatusNot(EmployeeStatus.RETIRED);
+        // 2. 퇴사하지 않은 모든 직원 조회 (부서/직급/직책 fetch)
+        List<Employee> allEmployees = employeeRepository.findWithOrganizationByStatusNot(EmployeeStatus.RETIRED);
 
         // 3. 부서 ID별 노드 맵 생성
-        Map<Integer, OrganizationNodeDTO> nodeMap = new HashMap<>();
-        // 부서장 ID 매핑을 위한 맵 (부서 ID -> 부서장 ID)
-        Map<Integer, Integer> managerMap = new HashMap<>();
+        Map<Integer, OrganizationNodeDTO> nodeMap = new LinkedHashMap<>();
 
         for (EmployeeDepartment dept : allDepartments) {
             OrganizationNodeDTO node = OrganizationNodeDTO.builder()
@@ -111,106 +165,59 @@ public class DepartmentService {
                     .employees(new ArrayList<>())
                     .build();
             nodeMap.put(dept.getDepartmentId(), node);
-            if (dept.getManagerId() != null) {
-                managerMap.put(dept.getDepartmentId(), dept.getManagerId());
-            }
+            etag.add(dept.getDepartmentId(), dept.getDepartmentName(), dept.getParentDepartmentId(),
+                    dept.getDepartmentPhone(), dept.getManagerId(), dept.getDepth());
         }
 
         // 4. 직원들을 해당 부서 노드에 추가
-        for (Employee emp : allEmployees) {
-            if (emp.getEmployeeDepartment() != null) {
-                Integer deptId = emp.getEmployeeDepartment().getDepartmentId();
-                OrganizationNodeDTO node = nodeMap.get(deptId);
-                if (node != null) {
-                    // 암호화된 필드 복호화
-                    String decryptedEmail = null;
-                    String decryptedPhone = null;
-                    String decryptedAddress = null;
+        //    프로필 Presigned URL 은 일괄 생성 (재생성 시에도 만료가 멀면 이전 URL 재사용)
+        Map<String, String> imageUrls = s3Service.generatePresignedUrls(
+                allEmployees.stream().map(Employee::getImagePath).toList());
+        //    암호화 필드 복호화도 일괄 처리 (조직도에는 이메일만 노출, 실패 시 null)
+        List<String> emails = encryptionUtil.decryptColumn(allEmployees, Employee::getEmail);
 
-                    try {
-                        decryptedEmail = emp.getEmail() != null ? encryptionUtil.decrypt(emp.getEmail()) : null;
-                    } catch (Exception e) {
-                        log.warn("이메일 복호화 실패 - employeeId: {}, error: {}", emp.getEmployeeId(), e.getMessage());
-                    }
+        for (int i = 0; i < allEmployees.size(); i++) {
+            Employee emp = allEmployees.get(i);
+            if (emp.getEmployeeDepartment() == null) {
+                continue;
+            }
+            OrganizationNodeDTO node = nodeMap.get(emp.getEmployeeDepartment().getDepartmentId());
+            if (node == null) {
+                continue;
+            }
 
-                    try {
-                        decryptedPhone = emp.getPhone() != null ? encryptionUtil.decrypt(emp.getPhone()) : null;
-                    } catch (Exception e) {
-                        log.warn("전화번호 복호화 실패 - employeeId: {}, error: {}", emp.getEmployeeId(), e.getMessage());
-                    }
+            String decryptedEmail = emails.get(i);
 
-                    try {
-                        decryptedAddress = emp.getAddress() != null ? encryptionUtil.decrypt(emp.getAddress()) : null;
-                    } catch (Exception e) {
-                        log.warn("주소 복호화 실패 - employeeId: {}, error: {}", emp.getEmployeeId(), e.getMessage());
-                    }
+            // S3 URL 변환
+            String imageUrl = imageUrls.get(emp.getImagePath());
 
-                    // S3 URL 변환
-                    String imageUrl = s3Service.generatePresignedUrl(emp.getImagePath());
+            OrganizationEmployeeDetailDTO empDto = OrganizationEmployeeDetailDTO.builder()
+                    .employeeId(emp.getEmployeeId())
+                    .employeeName(emp.getEmployeeName())
+                    .employeeNumber(emp.getEmployeeNumber())
+                    .gradeId(emp.getGrade() != null ? emp.getGrade().getGradeId() : null)
+                    .gradeName(emp.getGrade() != null ? emp.getGrade().getGrade() : null)
+                    .jobTitleId(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitleId() : null)
+                    .jobTitleName(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitle() : null)
+                    .imagePath(imageUrl)
+                    .email(decryptedEmail)
+                    .birthDate(emp.getBirthDate())
+                    .gender(emp.getGender())
+                    .hireDate(emp.getHireDate())
+                    .contractType(emp.getContractType())
+                    .status(emp.getStatus().getDescription())
+                    .build();
+            node.getEmployees().add(empDto);
 
-                    OrganizationEmployeeDetailDTO empDto = OrganizationEmployeeDetailDTO.builder()
-                            .employeeId(emp.getEmployeeId())
-                            .employeeName(emp.getEmployeeName())
-                            .employeeNumber(emp.getEmployeeNumber())
-                            .gradeId(emp.getGrade() != null ? emp.getGrade().getGradeId() : null)
-                            .gradeName(emp.getGrade() != null ? emp.getGrade().getGrade() : null)
-                            .jobTitleId(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitleId() : null)
-                            .jobTitleName(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitle() : null)
-                            .imagePath(imageUrl)
-                            .email(decryptedEmail)
-                            .birthDate(emp.getBirthDate())
-                            .gender(emp.getGender())
-                            .hireDate(emp.getHireDate())
-                            .contractType(emp.getContractType())
-                            .status(emp.getStatus().getDescription())
-                            .build();
-                    node.getEmployees().add(empDto);
-                }
-            }
+            etag.add(emp.getEmployeeId(), node.getDepartmentId(), emp.getEmployeeName(), emp.getEmployeeNumber(),
+                    empDto.getGradeId(), empDto.getGradeName(), empDto.getJobTitleId(), empDto.getJobTitleName(),
+                    emp.getImagePath(), emp.getEmail(), emp.getBirthDate(), emp.getGender(), emp.getHireDate(),
+                    emp.getContractType(), emp.getStatus());
         }
 
         // 5. 각 부서별 직원 정렬
-        for (Map.Entry<Integer, OrganizationNodeDTO> entry : nodeMap.entrySet()) {
-            Integer deptId = entry.getKey();
-            OrganizationNodeDTO node = entry.getValue();
-            Integer managerId = managerMap.get(deptId);
-
-            node.getEmployees().sort((e1, e2) -> {
-                // 1. 부서장은 가장 앞으로
-                boolean isManager1 = managerId != null && managerId.equals(e1.getEmployeeId());
-                boolean isManager2 = managerId != null && managerId.equals(e2.getEmployeeId());
-
-                if (isManager1 && !isManager2) return -1;
-                if (!isManager1 && isManager2) return 1;
-                if (isManager1 && isManager2) return 0; // 둘 다 부서장인 경우는 없겠지만
-
-                // 2. 직책 기준 정렬 (ID가 높을수록 높은 직책, null은 가장 낮음)
-                // 관리자(0번)는 예외 처리 필요할 수 있으나, 요구사항에 "0번 관리자 제외"라고 되어있으므로 일반적인 비교
-                // 직책 ID가 높을수록 상위라고 가정 (내림차순 정렬)
-                Integer jobTitleId1 = e1.getJobTitleId() != null ? e1.getJobTitleId() : -1;
-                Integer jobTitleId2 = e2.getJobTitleId() != null ? e2.getJobTitleId() : -1;
-
-                if (!jobTitleId1.equals(jobTitleId2)) {
-                    return jobTitleId2.compareTo(jobTitleId1); // 내림차순
-                }
-
-                // 3. 직급 기준 정렬 (ID가 높을수록 높은 직급, null은 가장 낮음)
-                // 직급 ID가 높을수록 상위라고 가정 (내림차순 정렬)
-                Integer gradeId1 = e1.getGradeId() != null ? e1.getGradeId() : -1;
-                Integer gradeId2 = e2.getGradeId() != null ? e2.getGradeId() : -1;
-
-                if (!gradeId1.equals(gradeId2)) {
-                    return gradeId2.compareTo(gradeId1); // 내림차순
-                }
-
-                // 4. 입사일 기준 정렬 (빠를수록 상위 -> 오름차순)
-                // null인 경우 가장 뒤로
-                if (e1.getHireDate() == null && e2.getHireDate() == null) return 0;
-                if (e1.getHireDate() == null) return 1;
-                if (e2.getHireDate() == null) return -1;
-
-                return e1.getHireDate().compareTo(e2.getHireDate());
-            });
+        for (OrganizationNodeDTO node : nodeMap.values()) {
+            node.getEmployees().sort(employeeOrder(node.getManagerId()));
         }
 
         // 6. 트리 구조 형성 (자식 노드를 부모 노드의 children에 추가)
@@ -225,14 +232,41 @@ public class DepartmentService {
                 if (parent != null) {
                     parent.getChildren().add(node);
                 } else {
-                    // 부모를 찾을 수 없는 경우 (데이터 무결성 문제 등), 일단 루트로 취급하거나 로그 남김
-                    // 여기서는 루트로 추가
+                    // 부모를 찾을 수 없는 경우 (데이터 무결성 문제 등) 루트로 추가
                     roots.add(node);
                 }
             }
         }
 
-        return roots;
+        // 7. 스냅샷은 여러 요청이 공유하므로 컬렉션을 불변으로 고정
+        for (OrganizationNodeDTO node : nodeMap.values()) {
+            node.setChildren(List.copyOf(node.getChildren()));
+            node.setEmployees(List.copyOf(node.getEmployees()));
+        }
+
+        log.info("조직도 스냅샷 생성 - 부서 {}개, 직원 {}명, {}ms",
+                allDepartments.size(), allEmployees.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        return new Snapshot<>(List.copyOf(roots), etag.build("org-chart"), Instant.now());
+    }
+
+    /**
+     * 부서 내 직원 정렬 기준
+     * 1. 부서장 우선
+     * 2. 직책 ID 내림차순 (null 은 가장 낮음)
+     * 3. 직급 ID 내림차순 (null 은 가장 낮음)
+     * 4. 입사일 오름차순 (null 은 가장 뒤)
+     *
+     * @param managerId 부서장 ID
+     * @return 직원 비교자
+     */
+    private static Comparator<OrganizationEmployeeDetailDTO> employeeOrder(Integer managerId) {
+        return Comparator
+                .comparing((OrganizationEmployeeDetailDTO e) -> managerId != null && managerId.equals(e.getEmployeeId()),
+                        Comparator.reverseOrder())
+                .thenComparing(e -> e.getJobTitleId() != null ? e.getJobTitleId() : -1, Comparator.reverseOrder())
+                .thenComparing(e -> e.getGradeId() != null ? e.getGradeId() : -1, Comparator.reverseOrder())
+                .thenComparing(OrganizationEmployeeDetailDTO::getHireDate, Comparator.nullsLast(Comparator.naturalOrder()));
     }
 
     /**
@@ -0,0 +1,88 @@
+package com.c4.hero.domain.department.service;
+
+import com.c4.hero.domain.approval.service.OrganizationService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * <pre>
+ * Class Name: OrganizationSnapshotInvalidator
+ * Description: 조직도 / 결재 조직 트리 / 부서 계층 스냅샷 무효화 (노드 간 전파)
+ *
+ *  - 스냅샷은 인스턴스 메모리에만 있으므로, 변경이 일어난 노드만 무효화하면 다른 노드는 TTL 까지 이전 조직을 보게 됨
+ *  - 로컬 스냅샷을 무효화한 뒤 Redis Pub/Sub(INVALIDATION_CHANNEL)으로 다른 노드에 전파 (자기 메시지는 무시)
+ *  - cache.redis.enabled 기본값 false: 전파 없이 로컬만 무효화 (스냅샷 TTL 이 상한)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationSnapshotInvalidator {
+
+    public static final String INVALIDATION_CHANNEL = "hero:organization:invalidation";
+
+    /** 노드 식별자 (무효화 메시지 발신자 구분) */
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final DepartmentService departmentService;
+    private final OrganizationService organizationService;
+    private final DepartmentHierarchyService departmentHierarchyService;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    /**
+     * 모든 노드의 조직 스냅샷 무효화
+     *
+     * @param reason 변경 사유 (로그용)
+     */
+    public void invalidateAll(String reason) {
+        invalidateLocally();
+        log.debug("조직도 스냅샷 무효화 - reason={}", reason);
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 스냅샷 TTL 이 지나면 갱신
+            log.warn("조직도 스냅샷 무효화 전파 실패: reason={}, cause={}", reason, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 처리
+     *
+     * @param origin 발신 노드 식별자
+     */
+    public void handleInvalidationMessage(String origin) {
+        if (instanceId.equals(origin)) {
+            return;
+        }
+        invalidateLocally();
+        log.debug("조직도 스냅샷 무효화 수신 - origin={}", origin);
+    }
+
+    /* =================== private =================== */
+
+    private void invalidateLocally() {
+        departmentService.invalidateOrganizationChart();
+        organizationService.invalidateOrganizationTree();
+        departmentHierarchyService.invalidate();
+    }
+}
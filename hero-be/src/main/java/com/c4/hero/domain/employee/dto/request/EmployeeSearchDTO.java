@@ -1,5 +1,6 @@
 package com.c4.hero.domain.employee.dto.request;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.List;
+
 /**
  * <pre>
  * Class Name: EmployeeSearchDTO
@@ -14,10 +17,12 @@ import lombok.ToString;
  *
  * History
  * 2025/12/11 승건 최초 작성
+ * 2026/01/22 동근 이메일/전화번호 부분 검색 조건 추가 (검색 인덱스 토큰)
+ * 2026/01/22 동근 완전한 이메일/전화번호 검색어는 완전 일치 인덱스로 조회
  * </pre>
  *
  * @author 이승건
- * @version 1.0
+ * @version 1.2
  */
 @Getter
 @Setter
@@ -36,6 +41,26 @@ public class EmployeeSearchDTO {
                                     // 0: 포함
                                     // 1: 미포함
                                     // 2: 퇴사 예정자만
+    private String email;          // 이메일 (부분 일치 3자 이상, 완전한 주소면 완전 일치)
+    private String phone;          // 전화번호 (부분 일치 숫자 3자리 이상, 11자리면 완전 일치)
+
+    // 완전한 이메일/전화번호 검색어의 완전 일치 인덱스 (서비스에서 계산, 요청으로 받지 않음)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private byte[] emailIndex;
+
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private byte[] phoneIndex;
+
+    // 이메일/전화번호 검색어의 인덱스 토큰 (서비스에서 계산, 요청으로 받지 않음)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private List<byte[]> emailTokens;
+
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private List<byte[]> phoneTokens;
 
     // 페이징 조건
     @Builder.Default
@@ -48,4 +73,26 @@ public class EmployeeSearchDTO {
     public int getOffset() {
         return (page - 1) * size;
     }
+
+    /**
+     * 이메일/전화번호 검색 토큰 설정
+     *
+     * @param emailTokens 이메일 검색어 토큰 (검색하지 않으면 빈 목록)
+     * @param phoneTokens 전화번호 검색어 토큰 (검색하지 않으면 빈 목록)
+     */
+    public void applyContactTokens(List<byte[]> emailTokens, List<byte[]> phoneTokens) {
+        this.emailTokens = emailTokens;
+        this.phoneTokens = phoneTokens;
+    }
+
+    /**
+     * 이메일/전화번호 완전 일치 인덱스 설정
+     *
+     * @param emailIndex 이메일 완전 일치 인덱스 (완전한 주소가 아니면 null)
+     * @param phoneIndex 전화번호 완전 일치 인덱스 (완전한 번호가 아니면 null)
+     */
+    public void applyContactIndexes(byte[] emailIndex, byte[] phoneIndex) {
+        this.emailIndex = emailIndex;
+        this.phoneIndex = phoneIndex;
+    }
 }
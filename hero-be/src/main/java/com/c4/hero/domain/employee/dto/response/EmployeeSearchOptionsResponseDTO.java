@@ -3,11 +3,17 @@ package com.c4.hero.domain.employee.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
 @Builder
-public class EmployeeSearchOptionsResponseDTO {
+public class EmployeeSearchOptionsResponseDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private List<String> department;
     private List<String> grade;
     private List<String> jobTitle;
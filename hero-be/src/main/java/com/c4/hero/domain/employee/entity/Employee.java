@@ -33,10 +33,11 @@ import java.time.LocalDateTime;
  * History
  * 2025/12/09 승건 최초 작성
  * 2025/12/15 승건 부서, 직급, 직책 변경 메소드 추가
+ * 2026/01/22 동근 이메일/전화번호 블라인드 인덱스 컬럼 추가 (읽기 전용)
  *  </pre>
  *
  * @author 이승건
- * @version 1.1
+ * @version 1.2
  */
 @Entity
 @Table(name = "tbl_employee")
@@ -83,6 +84,18 @@ public class Employee {
     @Column(name = "phone", unique = true, nullable = false, columnDefinition = "varbinary(128)")
     private byte[] phone;
 
+    /**
+     * 이메일 블라인드 인덱스 (HMAC, EmployeeSearchIndexService 에서만 갱신)
+     */
+    @Column(name = "email_bidx", columnDefinition = "binary(32)", insertable = false, updatable = false)
+    private byte[] emailIndex;
+
+    /**
+     * 전화번호 블라인드 인덱스 (HMAC, EmployeeSearchIndexService 에서만 갱신)
+     */
+    @Column(name = "phone_bidx", columnDefinition = "binary(32)", insertable = false, updatable = false)
+    private byte[] phoneIndex;
+
     /**
      * 생년월일
      */
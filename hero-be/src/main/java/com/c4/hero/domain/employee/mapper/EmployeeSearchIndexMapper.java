@@ -0,0 +1,65 @@
+package com.c4.hero.domain.employee.mapper;
+
+import com.c4.hero.domain.employee.entity.Employee;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name: EmployeeSearchIndexMapper
+ * Description: 직원 이메일/전화번호 검색 인덱스(블라인드 인덱스 컬럼, tbl_employee_search_token) 갱신 매퍼
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface EmployeeSearchIndexMapper {
+
+    /**
+     * 직원의 완전 일치 인덱스 갱신
+     *
+     * @param employeeId 직원 ID
+     * @param emailIndex 이메일 블라인드 인덱스
+     * @param phoneIndex 전화번호 블라인드 인덱스
+     * @return 수정된 행 수
+     */
+    int updateBlindIndex(@Param("employeeId") Integer employeeId,
+                         @Param("emailIndex") byte[] emailIndex,
+                         @Param("phoneIndex") byte[] phoneIndex);
+
+    /**
+     * 직원의 부분 일치 토큰 삭제
+     *
+     * @param employeeId 직원 ID
+     * @return 삭제된 행 수
+     */
+    int deleteTokens(@Param("employeeId") Integer employeeId);
+
+    /**
+     * 직원의 부분 일치 토큰 적재 (두 목록 중 하나 이상은 비어 있지 않아야 함)
+     *
+     * @param employeeId  직원 ID
+     * @param emailTokens 이메일 토큰
+     * @param phoneTokens 전화번호 토큰
+     * @return 적재된 행 수
+     */
+    int insertTokens(@Param("employeeId") Integer employeeId,
+                     @Param("emailTokens") List<byte[]> emailTokens,
+                     @Param("phoneTokens") List<byte[]> phoneTokens);
+
+    /**
+     * 인덱스가 아직 없는 직원 조회 (최초 적재용, ID 순)
+     *
+     * @param afterEmployeeId 이 ID 보다 큰 직원만
+     * @param limit           최대 건수
+     * @return 직원 ID/이메일/전화번호(암호문)만 채운 엔티티 목록
+     */
+    List<Employee> findUnindexed(@Param("afterEmployeeId") Integer afterEmployeeId,
+                                 @Param("limit") int limit);
+}
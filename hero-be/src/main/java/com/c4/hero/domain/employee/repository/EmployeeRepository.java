@@ -2,6 +2,7 @@ package com.c4.hero.domain.employee.repository;
 
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.type.EmployeeStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,10 +23,11 @@ import java.util.Optional;
  * 2025/12/22 (혜원) 알림 관련 필요한 엔티티 조회 기능 추가
  * 2025/12/28 (승건) 사번으로 직원 조회 기능 추가
  * 2025/12/31 (승건) 퇴사자 처리를 위한 조건 검색 기능 추가
+ * 2026/01/17 (동근) 조직도 스냅샷용 부서/직급/직책 일괄 조회 추가
  * </pre>
  *
  * @author 이승건
- * @version 2.1
+ * @version 2.2
  */
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
@@ -90,6 +92,15 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
      */
     List<Employee> findAllByStatusNot(EmployeeStatus status);
 
+    /**
+     * 특정 상태가 아닌 모든 직원을 부서/직급/직책과 함께 조회 (조직도 스냅샷 생성용)
+     *
+     * @param status 제외할 상태
+     * @return 직원 목록
+     */
+    @EntityGraph(attributePaths = {"employeeDepartment", "grade", "jobTitle"})
+    List<Employee> findWithOrganizationByStatusNot(EmployeeStatus status);
+
     /**
      * 직책 ID 목록으로 직원 조회
      *
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.employee.service;
 
+import com.c4.hero.common.event.OrganizationChangedEvent;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.s3.S3Service;
@@ -25,6 +26,7 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -47,6 +49,8 @@ import java.util.stream.IntStream;
  * History
  * 2025/12/09 승건 최초 작성 (사원 추가 로직 처리)
  * 2025/12/15 승건 변경 이력 메소드 추가 및 적용
+ * 2026/01/17 동근 사원 등록/부서/직책 변경 시 조직 변경 이벤트 발행
+ * 2026/01/22 동근 사원 등록 시 이메일/전화번호 검색 인덱스 적재
  * </pre>
  *
  * @author 이승건
@@ -75,6 +79,8 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
     private final S3Service s3Service;
 
     private final EncryptionUtil encryptionUtil;
+    private final EmployeeSearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${spring.mail.username}")
     private String defaultMailSenderUsername;
@@ -147,6 +153,7 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
                 .build();
 
         Employee savedEmployee = employeeRepository.save(employee);
+        searchIndexService.index(savedEmployee.getEmployeeId(), request.getEmail(), request.getPhone());
 
         String accountId = request.getEmail().split("@")[0];
         String tempPassword = createRandomPassword();
@@ -176,6 +183,7 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
 
         // 7. 직급 이력 저장
         addGradeHistory(savedEmployee, ChangeType.CREATE, grade.getGrade());
+        eventPublisher.publishEvent(new OrganizationChangedEvent("EMPLOYEE_SIGNUP"));
 
         // 8. 이메일 발송 로직 (tempPassword 발송)
         sendTemporaryPasswordEmail(request.getEmail(), accountId, tempPassword);
@@ -228,6 +236,8 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
 
         // 이력 저장
         addDepartmentHistory(employee, ChangeType.TRANSFER, departmentName);
+
+        eventPublisher.publishEvent(new OrganizationChangedEvent("DEPARTMENT_TRANSFER"));
     }
 
     @Override
@@ -240,6 +250,7 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
 
         // 직책 변경
         employee.changeJobTitle(newJobTitle);
+        eventPublisher.publishEvent(new OrganizationChangedEvent("JOB_TITLE_CHANGE"));
         
         // 직책 변경 이력은 현재 별도 테이블이 없으므로 생략하거나 필요 시 추가
     }
@@ -0,0 +1,47 @@
+package com.c4.hero.domain.employee.service;
+
+import com.c4.hero.common.cache.CacheNames;
+import com.c4.hero.domain.employee.entity.Employee;
+import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * Class Name  : EmployeeNameCacheService
+ * Description : 사원 표시 이름 캐시 조회
+ *               알림/이벤트 메시지에 넣을 이름만 필요할 때 사원 엔티티 조회를 반복하지 않도록 2단 캐시 적용
+ *               (같은 요청 안의 반복 조회는 L1 에서 처리되어 SQL 없이 반환)
+ *
+ * 캐시 무효화:
+ *   - 퇴사자 개인정보 익명화: EmployeeDataCleanupScheduler.anonymizeExpiredEmployeeData
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmployeeNameCacheService {
+
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * 사원 이름 조회
+     *
+     * @param employeeId 사원 ID
+     * @return 사원 이름 (없으면 null, 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = CacheNames.EMPLOYEE_NAMES, key = "#employeeId", unless = "#result == null")
+    public String getEmployeeName(Integer employeeId) {
+        return employeeRepository.findById(employeeId)
+                .map(Employee::getEmployeeName)
+                .orElse(null);
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+
 /**
  * <pre>
  * Class Name: EmployeePasswordService
@@ -30,10 +32,12 @@ import org.springframework.transaction.annotation.Transactional;
  * History
  * 2025/12/28 (혜원) 최초 작성
  * 2025/12/29 (승건) 비밀번호 찾기 및 최초 로그인 시 비밀번호 변경 로직 추가
+ * 2026/01/22 (동근) 비밀번호 찾기 이메일 확인을 블라인드 인덱스 비교로 변경
+ * 2026/01/22 (동근) 이메일 확인을 암호문 비교로 변경 (블라인드 인덱스의 대소문자 무시 비교 제거)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Slf4j
 @Service
@@ -102,8 +106,8 @@ public class EmployeePasswordService {
         Employee employee = employeeRepository.findByEmployeeNumber(employeeNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EMPLOYEE_NOT_FOUND));
 
-        // 2. 이메일 일치 여부 확인
-        if (!email.equals(encryptionUtil.decrypt(employee.getEmail()))) {
+        // 2. 이메일 일치 여부 확인 (결정적 암호문끼리 비교 - 복호화 없이 기존과 같은 대소문자 구분 완전 일치)
+        if (!MessageDigest.isEqual(employee.getEmail(), encryptionUtil.encrypt(email))) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일 정보가 일치하지 않습니다.");
         }
 
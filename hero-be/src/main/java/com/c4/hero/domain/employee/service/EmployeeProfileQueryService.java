@@ -1,5 +1,6 @@
 package com.c4.hero.domain.employee.service;
 
+import com.c4.hero.common.event.OrganizationChangedEvent;
 import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.employee.dto.request.ContactUpdateRequestDTO;
 import com.c4.hero.domain.employee.dto.response.EmployeeProfileResponseDTO;
@@ -7,6 +8,7 @@ import com.c4.hero.domain.employee.mapper.EmployeeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
  * History
  * 2025/12/28 (혜원) 최초 작성
  * 2025/12/30 (승건) Mapper 메소드에 SecretKey 추가
+ * 2026/01/22 (동근) 연락처 수정 시 검색 인덱스 갱신
+ * 2026/01/22 (동근) 연락처 수정 시 조직 변경 이벤트 발행 (조직도 이메일 갱신)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Slf4j
 @Service
@@ -32,6 +36,8 @@ public class EmployeeProfileQueryService {
 
     private final EmployeeMapper employeeMapper;
     private final S3Service s3Service;
+    private final EmployeeSearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${encryption.secret-key}")
     private String secretKey;
@@ -122,6 +128,10 @@ public class EmployeeProfileQueryService {
             log.error("연락처 정보 수정 실패 - employeeId: {}", employeeId);
             throw new RuntimeException("연락처 정보 수정에 실패했습니다.");
         }
+        searchIndexService.index(employeeId, requestDTO.getEmail(), requestDTO.getMobile());
+
+        // 조직도 스냅샷에 이메일이 포함되므로 커밋 후 무효화
+        eventPublisher.publishEvent(new OrganizationChangedEvent("CONTACT_UPDATE"));
 
         log.info("연락처 정보 수정 성공 - employeeId: {}", employeeId);
     }
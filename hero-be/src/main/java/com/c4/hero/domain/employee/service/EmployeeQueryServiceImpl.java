@@ -1,9 +1,11 @@
 package com.c4.hero.domain.employee.service;
 
+import com.c4.hero.common.cache.CacheNames;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.util.BlindIndexUtil;
 import com.c4.hero.common.util.EncryptionUtil;
 import com.c4.hero.domain.employee.dto.request.EmployeeSearchDTO;
 import com.c4.hero.domain.employee.dto.response.EmployeeDetailResponseDTO;
@@ -14,6 +16,7 @@ import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.mapper.EmployeeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,10 +33,14 @@ import java.util.stream.Collectors;
  *
  * History
  * 2025/12/12 승건 최초 작성
+ * 2026/01/16 동근 검색 옵션 조회 캐시 적용
+ * 2026/01/22 동근 복호화 개인정보 로그 출력 제거
+ * 2026/01/22 동근 이메일/전화번호 부분 검색 (검색 인덱스 토큰)
+ * 2026/01/22 동근 완전한 이메일/전화번호 검색어는 완전 일치 인덱스로 조회
  * </pre>
  *
  * @author 이승건
- * @version 1.0
+ * @version 1.3
  */
 @Service
 @RequiredArgsConstructor
@@ -43,6 +50,7 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
 
     private final EmployeeMapper employeeMapper;
     private final EncryptionUtil encryptionUtil;
+    private final BlindIndexUtil blindIndexUtil;
     private final S3Service s3Service;
 
     /*
@@ -64,6 +72,19 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
     * */
     @Override
     public PageResponse<EmployeeListResponseDTO> getEmployees(EmployeeSearchDTO searchDTO) {
+        // 0. 이메일/전화번호 검색어는 검색 인덱스로 변환 (암호화 컬럼을 복호화하지 않음)
+        //    완전한 이메일/전화번호면 완전 일치 인덱스 1건 비교, 그 외에는 부분 일치 토큰
+        String email = searchDTO.getEmail();
+        String phone = searchDTO.getPhone();
+        boolean exactEmail = BlindIndexUtil.isCompleteEmail(email);
+        boolean exactPhone = BlindIndexUtil.isCompletePhone(phone);
+        searchDTO.applyContactIndexes(
+                exactEmail ? blindIndexUtil.emailIndex(email) : null,
+                exactPhone ? blindIndexUtil.phoneIndex(phone) : null);
+        searchDTO.applyContactTokens(
+                exactEmail ? List.of() : contactTokens(email, blindIndexUtil.emailTokens(email)),
+                exactPhone ? List.of() : contactTokens(phone, blindIndexUtil.phoneTokens(phone)));
+
         // 1. 검색 조건에 맞는 데이터 목록 조회 (페이징 적용)
         List<Employee> employees = employeeMapper.findWithPaging(searchDTO);
         List<EmployeeListResponseDTO> dtoList = employees.stream()
@@ -77,6 +98,17 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
         return PageResponse.of(dtoList, searchDTO.getPage() - 1, searchDTO.getSize(), totalCount);
     }
 
+    /**
+     * 검색어가 있는데 토큰을 만들 수 없으면(3자 미만) 조건이 빠져 전체가 조회되지 않도록 거부
+     */
+    private List<byte[]> contactTokens(String keyword, List<byte[]> tokens) {
+        if (keyword != null && !keyword.isBlank() && tokens.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "이메일/전화번호 검색어는 " + BlindIndexUtil.GRAM_SIZE + "자 이상 입력해 주세요.");
+        }
+        return tokens;
+    }
+
     @Override
     public EmployeeDetailResponseDTO findById(Integer employeeId) {
         Employee employee = employeeMapper.findById(employeeId)
@@ -95,6 +127,7 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.EMPLOYEE_SEARCH_OPTIONS, key = "'all'", sync = true)
     public EmployeeSearchOptionsResponseDTO getEmployeeSearchOptions() {
         List<String> departments = employeeMapper.findAllDepartmentNames();
         List<String> grades = employeeMapper.findAllGradeNames();
@@ -133,12 +166,10 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
      * @return 변환된 DTO
      */
     private EmployeeDetailResponseDTO convertToDetailDto(Employee employee) {
-        String decryptedEmail = employee.getEmail() != null ? encryptionUtil.decrypt(employee.getEmail()) : null;
-        log.info("이메일 복호화 완료: {}", decryptedEmail);
-        String decryptedPhone = employee.getPhone() != null ? encryptionUtil.decrypt(employee.getPhone()) : null;
-        log.info("폰 번호 복호화 완료: {}", decryptedPhone);
-        String decryptedAddress = employee.getAddress() != null ? encryptionUtil.decrypt(employee.getAddress()) : null;
-        log.info("주소 복호화 완료: {}", decryptedAddress);
+        // 복호화 값(개인정보)은 로그에 남기지 않음
+        String decryptedEmail = encryptionUtil.decrypt(employee.getEmail());
+        String decryptedPhone = encryptionUtil.decrypt(employee.getPhone());
+        String decryptedAddress = encryptionUtil.decrypt(employee.getAddress());
 
         // 근속 일수 계산
         long daysOfService = 0;
@@ -183,9 +214,9 @@ public class EmployeeQueryServiceImpl implements EmployeeQueryService {
      * @return 변환된 DTO
      */
     private MyInfoResponseDTO convertToMyInfoDto(Employee employee) {
-        String decryptedEmail = employee.getEmail() != null ? encryptionUtil.decrypt(employee.getEmail()) : null;
-        String decryptedPhone = employee.getPhone() != null ? encryptionUtil.decrypt(employee.getPhone()) : null;
-        String decryptedAddress = employee.getAddress() != null ? encryptionUtil.decrypt(employee.getAddress()) : null;
+        String decryptedEmail = encryptionUtil.decrypt(employee.getEmail());
+        String decryptedPhone = encryptionUtil.decrypt(employee.getPhone());
+        String decryptedAddress = encryptionUtil.decrypt(employee.getAddress());
 
         // 근속 일수 계산
         long daysOfService = 0;
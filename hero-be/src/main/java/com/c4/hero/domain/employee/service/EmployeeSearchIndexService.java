@@ -0,0 +1,137 @@
+package com.c4.hero.domain.employee.service;
+
+import com.c4.hero.common.util.BlindIndexUtil;
+import com.c4.hero.common.util.EncryptionUtil;
+import com.c4.hero.domain.employee.entity.Employee;
+import com.c4.hero.domain.employee.mapper.EmployeeSearchIndexMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name  : EmployeeSearchIndexService
+ * Description : 직원 이메일/전화번호 검색 인덱스 유지 서비스
+ *
+ *  - 평문을 아는 시점(사원 등록, 연락처 수정, 익명화)에 같은 트랜잭션에서 인덱스를 다시 계산
+ *    → 검색/본인 확인 시 암호화 컬럼을 복호화하지 않고 인덱스로 비교
+ *  - 기동 시 인덱스가 없는 직원만 복호화해 최초 적재 (이미 적재된 직원은 건너뜀)
+ *    직원별 인덱스/토큰 갱신은 TransactionTemplate 트랜잭션에서 실행 (자기 호출은 @Transactional 프록시를 거치지 않음)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 최초 적재 시 직원별 갱신을 TransactionTemplate 으로 실행
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Service
+public class EmployeeSearchIndexService {
+
+    private final EmployeeSearchIndexMapper searchIndexMapper;
+    private final BlindIndexUtil blindIndexUtil;
+    private final EncryptionUtil encryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final int backfillBatchSize;
+
+    public EmployeeSearchIndexService(
+            EmployeeSearchIndexMapper searchIndexMapper,
+            BlindIndexUtil blindIndexUtil,
+            EncryptionUtil encryptionUtil,
+            TransactionTemplate transactionTemplate,
+            @Value("${employee.search-index.backfill-batch-size:500}") int backfillBatchSize
+    ) {
+        this.searchIndexMapper = searchIndexMapper;
+        this.blindIndexUtil = blindIndexUtil;
+        this.encryptionUtil = encryptionUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * 직원 1명의 검색 인덱스를 평문으로 다시 계산
+     *
+     * @param employeeId 직원 ID
+     * @param email      평문 이메일
+     * @param phone      평문 전화번호
+     */
+    @Transactional
+    public void index(Integer employeeId, String email, String phone) {
+        searchIndexMapper.updateBlindIndex(employeeId,
+                blindIndexUtil.emailIndex(email), blindIndexUtil.phoneIndex(phone));
+
+        searchIndexMapper.deleteTokens(employeeId);
+
+        List<byte[]> emailTokens = blindIndexUtil.emailTokens(email);
+        List<byte[]> phoneTokens = blindIndexUtil.phoneTokens(phone);
+        if (!emailTokens.isEmpty() || !phoneTokens.isEmpty()) {
+            searchIndexMapper.insertTokens(employeeId, emailTokens, phoneTokens);
+        }
+    }
+
+    /**
+     * 직원 1명의 검색 인덱스를 저장된 암호문으로 다시 계산 (평문을 모르는 경우)
+     *
+     * @param employee 직원 엔티티 (email/phone 이 최신 암호문이어야 함)
+     */
+    @Transactional
+    public void reindex(Employee employee) {
+        index(employee.getEmployeeId(),
+                encryptionUtil.decrypt(employee.getEmail()),
+                encryptionUtil.decrypt(employee.getPhone()));
+    }
+
+    /**
+     * 인덱스가 없는 직원 최초 적재 (배치 단위, 직원별 실패는 건너뜀)
+     *
+     * @return 적재한 직원 수
+     */
+    public int backfill() {
+        int indexed = 0;
+        Integer cursor = null;
+
+        while (true) {
+            List<Employee> employees = searchIndexMapper.findUnindexed(cursor, backfillBatchSize);
+            if (employees.isEmpty()) {
+                break;
+            }
+
+            for (Employee employee : employees) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> reindex(employee));
+                    indexed++;
+                } catch (Exception e) {
+                    log.warn("직원 검색 인덱스 적재 실패 - employeeId={}, error={}",
+                            employee.getEmployeeId(), e.getMessage());
+                }
+            }
+            cursor = employees.get(employees.size() - 1).getEmployeeId();
+        }
+
+        if (indexed > 0) {
+            log.info("직원 검색 인덱스 최초 적재 완료 - employees={}", indexed);
+        }
+        return indexed;
+    }
+
+    /**
+     * 기동 시 최초 적재 (이미 적재되어 있으면 조회 1회로 끝남)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            // 컬럼/테이블 미생성 등으로 실패해도 기동은 계속
+            log.warn("직원 검색 인덱스 최초 적재 실패: {}", e.getMessage());
+        }
+    }
+}
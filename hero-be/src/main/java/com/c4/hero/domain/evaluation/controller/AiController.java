@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <pre>
@@ -25,6 +26,7 @@ import java.util.List;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/01/19 (동근) 비동기 응답(CompletableFuture)으로 변경
  * </pre>
  *
  * @author 김승민
@@ -51,12 +53,11 @@ public class AiController {
             description = "평가 데이터를 통해 사원의 역량을 분석한다."
     )
     @PostMapping("/analysis/member")
-    public ResponseEntity<MemberAnalysisResponseDTO> analyzeMember(
+    public CompletableFuture<ResponseEntity<MemberAnalysisResponseDTO>> analyzeMember(
             @RequestBody MemberAnalysisRequestDTO request
     ) {
-        MemberAnalysisResponseDTO result = aiService.analyzeMember(request);
-
-        return ResponseEntity.ok(result);
+        return aiService.analyzeMember(request)
+                .thenApply(ResponseEntity::ok);
     }
 
 
@@ -71,16 +72,14 @@ public class AiController {
             description = "평가 데이터를 통해 평가 가이드 위반을 분석한다."
     )
     @PostMapping("/violation")
-    public ResponseEntity<List<GuideViolationResponseDTO>> analyzeViolation(
+    public CompletableFuture<ResponseEntity<List<GuideViolationResponseDTO>>> analyzeViolation(
             @RequestBody GuideViolationRequestDTO request
     ) {
-        List<GuideViolationResponseDTO> result =
-                aiService.analyzeViolation(
+        return aiService.analyzeViolation(
                         request.getGuide(),
                         request.getTemplate()
-                );
-
-        return ResponseEntity.ok(result);
+                )
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -94,12 +93,10 @@ public class AiController {
             description = "평가 데이터를 통해 승진 추천 대상자를 분석한다."
     )
     @PostMapping("/promotion")
-    public ResponseEntity<List<PromotionCandidateResponseDTO>> analyzePromotion(
+    public CompletableFuture<ResponseEntity<List<PromotionCandidateResponseDTO>>> analyzePromotion(
             @RequestBody List<Object> dashboardData
     ) {
-        List<PromotionCandidateResponseDTO> result =
-                aiService.analyzePromotion(dashboardData);
-
-        return ResponseEntity.ok(result);
+        return aiService.analyzePromotion(dashboardData)
+                .thenApply(ResponseEntity::ok);
     }
 }
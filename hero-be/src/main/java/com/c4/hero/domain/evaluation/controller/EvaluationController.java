@@ -2,6 +2,7 @@ package com.c4.hero.domain.evaluation.controller;
 
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.common.response.ResponseHeaders;
 import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
 import com.c4.hero.domain.evaluation.dto.employee.EmployeeResponseDTO;
 import com.c4.hero.domain.evaluation.dto.evaluation.EvaluationRequestDTO;
@@ -13,6 +14,7 @@ import com.c4.hero.domain.evaluation.dto.guide.EvaluationGuideRequestDTO;
 import com.c4.hero.domain.evaluation.dto.guide.EvaluationGuideResponseDTO;
 import com.c4.hero.domain.evaluation.dto.guide.EvaluationGuideUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.response.EmployeeEvaluationListResponseDTO;
+import com.c4.hero.domain.evaluation.dto.response.EvaluationSaveResultDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateRequestDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateResponseDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateUpdateDTO;
@@ -32,6 +34,9 @@ import java.util.List;
  *
  * History
  * 2025/12/07 (김승민) 최초 작성
+ * 2026/01/22 (동근) 대시보드 필터/페이징/요약 조회 추가
+ * 2026/01/22 (동근) 평가/평가서 일괄 저장 결과(저장 행 수, 처리 시간) 응답 헤더 추가
+ * 2026/01/22 (동근) 응답 헤더 이름을 공통 ResponseHeaders 상수로 참조
  * </pre>
  *
  * @author 김승민
@@ -337,7 +342,7 @@ public class EvaluationController {
      * @param evaluationRequestDTO EvaluationRequestDTO
      *      클라이언트로 부터 받아온 생성할 평가 데이터
      * @return id Integer
-     *     생성된 평가 pk 값 반환
+     *     생성된 평가 pk 값 반환 (저장 행 수/처리 시간은 응답 헤더)
      */
     @Operation(
             summary = "평가 생성",
@@ -346,9 +351,9 @@ public class EvaluationController {
     @PostMapping("/evaluation")
     public ResponseEntity<Integer> createEvaluation(@RequestBody EvaluationRequestDTO evaluationRequestDTO){
 
-        Integer id = evaluationService.createEvaluation(evaluationRequestDTO);
+        EvaluationSaveResultDTO result = evaluationService.createEvaluation(evaluationRequestDTO);
 
-        return ResponseEntity.ok(id);
+        return saveResultResponse(result);
     }
 
     /**
@@ -414,7 +419,7 @@ public class EvaluationController {
      * @param evaluationFormRequestDTO EvaluationFormRequestDTO
      *      평가서 생성 데이터를 파라미터로 받음.
      * @return id Integer
-     *     생성된 평가서 테이블의 pk를 응답함
+     *     생성된 평가서 테이블의 pk를 응답함 (저장 행 수/처리 시간은 응답 헤더)
      */
     @Operation(
             summary = "평가서 생성",
@@ -423,9 +428,9 @@ public class EvaluationController {
     @PostMapping("/evaluation-form")
     public ResponseEntity<Integer> createForm(@RequestBody EvaluationFormRequestDTO evaluationFormRequestDTO){
 
-         Integer id = evaluationService.createForm(evaluationFormRequestDTO);
+         EvaluationSaveResultDTO result = evaluationService.createForm(evaluationFormRequestDTO);
 
-         return ResponseEntity.ok(id);
+         return saveResultResponse(result);
     }
 
     /**
@@ -434,7 +439,7 @@ public class EvaluationController {
      * @param updateDTO EvaluationFormUpdateDTO
      *      평가서 수정 데이터를 파라미터로 받음.
      * @return updatedId Integer
-     *     수정된 평가서 테이블의 pk를 응답함.
+     *     수정된 평가서 테이블의 pk를 응답함. (수정 행 수/처리 시간은 응답 헤더)
      */
     @Operation(
             summary = "평가서 수정",
@@ -443,9 +448,9 @@ public class EvaluationController {
     @PutMapping("/evaluation-form")
     public ResponseEntity<Integer> updateForm(@RequestBody EvaluationFormUpdateDTO updateDTO) {
 
-        Integer updatedId = evaluationService.updateForm(updateDTO);
+        EvaluationSaveResultDTO result = evaluationService.updateForm(updateDTO);
 
-        return ResponseEntity.ok(updatedId);
+        return saveResultResponse(result);
     }
 
 
@@ -487,6 +492,42 @@ public class EvaluationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 대시보드 데이터 필터 + 페이징 조회
+     *
+     * @param templateId Integer
+     *     평가 템플릿 ID (선택)
+     * @param departmentId Integer
+     *     부서 ID (선택)
+     * @param page int
+     *     페이지 번호 (0부터)
+     * @param size int
+     *     페이지 크기 (평가 수)
+     * @param summary boolean
+     *     요약 조회 여부 (평가 항목/기준/평가서 항목 제외)
+     *
+     * @return result PageResponse<DashBoardResponseDTO>
+     *     페이지에 포함된 평가를 템플릿별로 묶어 응답함.
+     */
+    @Operation(
+            summary = "대시보드 데이터 페이징 조회",
+            description = "평가 템플릿/부서로 필터링한 대시보드 데이터를 평가 단위로 페이징하여 조회한다. summary=true 면 요약 데이터만 조회한다."
+    )
+    @GetMapping("/dashboard")
+    public ResponseEntity<PageResponse<DashBoardResponseDTO>> selectDashBoardPage(
+            @RequestParam(required = false) Integer templateId,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean summary
+    ) {
+
+        PageResponse<DashBoardResponseDTO> result =
+                evaluationService.selectDashBoardPage(templateId, departmentId, page, size, summary);
+
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 대시보드 데이터 department_id로 조회
      *
@@ -523,4 +564,21 @@ public class EvaluationController {
         List<EmployeeEvaluationListResponseDTO> result = evaluationService.getEmployeeEvaluationList(employeeId);
         return ResponseEntity.ok(CustomResponse.success(result));
     }
+
+    /**
+     * 일괄 저장 결과 응답
+     * 본문은 기존과 같이 pk 만 응답하고, 저장/수정 행 수와 처리 시간은 헤더로 전달
+     *
+     * @param result EvaluationSaveResultDTO
+     *     일괄 저장 결과
+     * @return pk ResponseEntity<Integer>
+     */
+    private ResponseEntity<Integer> saveResultResponse(EvaluationSaveResultDTO result) {
+
+        return ResponseEntity.ok()
+                .header(ResponseHeaders.INSERTED_ROWS, String.valueOf(result.getInsertedRows()))
+                .header(ResponseHeaders.UPDATED_ROWS, String.valueOf(result.getUpdatedRows()))
+                .header(ResponseHeaders.ELAPSED_MS, String.valueOf(result.getElapsedMs()))
+                .body(result.getId());
+    }
 }
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.evaluation.dto.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.List;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/01/22 (동근) 단계별 조회 후 조립을 위한 상위 키 추가
  * </pre>
  *
  * @author 김승민
@@ -26,6 +28,10 @@ public class DashBoardEvaluationResponseDTO {
 
     private Integer evaluationId;
 
+    /** 소속 평가 템플릿 ID (조립용, 응답 제외) */
+    @JsonIgnore
+    private Integer evaluationTemplateId;
+
     private String evaluationName;
 
     private Integer evaluationManagerId;
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.evaluation.dto.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/01/22 (동근) 단계별 조회 후 조립을 위한 상위 키 추가
  * </pre>
  *
  * @author 김승민
@@ -23,6 +25,10 @@ public class DashBoardFormItemResponseDTO {
 
     private Integer formItemId;
 
+    /** 소속 평가서 ID (조립용, 응답 제외) */
+    @JsonIgnore
+    private Integer formId;
+
     private String formItemName;
 
     private String formItemEvaluateePerformance;
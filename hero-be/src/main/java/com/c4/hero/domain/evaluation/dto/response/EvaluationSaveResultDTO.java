@@ -0,0 +1,38 @@
+package com.c4.hero.domain.evaluation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <pre>
+ * Class Name: EvaluationSaveResultDTO
+ * Description: 평가/평가서 일괄 저장 결과 DTO (저장된 pk + 반영 행 수 + 처리 시간)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * 2026/01/22 (동근) 응답 헤더 이름 상수를 공통 ResponseHeaders 로 이동
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationSaveResultDTO {
+
+    /** 저장된 평가 / 평가서 pk */
+    private Integer id;
+
+    /** INSERT 행 수 (평가/평가서 본문 포함) */
+    private int insertedRows;
+
+    /** UPDATE 행 수 */
+    private int updatedRows;
+
+    /** 처리 시간 (ms) */
+    private long elapsedMs;
+}
@@ -1,5 +1,10 @@
 package com.c4.hero.domain.evaluation.mapper;
 
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
 import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -14,6 +19,7 @@ import java.util.List;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/01/22 (동근) 단일 조인 조회를 단계별(ID IN) 조회로 분리
  * </pre>
  *
  * @author 김승민
@@ -21,7 +27,46 @@ import java.util.List;
 
 @Mapper
 public interface DashBoardMapper {
-    List<DashBoardResponseDTO> selectAllDashBoard();
 
-    List<DashBoardResponseDTO> selectDashBoard(@Param("departmentId") Integer id);
+    /**
+     * 대시보드 대상 평가 ID 조회 (템플릿 ID → 평가 ID 순)
+     *
+     * @param templateId   평가 템플릿 ID (null 이면 전체)
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체)
+     * @param offset       시작 위치
+     * @param size         조회 건수 (null 이면 전체)
+     * @return 평가 ID 목록
+     */
+    List<Integer> selectDashBoardEvaluationIds(@Param("templateId") Integer templateId,
+                                               @Param("departmentId") Integer departmentId,
+                                               @Param("offset") Integer offset,
+                                               @Param("size") Integer size);
+
+    /**
+     * 대시보드 대상 평가 수
+     *
+     * @param templateId   평가 템플릿 ID (null 이면 전체)
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체)
+     * @return 평가 수
+     */
+    long countDashBoardEvaluations(@Param("templateId") Integer templateId,
+                                   @Param("departmentId") Integer departmentId);
+
+    /** 평가 템플릿 + 최신 평가 기간 (evaluations 는 비어 있음) */
+    List<DashBoardResponseDTO> selectDashBoardTemplates(@Param("templateIds") List<Integer> templateIds);
+
+    /** 평가 + 담당자 + 가이드 (evaluationItems / evaluatees 는 비어 있음) */
+    List<DashBoardEvaluationResponseDTO> selectDashBoardEvaluations(@Param("evaluationIds") List<Integer> evaluationIds);
+
+    /** 평가별 선택 항목 (criterias 는 비어 있음) */
+    List<DashBoardItemResponseDTO> selectDashBoardItems(@Param("evaluationIds") List<Integer> evaluationIds);
+
+    /** 템플릿 항목별 평가 기준 */
+    List<DashBoardCriteriaResponseDTO> selectDashBoardCriterias(@Param("itemIds") List<Integer> itemIds);
+
+    /** 평가별 평가서(피평가자) (formItems 는 비어 있음) */
+    List<DashBoardEvaluateeResponseDTO> selectDashBoardEvaluatees(@Param("evaluationIds") List<Integer> evaluationIds);
+
+    /** 평가서별 항목 + 점수 */
+    List<DashBoardFormItemResponseDTO> selectDashBoardFormItems(@Param("formIds") List<Integer> formIds);
 }
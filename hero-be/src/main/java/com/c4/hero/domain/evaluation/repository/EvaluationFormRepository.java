@@ -2,6 +2,9 @@ package com.c4.hero.domain.evaluation.repository;
 
 import com.c4.hero.domain.evaluation.entity.EvaluationForm;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +16,7 @@ import java.util.List;
  *
  * History
  * 2025/12/14 (김승민) 최초 작성
+ * 2026/01/22 (동근) 상대평가 등급 일괄 확정 쿼리 추가
  * </pre>
  *
  * @author 김승민
@@ -21,4 +25,42 @@ import java.util.List;
 @Repository
 public interface EvaluationFormRepository extends JpaRepository<EvaluationForm,Integer> {
     List<EvaluationForm> findByEvaluationId(Integer evaluationId);
+
+    long countByEvaluationId(Integer evaluationId);
+
+    /**
+     * 평가서 상대평가 등급 일괄 확정
+     * 평가 내 총점 내림차순 순위(동점은 평가서 ID 순)로 누적 경계 이하이면 해당 등급, 나머지는 F
+     *
+     * @param evaluationId 평가 ID
+     * @param sLimit S 등급 누적 경계
+     * @param aLimit A 등급 누적 경계
+     * @param bLimit B 등급 누적 경계
+     * @param cLimit C 등급 누적 경계
+     * @return 변경 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+        UPDATE tbl_evaluation_form f
+        JOIN (
+            SELECT form_id,
+                   ROW_NUMBER() OVER (ORDER BY total_score DESC, form_id) AS rn
+              FROM tbl_evaluation_form
+             WHERE evaluation_id = :evaluationId
+        ) r ON r.form_id = f.form_id
+           SET f.total_rank = CASE
+                   WHEN r.rn <= :sLimit THEN 'S'
+                   WHEN r.rn <= :aLimit THEN 'A'
+                   WHEN r.rn <= :bLimit THEN 'B'
+                   WHEN r.rn <= :cLimit THEN 'C'
+                   ELSE 'F'
+               END
+    """)
+    int updateRelativeRanks(
+            @Param("evaluationId") Integer evaluationId,
+            @Param("sLimit") int sLimit,
+            @Param("aLimit") int aLimit,
+            @Param("bLimit") int bLimit,
+            @Param("cLimit") int cLimit
+    );
 }
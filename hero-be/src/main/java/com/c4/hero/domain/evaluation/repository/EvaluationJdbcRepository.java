@@ -0,0 +1,243 @@
+package com.c4.hero.domain.evaluation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Repository Name : EvaluationJdbcRepository
+ * Description     : 평가 선택 항목/피평가자, 평가서 항목/점수 일괄 저장 전용 JDBC 리포지토리
+ *
+ * 역할
+ *  - 평가 생성 시 선택 항목 / 피평가자를 각각 INSERT 배치 1회로 저장
+ *  - 평가서 생성 시 평가서 항목 INSERT 배치 1회(생성 키 함께 수신) → 항목 점수 INSERT 배치 1회
+ *  - 평가서 수정 시 평가서 항목 / 항목 점수를 각각 UPDATE 배치 1회로 반영
+ *  - IDENTITY 전략 엔티티는 Hibernate 배치 INSERT 가 비활성화되므로 JDBC 로 직접 처리
+ *
+ * 주의 사항
+ *  - JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 동일 엔티티를 JPA 로 수정하지 않을 것
+ *  - MariaDB 드라이버는 batchUpdate 를 bulk 프로토콜로 전송 (useBulkStmts 기본 활성)
+ *    → 행별 결과가 SUCCESS_NO_INFO 로 올 수 있으므로 반영 행 수는 전송한 행 수 기준
+ *
+ * History
+ *  2026/01/22 (동근) 최초 작성
+ *  2026/01/22 (동근) 평가서 항목 생성 키를 재조회 대신 배치 KeyHolder 로 수신
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ */
+@Repository
+@RequiredArgsConstructor
+public class EvaluationJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 평가 선택 항목 일괄 저장
+     *
+     * @param evaluationId 평가 ID
+     * @param itemIds      평가 템플릿 항목 ID 목록
+     * @return 저장 행 수
+     */
+    public int insertSelectedItems(Integer evaluationId, List<Integer> itemIds) {
+        if (itemIds.isEmpty()) return 0;
+
+        SqlParameterSource[] params = itemIds.stream()
+                .map(itemId -> new MapSqlParameterSource()
+                        .addValue("evaluationId", evaluationId)
+                        .addValue("itemId", itemId))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_selected_item (evaluation_id, item_id)
+                VALUES (:evaluationId, :itemId)
+                """, params);
+        return params.length;
+    }
+
+    /**
+     * 피평가자 일괄 저장
+     *
+     * @param evaluationId 평가 ID
+     * @param evaluatees   피평가자 목록
+     * @return 저장 행 수
+     */
+    public int insertEvaluatees(Integer evaluationId, List<NewEvaluatee> evaluatees) {
+        if (evaluatees.isEmpty()) return 0;
+
+        SqlParameterSource[] params = evaluatees.stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("evaluationId", evaluationId)
+                        .addValue("employeeId", e.employeeId())
+                        .addValue("status", e.status()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_evaluatee (evaluation_id, employee_id, status)
+                VALUES (:evaluationId, :employeeId, :status)
+                """, params);
+        return params.length;
+    }
+
+    /**
+     * 신규 평가서 항목 일괄 저장
+     *  - 배치 INSERT 의 생성 키를 KeyHolder 로 받아 반환 (INSERT 순서와 같은 순서)
+     *
+     * @param formId    평가서 ID (방금 생성된 평가서)
+     * @param formItems 평가서 항목 목록
+     * @return 생성된 평가서 항목 ID (formItems 와 같은 순서)
+     */
+    public List<Integer> insertFormItems(Integer formId, List<NewFormItem> formItems) {
+        if (formItems.isEmpty()) return List.of();
+
+        SqlParameterSource[] params = formItems.stream()
+                .map(i -> new MapSqlParameterSource()
+                        .addValue("formId", formId)
+                        .addValue("selectedItemId", i.selectedItemId())
+                        .addValue("weight", i.weight())
+                        .addValue("description", i.description()))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_form_item (form_id, selected_item_id, weight, description)
+                VALUES (:formId, :selectedItemId, :weight, :description)
+                """, params, keyHolder, new String[]{"form_item_id"});
+
+        // 드라이버마다 생성 키 컬럼명이 달라(form_item_id / insert_id / GENERATED_KEY) 첫 번째 값을 사용
+        List<Integer> formItemIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).intValue())
+                .toList();
+
+        if (formItemIds.size() != formItems.size()) {
+            throw new IllegalStateException("평가서 항목 생성 키 수가 일치하지 않습니다. formId=" + formId
+                    + ", 저장=" + formItems.size() + ", 생성 키=" + formItemIds.size());
+        }
+        return formItemIds;
+    }
+
+    /**
+     * 평가서 항목 점수 일괄 저장
+     *
+     * @param scores 항목 점수 목록 (평가서 항목 ID 포함)
+     * @return 저장 행 수
+     */
+    public int insertItemScores(List<NewItemScore> scores) {
+        if (scores.isEmpty()) return 0;
+
+        SqlParameterSource[] params = scores.stream()
+                .map(s -> new MapSqlParameterSource()
+                        .addValue("formItemId", s.formItemId())
+                        .addValue("score", s.score())
+                        .addValue("description", s.description())
+                        .addValue("rank", s.rank()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_item_score (form_item_id, score, description, `rank`)
+                VALUES (:formItemId, :score, :description, :rank)
+                """, params);
+        return params.length;
+    }
+
+    /**
+     * 평가서 항목 일괄 수정 (가중치, 수행 내용)
+     *
+     * @param formItems 수정할 평가서 항목 목록
+     * @return 수정 행 수
+     */
+    public int updateFormItems(List<FormItemUpdate> formItems) {
+        if (formItems.isEmpty()) return 0;
+
+        SqlParameterSource[] params = formItems.stream()
+                .map(i -> new MapSqlParameterSource()
+                        .addValue("formItemId", i.formItemId())
+                        .addValue("weight", i.weight())
+                        .addValue("description", i.description()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                UPDATE tbl_form_item
+                   SET weight = :weight,
+                       description = :description
+                 WHERE form_item_id = :formItemId
+                """, params);
+        return params.length;
+    }
+
+    /**
+     * 평가서 항목 점수 일괄 수정
+     *
+     * @param scores 수정할 항목 점수 목록
+     * @return 수정 행 수
+     */
+    public int updateItemScores(List<ItemScoreUpdate> scores) {
+        if (scores.isEmpty()) return 0;
+
+        SqlParameterSource[] params = scores.stream()
+                .map(s -> new MapSqlParameterSource()
+                        .addValue("itemScoreId", s.itemScoreId())
+                        .addValue("formItemId", s.formItemId())
+                        .addValue("score", s.score())
+                        .addValue("description", s.description())
+                        .addValue("rank", s.rank()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                UPDATE tbl_item_score
+                   SET form_item_id = :formItemId,
+                       score = :score,
+                       description = :description,
+                       `rank` = :rank
+                 WHERE item_score_id = :itemScoreId
+                """, params);
+        return params.length;
+    }
+
+    /**
+     * 존재하는 평가서 항목 수 (수정 전 일괄 존재 확인용)
+     */
+    public int countFormItems(Collection<Integer> formItemIds) {
+        if (formItemIds.isEmpty()) return 0;
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_form_item WHERE form_item_id IN (:ids)",
+                new MapSqlParameterSource("ids", formItemIds), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 존재하는 항목 점수 수 (수정 전 일괄 존재 확인용)
+     */
+    public int countItemScores(Collection<Integer> itemScoreIds) {
+        if (itemScoreIds.isEmpty()) return 0;
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_item_score WHERE item_score_id IN (:ids)",
+                new MapSqlParameterSource("ids", itemScoreIds), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /** 신규 피평가자 */
+    public record NewEvaluatee(Integer employeeId, Integer status) {}
+
+    /** 신규 평가서 항목 */
+    public record NewFormItem(Integer selectedItemId, Float weight, String description) {}
+
+    /** 신규 항목 점수 */
+    public record NewItemScore(Integer formItemId, Integer score, String description, String rank) {}
+
+    /** 평가서 항목 수정 값 */
+    public record FormItemUpdate(Integer formItemId, Float weight, String description) {}
+
+    /** 항목 점수 수정 값 */
+    public record ItemScoreUpdate(Integer itemScoreId, Integer formItemId, Integer score,
+                                  String description, String rank) {}
+}
@@ -2,8 +2,13 @@ package com.c4.hero.domain.evaluation.repository;
 
 import com.c4.hero.domain.evaluation.entity.EvaluationPeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * <pre>
  * Class Name: EvaluationPeriodRepository
@@ -11,6 +16,7 @@ import org.springframework.stereotype.Repository;
  *
  * History
  * 2025/12/07 (김승민) 최초 작성
+ * 2026/01/22 (동근) 자동 확정 대상 템플릿 조회 추가
  * </pre>
  *
  * @author 김승민
@@ -22,4 +28,30 @@ public interface EvaluationPeriodRepository extends JpaRepository<EvaluationPeri
     void deleteByTemplateId(Integer templateId);
 
     EvaluationPeriod findByTemplateId(Integer templateId);
+
+    /**
+     * 자동 확정 대상 템플릿 ID 조회
+     * 평가 기간이 끝났고, 모든 부서 평가가 완료(status = 2)되었으며, 등급 미확정 평가가 남은 템플릿
+     *
+     * @param now 기준 시각
+     * @return 평가 템플릿 ID 목록
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT DISTINCT p.template_id
+          FROM tbl_evaluation_period p
+         WHERE p.`end` <= :now
+           AND EXISTS (
+                   SELECT 1
+                     FROM tbl_evaluation e
+                    WHERE e.template_id = p.template_id
+                      AND e.total_rank IS NULL
+               )
+           AND NOT EXISTS (
+                   SELECT 1
+                     FROM tbl_evaluation e
+                    WHERE e.template_id = p.template_id
+                      AND (e.status IS NULL OR e.status <> 2)
+               )
+    """)
+    List<Integer> findFinalizableTemplateIds(@Param("now") LocalDateTime now);
 }
@@ -3,6 +3,9 @@ package com.c4.hero.domain.evaluation.repository;
 import com.c4.hero.domain.evaluation.entity.Evaluatee;
 import com.c4.hero.domain.evaluation.entity.Evaluation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.List;
  * History
  * 2025/12/07 (김승민) 최초 작성
  * 2026/01/03 (혜원) 알림 발송용 조회 추가
+ * 2026/01/22 (동근) 부서 상대평가 확정용 집계/일괄 등급 쿼리 추가
  * </pre>
  *
  * @author 김승민
@@ -25,6 +29,55 @@ public interface EvaluationRepository extends JpaRepository<Evaluation,Integer>
 
     List<Evaluation> findByTemplateId(Integer templateId);
 
+    long countByTemplateId(Integer templateId);
+
+    /** 템플릿 내 완료(status = 2)되지 않은 평가 수 */
+    @Query("""
+        select count(e)
+          from Evaluation e
+         where e.templateId = :templateId
+           and (e.status is null or e.status <> 2)
+    """)
+    long countIncompleteByTemplateId(@Param("templateId") Integer templateId);
+
+    boolean existsByTemplateIdAndTotalRankIsNull(Integer templateId);
+
+    /**
+     * 부서 평가 상대평가 등급 일괄 확정
+     * 템플릿 내 총점 내림차순 순위(동점은 평가 ID 순)로 누적 경계 이하이면 해당 등급, 나머지는 F
+     *
+     * @param templateId 평가 템플릿 ID
+     * @param sLimit S 등급 누적 경계
+     * @param aLimit A 등급 누적 경계
+     * @param bLimit B 등급 누적 경계
+     * @param cLimit C 등급 누적 경계
+     * @return 변경 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+        UPDATE tbl_evaluation e
+        JOIN (
+            SELECT evaluation_id,
+                   ROW_NUMBER() OVER (ORDER BY total_score DESC, evaluation_id) AS rn
+              FROM tbl_evaluation
+             WHERE template_id = :templateId
+        ) r ON r.evaluation_id = e.evaluation_id
+           SET e.total_rank = CASE
+                   WHEN r.rn <= :sLimit THEN 'S'
+                   WHEN r.rn <= :aLimit THEN 'A'
+                   WHEN r.rn <= :bLimit THEN 'B'
+                   WHEN r.rn <= :cLimit THEN 'C'
+                   ELSE 'F'
+               END
+    """)
+    int updateRelativeRanks(
+            @Param("templateId") Integer templateId,
+            @Param("sLimit") int sLimit,
+            @Param("aLimit") int aLimit,
+            @Param("bLimit") int bLimit,
+            @Param("cLimit") int cLimit
+    );
+
     /**
      * 평가 상태로 조회
      *
@@ -2,11 +2,8 @@ package com.c4.hero.domain.evaluation.repository;
 
 import com.c4.hero.domain.evaluation.entity.EvaluationTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 /**
  * <pre>
  * Class Name: EvaluationTemplateRepository
@@ -14,6 +11,7 @@ import java.util.List;
  *
  * History
  * 2025/12/07 (김승민) 최초 작성
+ * 2026/01/22 (동근) 미사용 템플릿 ID 전체 조회 제거
  * </pre>
  *
  * @author 김승민
@@ -21,7 +19,4 @@ import java.util.List;
 
 @Repository
 public interface EvaluationTemplateRepository extends JpaRepository<EvaluationTemplate,Integer> {
-
-    @Query("select t.templateId from EvaluationTemplate t")
-    List<Integer> findAllTemplateIds();
 }
@@ -2,6 +2,8 @@ package com.c4.hero.domain.evaluation.repository;
 
 import com.c4.hero.domain.evaluation.entity.FormItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +15,7 @@ import java.util.List;
  *
  * History
  * 2025/12/14 (김승민) 최초 작성
+ * 2026/01/22 (동근) 평가서 가중 평균 점수 집계 쿼리 추가
  * </pre>
  *
  * @author 김승민
@@ -21,4 +24,21 @@ import java.util.List;
 @Repository
 public interface FormItemRepository extends JpaRepository<FormItem,Integer> {
     List<FormItem> findByFormId(Integer formId);
+
+    /**
+     * 평가서 가중 평균 점수 집계 (항목별 점수 조회 없이 1회 조회)
+     * 점수/가중치가 없는 항목은 제외하고, 반영할 항목이 없으면 0
+     *
+     * @param formId 평가서 ID
+     * @return sum(점수 × 가중치) / sum(가중치)
+     */
+    @Query("""
+        select coalesce(sum(s.score * fi.weight) / nullif(sum(fi.weight), 0), 0.0)
+          from FormItem fi
+          join ItemScore s on s.formItemId = fi.formItemId
+         where fi.formId = :formId
+           and s.score is not null
+           and fi.weight is not null
+    """)
+    Double calculateWeightedScore(@Param("formId") Integer formId);
 }
@@ -1,11 +1,12 @@
 package com.c4.hero.domain.evaluation.scheduler;
 
-import com.c4.hero.domain.evaluation.repository.EvaluationTemplateRepository;
+import com.c4.hero.domain.evaluation.repository.EvaluationPeriodRepository;
 import com.c4.hero.domain.evaluation.service.EvaluationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,6 +16,7 @@ import java.util.List;
  *
  * History
  * 2025/12/24 (김승민) 최초 작성
+ * 2026/01/22 (동근) 기간 종료/미확정 템플릿만 1회 조회하여 확정
  * </pre>
  *
  * @author 김승민
@@ -23,7 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EvaluationScheduler {
 
-    private final EvaluationTemplateRepository templateRepository;
+    private final EvaluationPeriodRepository evaluationPeriodRepository;
     private final EvaluationService evaluationService;
 
     /**
@@ -32,9 +34,9 @@ public class EvaluationScheduler {
     @Scheduled(cron = "0 0 0 * * ?")
     public void autoFinalizeEvaluation() {
 
-        /** 모든 평가 템플릿 ID 조회 */
+        /** 평가 기간이 끝났고 등급 미확정 평가가 남은 템플릿 ID 조회 */
         List<Integer> templateIds =
-                templateRepository.findAllTemplateIds();
+                evaluationPeriodRepository.findFinalizableTemplateIds(LocalDateTime.now());
 
         /** 템플릿 단위로 자동 확정 시도 */
         for (Integer templateId : templateIds) {
@@ -6,12 +6,14 @@ import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisRequestDTO;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisResponseDTO;
 import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionCandidateResponseDTO;
 import com.c4.hero.domain.evaluation.dto.ai.violation.GuideViolationResponseDTO;
+import com.c4.hero.common.ai.AiGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <pre>
@@ -20,6 +22,7 @@ import java.util.Map;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/01/19 (동근) AiGateway 를 통한 비동기 호출로 변경 (block() 제거)
  * </pre>
  *
  * @author 김승민
@@ -29,18 +32,25 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiService {
 
-    /** 설정 클래스 의존성 주입 */
-    private final WebClient aiWebClient;
+    private static final ParameterizedTypeReference<MemberAnalysisResponseDTO> MEMBER_ANALYSIS_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<GuideViolationResponseDTO>> VIOLATION_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<PromotionCandidateResponseDTO>> PROMOTION_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    /** AI 서버 호출 게이트웨이 (동시 요청 한도, 타임아웃, 재시도, 결과 캐시) */
+    private final AiGateway aiGateway;
 
     /**
      * 파이썬 서버에 사원 분석을 요청하는 로직
      *
      * @param request MemberAnalysisRequestDTO
      *        요청한 사원 분석 데이터
-     * @return MemberAnalysisResponseDTO
+     * @return CompletableFuture<MemberAnalysisResponseDTO>
      *        응답하는 사원 분석 결과 데이터
      */
-    public MemberAnalysisResponseDTO analyzeMember(MemberAnalysisRequestDTO request) {
+    public CompletableFuture<MemberAnalysisResponseDTO> analyzeMember(MemberAnalysisRequestDTO request) {
 
         if (request.getFormItems() == null || request.getFormItems().isEmpty()) {
             throw new IllegalArgumentException("AI 분석 요청에 formItems가 없습니다.");
@@ -67,17 +77,7 @@ public class AiService {
                 }).toList()
         );
 
-        return aiWebClient.post()
-                .uri("/api/analyze/member")
-                .bodyValue(fastApiRequest)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .map(body -> new RuntimeException("AI 서버 오류: " + body))
-                )
-                .bodyToMono(MemberAnalysisResponseDTO.class)
-                .block();
+        return aiGateway.post("/api/analyze/member", fastApiRequest, MEMBER_ANALYSIS_TYPE);
     }
 
 
@@ -88,21 +88,17 @@ public class AiService {
      *        가이드 내용
      * @param template Map<String, Object>
      *        평가 템플릿 데이터
-     * @return List<GuideViolationResponseDTO>
+     * @return CompletableFuture<List<GuideViolationResponseDTO>>
      */
-    public List<GuideViolationResponseDTO> analyzeViolation(String guide, Map<String, Object> template) {
-        return aiWebClient.post()
-                .uri("/api/analyze/violation")
-                .bodyValue(
-                        Map.of(
-                                "guide", guide,
-                                "template", template
-                        )
-                )
-                .retrieve()
-                .bodyToFlux(GuideViolationResponseDTO.class)
-                .collectList()
-                .block();
+    public CompletableFuture<List<GuideViolationResponseDTO>> analyzeViolation(String guide, Map<String, Object> template) {
+        return aiGateway.post(
+                "/api/analyze/violation",
+                Map.of(
+                        "guide", guide,
+                        "template", template
+                ),
+                VIOLATION_LIST_TYPE
+        );
     }
 
 
@@ -111,18 +107,12 @@ public class AiService {
      *
      * @param dashboardData List<Object>
      *       대시보드에 사용될 평가 데이터
-     * @return List<PromotionCandidateResponseDTO>
+     * @return CompletableFuture<List<PromotionCandidateResponseDTO>>
      */
-    public List<PromotionCandidateResponseDTO> analyzePromotion(
+    public CompletableFuture<List<PromotionCandidateResponseDTO>> analyzePromotion(
             List<Object> dashboardData
     ) {
-        return aiWebClient.post()
-                .uri("/api/analyze/promotion")
-                .bodyValue(dashboardData)
-                .retrieve()
-                .bodyToFlux(PromotionCandidateResponseDTO.class)
-                .collectList()
-                .block();
+        return aiGateway.post("/api/analyze/promotion", dashboardData, PROMOTION_LIST_TYPE);
     }
 
 }
@@ -0,0 +1,218 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.mapper.DashBoardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name: EvaluationDashBoardService
+ * Description: 평가 대시보드 데이터 단계별 조회/조립 서비스
+ *
+ * 조회 방식
+ *  - 대상 평가 ID 를 먼저 확정 (템플릿/부서 필터, 페이징)
+ *  - 템플릿 / 평가 / 평가 항목 / 평가 기준 / 평가서 / 평가서 항목을 단계별로 ID IN 조회 (단계당 1회)
+ *  - 상위 ID 기준 HashMap 으로 메모리에서 조립
+ *    → 조회 행 수가 (항목 × 기준 × 평가서 × 평가서 항목) 곱이 아닌 각 단계 행 수의 합이 됨
+ *
+ * 요약 조회 (summary = true)
+ *  - 평가 항목/평가 기준/평가서 항목 조회를 생략 (템플릿, 평가, 피평가자 총점/등급만)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationDashBoardService {
+
+    /** IN 절 최대 바인딩 수 */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    /** 페이지 최대 크기 (평가 단위) */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DashBoardMapper dashBoardMapper;
+
+    /**
+     * 대시보드 페이지 조회 (페이지 단위: 평가)
+     *
+     * @param templateId   평가 템플릿 ID (null 이면 전체)
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체)
+     * @param page         페이지 번호 (0부터)
+     * @param size         페이지 크기 (평가 수, 1 ~ 100)
+     * @param summary      true 면 평가 항목/기준/평가서 항목 제외
+     * @return 페이지에 포함된 평가를 템플릿별로 묶은 결과
+     */
+    public PageResponse<DashBoardResponseDTO> selectDashBoardPage(
+            Integer templateId,
+            Integer departmentId,
+            int page,
+            int size,
+            boolean summary
+    ) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+
+        long totalElements = dashBoardMapper.countDashBoardEvaluations(templateId, departmentId);
+        if (totalElements == 0) {
+            return PageResponse.of(List.of(), page, size, 0);
+        }
+
+        List<Integer> evaluationIds =
+                dashBoardMapper.selectDashBoardEvaluationIds(templateId, departmentId, page * size, size);
+
+        return PageResponse.of(load(evaluationIds, summary), page, size, totalElements);
+    }
+
+    /**
+     * 대시보드 전체 조회 (페이징 없음)
+     *
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체 부서)
+     * @return 템플릿별 대시보드 데이터
+     */
+    public List<DashBoardResponseDTO> selectDashBoard(Integer departmentId) {
+        return load(dashBoardMapper.selectDashBoardEvaluationIds(null, departmentId, null, null), false);
+    }
+
+    /**
+     * 평가 ID 목록 기준 단계별 조회 후 조립
+     *
+     * @param evaluationIds 평가 ID (조회 순서 유지)
+     * @param summary       true 면 평가 항목/기준/평가서 항목 제외
+     * @return 템플릿별 대시보드 데이터
+     */
+    List<DashBoardResponseDTO> load(List<Integer> evaluationIds, boolean summary) {
+        if (evaluationIds.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.currentTimeMillis();
+
+        List<DashBoardEvaluationResponseDTO> evaluations =
+                inChunks(evaluationIds, dashBoardMapper::selectDashBoardEvaluations);
+        List<DashBoardEvaluateeResponseDTO> evaluatees =
+                inChunks(evaluationIds, dashBoardMapper::selectDashBoardEvaluatees);
+        int rows = evaluations.size() + evaluatees.size();
+
+        Map<Integer, List<DashBoardItemResponseDTO>> itemsByEvaluation = Map.of();
+        Map<Integer, List<DashBoardFormItemResponseDTO>> formItemsByForm = Map.of();
+
+        if (!summary) {
+            List<DashBoardItemResponseDTO> items = inChunks(evaluationIds, dashBoardMapper::selectDashBoardItems);
+            List<DashBoardCriteriaResponseDTO> criterias = inChunks(
+                    distinct(items, DashBoardItemResponseDTO::getTemplateItemId),
+                    dashBoardMapper::selectDashBoardCriterias);
+            List<DashBoardFormItemResponseDTO> formItems = inChunks(
+                    distinct(evaluatees, DashBoardEvaluateeResponseDTO::getEvaluationFormId),
+                    dashBoardMapper::selectDashBoardFormItems);
+            rows += items.size() + criterias.size() + formItems.size();
+
+            Map<Integer, List<DashBoardCriteriaResponseDTO>> criteriasByItem =
+                    group(criterias, DashBoardCriteriaResponseDTO::getTemplateItemId);
+            items.forEach(item -> item.setCriterias(criteriasByItem.getOrDefault(item.getTemplateItemId(), List.of())));
+
+            itemsByEvaluation = group(items, DashBoardItemResponseDTO::getEvaluationId);
+            formItemsByForm = group(formItems, DashBoardFormItemResponseDTO::getFormId);
+        }
+
+        for (DashBoardEvaluateeResponseDTO evaluatee : evaluatees) {
+            evaluatee.setFormItems(formItemsByForm.getOrDefault(evaluatee.getEvaluationFormId(), List.of()));
+        }
+        Map<Integer, List<DashBoardEvaluateeResponseDTO>> evaluateesByEvaluation =
+                group(evaluatees, DashBoardEvaluateeResponseDTO::getEvaluationId);
+
+        Map<Integer, DashBoardEvaluationResponseDTO> evaluationById = new HashMap<>();
+        for (DashBoardEvaluationResponseDTO evaluation : evaluations) {
+            evaluation.setEvaluationItems(itemsByEvaluation.getOrDefault(evaluation.getEvaluationId(), List.of()));
+            evaluation.setEvaluatees(evaluateesByEvaluation.getOrDefault(evaluation.getEvaluationId(), List.of()));
+            evaluationById.put(evaluation.getEvaluationId(), evaluation);
+        }
+
+        // 템플릿은 평가 ID 순서대로 처음 등장한 순서를 유지
+        List<DashBoardEvaluationResponseDTO> ordered = evaluationIds.stream()
+                .map(evaluationById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        if (ordered.isEmpty()) {
+            return List.of();
+        }
+        Set<Integer> templateIds = new LinkedHashSet<>();
+        ordered.forEach(evaluation -> templateIds.add(evaluation.getEvaluationTemplateId()));
+
+        List<DashBoardResponseDTO> templates = dashBoardMapper.selectDashBoardTemplates(List.copyOf(templateIds));
+        rows += templates.size();
+        Map<Integer, DashBoardResponseDTO> templateById = new HashMap<>();
+        for (DashBoardResponseDTO template : templates) {
+            template.setEvaluations(new ArrayList<>());
+            templateById.put(template.getEvaluationTemplateId(), template);
+        }
+
+        for (DashBoardEvaluationResponseDTO evaluation : ordered) {
+            DashBoardResponseDTO template = templateById.get(evaluation.getEvaluationTemplateId());
+            if (template != null) {
+                template.getEvaluations().add(evaluation);
+            }
+        }
+
+        List<DashBoardResponseDTO> result = templateIds.stream()
+                .map(templateById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        log.debug("평가 대시보드 조회 - 평가={}, 피평가자={}, 요약={}, 조회 행={}, {}ms",
+                evaluations.size(), evaluatees.size(), summary, rows, System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    /**
+     * IN 절 크기 단위로 나누어 조회
+     */
+    private static <T> List<T> inChunks(List<Integer> ids, Function<List<Integer>, List<T>> query) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() <= IN_CLAUSE_SIZE) {
+            return query.apply(ids);
+        }
+        List<T> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            rows.addAll(query.apply(ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()))));
+        }
+        return rows;
+    }
+
+    private static <T> List<Integer> distinct(List<T> rows, Function<T, Integer> key) {
+        return rows.stream().map(key).filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static <T> Map<Integer, List<T>> group(List<T> rows, Function<T, Integer> key) {
+        return rows.stream()
+                .filter(row -> key.apply(row) != null)
+                .collect(Collectors.groupingBy(key));
+    }
+}
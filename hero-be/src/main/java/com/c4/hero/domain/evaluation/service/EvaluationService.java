@@ -19,6 +19,7 @@ import com.c4.hero.domain.evaluation.dto.guide.EvaluationGuideUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.item.*;
 import com.c4.hero.domain.evaluation.dto.period.EvaluationPeriodRequestDTO;
 import com.c4.hero.domain.evaluation.dto.response.EmployeeEvaluationListResponseDTO;
+import com.c4.hero.domain.evaluation.dto.response.EvaluationSaveResultDTO;
 import com.c4.hero.domain.evaluation.dto.score.ItemScoreRequestDTO;
 import com.c4.hero.domain.evaluation.dto.score.ItemScoreUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateRequestDTO;
@@ -36,6 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * <pre>
@@ -45,6 +48,9 @@ import java.util.List;
  * History
  * 2025/12/07 (김승민) 최초 작성
  * 2026/01/03 (혜원) 알림 발송 로직 추가
+ * 2026/01/22 (동근) 대시보드 조회를 단계별 조회 서비스(EvaluationDashBoardService)로 위임
+ * 2026/01/22 (동근) 채점 점수 집계 쿼리화, 상대평가 등급 일괄 UPDATE, 결과 알림 일괄 발행
+ * 2026/01/22 (동근) 평가/평가서 생성·수정 시 하위 데이터 일괄 저장, 저장 행 수/처리 시간 응답
  * </pre>
  *
  * @author 김승민
@@ -86,6 +92,9 @@ public class EvaluationService {
     /** 평가서 항목 점수 저장소 의존성 주입 */
     private final ItemScoreRepository itemScoreRepository;
 
+    /** 평가 하위 데이터 일괄 저장 JDBC 저장소 의존성 주입 */
+    private final EvaluationJdbcRepository evaluationJdbcRepository;
+
     /** 평가 템플릿 mapper 의존성 주입 */
     private final EvaluationTemplateMapper evaluationTemplateMapper;
 
@@ -101,8 +110,8 @@ public class EvaluationService {
     /** 평가서 mapper 의존성 주입 */
     private final EvaluationFormMapper evaluationFormMapper;
 
-    /** 대시보드 데이터 mapper 의존성 주입 */
-    private final DashBoardMapper dashBoardMapper;
+    /** 대시보드 데이터 조회 서비스 의존성 주입 */
+    private final EvaluationDashBoardService dashBoardService;
 
     /** */
     private final ApplicationEventPublisher eventPublisher;  // 추가!
@@ -556,11 +565,13 @@ public class EvaluationService {
      *
      * @param evaluationDTO EvaluationRequestDTO
      *      평가 생성 데이터를 파라미터로 받음.
-     * @return evaluationId Integer
-     *     생성된 평가 테이블의 pk를 응답함
+     * @return result EvaluationSaveResultDTO
+     *     생성된 평가 테이블의 pk와 저장 행 수, 처리 시간을 응답함
      */
     @Transactional
-    public Integer createEvaluation(EvaluationRequestDTO evaluationDTO) {
+    public EvaluationSaveResultDTO createEvaluation(EvaluationRequestDTO evaluationDTO) {
+
+        long startedAt = System.currentTimeMillis();
 
         if (evaluationDTO == null) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "평가 생성 요청 데이터가 없습니다.");
@@ -581,41 +592,43 @@ public class EvaluationService {
         evaluationRepository.save(evaluation);
         Integer evaluationId = evaluation.getEvaluationId();
 
-        // 피평가자 ID 목록 (알림 발송용)
-        List<Integer> employeeIds = new ArrayList<>();
-
-        /** 평가 선택 항목 저장 */
-        if (evaluationDTO.getSelectedItems() != null) {
-            for (SelectedItemRequestDTO itemDTO : evaluationDTO.getSelectedItems()) {
-
-                SelectedItem selectedItem = new SelectedItem();
-                selectedItem.setEvaluationId(evaluationId);
-                selectedItem.setItemId(itemDTO.getSelectedItemItemId());
-
-                selectedItemRepository.save(selectedItem);
-            }
-        }
-
-        /** 피평가자 저장 */
-        if (evaluationDTO.getEvaluatees() != null) {
-            for (EvaluateeRequestDTO evaluateeDTO : evaluationDTO.getEvaluatees()) {
-
-                Evaluatee evaluatee = new Evaluatee();
-                evaluatee.setEvaluationId(evaluationId);
-                evaluatee.setEmployeeId(evaluateeDTO.getEvaluateeEmployeeId());
-                evaluatee.setStatus(evaluateeDTO.getEvaluateeStatus());
-
-                evaluateeRepository.save(evaluatee);
+        /** 평가 선택 항목 일괄 저장 */
+        List<Integer> itemIds = evaluationDTO.getSelectedItems() == null
+                ? List.of()
+                : evaluationDTO.getSelectedItems().stream()
+                        .map(SelectedItemRequestDTO::getSelectedItemItemId)
+                        .toList();
+
+        int selectedItemRows = evaluationJdbcRepository.insertSelectedItems(evaluationId, itemIds);
+
+        /** 피평가자 일괄 저장 */
+        List<EvaluateeRequestDTO> evaluateeDTOs = evaluationDTO.getEvaluatees() == null
+                ? List.of()
+                : evaluationDTO.getEvaluatees();
+
+        int evaluateeRows = evaluationJdbcRepository.insertEvaluatees(
+                evaluationId,
+                evaluateeDTOs.stream()
+                        .map(e -> new EvaluationJdbcRepository.NewEvaluatee(
+                                e.getEvaluateeEmployeeId(), e.getEvaluateeStatus()))
+                        .toList()
+        );
 
-                // 피평가자 ID 추가 (알림 발송용)
-                employeeIds.add(evaluateeDTO.getEvaluateeEmployeeId());
-            }
-        }
+        // 피평가자 ID 목록 (알림 발송용)
+        List<Integer> employeeIds = evaluateeDTOs.stream()
+                .map(EvaluateeRequestDTO::getEvaluateeEmployeeId)
+                .toList();
 
         // 평가 시작 알림 발행
         publishEvaluationStartedEvent(evaluationId, evaluationDTO, employeeIds);
 
-        return evaluationId;
+        EvaluationSaveResultDTO result = EvaluationSaveResultDTO.builder()
+                .id(evaluationId)
+                .insertedRows(1 + selectedItemRows + evaluateeRows)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+
+        return result;
     }
 
     /**
@@ -704,11 +717,13 @@ public class EvaluationService {
      *
      * @param formRequestDTO EvaluationRequestDTO
      *      평가서 생성 데이터를 파라미터로 받음.
-     * @return evaluationId Integer
-     *     생성된 평가서 테이블의 pk를 응답함
+     * @return result EvaluationSaveResultDTO
+     *     생성된 평가서 테이블의 pk와 저장 행 수, 처리 시간을 응답함
      */
     @Transactional
-    public Integer createForm(EvaluationFormRequestDTO formRequestDTO) {
+    public EvaluationSaveResultDTO createForm(EvaluationFormRequestDTO formRequestDTO) {
+
+        long startedAt = System.currentTimeMillis();
 
         if (formRequestDTO == null) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "평가서 생성 요청 데이터가 없습니다.");
@@ -725,32 +740,37 @@ public class EvaluationService {
         formRepository.save(form);
         Integer formId = form.getFormId();
 
-        /** 평가서 항목, 점수 저장 */
-        if (formRequestDTO.getFormItems() != null) {
-            for (FormItemRequestDTO itemDTO : formRequestDTO.getFormItems()) {
-
-                FormItem formItem = new FormItem();
-                formItem.setFormId(formId);
-                formItem.setSelectedItemId(itemDTO.getFormItemSelectedItemId());
-                formItem.setWeight(itemDTO.getFormItemWeight());
-                formItem.setDescription(itemDTO.getFormItemDescription());
-
-                formItemRepository.save(formItem);
-                Integer formItemId = formItem.getFormItemId();
-
+        /** 평가서 항목 일괄 저장 (생성 키는 INSERT 순서대로 반환) */
+        List<FormItemRequestDTO> itemDTOs = formRequestDTO.getFormItems() == null
+                ? List.of()
+                : formRequestDTO.getFormItems();
+
+        List<Integer> formItemIds = evaluationJdbcRepository.insertFormItems(
+                formId,
+                itemDTOs.stream()
+                        .map(i -> new EvaluationJdbcRepository.NewFormItem(
+                                i.getFormItemSelectedItemId(), i.getFormItemWeight(), i.getFormItemDescription()))
+                        .toList()
+        );
 
-                ItemScoreRequestDTO scoreDTO = itemDTO.getItemScore();
-                if (scoreDTO != null) {
-                    ItemScore score = new ItemScore();
-                    score.setFormItemId(formItemId);
-                    score.setScore(scoreDTO.getItemScoreScore());
-                    score.setDescription(scoreDTO.getItemScoreDescription());
-                    score.setRank(scoreDTO.getItemScoreRank());
-                    itemScoreRepository.save(score);
-                }
+        /** 항목 점수 일괄 저장 */
+        List<EvaluationJdbcRepository.NewItemScore> scores = new ArrayList<>();
+        for (int i = 0; i < itemDTOs.size(); i++) {
+            ItemScoreRequestDTO scoreDTO = itemDTOs.get(i).getItemScore();
+            if (scoreDTO != null) {
+                scores.add(new EvaluationJdbcRepository.NewItemScore(
+                        formItemIds.get(i),
+                        scoreDTO.getItemScoreScore(),
+                        scoreDTO.getItemScoreDescription(),
+                        scoreDTO.getItemScoreRank()
+                ));
             }
         }
 
+        int scoreRows = evaluationJdbcRepository.insertItemScores(scores);
+
+        int updatedRows = 0;
+
         /** 피평가자 상태 변경 */
         Evaluatee evaluatee =
                 evaluateeRepository.findByEvaluationIdAndEmployeeId(
@@ -761,6 +781,7 @@ public class EvaluationService {
         if (evaluatee != null) {
             evaluatee.setStatus(1);
             evaluateeRepository.save(evaluatee);
+            updatedRows++;
         }
 
         /** 남은 미작성 피평가자 체크 */
@@ -773,9 +794,17 @@ public class EvaluationService {
             Evaluation evaluation = evaluationRepository.findById(formRequestDTO.getEvaluationFormEvaluationId()).get();
             evaluation.setStatus(1);
             evaluationRepository.save(evaluation);
+            updatedRows++;
         }
 
-        return formId;
+        EvaluationSaveResultDTO result = EvaluationSaveResultDTO.builder()
+                .id(formId)
+                .insertedRows(1 + formItemIds.size() + scoreRows)
+                .updatedRows(updatedRows)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+
+        return result;
     }
 
     /**
@@ -809,11 +838,14 @@ public class EvaluationService {
      *
      * @param updateDTO EvaluationFormUpdateDTO
      *      평가서 수정 데이터를 파라미터로 받음.
-     * @return templateId Integer
-     *     수정된 평가서 테이블의 pk를 응답함.
+     * @return result EvaluationSaveResultDTO
+     *     수정된 평가서 테이블의 pk와 수정 행 수, 처리 시간을 응답함.
      */
     @Transactional
-    public Integer updateForm(EvaluationFormUpdateDTO updateDTO) {
+    public EvaluationSaveResultDTO updateForm(EvaluationFormUpdateDTO updateDTO) {
+
+        long startedAt = System.currentTimeMillis();
+
         EvaluationForm form = formRepository.findById(updateDTO.getEvaluationFormFormId())
                 .orElseThrow(() -> new BusinessException(
                         ErrorCode.ENTITY_NOT_FOUND, "수정할 평가서를 찾을 수 없습니다."
@@ -826,45 +858,60 @@ public class EvaluationService {
         Integer formId = form.getFormId();
 
 
-        /** 항목 수정 */
+        /** 항목 / 점수 수정 값 수집 */
+        List<EvaluationJdbcRepository.FormItemUpdate> itemUpdates = new ArrayList<>();
+        List<EvaluationJdbcRepository.ItemScoreUpdate> scoreUpdates = new ArrayList<>();
+
         if (updateDTO.getFormItems() != null) {
             for (FormItemUpdateDTO itemDTO : updateDTO.getFormItems()) {
 
-                FormItem formItem = formItemRepository.findById(
-                        itemDTO.getFormItemFormItemId()
-                ).orElseThrow(() -> new BusinessException(
-                        ErrorCode.ENTITY_NOT_FOUND, "수정할 평가서 항목이 없습니다."
+                itemUpdates.add(new EvaluationJdbcRepository.FormItemUpdate(
+                        itemDTO.getFormItemFormItemId(),
+                        itemDTO.getFormItemWeight(),
+                        itemDTO.getFormItemDescription()
                 ));
 
-                formItem.setWeight(itemDTO.getFormItemWeight());
-                formItem.setDescription(itemDTO.getFormItemDescription());
-
-                formItemRepository.save(formItem);
-                Integer formItemId = formItem.getFormItemId();
-
-                /* ===== 점수 처리 ===== */
                 ItemScoreUpdateDTO scoreDTO = itemDTO.getItemScore();
                 if (scoreDTO != null) {
+                    scoreUpdates.add(new EvaluationJdbcRepository.ItemScoreUpdate(
+                            scoreDTO.getItemScoreItemScoreId(),
+                            itemDTO.getFormItemFormItemId(),
+                            scoreDTO.getItemScoreScore(),
+                            scoreDTO.getItemScoreDescription(),
+                            scoreDTO.getItemScoreRank()
+                    ));
+                }
+            }
+        }
 
-                    ItemScore score;
+        /** 수정 대상 존재 여부 일괄 확인 */
+        Set<Integer> formItemIds = itemUpdates.stream()
+                .map(EvaluationJdbcRepository.FormItemUpdate::formItemId)
+                .collect(Collectors.toSet());
 
-                    score = itemScoreRepository.findById(
-                            scoreDTO.getItemScoreItemScoreId()
-                    ).orElseThrow(() -> new BusinessException(
-                            ErrorCode.ENTITY_NOT_FOUND, "수정할 점수가 없습니다."
-                    ));
+        if (evaluationJdbcRepository.countFormItems(formItemIds) != formItemIds.size()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "수정할 평가서 항목이 없습니다.");
+        }
 
-                    score.setFormItemId(formItemId);
-                    score.setScore(scoreDTO.getItemScoreScore());
-                    score.setDescription(scoreDTO.getItemScoreDescription());
-                    score.setRank(scoreDTO.getItemScoreRank());
+        Set<Integer> itemScoreIds = scoreUpdates.stream()
+                .map(EvaluationJdbcRepository.ItemScoreUpdate::itemScoreId)
+                .collect(Collectors.toSet());
 
-                    itemScoreRepository.save(score);
-                }
-            }
+        if (evaluationJdbcRepository.countItemScores(itemScoreIds) != itemScoreIds.size()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "수정할 점수가 없습니다.");
         }
 
-        return formId;
+        /** 항목 / 점수 일괄 수정 */
+        int itemRows = evaluationJdbcRepository.updateFormItems(itemUpdates);
+        int scoreRows = evaluationJdbcRepository.updateItemScores(scoreUpdates);
+
+        EvaluationSaveResultDTO result = EvaluationSaveResultDTO.builder()
+                .id(formId)
+                .updatedRows(1 + itemRows + scoreRows)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+
+        return result;
 
     }
 
@@ -919,23 +966,10 @@ public class EvaluationService {
             }
         }
 
-        /** 가중치 반영 평가서 점수 계산 */
-        List<FormItem> formItems = formItemRepository.findByFormId(form.getFormId());
-
-        double weightedSum = 0.0;
-        double weightTotal = 0.0;
-
-        for (FormItem item : formItems) {
-            ItemScore score = itemScoreRepository.findByFormItemId(item.getFormItemId());
-            if (score == null || score.getScore() == null || item.getWeight() == null) {
-                continue;
-            }
-
-            weightedSum += score.getScore() * item.getWeight();
-            weightTotal += item.getWeight();
-        }
+        /** 가중치 반영 평가서 점수 계산 (집계 쿼리 1회) */
+        Double weightedScore = formItemRepository.calculateWeightedScore(form.getFormId());
 
-        float totalScore = weightTotal > 0 ? (float) (weightedSum / weightTotal) : 0f;
+        float totalScore = weightedScore != null ? weightedScore.floatValue() : 0f;
 
         form.setTotalScore(totalScore);
 
@@ -957,64 +991,56 @@ public class EvaluationService {
                 evaluateeRepository.countByEvaluationIdAndStatusNot(evaluationId, 2);
 
         if (remainingEvaluatee == 0) {
+            finalizeFormRanks(evaluationId);
+        }
 
-            /** 모든 평가서 조회 */
-            List<EvaluationForm> forms =
-                    formRepository.findByEvaluationId(evaluationId);
-
-            if (!forms.isEmpty()) {
-
-                /** 상대평가 등급 계산 (S/A/B/C/F) */
-                forms.sort((a, b) -> Float.compare(
-                        b.getTotalScore(), a.getTotalScore()
-                ));
-
-                int total = forms.size();
-
-                int sCount = Math.max(1, (int) Math.round(total * 0.03));
-                int aCount = Math.max(1, (int) Math.round(total * 0.20));
-                int bCount = Math.max(1, (int) Math.round(total * 0.65));
-                int cCount = Math.max(1, (int) Math.round(total * 0.10));
+        return form.getFormId();
+    }
 
-                int index = 0;
 
-                for (EvaluationForm f : forms) {
+    /**
+     * 평가서 상대평가 등급 확정 로직 (모든 피평가자 채점 완료 시)
+     *
+     * @param evaluationId Integer
+     *        등급을 확정할 평가 ID
+     */
+    private void finalizeFormRanks(Integer evaluationId) {
 
-                    if (index < sCount) f.setTotalRank("S");
-                    else if (index < sCount + aCount) f.setTotalRank("A");
-                    else if (index < sCount + aCount + bCount) f.setTotalRank("B");
-                    else if (index < sCount + aCount + bCount + cCount) f.setTotalRank("C");
-                    else f.setTotalRank("F");
+        long total = formRepository.countByEvaluationId(evaluationId);
 
-                    formRepository.save(f);
+        if (total == 0) return;
 
-                    // 각 피평가자에게 평가 결과 알림 발행
-                    publishEvaluationGradedEvent(f, evaluationId);
-                    index++;
-                }
+        /** 상대평가 등급 계산 (S/A/B/C/F) - 단일 UPDATE */
+        GradeCutoffs cutoffs = GradeCutoffs.of(total);
+        formRepository.updateRelativeRanks(
+                evaluationId, cutoffs.s(), cutoffs.a(), cutoffs.b(), cutoffs.c()
+        );
 
+        /** 확정된 등급/점수 재조회 */
+        List<EvaluationForm> forms = formRepository.findByEvaluationId(evaluationId);
 
-                /** 평가 최종 점수 계산 */
-                float evaluationAvgScore =
-                        (float) forms.stream()
-                                .map(EvaluationForm::getTotalScore)
-                                .filter(s -> s != null)
-                                .mapToDouble(Float::doubleValue)
-                                .average()
-                                .orElse(0.0);
+        /** 평가 최종 점수 계산 */
+        float evaluationAvgScore =
+                (float) forms.stream()
+                        .map(EvaluationForm::getTotalScore)
+                        .filter(s -> s != null)
+                        .mapToDouble(Float::doubleValue)
+                        .average()
+                        .orElse(0.0);
 
-                Evaluation evaluation =
-                        evaluationRepository.findById(evaluationId).orElseThrow();
+        Evaluation evaluation = evaluationRepository.findById(evaluationId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.ENTITY_NOT_FOUND, "평가를 찾을 수 없습니다."
+                ));
 
-                evaluation.setTotalScore(evaluationAvgScore);
-                evaluation.setStatus(2);
-                evaluation.setEndedAt(LocalDateTime.now());
+        evaluation.setTotalScore(evaluationAvgScore);
+        evaluation.setStatus(2);
+        evaluation.setEndedAt(LocalDateTime.now());
 
-                evaluationRepository.save(evaluation);
-            }
-        }
+        evaluationRepository.save(evaluation);
 
-        return form.getFormId();
+        /** 피평가자들에게 평가 결과 알림 일괄 발행 */
+        publishEvaluationGradedEvents(forms, evaluation);
     }
 
 
@@ -1032,47 +1058,19 @@ public class EvaluationService {
 
         if (period == null || period.getEnd().isAfter(LocalDateTime.now())) return;
 
-        List<Evaluation> evaluations =
-                evaluationRepository.findByTemplateId(templateId);
-
         /** 모든 부서 평가가 완료된 경우만 */
-        boolean allCompleted =
-                evaluations.stream()
-                        .allMatch(e -> e.getStatus() != null && e.getStatus() == 2);
-
-        if (!allCompleted) return;
+        if (evaluationRepository.countIncompleteByTemplateId(templateId) > 0) return;
 
         /** 이미 확정된 평가 제외 */
-        boolean alreadyFinalized =
-                evaluations.stream()
-                        .allMatch(e -> e.getTotalRank() != null);
+        if (!evaluationRepository.existsByTemplateIdAndTotalRankIsNull(templateId)) return;
 
-        if (alreadyFinalized) return;
+        /** 부서 상대평가 - 단일 UPDATE */
+        long total = evaluationRepository.countByTemplateId(templateId);
 
-        /** 부서 상대평가 */
-        evaluations.sort((a, b) ->
-                Float.compare(b.getTotalScore(), a.getTotalScore())
+        GradeCutoffs cutoffs = GradeCutoffs.of(total);
+        evaluationRepository.updateRelativeRanks(
+                templateId, cutoffs.s(), cutoffs.a(), cutoffs.b(), cutoffs.c()
         );
-
-        int total = evaluations.size();
-
-        int s = Math.max(1, (int) Math.round(total * 0.03));
-        int a = Math.max(1, (int) Math.round(total * 0.20));
-        int b = Math.max(1, (int) Math.round(total * 0.65));
-        int c = Math.max(1, (int) Math.round(total * 0.10));
-
-        int idx = 0;
-        for (Evaluation e : evaluations) {
-
-            if (idx < s) e.setTotalRank("S");
-            else if (idx < s + a) e.setTotalRank("A");
-            else if (idx < s + a + b) e.setTotalRank("B");
-            else if (idx < s + a + b + c) e.setTotalRank("C");
-            else e.setTotalRank("F");
-
-            evaluationRepository.save(e);
-            idx++;
-        }
     }
 
     /**
@@ -1083,7 +1081,7 @@ public class EvaluationService {
      */
     public List<DashBoardResponseDTO> selectAllDashBoard() {
 
-        List<DashBoardResponseDTO> result = dashBoardMapper.selectAllDashBoard();
+        List<DashBoardResponseDTO> result = dashBoardService.selectDashBoard(null);
 
         return result;
     }
@@ -1099,7 +1097,38 @@ public class EvaluationService {
      */
     public List<DashBoardResponseDTO> selectDashBoard(Integer id) {
 
-        List<DashBoardResponseDTO> result = dashBoardMapper.selectDashBoard(id);
+        List<DashBoardResponseDTO> result = dashBoardService.selectDashBoard(id);
+
+        return result;
+    }
+
+    /**
+     * 대시보드 데이터 템플릿/부서 필터 + 페이징 조회 서비스 로직
+     *
+     * @param templateId Integer
+     *     평가 템플릿 ID (null 이면 전체)
+     * @param departmentId Integer
+     *     부서 ID (null 이면 전체)
+     * @param page int
+     *     페이지 번호 (0부터)
+     * @param size int
+     *     페이지 크기 (평가 수)
+     * @param summary boolean
+     *     true 면 평가 항목/기준/평가서 항목을 제외한 요약 데이터만 조회
+     *
+     * @return result PageResponse<DashBoardResponseDTO>
+     *     페이지에 포함된 평가를 템플릿별로 묶어 응답함.
+     */
+    public PageResponse<DashBoardResponseDTO> selectDashBoardPage(
+            Integer templateId,
+            Integer departmentId,
+            int page,
+            int size,
+            boolean summary
+    ) {
+
+        PageResponse<DashBoardResponseDTO> result =
+                dashBoardService.selectDashBoardPage(templateId, departmentId, page, size, summary);
 
         return result;
     }
@@ -1152,32 +1181,48 @@ public class EvaluationService {
     }
 
     /**
-     * 평가 결과 등록 알림 이벤트 발행 (피평가자에게)
+     * 평가 결과 등록 알림 이벤트 일괄 발행 (피평가자들에게)
      * <pre>
-     * 호출 시점: 평가서 채점 완료 시
-     * 수신자: 피평가자
+     * 호출 시점: 평가서 상대평가 등급 확정 시
+     * 수신자: 피평가자 전원
      * 알림 내용: "'XXX' 평가 결과가 등록되었습니다. (등급: A)"
      * </pre>
-     * @param form 채점 완료된 평가서
-     * @param evaluationId 평가 ID
+     * @param forms 등급이 확정된 평가서 목록
+     * @param evaluation 평가
      */
-    private void publishEvaluationGradedEvent(EvaluationForm form, Integer evaluationId) {
-        // 평가 정보 조회
-        Evaluation evaluation = evaluationRepository.findById(evaluationId)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.ENTITY_NOT_FOUND, "평가를 찾을 수 없습니다."
-                ));
-
-        EvaluationNotificationEvent.EvaluationGradedEvent event =
-                EvaluationNotificationEvent.EvaluationGradedEvent.builder()
-                        .formId(form.getFormId())
-                        .evaluationId(evaluationId)
+    private void publishEvaluationGradedEvents(List<EvaluationForm> forms, Evaluation evaluation) {
+        List<EvaluationNotificationEvent.GradedForm> gradedForms = forms.stream()
+                .map(f -> EvaluationNotificationEvent.GradedForm.builder()
+                        .formId(f.getFormId())
+                        .employeeId(f.getEmployeeId())
+                        .grade(f.getTotalRank())
+                        .build())
+                .toList();
+
+        EvaluationNotificationEvent.EvaluationGradedBatchEvent event =
+                EvaluationNotificationEvent.EvaluationGradedBatchEvent.builder()
+                        .evaluationId(evaluation.getEvaluationId())
                         .evaluationName(evaluation.getName())
-                        .employeeId(form.getEmployeeId())
-                        .grade(form.getTotalRank())
+                        .forms(gradedForms)
                         .gradedAt(LocalDateTime.now())
                         .build();
 
         eventPublisher.publishEvent(event);
     }
+
+    /**
+     * 상대평가 등급 누적 경계
+     * 총점 내림차순 순위가 s 이하면 S, a 이하면 A, b 이하면 B, c 이하면 C, 나머지 F
+     * (비율 S 3%, A 20%, B 65%, C 10%, 등급별 최소 1명)
+     */
+    private record GradeCutoffs(int s, int a, int b, int c) {
+
+        static GradeCutoffs of(long total) {
+            int s = Math.max(1, (int) Math.round(total * 0.03));
+            int a = s + Math.max(1, (int) Math.round(total * 0.20));
+            int b = a + Math.max(1, (int) Math.round(total * 0.65));
+            int c = b + Math.max(1, (int) Math.round(total * 0.10));
+            return new GradeCutoffs(s, a, b, c);
+        }
+    }
 }
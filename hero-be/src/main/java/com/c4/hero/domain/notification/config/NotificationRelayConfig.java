@@ -0,0 +1,57 @@
+package com.c4.hero.domain.notification.config;
+
+import com.c4.hero.domain.notification.service.NotificationRelayService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * Class Name: NotificationRelayConfig
+ * Description: 노드 간 알림 중계(Redis Pub/Sub) 구독 설정
+ *              websocket.relay.enabled 기본값 false: 리스너를 등록하지 않아 인스턴스 단독으로 동작
+ *              (Redis 가 구성된 다중 인스턴스 환경에서만 true 로 설정)
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * 2026/01/22 (동근) Redis 미구성 환경 보호를 위해 websocket.relay.enabled 기본값 false
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Configuration
+public class NotificationRelayConfig {
+
+    @Value("${websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    /**
+     * 다른 노드에서 발행한 알림 구독
+     *
+     * @param connectionFactory Redis 커넥션 팩토리
+     * @param relayService      알림 중계 서비스
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer notificationRelayListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NotificationRelayService relayService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (relayEnabled) {
+            container.addMessageListener(
+                    (message, pattern) -> relayService.handleRelayMessage(
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(NotificationRelayService.RELAY_CHANNEL)
+            );
+        }
+        return container;
+    }
+}
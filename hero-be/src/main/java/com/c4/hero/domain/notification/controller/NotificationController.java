@@ -1,5 +1,6 @@
 package com.c4.hero.domain.notification.controller;
 
+import com.c4.hero.common.response.CursorPageResponse;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import com.c4.hero.domain.notification.dto.NotificationDTO;
 import com.c4.hero.domain.notification.service.NotificationCommandService;
@@ -28,10 +29,11 @@ import java.util.List;
  * 2025/12/15 (혜원) 알림 삭제 API 추가
  * 2025/12/16 (혜원) CQRS 패턴 적용
  * 2025/12/21 (혜원) JWT 토큰 기반 employeeId 자동 추출 적용
+ * 2026/01/22 (동근) 알림 목록 커서 조회 API 추가
  * </pre>
  *
  * @author 혜원
- * @version 2.0
+ * @version 2.1
  */
 @Slf4j
 @RestController
@@ -59,6 +61,29 @@ public class NotificationController {
         return ResponseEntity.ok(notificationQueryService.findAllNotification(userDetails.getEmployeeId()));
     }
 
+    /**
+     * 일반 알림 커서 조회 (삭제되지 않은 알림)
+     *
+     * GET /api/notifications/cursor?cursor=...&size=20
+     *
+     * @param userDetails 인증된 사용자 정보 (Spring Security Context)
+     * @param cursor      이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size        페이지 크기 (최대 100)
+     * @return ResponseEntity<CursorPageResponse<NotificationDTO>> 알림 목록 (다음 커서 포함)
+     */
+    @Operation(summary = "알림 목록 커서 조회",
+            description = "삭제되지 않은 알림을 최신순으로 커서 기반 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<NotificationDTO>> findNotificationsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (userDetails == null) return ResponseEntity.status(401).build();
+
+        return ResponseEntity.ok(
+                notificationQueryService.findNotificationsByCursor(userDetails.getEmployeeId(), cursor, size));
+    }
+
     /**
      * 삭제된 알림 조회
      *
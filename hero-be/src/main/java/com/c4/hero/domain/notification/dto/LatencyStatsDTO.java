@@ -0,0 +1,32 @@
+package com.c4.hero.domain.notification.dto;
+
+/**
+ * <pre>
+ * Record Name: LatencyStatsDTO
+ * Description: 알림 WebSocket 전달 지연 시간 통계 (최근 윈도우 기준, ms)
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * </pre>
+ *
+ * @param totalCount 누적 전달 건수
+ * @param sampleSize 통계 계산에 사용된 최근 기록 수
+ * @param averageMs  평균
+ * @param p50Ms      50 백분위
+ * @param p95Ms      95 백분위
+ * @param p99Ms      99 백분위
+ * @param maxMs      최댓값
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record LatencyStatsDTO(
+        long totalCount,
+        int sampleSize,
+        long averageMs,
+        long p50Ms,
+        long p95Ms,
+        long p99Ms,
+        long maxMs
+) {
+}
@@ -15,10 +15,11 @@ import java.time.LocalDateTime;
  * History
  * 2025/12/11 (혜원) 최초 작성
  * 2025/12/15 (헤원) 삭제 관려 필드 추가
+ * 2026/01/21 (동근) 등록 요청 변환 메서드 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.1
+ * @version 1.2
  */
 @Data
 @Builder
@@ -40,4 +41,27 @@ public class NotificationDTO {
     private Integer payrollId;
     private Integer documentId;
     private Integer evaluationId;
+
+    /**
+     * 알림 등록 요청을 저장할 알림으로 변환 (생성 일시 = 요청 시각)
+     *
+     * @param regist 알림 등록 정보
+     * @return 저장 전 알림 (notificationId 없음)
+     */
+    public static NotificationDTO from(NotificationRegistDTO regist) {
+        return NotificationDTO.builder()
+                .employeeId(regist.getEmployeeId())
+                .type(regist.getType())
+                .title(regist.getTitle())
+                .message(regist.getMessage())
+                .link(regist.getLink())
+                .isRead(false)
+                .isDeleted(false)
+                .createdAt(LocalDateTime.now())
+                .attendanceId(regist.getAttendanceId())
+                .payrollId(regist.getPayrollId())
+                .documentId(regist.getDocumentId())
+                .evaluationId(regist.getEvaluationId())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.c4.hero.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name: NotificationRelayMessage
+ * Description: 노드 간 알림 중계(Redis Pub/Sub) 메시지
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * 2026/01/21 (동근) 배치 발송 단위로 여러 알림을 한 메시지로 중계
+ * </pre>
+ *
+ * @param origin        발행 노드 식별자 (자기 자신이 보낸 메시지는 무시)
+ * @param publishedAt   발행 시각 (epoch ms, 전달 지연 측정용)
+ * @param notifications 전송할 알림 목록 (여러 직원 포함 가능)
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public record NotificationRelayMessage(
+        String origin,
+        long publishedAt,
+        List<NotificationDTO> notifications
+) {
+}
@@ -5,22 +5,27 @@
  *
  * History
  * 2025/12/17 (혜원) 최초 작성
+ * 2026/01/21 (동근) 2단 캐시(Redis) 저장을 위해 Serializable 구현
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 package com.c4.hero.domain.notification.dto;
 
 import lombok.*;
 
+import java.io.Serializable;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString
-public class NotificationSettingsDTO {
+public class NotificationSettingsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     // 기본 정보
     private Integer settingId;
@@ -0,0 +1,26 @@
+package com.c4.hero.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name: WebSocketClusterMetricsDTO
+ * Description: 전체 노드 WebSocket 연결/전달 지연 통계
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * </pre>
+ *
+ * @param totalConnections         전체 노드 세션 수 합계
+ * @param totalConnectedEmployees  전체 노드 연결 직원 수 합계 (여러 노드에 동시 접속한 직원은 중복 집계)
+ * @param nodes                    노드별 통계 (현재 노드 포함)
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record WebSocketClusterMetricsDTO(
+        int totalConnections,
+        int totalConnectedEmployees,
+        List<WebSocketNodeStatsDTO> nodes
+) {
+}
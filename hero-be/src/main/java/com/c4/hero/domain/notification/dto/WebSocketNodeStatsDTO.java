@@ -0,0 +1,31 @@
+package com.c4.hero.domain.notification.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Record Name: WebSocketNodeStatsDTO
+ * Description: 서버 인스턴스(노드)별 WebSocket 연결/전달 지연 통계
+ *              각 노드가 주기적으로 Redis 에 기록하고 관리자 화면에서 합산
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * </pre>
+ *
+ * @param instanceId         노드 식별자
+ * @param activeConnections  연결된 세션 수 (탭/기기별)
+ * @param connectedEmployees 연결된 직원 수
+ * @param latency            알림 전달 지연 통계
+ * @param updatedAt          기록 시각
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record WebSocketNodeStatsDTO(
+        String instanceId,
+        int activeConnections,
+        int connectedEmployees,
+        LatencyStatsDTO latency,
+        LocalDateTime updatedAt
+) {
+}
@@ -2,14 +2,11 @@ package com.c4.hero.domain.notification.event;
 
 import com.c4.hero.common.event.NotificationEvent;
 import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
-import com.c4.hero.domain.notification.service.NotificationCommandService;
+import com.c4.hero.domain.notification.service.NotificationBatchQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * <pre>
@@ -20,30 +17,29 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * History
  * 2025/12/11 (혜원) 최초 작성
  * 2025/12/16 (혜원) CQRS 패턴 적용 - CommandService 주입
+ * 2026/01/21 (동근) 건별 저장/전송 대신 배치 발송 큐(NotificationBatchQueue)에 적재
  * </pre>
  *
  * @author 혜원
- * @version 2.0
+ * @version 2.1
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
-    private final NotificationCommandService commandService;
+    private final NotificationBatchQueue notificationBatchQueue;
 
     /**
      * 알림 이벤트 처리
-     * TransactionalEventListener: 트랜잭션 커밋 후에 이벤트 처리 (AFTER_COMMIT)
-     * Async: 비동기 처리로 메인 로직에 영향 없음
+     * 큐 적재만 하고 반환하므로 발행 스레드를 붙잡지 않음 (저장/전송은 큐의 배치 flush 에서 처리)
      *
      * @param event NotificationEvent 알림 이벤트
      */
-    @Async
     @EventListener
     public void handleNotificationEvent(NotificationEvent event) {
 
-        log.info("알림 이벤트 수신: type={}, employeeId={}", event.getType(), event.getEmployeeId());
+        log.debug("알림 이벤트 수신: type={}, employeeId={}", event.getType(), event.getEmployeeId());
 
         try {
             NotificationRegistDTO notificationRegistDTO = NotificationRegistDTO.builder()
@@ -58,11 +54,11 @@ public class NotificationEventListener {
                     .evaluationId(event.getEvaluationId())
                     .build();
 
-            commandService.registAndSendNotification(notificationRegistDTO);
+            notificationBatchQueue.enqueue(notificationRegistDTO);
 
         } catch (Exception e) {
             log.error("알림 생성 실패: {}", e.getMessage(), e);
-            // 알림 실패해도 메인 로직에는 영향 없음 (비동기)
+            // 알림 실패해도 메인 로직에는 영향 없음
         }
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
  *
  * History
  * 2026/01/02 (혜원) 결재 알림 이벤트 통합 및 신규 이벤트 추가
+ * 2026/01/22 (동근) 결재 독촉 이벤트 제거 (ApprovalReminderScheduler 가 알림을 직접 일괄 발송)
  * </pre>
  */
 public class ApprovalNotificationEvent {
@@ -77,20 +78,4 @@ public class ApprovalNotificationEvent {
         private Integer drafterId;          // 기안자 ID (알림 수신자)
         private LocalDateTime recalledAt;   // 회수 일시
     }
-
-    /**
-     * 결재 대기 독촉 이벤트 (결재자에게)
-     */
-    @Getter
-    @Builder
-    public static class ApprovalReminderEvent {
-        private Integer docId;              // 문서 ID
-        private String templateKey;         // 문서 서식 키
-        private String title;               // 문서 제목
-        private Integer drafterId;          // 기안자 ID
-        private String drafterName;         // 기안자 이름
-        private Integer approverId;         // 결재자 ID (알림 수신자)
-        private Integer waitingDays;        // 대기 일수
-        private LocalDateTime requestedAt;  // 최초 요청 일시
-    }
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ import java.util.List;
  *
  * History
  * 2026/01/03 (혜원) 최초 작성
+ * 2026/01/22 (동근) 평가 결과 일괄 등록 알림 이벤트 추가
+ * 2026/01/22 (동근) 건별 평가 결과 등록 이벤트 제거 (일괄 등록 이벤트로 대체)
  * </pre>
  */
 public class EvaluationNotificationEvent {
@@ -31,19 +33,28 @@ public class EvaluationNotificationEvent {
     }
 
     /**
-     * 평가 결과 등록 알림 이벤트 (피평가자에게)
+     * 평가 결과 일괄 등록 알림 이벤트 (상대평가 확정 시 피평가자들에게)
      */
     @Getter
     @Builder
-    public static class EvaluationGradedEvent {
-        private Integer formId;             // 평가서 ID
+    public static class EvaluationGradedBatchEvent {
         private Integer evaluationId;       // 평가 ID
         private String evaluationName;      // 평가명
-        private Integer employeeId;         // 피평가자 ID (알림 수신자)
-        private String grade;               // 등급 (A, B, C 등)
+        private List<GradedForm> forms;     // 등급이 확정된 평가서 목록 (알림 수신자들)
         private LocalDateTime gradedAt;     // 채점 일시
     }
 
+    /**
+     * 등급이 확정된 평가서
+     */
+    @Getter
+    @Builder
+    public static class GradedForm {
+        private Integer formId;             // 평가서 ID
+        private Integer employeeId;         // 피평가자 ID (알림 수신자)
+        private String grade;               // 등급 (S, A, B, C, F)
+    }
+
     /**
      * 평가 마감 독촉 알림 이벤트 (미제출 평가자에게)
      */
@@ -8,7 +8,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 
@@ -19,6 +18,7 @@ import java.time.format.DateTimeFormatter;
  *
  * History
  * 2026/01/02 (혜원) 최초 작성
+ * 2026/01/21 (동근) 이벤트 변환만 하므로 불필요한 트랜잭션 제거 (일괄 점검 시 커넥션 점유 방지)
  * </pre>
  */
 @Slf4j
@@ -33,7 +33,6 @@ public class AttendanceNotificationEventListener {
      */
     @Async
     @EventListener
-    @Transactional
     public void handleClockInMissing(AttendanceNotificationEvent.ClockInMissingEvent event) {
         log.info("[자동알림] 출근 미체크 - employeeId: {}", event.getEmployeeId());
 
@@ -54,7 +53,6 @@ public class AttendanceNotificationEventListener {
      */
     @Async
     @EventListener
-    @Transactional
     public void handleLate(AttendanceNotificationEvent.LateEvent event) {
         log.info("[실시간 알림 전송] 사원ID: {}, {}분 지각", event.getEmployeeId(), event.getLateMinutes());
 
@@ -81,7 +79,6 @@ public class AttendanceNotificationEventListener {
      */
     @Async
     @EventListener
-    @Transactional
     public void handleOvertimeWarning(AttendanceNotificationEvent.OvertimeWarningEvent event) {
         String title;
         String message;
@@ -15,6 +15,8 @@ import org.springframework.stereotype.Component;
  *
  * History
  * 2026/01/03 (혜원) 최초 작성
+ * 2026/01/22 (동근) 평가 결과 일괄 등록 알림 변환 추가
+ * 2026/01/22 (동근) 건별 평가 결과 등록 알림 변환 제거 (일괄 등록 변환으로 대체)
  * </pre>
  */
 @Slf4j
@@ -50,24 +52,26 @@ public class EvaluationNotificationEventListener {
     }
 
     /**
-     * 평가 결과 등록 → 피평가자에게 알림
+     * 평가 결과 일괄 등록 → 피평가자들에게 알림
      */
     @EventListener
-    public void handleEvaluationGraded(EvaluationNotificationEvent.EvaluationGradedEvent event) {
-        log.info("[평가알림 변환] 평가 결과 등록 - formId: {}, employeeId: {}, grade: {}",
-                event.getFormId(), event.getEmployeeId(), event.getGrade());
+    public void handleEvaluationGradedBatch(EvaluationNotificationEvent.EvaluationGradedBatchEvent event) {
+        log.info("[평가알림 변환] 평가 결과 일괄 등록 - evaluationId: {}, 피평가자 수: {}",
+                event.getEvaluationId(), event.getForms().size());
 
-        NotificationEvent notification = NotificationEvent.builder()
-                .employeeId(event.getEmployeeId())  // 피평가자에게
-                .type("evaluation")
-                .title("평가 결과 등록")
-                .message(String.format("'%s' 평가 결과가 등록되었습니다. (등급: %s)",
-                        event.getEvaluationName(), event.getGrade()))
-                .link("/evaluation/form/" + event.getFormId())
-                .evaluationId(event.getEvaluationId())
-                .build();
+        for (EvaluationNotificationEvent.GradedForm form : event.getForms()) {
+            NotificationEvent notification = NotificationEvent.builder()
+                    .employeeId(form.getEmployeeId())  // 피평가자에게
+                    .type("evaluation")
+                    .title("평가 결과 등록")
+                    .message(String.format("'%s' 평가 결과가 등록되었습니다. (등급: %s)",
+                            event.getEvaluationName(), form.getGrade()))
+                    .link("/evaluation/form/" + form.getFormId())
+                    .evaluationId(event.getEvaluationId())
+                    .build();
 
-        eventPublisher.publishEvent(notification);
+            eventPublisher.publishEvent(notification);
+        }
     }
 
     /**
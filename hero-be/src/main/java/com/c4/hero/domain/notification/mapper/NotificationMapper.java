@@ -2,6 +2,7 @@ package com.c4.hero.domain.notification.mapper;
 
 import com.c4.hero.domain.notification.dto.NotificationDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +15,12 @@ import java.util.List;
  * History
  * 2025/12/11 (혜원) 최초 작성
  * 2025/12/15 (혜원) 알림 삭제 관련 메서드 추가
+ * 2026/01/21 (동근) 알림 다건 일괄 생성 추가 (알림 배치 발송용)
+ * 2026/01/22 (동근) 알림 목록 커서(seek) 조회 추가
  * </pre>
  *
  * @author 혜원
- * @version 2.0
+ * @version 2.2
  */
 @Mapper
 public interface NotificationMapper {
@@ -29,6 +32,15 @@ public interface NotificationMapper {
      */
     void insertNotification(NotificationDTO notification);
 
+    /**
+     * 알림 다건 일괄 생성 (multi-row INSERT)
+     * 생성 일시는 각 알림의 createdAt(큐 적재 시각)을 사용
+     *
+     * @param notifications 알림 목록
+     * @return 생성된 행 수
+     */
+    int insertNotifications(List<NotificationDTO> notifications);
+
     /**
      * 특정 직원의 알림 목록 조회
      *
@@ -37,6 +49,23 @@ public interface NotificationMapper {
      */
     List<NotificationDTO> selectAllNotification(Integer employeeId);
 
+    /**
+     * 특정 직원의 알림 목록 커서(seek) 조회
+     * (created_at, notification_id) 가 커서보다 작은 알림부터 limit 건 조회
+     *
+     * @param employeeId 직원 ID
+     * @param cursorAt   커서 생성 일시 (null이면 첫 페이지)
+     * @param cursorId   커서 알림 ID
+     * @param limit      조회 건수 (다음 페이지 확인용 1건 포함)
+     * @return List<NotificationDTO> 알림 목록
+     */
+    List<NotificationDTO> selectNotificationSeek(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     /**
      * 미읽은 알림 개수 조회
      *
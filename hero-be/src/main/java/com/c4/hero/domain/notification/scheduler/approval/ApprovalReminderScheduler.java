@@ -1,21 +1,17 @@
 package com.c4.hero.domain.notification.scheduler.approval;
 
-import com.c4.hero.domain.approval.entity.ApprovalDocument;
-import com.c4.hero.domain.approval.entity.ApprovalLine;
-import com.c4.hero.domain.approval.repository.ApprovalDocumentRepository;
-import com.c4.hero.domain.approval.repository.ApprovalLineRepository;
-import com.c4.hero.domain.approval.service.ApprovalCommandService;
-import com.c4.hero.domain.notification.event.approval.ApprovalNotificationEvent;
-import lombok.RequiredArgsConstructor;
+import com.c4.hero.domain.approval.dto.ApprovalReminderTargetDTO;
+import com.c4.hero.domain.approval.mapper.ApprovalMapper;
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.service.NotificationCommandService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
 
 /**
  * <pre>
@@ -24,69 +20,65 @@ import java.util.Map;
  *
  * History
  * 2026/01/02 (혜원) 최초 작성
+ * 2026/01/22 (동근) 문서별 결재선/서식/기안자 반복 조회를 독촉 대상 일괄 조회 1회로 변경,
+ *                   알림은 batch-size 단위 일괄 저장/전송, ShedLock 으로 단일 인스턴스 실행
  * </pre>
+ *
+ * @author 혜원
+ * @version 2.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ApprovalReminderScheduler {
-    private final ApprovalDocumentRepository documentRepository;
-    private final ApprovalLineRepository lineRepository;
-    private final ApprovalCommandService approvalCommandService;
+
+    private final ApprovalMapper approvalMapper;
+    private final NotificationCommandService notificationCommandService;
+    private final int thresholdDays;
+    private final int batchSize;
+
+    public ApprovalReminderScheduler(
+            ApprovalMapper approvalMapper,
+            NotificationCommandService notificationCommandService,
+            @Value("${approval.reminder.threshold-days:3}") int thresholdDays,
+            @Value("${approval.reminder.batch-size:500}") int batchSize
+    ) {
+        this.approvalMapper = approvalMapper;
+        this.notificationCommandService = notificationCommandService;
+        this.thresholdDays = thresholdDays;
+        this.batchSize = batchSize;
+    }
 
     /**
-     * 매일 오전 10시에 결재 대기 독촉 알림 발송 (3일 이상인 기안자에게)
+     * 매일 오전 10시에 결재 대기 독촉 알림 발송 (3일 이상 대기중인 결재자에게)
      */
     @Scheduled(cron = "0 0 10 * * *")
+    @SchedulerLock(name = "sendApprovalReminders", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
     public void sendApprovalReminders() {
         log.info("=== 결재 독촉 스케줄러 시작 ===");
 
         try {
-            // 1. 진행중인 문서 조회
-            List<ApprovalDocument> inProgressDocs = documentRepository.findByDocStatus("INPROGRESS");
-            log.info("진행중인 문서 수: {}", inProgressDocs.size());
+            // 1. 독촉 대상 (진행중 문서의 대기 결재선) 일괄 조회
+            List<ApprovalReminderTargetDTO> targets = approvalMapper.selectReminderTargets(thresholdDays);
+            log.info("독촉 대상 결재선 수: {} (기준 {}일)", targets.size(), thresholdDays);
 
-            if (inProgressDocs.isEmpty()) {
-                log.info("진행중인 문서가 없습니다.");
+            if (targets.isEmpty()) {
+                log.info("독촉 대상이 없습니다.");
                 return;
             }
 
-            int totalReminders = 0;
-
-            for (ApprovalDocument doc : inProgressDocs) {
-                log.info("문서 확인 - docId: {}, 제목: {}, 생성일: {}",
-                        doc.getDocId(), doc.getTitle(), doc.getCreatedAt());
-
-                // 2. 대기중인 결재선 조회
-                List<ApprovalLine> pendingLines = lineRepository.findByDocIdAndLineStatus(
-                        doc.getDocId(), "PENDING");
-
-                log.info("docId: {} - 대기중인 결재선 수: {}", doc.getDocId(), pendingLines.size());
+            // 2. 알림 변환
+            List<NotificationDTO> notifications = targets.stream()
+                    .map(this::toNotification)
+                    .toList();
 
-                for (ApprovalLine line : pendingLines) {
-                    // 3. 대기 일수 계산
-                    long waitingDays = ChronoUnit.DAYS.between(
-                            doc.getCreatedAt(),
-                            LocalDateTime.now()
-                    );
-
-                    log.info("결재선 확인 - lineId: {}, approverId: {}, 대기일수: {}일",
-                            line.getLineId(), line.getApproverId(), waitingDays);
-
-                    // 4. 3일 이상이면 바로 독촉
-                    if (waitingDays >= 3) {
-                        approvalCommandService.publishApprovalReminderEvent(
-                                doc,
-                                line,
-                                (int) waitingDays
-                        );
-                        totalReminders++;
-                        log.info("독촉 알림 발송 완료 - docId: {}, approverId: {}, waitingDays: {}일",
-                                doc.getDocId(), line.getApproverId(), waitingDays);
-                    } else {
-                        log.info("대기일수 부족 - docId: {}, waitingDays: {}일",
-                                doc.getDocId(), waitingDays);
-                    }
+            // 3. batch-size 단위로 저장/전송 (한 묶음이 실패해도 나머지는 계속)
+            int totalReminders = 0;
+            for (int from = 0; from < notifications.size(); from += batchSize) {
+                List<NotificationDTO> chunk = notifications.subList(from, Math.min(from + batchSize, notifications.size()));
+                try {
+                    totalReminders += notificationCommandService.registAndSendNotifications(chunk).size();
+                } catch (Exception e) {
+                    log.error("결재 독촉 알림 묶음 발송 실패 - {}~{}번째", from, from + chunk.size() - 1, e);
                 }
             }
 
@@ -96,4 +88,21 @@ public class ApprovalReminderScheduler {
             log.error("결재 독촉 스케줄러 실행 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 독촉 대상 → 결재자 알림 변환 (제목 "결재 대기 독촉", 문서 상세 링크)
+     */
+    private NotificationDTO toNotification(ApprovalReminderTargetDTO target) {
+        String message = String.format("%s님의 '%s' 문서가 %d일째 결재 대기 중입니다.",
+                target.getDrafterName(), target.getTitle(), target.getWaitingDays());
+
+        return NotificationDTO.from(NotificationRegistDTO.builder()
+                .employeeId(target.getApproverId())  // 결재자에게
+                .type("approval")
+                .title("결재 대기 독촉")
+                .message(message)
+                .link("/approval/documents/" + target.getDocId())
+                .documentId(target.getDocId())
+                .build());
+    }
+}
@@ -0,0 +1,198 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name: NotificationBatchQueue
+ * Description: 이벤트 기반 알림의 배치 발송 큐 (write-behind)
+ *
+ *  - 알림 이벤트는 큐에 적재만 하고 즉시 반환 (생성 일시는 적재 시각)
+ *  - flush-interval-ms 마다, 또는 batch-size 건이 쌓이면 모아서 NotificationCommandService 로 일괄 처리
+ *    (설정 일괄 조회 + multi-row INSERT + 다건 중계)
+ *  - flush 는 큐 전용 단일 스레드(notification-flush)에서만 실행
+ *    · 공용 @Scheduled 스레드를 쓰지 않으므로 야간 배치/ShedLock 작업과 서로 지연시키지 않음
+ *    · 발행 스레드(호출 측 트랜잭션)에서는 저장/전송하지 않음
+ *  - 큐가 가득 차면 적재를 거부하고(fail fast) 즉시 flush 를 요청, 거부 건수는 droppedCount 로 노출
+ *  - 배치 처리가 실패하면 건별로 재시도해 문제 알림 한 건이 배치 전체를 막지 않도록 함
+ *  - 인스턴스 로컬 큐이므로 종료 시 남은 알림을 비우고 내려감 (비정상 종료 시 미처리분은 유실)
+ *
+ * History
+ * 2026/01/21 (동근) 최초 작성
+ * 2026/01/22 (동근) 전용 flush 스레드로 분리, 큐 초과 시 호출 스레드 처리 대신 적재 거부
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class NotificationBatchQueue {
+
+    private final NotificationCommandService commandService;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<NotificationDTO> queue;
+
+    /** 큐 전용 flush 스레드 (주기 flush + 적재량 초과 시 즉시 flush) */
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public NotificationBatchQueue(
+            NotificationCommandService commandService,
+            @Value("${notification.batch.batch-size:500}") int batchSize,
+            @Value("${notification.batch.capacity:20000}") int capacity,
+            @Value("${notification.batch.flush-interval-ms:300}") long flushIntervalMillis
+    ) {
+        this.commandService = commandService;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.scheduleWithFixedDelay(
+                this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림 적재 (저장/전송은 flush 스레드에서 처리)
+     *
+     * @param notificationRegistDTO 알림 등록 정보
+     * @return 적재 여부 (큐가 가득 차면 false)
+     */
+    public boolean enqueue(NotificationRegistDTO notificationRegistDTO) {
+        NotificationDTO notification = NotificationDTO.from(notificationRegistDTO);
+
+        if (!queue.offer(notification)) {
+            long dropped = droppedCount.incrementAndGet();
+            log.error("알림 큐 가득 참, 적재 거부: employeeId={}, 누적 거부={}", notification.getEmployeeId(), dropped);
+            requestFlush();
+            return false;
+        }
+
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * 큐에 쌓인 알림을 batch-size 단위로 모두 처리
+     * 주기 실행과 적재량 초과 시 실행이 겹치면 먼저 시작한 쪽이 모두 비움
+     */
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<NotificationDTO> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                dispatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * 현재 대기 중인 알림 수
+     *
+     * @return 대기 건수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 큐가 가득 차 적재를 거부한 누적 알림 수
+     *
+     * @return 거부 건수
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("알림 큐 종료 - 남은 알림 처리: {}건", queue.size());
+        flush();
+    }
+
+    /* =================== private =================== */
+
+    /**
+     * flush 스레드에 즉시 flush 요청 (이미 요청되어 있으면 합침)
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flushSafely();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - shutdown 에서 남은 알림 처리
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * 주기 실행용 flush (예외가 나도 다음 주기 실행이 취소되지 않도록 보호)
+     */
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("알림 큐 flush 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(List<NotificationDTO> batch) {
+        try {
+            List<NotificationDTO> sent = commandService.registAndSendNotifications(batch);
+            log.debug("알림 배치 처리: 요청={}, 발송={}", batch.size(), sent.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                log.error("알림 생성 실패: employeeId={}, cause={}", batch.get(0).getEmployeeId(), e.getMessage(), e);
+                return;
+            }
+            log.warn("알림 배치 처리 실패, 건별 재시도: count={}, cause={}", batch.size(), e.getMessage());
+            batch.forEach(notification -> dispatch(List.of(notification)));
+        }
+    }
+}
@@ -7,13 +7,16 @@ import com.c4.hero.domain.notification.mapper.NotificationMapper;
 import com.c4.hero.domain.notification.util.NotificationSettingsValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <pre>
@@ -24,75 +27,83 @@ import java.util.List;
  * History
  * 2025/12/16 (혜원) 최초작성 (CQRS 패턴 적용 - Command 분리)
  * 2025/12/22 (혜원) 읽음 처리 및 삭제 관련 보안 파라미터(employeeId) 적용 및 로직 정비
+ * 2026/01/20 (동근) WebSocket 전송을 노드 간 중계(NotificationRelayService)로 변경
+ * 2026/01/21 (동근) 다건 일괄 생성/전송 추가 (설정 일괄 조회, multi-row INSERT, 커밋 후 병합 전송)
  * </pre>
  *
  * @author 혜원
- * @version 2.1
+ * @version 2.3
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationCommandService {
 
+    /** multi-row INSERT 한 문장당 최대 행 수 */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final NotificationMapper notificationMapper;
     private final NotificationMySettingsService settingsService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationRelayService notificationRelayService;
 
     /**
      * 알림 생성 및 실시간 전송
      *
      * @param notificationRegistDTO 알림 등록 정보
-     * @return NotificationDTO 생성된 알림 정보
+     * @return NotificationDTO 생성된 알림 정보 (알림 타입이 비활성화되어 있으면 null)
      */
     @Transactional
     public NotificationDTO registAndSendNotification(NotificationRegistDTO notificationRegistDTO) {
-        log.info("[알림 저장 시작]");
+        List<NotificationDTO> sent = registAndSendNotifications(List.of(NotificationDTO.from(notificationRegistDTO)));
+        return sent.isEmpty() ? null : sent.get(0);
+    }
+
+    /**
+     * 알림 다건 생성 및 실시간 전송
+     *  1. 대상 직원의 알림 설정을 캐시/일괄 조회로 확인해 비활성화된 타입 제외
+     *  2. multi-row INSERT 로 저장 (INSERT_CHUNK_SIZE 단위)
+     *  3. 커밋 후 직원별로 묶어 WebSocket 전송 (롤백된 알림이 전송되지 않도록)
+     *
+     * @param notifications 저장할 알림 목록 (NotificationDTO.from 으로 생성)
+     * @return 저장/전송된 알림 목록
+     */
+    @Transactional
+    public List<NotificationDTO> registAndSendNotifications(List<NotificationDTO> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
 
         // 1. 알림 설정 확인 (수신 거부 여부 등)
-        NotificationSettingsDTO settings = settingsService.findSettingsByEmployeeId(
-                notificationRegistDTO.getEmployeeId()
+        Map<Integer, NotificationSettingsDTO> settingsById = settingsService.findSettingsByEmployeeIds(
+                notifications.stream().map(NotificationDTO::getEmployeeId).distinct().toList()
         );
 
-        // 해당 타입의 알림이 비활성화되어 있으면 전송하지 않음
-        if (!NotificationSettingsValidator.isNotificationEnabled(settings, notificationRegistDTO.getType())) {
-            log.info("알림 타입이 비활성화됨: type={}, employeeId={}",
-                    notificationRegistDTO.getType(),
-                    notificationRegistDTO.getEmployeeId());
-            return null; // 알림 발송하지 않음
+        List<NotificationDTO> accepted = new ArrayList<>(notifications.size());
+        for (NotificationDTO notification : notifications) {
+            if (NotificationSettingsValidator.isNotificationEnabled(
+                    settingsById.get(notification.getEmployeeId()), notification.getType())) {
+                accepted.add(notification);
+            } else {
+                log.debug("알림 타입이 비활성화됨: type={}, employeeId={}",
+                        notification.getType(), notification.getEmployeeId());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return List.of();
         }
 
-        // 2. DTO 생성
-        NotificationDTO notificationDTO = NotificationDTO.builder()
-                .employeeId(notificationRegistDTO.getEmployeeId())
-                .type(notificationRegistDTO.getType())  // 전달받은 카테고리 그대로 사용
-                .title(notificationRegistDTO.getTitle())
-                .message(notificationRegistDTO.getMessage())
-                .link(notificationRegistDTO.getLink())
-                .attendanceId(notificationRegistDTO.getAttendanceId())
-                .payrollId(notificationRegistDTO.getPayrollId())
-                .documentId(notificationRegistDTO.getDocumentId())
-                .evaluationId(notificationRegistDTO.getEvaluationId())
-                .build();
-
-        // 3. DB 저장
-        notificationMapper.insertNotification(notificationDTO);
-        log.info("알림 DB 저장완료: notificationId={}, category={}, employeeId={}",
-                notificationDTO.getNotificationId(),
-                notificationDTO.getType(),
-                notificationDTO.getEmployeeId());
-
-        // 4. WebSocket 전송
-        try {
-            messagingTemplate.convertAndSend(
-                    "/topic/notifications/" + notificationDTO.getEmployeeId(),
-                    notificationDTO
-            );
-            log.info("알림 WebSocket 전송 완료: employeeId={}", notificationDTO.getEmployeeId());
-        } catch (Exception e) {
-            log.error("WebSocket 전송 실패: {}", e.getMessage());
+        // 2. DB 저장
+        for (int from = 0; from < accepted.size(); from += INSERT_CHUNK_SIZE) {
+            List<NotificationDTO> chunk = accepted.subList(from, Math.min(from + INSERT_CHUNK_SIZE, accepted.size()));
+            notificationMapper.insertNotifications(chunk);
+            fillGeneratedIds(chunk);
         }
+        log.info("알림 DB 저장완료: 요청={}, 저장={}", notifications.size(), accepted.size());
+
+        // 3. WebSocket 전송 (다른 인스턴스에 연결된 사용자에게도 중계)
+        sendAfterCommit(accepted);
 
-        return notificationDTO;
+        return accepted;
     }
 
     /**
@@ -178,4 +189,36 @@ public class NotificationCommandService {
 
         log.info("[스케줄러] 소프트 삭제 알림 자동 정리 완료: {}개 영구 삭제", oldDeleted.size());
     }
-}
\ No newline at end of file
+
+    /* =================== private =================== */
+
+    /**
+     * multi-row INSERT 생성 키 보정
+     * 드라이버가 첫 번째 키만 돌려주는 경우, 한 INSERT 문이 받는 AUTO_INCREMENT 값은
+     * 연속(auto_increment_increment = 1)이므로 첫 키부터 순서대로 채움
+     */
+    private static void fillGeneratedIds(List<NotificationDTO> inserted) {
+        Integer firstId = inserted.get(0).getNotificationId();
+        if (firstId == null) {
+            return;
+        }
+        for (int i = 1; i < inserted.size(); i++) {
+            if (inserted.get(i).getNotificationId() == null) {
+                inserted.get(i).setNotificationId(firstId + i);
+            }
+        }
+    }
+
+    private void sendAfterCommit(List<NotificationDTO> notifications) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationRelayService.broadcast(notifications);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationRelayService.broadcast(notifications);
+            }
+        });
+    }
+}
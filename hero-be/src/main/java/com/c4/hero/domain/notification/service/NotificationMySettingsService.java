@@ -1,23 +1,36 @@
 package com.c4.hero.domain.notification.service;
 
+import com.c4.hero.common.cache.CacheNames;
 import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
 import com.c4.hero.domain.notification.mapper.NotificationSettingsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <pre>
  * Class Name: NotificationSettingsService
  * Description: 알림 설정 서비스
+ *              알림 발송마다 조회되므로 사원별 설정을 2단 캐시(NOTIFICATION_SETTINGS)에 보관
  *
  * History
  * 2025/12/17 (혜원) 최초 작성
+ * 2026/01/21 (동근) 알림 설정 캐시 및 일괄 조회(알림 배치 발송용) 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @Service
@@ -25,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationMySettingsService {
 
     private final NotificationSettingsMapper settingsMapper;
+    private final CacheManager cacheManager;
 
     /**
      * 알림 설정 조회 (없으면 기본값 생성)
@@ -33,6 +47,7 @@ public class NotificationMySettingsService {
      * @return 알림 설정
      */
     @Transactional
+    @Cacheable(cacheNames = CacheNames.NOTIFICATION_SETTINGS, key = "#employeeId")
     public NotificationSettingsDTO findSettingsByEmployeeId(Integer employeeId) {
         log.info("알림 설정 조회 시작: employeeId={}", employeeId);
 
@@ -55,6 +70,7 @@ public class NotificationMySettingsService {
      * @return 수정된 설정
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NOTIFICATION_SETTINGS, key = "#settings.employeeId")
     public NotificationSettingsDTO modifySettings(NotificationSettingsDTO settings) {
         log.info("알림 설정 수정 시작: {}", settings);
 
@@ -71,6 +87,45 @@ public class NotificationMySettingsService {
         return settingsMapper.selectSettingsByEmployeeId(settings.getEmployeeId());
     }
 
+    /**
+     * 여러 직원의 알림 설정 일괄 조회 (알림 배치 발송용)
+     * 캐시에 없는 직원만 한 번의 쿼리로 조회하고, 설정이 없는 직원은 기본값으로 간주
+     * 기본값은 DB 에 생성하지 않으므로 캐시에도 넣지 않음 (이후 설정 화면 진입 시 생성)
+     *
+     * @param employeeIds 직원 ID 목록
+     * @return 직원 ID별 알림 설정
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, NotificationSettingsDTO> findSettingsByEmployeeIds(Collection<Integer> employeeIds) {
+        Cache cache = cacheManager.getCache(CacheNames.NOTIFICATION_SETTINGS);
+        Map<Integer, NotificationSettingsDTO> settingsById = new HashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+
+        for (Integer employeeId : employeeIds) {
+            NotificationSettingsDTO cached = cache != null ? cache.get(employeeId, NotificationSettingsDTO.class) : null;
+            if (cached != null) {
+                settingsById.put(employeeId, cached);
+            } else {
+                missingIds.add(employeeId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (NotificationSettingsDTO settings : settingsMapper.selectSettingsByEmployeeIds(missingIds)) {
+                settingsById.put(settings.getEmployeeId(), settings);
+                if (cache != null) {
+                    cache.put(settings.getEmployeeId(), settings);
+                }
+            }
+            for (Integer employeeId : missingIds) {
+                settingsById.computeIfAbsent(employeeId, NotificationMySettingsService::defaultSettings);
+            }
+        }
+
+        log.debug("알림 설정 일괄 조회: 요청={}, DB 조회={}", employeeIds.size(), missingIds.size());
+        return settingsById;
+    }
+
     /**
      * 기본 설정 생성 (모두 활성화)
      *
@@ -78,7 +133,21 @@ public class NotificationMySettingsService {
      * @return 생성된 설정
      */
     private NotificationSettingsDTO registDefaultSettings(Integer employeeId) {
-        NotificationSettingsDTO defaultSettings = NotificationSettingsDTO.builder()
+        NotificationSettingsDTO defaultSettings = defaultSettings(employeeId);
+
+        settingsMapper.insertSettings(defaultSettings);
+
+        return defaultSettings;
+    }
+
+    /**
+     * 기본 설정값 (알림 타입 모두 활성화, 브라우저 알림만 활성화)
+     *
+     * @param employeeId 직원 ID
+     * @return 기본 설정
+     */
+    private static NotificationSettingsDTO defaultSettings(Integer employeeId) {
+        return NotificationSettingsDTO.builder()
                 .employeeId(employeeId)
                 // 알림 타입 모두 활성화
                 .attendanceEnabled(true)
@@ -92,9 +161,5 @@ public class NotificationMySettingsService {
                 .emailNotification(false)
                 .smsNotification(false)
                 .build();
-
-        settingsMapper.insertSettings(defaultSettings);
-
-        return defaultSettings;
     }
 }
\ No newline at end of file
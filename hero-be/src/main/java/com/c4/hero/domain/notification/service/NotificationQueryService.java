@@ -1,5 +1,7 @@
 package com.c4.hero.domain.notification.service;
 
+import com.c4.hero.common.pagination.PageCursor;
+import com.c4.hero.common.response.CursorPageResponse;
 import com.c4.hero.domain.notification.dto.NotificationDTO;
 import com.c4.hero.domain.notification.mapper.NotificationMapper;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +18,11 @@ import java.util.List;
  *
  * History
  * 2025/12/16 (혜원) 최초작성 (CQRS 패턴 적용 - Query 분리)
+ * 2026/01/22 (동근) 알림 목록 커서(seek) 조회 추가
  * </pre>
  *
  * @author 혜원
- * @version 2.1
+ * @version 2.2
  */
 @Slf4j
 @Service
@@ -38,6 +41,30 @@ public class NotificationQueryService {
         return notificationMapper.selectAllNotification(employeeId);
     }
 
+    /**
+     * 특정 직원의 알림 목록 커서 조회
+     *
+     * @param employeeId 직원 ID
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지 크기
+     * @return CursorPageResponse<NotificationDTO> 알림 목록 (다음 커서 포함)
+     */
+    public CursorPageResponse<NotificationDTO> findNotificationsByCursor(Integer employeeId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int safeSize = CursorPageResponse.safeSize(size);
+
+        List<NotificationDTO> rows = notificationMapper.selectNotificationSeek(
+                employeeId,
+                pageCursor != null ? pageCursor.dateTimeKey() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                safeSize + 1
+        );
+
+        return CursorPageResponse.of(rows, safeSize,
+                notification -> PageCursor.encode(notification.getCreatedAt(), notification.getNotificationId()),
+                null);
+    }
+
     /**
      * 미읽은 알림 개수 조회
      *
@@ -0,0 +1,129 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRelayMessage;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <pre>
+ * Class Name: NotificationRelayService
+ * Description: 다중 인스턴스 환경의 알림 WebSocket 전송 (노드 간 중계)
+ *
+ *  - SimpleBroker 는 인스턴스 내 구독자에게만 전달하므로, 다른 노드에 연결된 사용자는 알림을 받지 못함
+ *  - 발행 노드는 자신의 구독자에게 바로 전송하고, Redis Pub/Sub(RELAY_CHANNEL)으로 다른 노드에 중계
+ *  - 메시지를 받은 노드는 자신의 구독자(/topic/notifications/{employeeId})에게 전송 (자기 메시지는 무시)
+ *  - Redis 장애/미사용(websocket.relay.enabled, 기본값 false) 시에도 로컬 전송은 유지
+ *  - 여러 알림은 Redis 메시지 하나로 중계하고, WebSocket 에는 기존 구독자 계약대로 프레임당 알림 1건(객체)으로 전송
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * 2026/01/21 (동근) 다건 중계 및 직원별 프레임 병합 전송 추가
+ * 2026/01/22 (동근) websocket.relay.enabled 기본값 false (Redis 구성 환경에서만 사용)
+ * 2026/01/22 (동근) 직원별 배열 프레임 병합 제거 - 프레임 형태를 단건 객체로 통일
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.3
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRelayService {
+
+    public static final String RELAY_CHANNEL = "hero:notification:relay";
+
+    private static final String DESTINATION_PREFIX = "/topic/notifications/";
+
+    /** 노드 식별자 (중계 메시지 발신자 구분 및 노드별 통계 키) */
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebSocketSessionManager sessionManager;
+
+    @Value("${websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    /**
+     * 모든 노드의 구독자에게 알림 전송
+     *
+     * @param notification 전송할 알림
+     */
+    public void broadcast(NotificationDTO notification) {
+        broadcast(List.of(notification));
+    }
+
+    /**
+     * 모든 노드의 구독자에게 여러 알림 전송
+     *
+     * @param notifications 전송할 알림 목록
+     */
+    public void broadcast(List<NotificationDTO> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        long publishedAt = System.currentTimeMillis();
+
+        deliverLocally(notifications, publishedAt);
+
+        if (!relayEnabled) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new NotificationRelayMessage(instanceId, publishedAt, notifications));
+            redisTemplate.convertAndSend(RELAY_CHANNEL, payload);
+        } catch (Exception e) {
+            // 중계 실패 시 다른 노드 사용자는 다음 알림 목록 조회 시 확인
+            log.warn("알림 중계 발행 실패: count={}, cause={}", notifications.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 중계된 알림 수신 처리
+     *
+     * @param payload NotificationRelayMessage JSON
+     */
+    public void handleRelayMessage(String payload) {
+        try {
+            NotificationRelayMessage message = objectMapper.readValue(payload, NotificationRelayMessage.class);
+            if (instanceId.equals(message.origin())) {
+                return;
+            }
+            deliverLocally(message.notifications(), message.publishedAt());
+        } catch (Exception e) {
+            log.warn("중계 알림 처리 실패: cause={}", e.getMessage());
+        }
+    }
+
+    /* =================== private =================== */
+
+    /**
+     * 로컬 구독자에게 전송
+     * /topic/notifications/{employeeId} 구독자는 프레임마다 알림 객체 1건을 기대하므로 건별로 전송
+     */
+    private void deliverLocally(List<NotificationDTO> notifications, long publishedAt) {
+        for (NotificationDTO notification : notifications) {
+            try {
+                messagingTemplate.convertAndSend(DESTINATION_PREFIX + notification.getEmployeeId(), notification);
+                sessionManager.recordResponseTime(System.currentTimeMillis() - publishedAt);
+                log.debug("알림 WebSocket 전송 완료: employeeId={}", notification.getEmployeeId());
+            } catch (Exception e) {
+                log.error("WebSocket 전송 실패: employeeId={}, cause={}", notification.getEmployeeId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.WebSocketClusterMetricsDTO;
+import com.c4.hero.domain.notification.dto.WebSocketNodeStatsDTO;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: WebSocketMetricsService
+ * Description: 노드별 WebSocket 연결 수/전달 지연 통계 공유 및 합산
+ *
+ *  - 각 노드는 NODE_STATS_INTERVAL 마다 자신의 통계를 Redis 에 기록 (TTL 로 종료된 노드 자동 제외)
+ *  - 조회 시 현재 노드는 실시간 값, 다른 노드는 마지막 기록 값을 사용
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * 2026/01/22 (동근) websocket.relay.enabled 기본값 false (Redis 구성 환경에서만 노드 통계 공유)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebSocketMetricsService {
+
+    private static final String NODES_KEY = "hero:ws:nodes";
+    private static final String NODE_KEY_PREFIX = "hero:ws:node:";
+    private static final long NODE_STATS_INTERVAL_MILLIS = 15_000;
+    private static final Duration NODE_STATS_TTL = Duration.ofMillis(NODE_STATS_INTERVAL_MILLIS * 3);
+
+    private final WebSocketSessionManager sessionManager;
+    private final NotificationRelayService relayService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    /**
+     * 현재 노드 통계
+     *
+     * @return 현재 노드 통계
+     */
+    public WebSocketNodeStatsDTO getLocalStats() {
+        return new WebSocketNodeStatsDTO(
+                relayService.getInstanceId(),
+                sessionManager.getActiveConnectionCount(),
+                sessionManager.getConnectedEmployeeCount(),
+                sessionManager.getResponseTimeStats(),
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 전체 노드 통계 (Redis 미사용/장애 시 현재 노드만)
+     *
+     * @return 전체 노드 통계
+     */
+    public WebSocketClusterMetricsDTO getClusterMetrics() {
+        WebSocketNodeStatsDTO local = getLocalStats();
+        List<WebSocketNodeStatsDTO> nodes = new ArrayList<>();
+        nodes.add(local);
+        if (relayEnabled) {
+            nodes.addAll(readRemoteStats(local.instanceId()));
+        }
+        nodes.sort(Comparator.comparing(WebSocketNodeStatsDTO::instanceId));
+
+        return new WebSocketClusterMetricsDTO(
+                nodes.stream().mapToInt(WebSocketNodeStatsDTO::activeConnections).sum(),
+                nodes.stream().mapToInt(WebSocketNodeStatsDTO::connectedEmployees).sum(),
+                nodes
+        );
+    }
+
+    /**
+     * 현재 노드 통계를 Redis 에 기록
+     */
+    @Scheduled(fixedDelay = NODE_STATS_INTERVAL_MILLIS)
+    public void publishLocalStats() {
+        if (!relayEnabled) {
+            return;
+        }
+        WebSocketNodeStatsDTO local = getLocalStats();
+        try {
+            redisTemplate.opsForValue().set(
+                    NODE_KEY_PREFIX + local.instanceId(),
+                    objectMapper.writeValueAsString(local),
+                    NODE_STATS_TTL
+            );
+            redisTemplate.opsForSet().add(NODES_KEY, local.instanceId());
+        } catch (Exception e) {
+            log.warn("WebSocket 노드 통계 기록 실패: cause={}", e.getMessage());
+        }
+    }
+
+    /* =================== private =================== */
+
+    private List<WebSocketNodeStatsDTO> readRemoteStats(String localInstanceId) {
+        try {
+            Set<String> instanceIds = redisTemplate.opsForSet().members(NODES_KEY);
+            if (instanceIds == null || instanceIds.isEmpty()) {
+                return List.of();
+            }
+
+            List<String> remoteIds = instanceIds.stream()
+                    .filter(id -> !id.equals(localInstanceId))
+                    .toList();
+            if (remoteIds.isEmpty()) {
+                return List.of();
+            }
+
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    remoteIds.stream().map(id -> NODE_KEY_PREFIX + id).toList());
+
+            List<WebSocketNodeStatsDTO> stats = new ArrayList<>();
+            for (int i = 0; i < remoteIds.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                if (value == null) {
+                    // TTL 만료 = 종료된 노드
+                    redisTemplate.opsForSet().remove(NODES_KEY, remoteIds.get(i));
+                    continue;
+                }
+                stats.add(objectMapper.readValue(value, WebSocketNodeStatsDTO.class));
+            }
+            return stats;
+        } catch (Exception e) {
+            log.warn("WebSocket 노드 통계 조회 실패, 현재 노드만 반환: cause={}", e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.c4.hero.domain.notification.util;
+
+import com.c4.hero.domain.notification.dto.LatencyStatsDTO;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Class Name: LatencyRecorder
+ * Description: 최근 N건 지연 시간(ms) 슬라이딩 윈도우 기록기
+ *              누적 평균은 초기 값에 묻혀 최근 지연을 보여주지 못하므로
+ *              최근 윈도우 기준 평균/백분위(p50, p95, p99)/최댓값을 제공
+ *
+ * History
+ * 2026/01/20 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public class LatencyRecorder {
+
+    private final long[] window;
+    private int next;
+    private int size;
+    private long totalCount;
+
+    /**
+     * @param windowSize 보관할 최근 기록 수
+     */
+    public LatencyRecorder(int windowSize) {
+        this.window = new long[windowSize];
+    }
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param latencyMs 지연 시간 (밀리초)
+     */
+    public synchronized void record(long latencyMs) {
+        window[next] = Math.max(latencyMs, 0);
+        next = (next + 1) % window.length;
+        if (size < window.length) {
+            size++;
+        }
+        totalCount++;
+    }
+
+    /**
+     * 최근 윈도우 기준 통계
+     *
+     * @return 지연 시간 통계 (기록이 없으면 모두 0)
+     */
+    public LatencyStatsDTO snapshot() {
+        long[] samples;
+        long count;
+        synchronized (this) {
+            samples = Arrays.copyOf(window, size);
+            count = totalCount;
+        }
+        if (samples.length == 0) {
+            return new LatencyStatsDTO(count, 0, 0, 0, 0, 0, 0);
+        }
+
+        Arrays.sort(samples);
+        long sum = 0;
+        for (long sample : samples) {
+            sum += sample;
+        }
+        return new LatencyStatsDTO(
+                count,
+                samples.length,
+                sum / samples.length,
+                percentile(samples, 50),
+                percentile(samples, 95),
+                percentile(samples, 99),
+                samples[samples.length - 1]
+        );
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.notification.util;
 
+import com.c4.hero.domain.notification.dto.LatencyStatsDTO;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,49 +12,48 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <pre>
  * Class Name: WebSocketSessionManager
  * Description: WebSocket 세션 관리 및 모니터링 컴포넌트
  *              실시간 알림을 위한 사용자 세션을 추적하고 연결 상태를 모니터링
+ *              한 직원이 여러 탭/기기로 동시에 접속할 수 있으므로 직원당 여러 세션을 보관
+ *              (이 인스턴스에 연결된 세션만 관리, 노드 합산 통계는 WebSocketMetricsService)
  *
  * History
  * 2025/12/22 (혜원) 최초 작성
+ * 2026/01/20 (동근) 직원당 다중 세션 지원, 응답 시간을 최근 윈도우 백분위 통계로 변경
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Component
 @Slf4j
 public class WebSocketSessionManager {
 
-    /**
-     * 직원 ID를 키로 하는 세션 정보 저장소
-     * ConcurrentHashMap을 사용하여 멀티 스레드 환경에서 안전하게 세션 관리
-     */
-    private final Map<Integer, SessionInfo> sessions = new ConcurrentHashMap<>();
+    /** 응답 시간 통계에 사용할 최근 기록 수 */
+    private static final int LATENCY_WINDOW_SIZE = 1024;
 
     /**
-     * 세션 ID를 키로 직원 ID를 조회하기 위한 역방향 매핑
-     * WebSocket 연결 해제 시 세션 ID로 직원 ID를 빠르게 찾기 위함
+     * 세션 ID를 키로 하는 세션 정보 저장소
+     * ConcurrentHashMap을 사용하여 멀티 스레드 환경에서 안전하게 세션 관리
      */
-    private final Map<String, Integer> sessionIdToEmployeeId = new ConcurrentHashMap<>();
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
 
     /**
-     * 전체 응답 시간 누적값 (밀리초 단위)
-     * AtomicLong을 사용하여 락 없이 스레드 안전한 증가 연산 수행
+     * 직원 ID별 세션 ID 목록
+     * 같은 직원이 새 탭을 열어도 기존 세션을 덮어쓰지 않도록 세션 ID 집합으로 보관
      */
-    private final AtomicLong totalResponseTime = new AtomicLong(0);
+    private final Map<Integer, Set<String>> sessionIdsByEmployeeId = new ConcurrentHashMap<>();
 
     /**
-     * 응답 횟수 카운터
-     * 평균 응답 시간 계산을 위한 분모 값
+     * 알림 전달 지연 시간 기록기 (최근 LATENCY_WINDOW_SIZE 건)
      */
-    private final AtomicLong responseCount = new AtomicLong(0);
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder(LATENCY_WINDOW_SIZE);
 
     /**
      * 빈 초기화 후 실행되는 초기화 메서드
@@ -100,23 +100,27 @@ public class WebSocketSessionManager {
                 .connectedAt(LocalDateTime.now())
                 .build();
 
-        sessions.put(employeeId, sessionInfo);
-        sessionIdToEmployeeId.put(sessionId, employeeId);
-        log.info("Session added. EmployeeId: {}, Current size: {}, Manager HashCode: {}",
-                employeeId, sessions.size(), this.hashCode());
+        sessions.put(sessionId, sessionInfo);
+        sessionIdsByEmployeeId.compute(employeeId, (id, sessionIds) -> {
+            Set<String> ids = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            ids.add(sessionId);
+            return ids;
+        });
+        log.info("Session added. EmployeeId: {}, SessionId: {}, Current size: {}",
+                employeeId, sessionId, sessions.size());
     }
 
     /**
-     * 직원 ID로 세션 제거
+     * 직원 ID로 해당 직원의 모든 세션 제거
      *
      * @param employeeId 제거할 세션의 직원 ID
      */
     public void removeSession(Integer employeeId) {
-        SessionInfo removed = sessions.remove(employeeId);
-        if (removed != null) {
-            sessionIdToEmployeeId.remove(removed.getSessionId());
-            log.info("Session removed by EmployeeId: {}. Current size: {}, Manager HashCode: {}",
-                    employeeId, sessions.size(), this.hashCode());
+        Set<String> sessionIds = sessionIdsByEmployeeId.remove(employeeId);
+        if (sessionIds != null) {
+            sessionIds.forEach(sessions::remove);
+            log.info("Sessions removed by EmployeeId: {}. Removed: {}, Current size: {}",
+                    employeeId, sessionIds.size(), sessions.size());
         } else {
             log.warn("Attempted to remove non-existent session for EmployeeId: {}", employeeId);
         }
@@ -125,15 +129,19 @@ public class WebSocketSessionManager {
     /**
      * WebSocket 세션 ID로 세션 제거
      * WebSocket 연결 해제 이벤트에서 주로 사용
+     * 같은 직원의 다른 탭/기기 세션은 유지
      *
      * @param sessionId 제거할 WebSocket 세션 ID
      */
     public void removeSessionBySessionId(String sessionId) {
-        Integer employeeId = sessionIdToEmployeeId.remove(sessionId);
-        if (employeeId != null) {
-            sessions.remove(employeeId);
-            log.info("Session removed by SessionId: {}. EmployeeId: {}, Current size: {}, Manager HashCode: {}",
-                    sessionId, employeeId, sessions.size(), this.hashCode());
+        SessionInfo removed = sessions.remove(sessionId);
+        if (removed != null) {
+            sessionIdsByEmployeeId.computeIfPresent(removed.getEmployeeId(), (id, sessionIds) -> {
+                sessionIds.remove(sessionId);
+                return sessionIds.isEmpty() ? null : sessionIds;
+            });
+            log.info("Session removed by SessionId: {}. EmployeeId: {}, Current size: {}",
+                    sessionId, removed.getEmployeeId(), sessions.size());
         } else {
             log.warn("Attempted to remove non-existent session for SessionId: {}", sessionId);
         }
@@ -149,16 +157,22 @@ public class WebSocketSessionManager {
     }
 
     /**
-     * 현재 활성 연결 수 조회
+     * 현재 활성 연결 수 조회 (탭/기기별 세션 수)
      * WebSocket Health Check 및 통계에서 사용
      *
      * @return 현재 연결된 세션 수
      */
     public int getActiveConnectionCount() {
-        int count = sessions.size();
-        log.debug("getActiveConnectionCount called. Current size: {}, Manager HashCode: {}",
-                count, this.hashCode());
-        return count;
+        return sessions.size();
+    }
+
+    /**
+     * 현재 연결된 직원 수 조회
+     *
+     * @return 세션이 하나 이상 있는 직원 수
+     */
+    public int getConnectedEmployeeCount() {
+        return sessionIdsByEmployeeId.size();
     }
 
     /**
@@ -169,36 +183,36 @@ public class WebSocketSessionManager {
      * @return 세션이 존재하면 true, 그렇지 않으면 false
      */
     public boolean hasSession(Integer employeeId) {
-        return sessions.containsKey(employeeId);
+        return sessionIdsByEmployeeId.containsKey(employeeId);
     }
 
     /**
      * 응답 시간 기록
-     * WebSocket 메시지 전송 시 소요 시간을 누적하여 평균 계산에 사용
+     * 알림 발행부터 이 인스턴스에서 WebSocket 전송 완료까지의 지연 시간을 기록
      *
      * @param responseTimeMs 응답 시간 (밀리초)
      */
     public void recordResponseTime(long responseTimeMs) {
-        totalResponseTime.addAndGet(responseTimeMs);
-        responseCount.incrementAndGet();
-        log.trace("Response time recorded: {}ms. Total: {}, Count: {}",
-                responseTimeMs, totalResponseTime.get(), responseCount.get());
+        latencyRecorder.record(responseTimeMs);
+        log.trace("Response time recorded: {}ms", responseTimeMs);
     }
 
     /**
-     * 평균 응답 시간 계산
+     * 평균 응답 시간 계산 (최근 윈도우 기준)
      * Health Check API에서 WebSocket 성능 모니터링에 사용
      *
      * @return 평균 응답 시간 (밀리초), 기록이 없으면 0 반환
      */
     public Long getAverageResponseTime() {
-        long count = responseCount.get();
-        if (count == 0) {
-            return 0L;
-        }
-        long average = totalResponseTime.get() / count;
-        log.debug("Average response time calculated: {}ms (total: {}, count: {})",
-                average, totalResponseTime.get(), count);
-        return average;
+        return latencyRecorder.snapshot().averageMs();
+    }
+
+    /**
+     * 응답 시간 통계 조회 (최근 윈도우 기준 평균/백분위/최댓값)
+     *
+     * @return 응답 시간 통계
+     */
+    public LatencyStatsDTO getResponseTimeStats() {
+        return latencyRecorder.snapshot();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.c4.hero.domain.payroll.adjustment.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollEmployeeAmountDTO
+ * Description : 사원별 금액 집계 결과 DTO (급여 배치 일괄 조회용)
+ *
+ * 사용 목적
+ *  - 사원별 최신 승인 인상 급여(after_salary)
+ *  - 사원별 승인 조정 순합(net)
+ *
+ * History
+ *  2026/01/13 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param employeeId 사원 ID
+ * @param amount     금액
+ */
+public record PayrollEmployeeAmountDTO(
+        Integer employeeId,
+        Integer amount
+) {}
@@ -1,8 +1,11 @@
 package com.c4.hero.domain.payroll.adjustment.mapper;
 
+import com.c4.hero.domain.payroll.adjustment.dto.PayrollEmployeeAmountDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * <pre>
  * Mapper Name : PayrollAdjustmentQueryMapper
@@ -10,10 +13,11 @@ import org.apache.ibatis.annotations.Param;
  *
  * History
  *  2025/12/31 - 동근 최초 작성
+ *  2026/01/13 - 동근 배치 대상 사원 일괄 조회(인상/조정) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Mapper
 public interface PayrollAdjustmentQueryMapper {
@@ -28,4 +32,28 @@ public interface PayrollAdjustmentQueryMapper {
             @Param("employeeId") Integer employeeId,
             @Param("salaryMonth") String salaryMonth
     );
+
+    /**
+     * 사원 목록 기준 승인된 조정의 순합(net) 일괄 조회
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월(YYYY-MM) = adjustment.effective_month
+     * @return 사원별 net 합계 목록 (조정이 없는 사원은 포함되지 않음)
+     */
+    List<PayrollEmployeeAmountDTO> selectApprovedAdjustmentNets(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("salaryMonth") String salaryMonth
+    );
+
+    /**
+     * 사원 목록 기준 해당 월 최신 승인 인상 급여(after_salary) 일괄 조회
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월(YYYY-MM) = raise.effective_month
+     * @return 사원별 인상 후 급여 목록 (인상이 없는 사원은 포함되지 않음)
+     */
+    List<PayrollEmployeeAmountDTO> selectLatestApprovedRaises(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("salaryMonth") String salaryMonth
+    );
 }
@@ -5,10 +5,12 @@ import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchDetailResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchListResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchJobService;
 import com.c4.hero.domain.payroll.batch.service.PayrollBatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,10 +42,12 @@ import java.util.List;
  *  2025/12/18 - 동근 지급(pay) API 추가
  *             - swagger 문서화 주석 추가
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/01/12 - 동근 계산 API 처리량 응답 추가
+ *  2026/01/15 - 동근 계산 API 비동기 작업 제출 방식으로 변경, 작업 상태 조회 API 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.4
  */
 @PayrollAdminOnly
 @RequestMapping("/api/admin/payroll/batches")
@@ -52,6 +57,7 @@ import java.util.List;
 public class BatchController {
 
     private final PayrollBatchService batchService;
+    private final PayrollBatchJobService batchJobService;
     private final PayrollBatchQueryMapper batchQueryMapper;
 
     /**
@@ -76,27 +82,55 @@ public ResponseEntity<Integer> create(
     }
 
     /**
-     * 급여 배치 계산 실행
+     * 급여 배치 계산 작업 제출
+     *  - 계산은 백그라운드 작업으로 실행되며 작업 ID를 즉시 반환
+     *  - 진행률은 /topic/payroll/batch/{batchId} 구독 또는 작업 상태 조회 API 로 확인
      *
      * @param batchId     급여 배치 ID
      * @param employeeIds 계산 대상 사원 ID 목록 (null일 경우 배치 전체 대상)
+     * @return 제출된 계산 작업 상태
      */
     @Operation(summary = "급여 배치 계산 실행",
-            description = "배치 단위 급여 계산을 실행합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다.")
+            description = "배치 단위 급여 계산 작업을 제출합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다. "
+                    + "진행률은 /topic/payroll/batch/{batchId} 로 전송됩니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "202", description = "작업 제출 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "요청값이 올바르지 않음", content = @Content),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 계산 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않거나 이미 계산 중이라 계산 불가", content = @Content)
     })
     @PostMapping("/{batchId}/calculate")
-    public ResponseEntity<Void> calculate(
+    public ResponseEntity<PayrollBatchJobResponseDTO> calculate(
             @PathVariable Integer batchId,
-            @RequestBody(required = false) List<Integer> employeeIds
+            @RequestBody(required = false) List<Integer> employeeIds,
+            @AuthenticationPrincipal CustomUserDetails user
     ) {
-        batchService.calculate(batchId, employeeIds);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(batchJobService.submitCalculation(batchId, employeeIds, user.getEmployeeId()));
+    }
+
+    /**
+     * 급여 배치 계산 작업 상태 조회
+     *
+     * @param batchId 급여 배치 ID
+     * @param jobId   계산 작업 ID
+     * @return 작업 상태 (완료/실패/잔여 건수, ETA)
+     */
+    @Operation(summary = "급여 배치 계산 작업 상태 조회", description = "제출된 급여 배치 계산 작업의 진행 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/{batchId}/jobs/{jobId}")
+    public PayrollBatchJobResponseDTO job(
+            @PathVariable Integer batchId,
+            @PathVariable String jobId
+    ) {
+        return batchJobService.getJob(batchId, jobId);
     }
 
     /**
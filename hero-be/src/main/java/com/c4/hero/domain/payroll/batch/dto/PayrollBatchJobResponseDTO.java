@@ -0,0 +1,53 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * DTO Name : PayrollBatchJobResponse
+ * Description : 급여 배치 비동기 계산 작업 상태/진행률 응답 DTO
+ *               (REST 폴링 응답 및 /topic/payroll/batch/{batchId} STOMP 푸시 메시지 공용)
+ *
+ * History
+ *  2026/01/15 - 동근 최초 작성
+ *  2026/01/22 - 동근 스킵 건수 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ *
+ * @param jobId              작업 ID
+ * @param batchId            급여 배치 ID
+ * @param status             작업 상태 (QUEUED / RUNNING / COMPLETED / FAILED)
+ * @param totalCount         계산 대상 사원 수
+ * @param doneCount          처리 완료 사원 수 (성공 + 실패 + 스킵)
+ * @param failedCount        계산 실패(FAILED) 사원 수
+ * @param skippedCount       확정(락)된 급여라 계산하지 않은 사원 수
+ * @param remainingCount     남은 사원 수
+ * @param progressPercent    진행률 (0 ~ 100)
+ * @param etaSeconds         예상 남은 시간(초), 추정 불가 시 null
+ * @param employeesPerSecond 현재까지 처리량 (사원/초)
+ * @param requestedBy        작업 요청자 사원 ID
+ * @param submittedAt        작업 제출 시각
+ * @param startedAt          계산 시작 시각
+ * @param finishedAt         작업 종료 시각
+ * @param message            작업 실패 사유 (정상 시 null)
+ */
+public record PayrollBatchJobResponseDTO(
+        String jobId,
+        Integer batchId,
+        String status,
+        int totalCount,
+        int doneCount,
+        int failedCount,
+        int skippedCount,
+        int remainingCount,
+        int progressPercent,
+        Long etaSeconds,
+        double employeesPerSecond,
+        Integer requestedBy,
+        LocalDateTime submittedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String message
+) {}
@@ -0,0 +1,38 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollCalculationResultResponse
+ * Description : 급여 배치 계산 실행 결과(처리량) 응답 DTO
+ *
+ * History
+ *  2026/01/12 - 동근 최초 작성
+ *  2026/01/22 - 동근 확정(락)된 급여를 성공 건수에서 분리 (skippedCount)
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ *
+ * @param batchId           급여 배치 ID
+ * @param targetCount       계산 대상 사원 수
+ * @param successCount      계산 성공 사원 수
+ * @param failedCount       계산 실패(FAILED) 사원 수
+ * @param skippedCount      확정(락)된 급여라 계산하지 않은 사원 수
+ * @param chunkCount        분할된 청크 수
+ * @param fallbackChunkCount 청크 트랜잭션 실패로 사원 단위 재처리된 청크 수
+ * @param parallelism       동시 계산 청크 수
+ * @param elapsedMillis     총 소요 시간(ms)
+ * @param employeesPerSecond 처리량 (사원/초)
+ */
+public record PayrollCalculationResultResponseDTO(
+        Integer batchId,
+        int targetCount,
+        int successCount,
+        int failedCount,
+        int skippedCount,
+        int chunkCount,
+        int fallbackChunkCount,
+        int parallelism,
+        long elapsedMillis,
+        double employeesPerSecond
+) {}
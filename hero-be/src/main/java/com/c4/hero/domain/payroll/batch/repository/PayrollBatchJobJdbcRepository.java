@@ -0,0 +1,161 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * Repository Name : PayrollBatchJobJdbcRepository
+ * Description     : 급여 배치 비동기 계산 작업 상태 저장소 (노드 간 공유)
+ *
+ * 역할
+ *  - 작업을 실행하는 노드가 상태/진행률 스냅샷을 덮어써서 저장
+ *  - 다른 노드로 들어온 REST 폴링은 이 테이블에서 마지막 스냅샷을 읽어 응답
+ *  - 보관 시간이 지난 종료 작업 삭제
+ *
+ * 작업 상태 테이블 (ddl-auto 미사용, DB 에 직접 생성)
+ *  CREATE TABLE tbl_payroll_batch_job (
+ *      job_id               VARCHAR(36)  NOT NULL COMMENT '작업 ID',
+ *      batch_id             INT          NOT NULL COMMENT '급여 배치 ID',
+ *      status               VARCHAR(20)  NOT NULL COMMENT 'QUEUED / RUNNING / COMPLETED / FAILED',
+ *      total_count          INT          NOT NULL COMMENT '계산 대상 사원 수',
+ *      done_count           INT          NOT NULL DEFAULT 0 COMMENT '처리 완료 사원 수',
+ *      failed_count         INT          NOT NULL DEFAULT 0 COMMENT '계산 실패 사원 수',
+ *      skipped_count        INT          NOT NULL DEFAULT 0 COMMENT '확정(락) 스킵 사원 수',
+ *      remaining_count      INT          NOT NULL COMMENT '남은 사원 수',
+ *      progress_percent     INT          NOT NULL DEFAULT 0 COMMENT '진행률',
+ *      eta_seconds          BIGINT       NULL COMMENT '예상 남은 시간(초)',
+ *      employees_per_second DOUBLE       NOT NULL DEFAULT 0 COMMENT '처리량 (사원/초)',
+ *      requested_by         INT          NULL COMMENT '요청자 사원 ID',
+ *      submitted_at         DATETIME     NOT NULL COMMENT '제출 시각',
+ *      started_at           DATETIME     NULL COMMENT '계산 시작 시각',
+ *      finished_at          DATETIME     NULL COMMENT '종료 시각',
+ *      message              VARCHAR(500) NULL COMMENT '실패 사유',
+ *      PRIMARY KEY (job_id),
+ *      KEY idx_payroll_batch_job_finished (finished_at)
+ *  );
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayrollBatchJobJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 상태 스냅샷 저장 (없으면 INSERT, 있으면 덮어씀)
+     *
+     * @param job 작업 상태
+     */
+    public void save(PayrollBatchJobResponseDTO job) {
+        jdbcTemplate.update("""
+                INSERT INTO tbl_payroll_batch_job (
+                    job_id, batch_id, status, total_count, done_count, failed_count, skipped_count,
+                    remaining_count, progress_percent, eta_seconds, employees_per_second,
+                    requested_by, submitted_at, started_at, finished_at, message
+                ) VALUES (
+                    :jobId, :batchId, :status, :totalCount, :doneCount, :failedCount, :skippedCount,
+                    :remainingCount, :progressPercent, :etaSeconds, :employeesPerSecond,
+                    :requestedBy, :submittedAt, :startedAt, :finishedAt, :message
+                )
+                ON DUPLICATE KEY UPDATE
+                    status               = VALUES(status),
+                    done_count           = VALUES(done_count),
+                    failed_count         = VALUES(failed_count),
+                    skipped_count        = VALUES(skipped_count),
+                    remaining_count      = VALUES(remaining_count),
+                    progress_percent     = VALUES(progress_percent),
+                    eta_seconds          = VALUES(eta_seconds),
+                    employees_per_second = VALUES(employees_per_second),
+                    started_at           = VALUES(started_at),
+                    finished_at          = VALUES(finished_at),
+                    message              = VALUES(message)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("jobId", job.jobId())
+                        .addValue("batchId", job.batchId())
+                        .addValue("status", job.status())
+                        .addValue("totalCount", job.totalCount())
+                        .addValue("doneCount", job.doneCount())
+                        .addValue("failedCount", job.failedCount())
+                        .addValue("skippedCount", job.skippedCount())
+                        .addValue("remainingCount", job.remainingCount())
+                        .addValue("progressPercent", job.progressPercent())
+                        .addValue("etaSeconds", job.etaSeconds())
+                        .addValue("employeesPerSecond", job.employeesPerSecond())
+                        .addValue("requestedBy", job.requestedBy())
+                        .addValue("submittedAt", job.submittedAt())
+                        .addValue("startedAt", job.startedAt())
+                        .addValue("finishedAt", job.finishedAt())
+                        .addValue("message", job.message()));
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 마지막으로 저장된 작업 상태
+     */
+    public Optional<PayrollBatchJobResponseDTO> findById(String jobId) {
+        List<PayrollBatchJobResponseDTO> rows = jdbcTemplate.query("""
+                SELECT job_id, batch_id, status, total_count, done_count, failed_count, skipped_count,
+                       remaining_count, progress_percent, eta_seconds, employees_per_second,
+                       requested_by, submitted_at, started_at, finished_at, message
+                  FROM tbl_payroll_batch_job
+                 WHERE job_id = :jobId
+                """,
+                new MapSqlParameterSource("jobId", jobId),
+                (rs, rowNum) -> new PayrollBatchJobResponseDTO(
+                        rs.getString("job_id"),
+                        rs.getInt("batch_id"),
+                        rs.getString("status"),
+                        rs.getInt("total_count"),
+                        rs.getInt("done_count"),
+                        rs.getInt("failed_count"),
+                        rs.getInt("skipped_count"),
+                        rs.getInt("remaining_count"),
+                        rs.getInt("progress_percent"),
+                        rs.getObject("eta_seconds", Long.class),
+                        rs.getDouble("employees_per_second"),
+                        rs.getObject("requested_by", Integer.class),
+                        toLocalDateTime(rs, "submitted_at"),
+                        toLocalDateTime(rs, "started_at"),
+                        toLocalDateTime(rs, "finished_at"),
+                        rs.getString("message")
+                ));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 보관 시간이 지난 종료 작업 삭제
+     *
+     * @param threshold 이 시각 이전에 종료된 작업 삭제
+     * @return 삭제 행 수
+     */
+    public int deleteFinishedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM tbl_payroll_batch_job WHERE finished_at < :threshold",
+                new MapSqlParameterSource("threshold", threshold));
+    }
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
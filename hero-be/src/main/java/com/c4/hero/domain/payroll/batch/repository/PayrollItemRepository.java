@@ -3,6 +3,7 @@ package com.c4.hero.domain.payroll.batch.repository;
 import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,10 +18,11 @@ import java.util.List;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 항목 단위 삭제 로직 추가
+ *  2026/01/22 - 동근 항목 정책 코드 기준 일괄 삭제 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.1
+ *  @version 1.2
  */
 public interface PayrollItemRepository extends JpaRepository<PayrollItem, Integer> {
 
@@ -44,4 +46,11 @@ public interface PayrollItemRepository extends JpaRepository<PayrollItem, Intege
             String itemType,
             String itemCode
     );
+
+    /**
+     * 급여 항목 삭제 (항목 정책 재적용 시 정책 항목 코드 전체를 제거할 때 사용)
+     * @param payrollId 급여 ID
+     * @param itemCodes 항목 코드 목록
+     */
+    void deleteByPayrollIdAndItemCodeIn(Integer payrollId, Collection<String> itemCodes);
 }
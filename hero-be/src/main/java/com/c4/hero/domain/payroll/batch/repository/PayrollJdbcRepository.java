@@ -0,0 +1,303 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.common.type.PayrollStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Repository Name : PayrollJdbcRepository
+ * Description     : 급여(Payroll)/급여 항목(PayrollItem) 일괄 저장 전용 JDBC 리포지토리
+ *
+ * 역할
+ *  - 청크 단위 급여 계산 결과를 JDBC batchUpdate 로 일괄 반영
+ *    · 기존 급여 조회 1회 (IN 절)
+ *    · 기존 급여 UPDATE / 신규 급여 INSERT 를 각각 하나의 배치로 전송
+ *    · 연장근무수당 항목 DELETE 1회 + INSERT 배치 1회
+ *    · 항목 정책 결과 항목 DELETE 1회 + INSERT 배치 1회
+ *  - IDENTITY 전략 엔티티는 Hibernate 배치 INSERT 가 비활성화되므로 JDBC 로 직접 처리
+ *
+ * 주의 사항
+ *  - JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 동일 급여 엔티티를 수정하지 않을 것
+ *  - MariaDB 드라이버는 batchUpdate 를 bulk 프로토콜로 전송 (useBulkStmts 기본 활성)
+ *
+ * History
+ *  2026/01/14 - 동근 최초 작성
+ *  2026/01/22 - 동근 항목 정책 결과 항목 일괄 교체(replacePolicyItems) 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayrollJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 사원 목록 + 급여월 기준 기존 급여 일괄 조회
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 사원 ID -> 기존 급여
+     */
+    public Map<Integer, ExistingPayroll> findExisting(List<Integer> employeeIds, String salaryMonth) {
+        Map<Integer, ExistingPayroll> result = new HashMap<>();
+        if (employeeIds.isEmpty()) return result;
+
+        jdbcTemplate.query("""
+                SELECT payroll_id, employee_id, status, allowance_total, deduction_total
+                  FROM tbl_payroll
+                 WHERE salary_month = :salaryMonth
+                   AND employee_id IN (:employeeIds)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("salaryMonth", salaryMonth)
+                        .addValue("employeeIds", employeeIds),
+                rs -> {
+                    ExistingPayroll row = new ExistingPayroll(
+                            rs.getInt("payroll_id"),
+                            rs.getInt("employee_id"),
+                            rs.getString("status"),
+                            rs.getInt("allowance_total"),
+                            rs.getInt("deduction_total")
+                    );
+                    result.put(row.employeeId(), row);
+                });
+        return result;
+    }
+
+    /**
+     * 계산 결과 일괄 반영 (기존 급여 UPDATE 배치 + 신규 급여 INSERT 배치)
+     *
+     * @param batchId     배치 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param rows        계산 결과 목록
+     * @return 사원 ID -> 급여 ID (연장근무수당 항목 갱신용)
+     */
+    public Map<Integer, Integer> saveCalculated(Integer batchId, String salaryMonth, List<CalculatedPayroll> rows) {
+        List<CalculatedPayroll> updates = rows.stream().filter(r -> r.payrollId() != null).toList();
+        List<CalculatedPayroll> inserts = rows.stream().filter(r -> r.payrollId() == null).toList();
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    UPDATE tbl_payroll
+                       SET batch_id = :batchId,
+                           base_salary = :baseSalary,
+                           overtime_pay = :overtimePay,
+                           allowance_total = :allowanceTotal,
+                           deduction_total = :deductionTotal,
+                           total_pay = :totalPay,
+                           status = :status,
+                           error_message = NULL
+                     WHERE payroll_id = :payrollId
+                    """, toParams(batchId, salaryMonth, updates));
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO tbl_payroll
+                        (employee_id, salary_month, batch_id, base_salary, overtime_pay,
+                         allowance_total, deduction_total, total_pay, status, error_message)
+                    VALUES
+                        (:employeeId, :salaryMonth, :batchId, :baseSalary, :overtimePay,
+                         :allowanceTotal, :deductionTotal, :totalPay, :status, NULL)
+                    """, toParams(batchId, salaryMonth, inserts));
+        }
+
+        Map<Integer, Integer> payrollIds = new HashMap<>();
+        updates.forEach(r -> payrollIds.put(r.employeeId(), r.payrollId()));
+        if (!inserts.isEmpty()) {
+            // 배치 INSERT 는 생성 키 반환이 드라이버마다 달라 (사원, 급여월) 기준으로 한 번에 재조회
+            findExisting(inserts.stream().map(CalculatedPayroll::employeeId).toList(), salaryMonth)
+                    .forEach((empId, existing) -> payrollIds.put(empId, existing.payrollId()));
+        }
+        return payrollIds;
+    }
+
+    /**
+     * 급여 항목 일괄 교체 (항목 유형/코드 기준 DELETE 1회 + INSERT 배치 1회)
+     *
+     * @param payrollIds 갱신 대상 급여 ID 목록
+     * @param itemType   항목 유형 (ALLOWANCE / DEDUCTION)
+     * @param itemCode   항목 코드
+     * @param items      새로 저장할 항목 목록 (금액 0 항목은 호출 측에서 제외)
+     */
+    public void replaceItems(List<Integer> payrollIds, String itemType, String itemCode, List<NewPayrollItem> items) {
+        if (payrollIds.isEmpty()) return;
+
+        jdbcTemplate.update("""
+                DELETE FROM tbl_payroll_item
+                 WHERE item_type = :itemType
+                   AND item_code = :itemCode
+                   AND payroll_id IN (:payrollIds)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("itemType", itemType)
+                        .addValue("itemCode", itemCode)
+                        .addValue("payrollIds", payrollIds));
+
+        if (items.isEmpty()) return;
+
+        SqlParameterSource[] params = items.stream()
+                .map(i -> new MapSqlParameterSource()
+                        .addValue("payrollId", i.payrollId())
+                        .addValue("itemType", itemType)
+                        .addValue("itemCode", itemCode)
+                        .addValue("itemName", i.itemName())
+                        .addValue("amount", i.amount())
+                        .addValue("taxableYn", i.taxableYn()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_payroll_item (payroll_id, item_type, item_code, item_name, amount, taxable_yn)
+                VALUES (:payrollId, :itemType, :itemCode, :itemName, :amount, :taxableYn)
+                """, params);
+    }
+
+    /**
+     * 항목 정책 결과 항목 일괄 교체 (정책 항목 코드 기준 DELETE 1회 + INSERT 배치 1회)
+     *  - 정책에서 빠진(대상이 아니게 된) 항목도 함께 제거되도록 정책의 전체 항목 코드로 삭제
+     *
+     * @param payrollIds 갱신 대상 급여 ID 목록
+     * @param itemCodes  정책에 포함된 항목 코드 전체
+     * @param items      새로 저장할 항목 목록
+     */
+    public void replacePolicyItems(List<Integer> payrollIds, Collection<String> itemCodes, List<NewPolicyItem> items) {
+        if (payrollIds.isEmpty() || itemCodes.isEmpty()) return;
+
+        jdbcTemplate.update("""
+                DELETE FROM tbl_payroll_item
+                 WHERE item_code IN (:itemCodes)
+                   AND payroll_id IN (:payrollIds)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("itemCodes", itemCodes)
+                        .addValue("payrollIds", payrollIds));
+
+        if (items.isEmpty()) return;
+
+        SqlParameterSource[] params = items.stream()
+                .map(i -> new MapSqlParameterSource()
+                        .addValue("payrollId", i.payrollId())
+                        .addValue("itemType", i.itemType())
+                        .addValue("itemCode", i.itemCode())
+                        .addValue("itemName", i.itemName())
+                        .addValue("amount", i.amount())
+                        .addValue("taxableYn", i.taxableYn()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tbl_payroll_item (payroll_id, item_type, item_code, item_name, amount, taxable_yn)
+                VALUES (:payrollId, :itemType, :itemCode, :itemName, :amount, :taxableYn)
+                """, params);
+    }
+
+    private SqlParameterSource[] toParams(Integer batchId, String salaryMonth, List<CalculatedPayroll> rows) {
+        return rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("payrollId", r.payrollId())
+                        .addValue("employeeId", r.employeeId())
+                        .addValue("salaryMonth", salaryMonth)
+                        .addValue("batchId", batchId)
+                        .addValue("baseSalary", r.baseSalary())
+                        .addValue("overtimePay", r.overtimePay())
+                        .addValue("allowanceTotal", r.allowanceTotal())
+                        .addValue("deductionTotal", r.deductionTotal())
+                        .addValue("totalPay", r.totalPay())
+                        .addValue("status", PayrollStatus.CALCULATED.name()))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    /**
+     * 기존 급여 조회 결과
+     *
+     * @param payrollId      급여 ID
+     * @param employeeId     사원 ID
+     * @param status         급여 상태
+     * @param allowanceTotal 수당 합계
+     * @param deductionTotal 공제 합계
+     */
+    public record ExistingPayroll(
+            int payrollId,
+            int employeeId,
+            String status,
+            int allowanceTotal,
+            int deductionTotal
+    ) {
+        /**
+         * @return CONFIRMED 상태(수정 불가) 여부 - Payroll.isLocked() 와 동일 규칙
+         */
+        public boolean isLocked() {
+            return PayrollStatus.CONFIRMED.name().equals(status);
+        }
+    }
+
+    /**
+     * 계산 결과 (payrollId 가 null 이면 신규 INSERT 대상)
+     *
+     * @param payrollId      기존 급여 ID
+     * @param employeeId     사원 ID
+     * @param baseSalary     기본급
+     * @param overtimePay    초과근무 수당
+     * @param allowanceTotal 수당 합계
+     * @param deductionTotal 공제 합계
+     */
+    public record CalculatedPayroll(
+            Integer payrollId,
+            int employeeId,
+            int baseSalary,
+            int overtimePay,
+            int allowanceTotal,
+            int deductionTotal
+    ) {
+        /**
+         * @return 실지급액 (baseSalary + overtimePay + allowanceTotal - deductionTotal)
+         */
+        public int totalPay() {
+            return baseSalary + overtimePay + allowanceTotal - deductionTotal;
+        }
+    }
+
+    /**
+     * 신규 급여 항목
+     *
+     * @param payrollId 급여 ID
+     * @param itemName  항목 명
+     * @param amount    금액
+     * @param taxableYn 과세 여부
+     */
+    public record NewPayrollItem(
+            Integer payrollId,
+            String itemName,
+            int amount,
+            String taxableYn
+    ) {}
+
+    /**
+     * 항목 정책 결과 항목
+     *
+     * @param payrollId 급여 ID
+     * @param itemType  항목 유형 (ALLOWANCE / DEDUCTION)
+     * @param itemCode  항목 코드
+     * @param itemName  항목 명
+     * @param amount    금액
+     * @param taxableYn 과세 여부
+     */
+    public record NewPolicyItem(
+            Integer payrollId,
+            String itemType,
+            String itemCode,
+            String itemName,
+            int amount,
+            String taxableYn
+    ) {}
+}
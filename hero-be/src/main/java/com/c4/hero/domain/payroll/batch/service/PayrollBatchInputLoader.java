@@ -0,0 +1,104 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.adjustment.dto.PayrollEmployeeAmountDTO;
+import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
+import com.c4.hero.domain.payroll.integration.attendance.dto.EmployeeWorkSummaryDto;
+import com.c4.hero.domain.payroll.integration.attendance.mapper.PayrollAttendanceMapper;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchInputLoader
+ * Description : 급여 배치 계산 입력값 일괄 조회 서비스
+ *
+ * 역할
+ *  - 배치 대상 전체 사원의 기본급/근무시간/승인 인상/승인 조정을
+ *    집합 쿼리로 조회하여 PayrollBatchInputs 로 구성
+ *  - 사원당 5회 이상의 조회를 (대상 수 / IN_CLAUSE_SIZE) × 3 회로 축소
+ *
+ * History
+ *  2026/01/13 - 동근 최초 작성
+ *  2026/01/22 - 동근 부서/직급 ID 및 컴파일된 항목 정책 포함
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollBatchInputLoader {
+
+    /** IN 절 최대 바인딩 수 (쿼리 길이/플랜 캐시 보호) */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final PayrollAttendanceMapper attendanceMapper;
+    private final PayrollAdjustmentQueryMapper adjustmentQueryMapper;
+
+    /**
+     * 급여월 기준 대상 사원 입력값 일괄 조회
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param employeeIds 대상 사원 ID 목록
+     * @param policy      배치에 고정된 항목 정책 (없으면 CompiledPayrollPolicy.EMPTY)
+     * @return 계산 입력값 스냅샷
+     */
+    public PayrollBatchInputs load(String salaryMonth, List<Integer> employeeIds, CompiledPayrollPolicy policy) {
+        long startedAt = System.currentTimeMillis();
+
+        YearMonth ym = YearMonth.parse(salaryMonth);
+        String start = ym.atDay(1).toString();
+        String end = ym.atEndOfMonth().toString();
+
+        int[] ids = employeeIds.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        int[] baseSalaries = new int[ids.length];
+        int[] workedMinutes = new int[ids.length];
+        int[] raisedSalaries = new int[ids.length];
+        int[] adjustmentNets = new int[ids.length];
+        int[] departmentIds = new int[ids.length];
+        int[] gradeIds = new int[ids.length];
+        Arrays.fill(raisedSalaries, PayrollBatchInputs.ABSENT);
+
+        int queries = 0;
+        for (int from = 0; from < ids.length; from += IN_CLAUSE_SIZE) {
+            List<Integer> slice = Arrays.stream(ids, from, Math.min(from + IN_CLAUSE_SIZE, ids.length))
+                    .boxed()
+                    .toList();
+
+            for (EmployeeWorkSummaryDto row : attendanceMapper.selectWorkSummaries(slice, start, end)) {
+                int idx = Arrays.binarySearch(ids, row.employeeId());
+                if (idx < 0) continue;
+                baseSalaries[idx] = row.baseSalary() == null ? 0 : row.baseSalary();
+                workedMinutes[idx] = row.workedMinutes() == null ? 0 : row.workedMinutes();
+                departmentIds[idx] = row.departmentId() == null ? 0 : row.departmentId();
+                gradeIds[idx] = row.gradeId() == null ? 0 : row.gradeId();
+            }
+
+            for (PayrollEmployeeAmountDTO row : adjustmentQueryMapper.selectLatestApprovedRaises(slice, salaryMonth)) {
+                int idx = Arrays.binarySearch(ids, row.employeeId());
+                if (idx >= 0 && row.amount() != null) raisedSalaries[idx] = row.amount();
+            }
+
+            for (PayrollEmployeeAmountDTO row : adjustmentQueryMapper.selectApprovedAdjustmentNets(slice, salaryMonth)) {
+                int idx = Arrays.binarySearch(ids, row.employeeId());
+                if (idx >= 0 && row.amount() != null) adjustmentNets[idx] = row.amount();
+            }
+            queries += 3;
+        }
+
+        log.info("급여 배치 입력값 일괄 조회 - month={}, 사원={}, 쿼리={}, {}ms",
+                salaryMonth, ids.length, queries, System.currentTimeMillis() - startedAt);
+
+        return new PayrollBatchInputs(ids, baseSalaries, workedMinutes, raisedSalaries, adjustmentNets,
+                departmentIds, gradeIds, policy);
+    }
+}
@@ -0,0 +1,155 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyResult;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchInputs
+ * Description : 급여 배치 계산 입력값 스냅샷 (배치 대상 전체 사원 일괄 조회 결과)
+ *
+ * 구조
+ *  - 정렬된 사원 ID 배열(int[])을 키로, 동일 인덱스의 int[] 컬럼에 값을 보관
+ *  - 조회는 이진 탐색(O(log N)), 박싱/해시 엔트리 없이 사원당 수십 바이트 수준
+ *  - 생성 이후 변경되지 않으므로 여러 계산 스레드에서 동시에 읽어도 안전
+ *  - 배치에 고정된 항목 정책(CompiledPayrollPolicy)을 함께 보관해 사원별 평가 시 DB 조회 없음
+ *
+ * History
+ *  2026/01/13 - 동근 최초 작성
+ *  2026/01/22 - 동근 부서/직급 ID 및 컴파일된 항목 정책 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public final class PayrollBatchInputs {
+
+    /** 값 없음 표시 (인상 내역이 없는 사원) */
+    static final int ABSENT = Integer.MIN_VALUE;
+
+    private final int[] employeeIds;
+    private final int[] baseSalaries;
+    private final int[] workedMinutes;
+    private final int[] raisedSalaries;
+    private final int[] adjustmentNets;
+    private final int[] departmentIds;
+    private final int[] gradeIds;
+    private final CompiledPayrollPolicy policy;
+
+    /**
+     * @param employeeIds    정렬/중복 제거된 사원 ID
+     * @param baseSalaries   사원별 기본급
+     * @param workedMinutes  사원별 월 근무 시간(분)
+     * @param raisedSalaries 사원별 최신 승인 인상 급여 (없으면 ABSENT)
+     * @param adjustmentNets 사원별 승인 조정 순합
+     * @param departmentIds  사원별 부서 ID (없으면 0)
+     * @param gradeIds       사원별 직급 ID (없으면 0)
+     * @param policy         배치에 적용할 항목 정책 (없으면 CompiledPayrollPolicy.EMPTY)
+     */
+    PayrollBatchInputs(int[] employeeIds, int[] baseSalaries, int[] workedMinutes,
+                       int[] raisedSalaries, int[] adjustmentNets,
+                       int[] departmentIds, int[] gradeIds, CompiledPayrollPolicy policy) {
+        this.employeeIds = employeeIds;
+        this.baseSalaries = baseSalaries;
+        this.workedMinutes = workedMinutes;
+        this.raisedSalaries = raisedSalaries;
+        this.adjustmentNets = adjustmentNets;
+        this.departmentIds = departmentIds;
+        this.gradeIds = gradeIds;
+        this.policy = policy;
+    }
+
+    /**
+     * 사원 기본급 (인상 반영 전, 초과근무 시급 산정 기준)
+     *
+     * @param employeeId 사원 ID
+     * @return 기본급 (정보가 없으면 0)
+     */
+    public int baseSalary(int employeeId) {
+        int idx = indexOf(employeeId);
+        return idx < 0 ? 0 : baseSalaries[idx];
+    }
+
+    /**
+     * 해당 월 적용 급여 (승인된 인상이 있으면 인상 후 급여, 없으면 기본급)
+     *
+     * @param employeeId 사원 ID
+     * @return 적용 급여
+     */
+    public int effectiveSalary(int employeeId) {
+        int idx = indexOf(employeeId);
+        if (idx < 0) return 0;
+        return raisedSalaries[idx] == ABSENT ? baseSalaries[idx] : raisedSalaries[idx];
+    }
+
+    /**
+     * 해당 월 총 근무 시간(분)
+     *
+     * @param employeeId 사원 ID
+     * @return 근무 시간(분)
+     */
+    public int workedMinutes(int employeeId) {
+        int idx = indexOf(employeeId);
+        return idx < 0 ? 0 : workedMinutes[idx];
+    }
+
+    /**
+     * 승인된 조정의 순합(net)
+     *
+     * @param employeeId 사원 ID
+     * @return net 합계 (없으면 0)
+     */
+    public int adjustmentNet(int employeeId) {
+        int idx = indexOf(employeeId);
+        return idx < 0 ? 0 : adjustmentNets[idx];
+    }
+
+    /**
+     * 배치에 적용할 항목 정책 존재 여부
+     *
+     * @return 적용할 규칙이 하나라도 있으면 true
+     */
+    public boolean hasPolicy() {
+        return !policy.isEmpty();
+    }
+
+    /**
+     * 항목 정책에 포함된 항목 코드 (재계산 시 기존 정책 항목 교체 기준)
+     *
+     * @return 항목 코드 집합 (정책이 없으면 빈 집합)
+     */
+    public Set<String> policyItemCodes() {
+        return policy.itemCodes();
+    }
+
+    /**
+     * 항목 정책 평가 (수당 → 공제 순)
+     *  - 기준금액: 적용 급여(인상 반영), 연장근무수당, 월 근무 시간
+     *
+     * @param employeeId  사원 ID
+     * @param overtimePay 연장근무수당
+     * @return 평가 결과 (스냅샷에 없는 사원이면 EMPTY)
+     */
+    public PayrollPolicyResult evaluatePolicy(int employeeId, int overtimePay) {
+        int idx = indexOf(employeeId);
+        if (idx < 0 || policy.isEmpty()) return PayrollPolicyResult.EMPTY;
+
+        int salary = raisedSalaries[idx] == ABSENT ? baseSalaries[idx] : raisedSalaries[idx];
+        return policy.evaluate(employeeId, departmentIds[idx], gradeIds[idx],
+                salary, overtimePay, workedMinutes[idx]);
+    }
+
+    /**
+     * @return 스냅샷에 포함된 사원 수
+     */
+    public int size() {
+        return employeeIds.length;
+    }
+
+    private int indexOf(int employeeId) {
+        return Arrays.binarySearch(employeeIds, employeeId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJob
+ * Description : 급여 배치 비동기 계산 작업의 진행 상태 (실행 노드 메모리 보관, 스냅샷은 DB 공유)
+ *
+ * 동시성
+ *  - 진행 건수는 여러 계산 워커가 동시에 갱신하므로 AtomicInteger 사용
+ *  - 상태/시각은 작업 스레드만 변경하고 조회 스레드는 volatile 로 읽음
+ *
+ * History
+ *  2026/01/15 - 동근 최초 작성
+ *  2026/01/22 - 동근 확정(락)된 급여 스킵 건수 분리
+ *  2026/01/22 - 동근 진행 중 상태 저장 간격 제한(tryMarkPersisted) 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@Getter
+class PayrollBatchJob {
+
+    private final String jobId;
+    private final Integer batchId;
+    private final int totalCount;
+    private final Integer requestedBy;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+    private final AtomicLong lastPersistedNanos = new AtomicLong(System.nanoTime());
+
+    private volatile PayrollBatchJobStatus status = PayrollBatchJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile String message;
+
+    PayrollBatchJob(String jobId, Integer batchId, int totalCount, Integer requestedBy) {
+        this.jobId = jobId;
+        this.batchId = batchId;
+        this.totalCount = totalCount;
+        this.requestedBy = requestedBy;
+    }
+
+    void start() {
+        this.startedAt = LocalDateTime.now();
+        this.startedNanos = System.nanoTime();
+        this.status = PayrollBatchJobStatus.RUNNING;
+    }
+
+    void advance(int success, int failed, int skipped) {
+        successCount.addAndGet(success);
+        failedCount.addAndGet(failed);
+        skippedCount.addAndGet(skipped);
+    }
+
+    void complete() {
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.status = PayrollBatchJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.message = message;
+        this.status = PayrollBatchJobStatus.FAILED;
+    }
+
+    /**
+     * 마지막 저장 후 interval 이 지났으면 저장 시각을 갱신하고 true
+     * (동시에 진행률을 보고한 워커 중 한 스레드만 저장)
+     *
+     * @param interval 최소 저장 간격
+     * @return 지금 저장해야 하면 true
+     */
+    boolean tryMarkPersisted(Duration interval) {
+        long now = System.nanoTime();
+        long last = lastPersistedNanos.get();
+        return now - last >= interval.toNanos() && lastPersistedNanos.compareAndSet(last, now);
+    }
+
+    boolean isFinished() {
+        return status == PayrollBatchJobStatus.COMPLETED || status == PayrollBatchJobStatus.FAILED;
+    }
+
+    /**
+     * 현재 상태를 응답 DTO 로 변환 (완료/잔여 건수, 처리량, ETA 계산)
+     *
+     * @return 작업 상태 응답 DTO
+     */
+    PayrollBatchJobResponseDTO toResponse() {
+        int failed = failedCount.get();
+        int skipped = skippedCount.get();
+        int done = successCount.get() + failed + skipped;
+        int remaining = Math.max(0, totalCount - done);
+
+        double perSecond = 0;
+        Long eta = null;
+        if (startedAt != null && done > 0) {
+            long endNanos = isFinished() ? finishedNanos : System.nanoTime();
+            long elapsedMillis = Duration.ofNanos(endNanos - startedNanos).toMillis();
+            perSecond = elapsedMillis == 0 ? done : done * 1000.0 / elapsedMillis;
+            eta = isFinished() ? 0L : Math.round(remaining / perSecond);
+        }
+
+        return new PayrollBatchJobResponseDTO(
+                jobId,
+                batchId,
+                status.name(),
+                totalCount,
+                done,
+                failed,
+                skipped,
+                remaining,
+                totalCount == 0 ? 100 : (int) (done * 100L / totalCount),
+                eta,
+                perSecond,
+                requestedBy,
+                submittedAt,
+                startedAt,
+                finishedAt,
+                message
+        );
+    }
+}
@@ -0,0 +1,232 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationResultResponseDTO;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobJdbcRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobService
+ * Description : 급여 배치 비동기 계산 작업(Job) 실행/조회 서비스
+ *
+ * 처리 흐름
+ *  1. 요청 스레드에서 배치 상태/대상 사원 검증 (오류는 즉시 응답)
+ *  2. ShedLock(LockProvider)으로 배치 단위 잠금 획득 → 다른 노드/중복 요청이면 409
+ *  3. 전용 실행기(payrollBatchJobExecutor)에 계산 작업 제출 후 작업 ID 즉시 반환
+ *  4. 청크 완료마다 진행률(완료/실패/잔여/ETA)을 /topic/payroll/batch/{batchId} 로 푸시
+ *  5. 종료 시 잠금 해제, 작업 상태는 일정 시간 보관하여 REST 폴링 지원
+ *
+ * 작업 상태 공유
+ *  - 실행 노드는 상태 변경 시(진행률은 최대 초당 1회) tbl_payroll_batch_job 에 스냅샷 저장
+ *  - 폴링은 실행 노드면 메모리에서, 다른 노드면 테이블의 마지막 스냅샷으로 응답
+ *
+ * History
+ *  2026/01/15 - 동근 최초 작성
+ *  2026/01/22 - 동근 작업 상태를 DB 에 저장하여 다른 노드에서도 폴링 가능하도록 변경
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+public class PayrollBatchJobService {
+
+    /** 진행률 STOMP 토픽 접두사 (/topic/payroll/batch/{batchId}) */
+    private static final String PROGRESS_TOPIC_PREFIX = "/topic/payroll/batch/";
+
+    /** 배치 계산 잠금 최대 유지 시간 (노드 비정상 종료 시 자동 해제) */
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(2);
+
+    /** 종료된 작업 상태 보관 시간 */
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(6);
+
+    /** 진행 중 상태 저장 최소 간격 (청크마다 쓰지 않도록 제한) */
+    private static final Duration RUNNING_PERSIST_INTERVAL = Duration.ofSeconds(1);
+
+    private final PayrollBatchService batchService;
+    private final PayrollBatchJobJdbcRepository jobRepository;
+    private final LockProvider lockProvider;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskExecutor jobExecutor;
+
+    private final Map<String, PayrollBatchJob> jobs = new ConcurrentHashMap<>();
+
+    public PayrollBatchJobService(
+            PayrollBatchService batchService,
+            PayrollBatchJobJdbcRepository jobRepository,
+            LockProvider lockProvider,
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("payrollBatchJobExecutor") ThreadPoolTaskExecutor jobExecutor
+    ) {
+        this.batchService = batchService;
+        this.jobRepository = jobRepository;
+        this.lockProvider = lockProvider;
+        this.messagingTemplate = messagingTemplate;
+        this.jobExecutor = jobExecutor;
+    }
+
+    /**
+     * 급여 배치 계산 작업 제출
+     *
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 계산 대상 사원 ID 목록 (null/빈 목록이면 전체 대상)
+     * @param requestedBy 요청자 사원 ID
+     * @return 제출된 작업 상태
+     *
+     * @throws BusinessException PAYROLL_BATCH_JOB_RUNNING
+     *         동일 배치 계산이 이미 실행 중인 경우 (다른 노드 포함)
+     */
+    public PayrollBatchJobResponseDTO submitCalculation(Integer batchId, List<Integer> employeeIds, Integer requestedBy) {
+        List<Integer> targets = batchService.resolveCalculationTargets(batchId, employeeIds);
+
+        SimpleLock lock = lockProvider.lock(new LockConfiguration(
+                        Instant.now(), lockName(batchId), LOCK_AT_MOST_FOR, Duration.ZERO))
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_RUNNING));
+
+        evictFinishedJobs();
+
+        PayrollBatchJob job = new PayrollBatchJob(UUID.randomUUID().toString(), batchId, targets.size(), requestedBy);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            jobExecutor.execute(() -> run(job, targets, lock));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            lock.unlock();
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_RUNNING, "대기 중인 배치 계산 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("급여 배치 계산 작업 제출 - jobId={}, batchId={}, 대상={}", job.getJobId(), batchId, targets.size());
+        return publish(job);
+    }
+
+    /**
+     * 급여 배치 계산 작업 상태 조회
+     *  - 이 노드에서 실행 중/실행한 작업은 메모리 상태, 그 외에는 저장된 마지막 스냅샷
+     *
+     * @param batchId 급여 배치 ID
+     * @param jobId   작업 ID
+     * @return 작업 상태
+     */
+    public PayrollBatchJobResponseDTO getJob(Integer batchId, String jobId) {
+        PayrollBatchJob job = jobs.get(jobId);
+        PayrollBatchJobResponseDTO response = job != null
+                ? job.toResponse()
+                : jobRepository.findById(jobId).orElse(null);
+
+        if (response == null || !response.batchId().equals(batchId)) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_NOT_FOUND);
+        }
+        return response;
+    }
+
+    /**
+     * 작업 실행 본문 (payrollBatchJobExecutor 스레드)
+     *
+     * @param job     작업 상태
+     * @param targets 계산 대상 사원 ID 목록
+     * @param lock    배치 계산 잠금
+     */
+    private void run(PayrollBatchJob job, List<Integer> targets, SimpleLock lock) {
+        try {
+            job.start();
+            publish(job);
+
+            PayrollCalculationResultResponseDTO result = batchService.calculate(
+                    job.getBatchId(), targets, (success, failed, skipped) -> {
+                        job.advance(success, failed, skipped);
+                        publish(job);
+                    });
+
+            job.complete();
+            log.info("급여 배치 계산 작업 완료 - jobId={}, batchId={}, 성공={}, 실패={}, 스킵={}, {}ms",
+                    job.getJobId(), job.getBatchId(), result.successCount(), result.failedCount(),
+                    result.skippedCount(), result.elapsedMillis());
+        } catch (BusinessException e) {
+            job.fail(e.getMessage());
+            log.warn("급여 배치 계산 작업 실패 - jobId={}, batchId={}, cause={}", job.getJobId(), job.getBatchId(), e.getMessage());
+        } catch (Exception e) {
+            job.fail("시스템 오류로 배치 계산이 중단되었습니다.");
+            log.error("급여 배치 계산 작업 오류 - jobId={}, batchId={}", job.getJobId(), job.getBatchId(), e);
+        } finally {
+            lock.unlock();
+            publish(job);
+        }
+    }
+
+    /**
+     * 진행률 저장 및 STOMP 푸시 (저장/푸시 실패는 계산에 영향 주지 않음)
+     *
+     * @param job 작업 상태
+     * @return 푸시한 작업 상태
+     */
+    private PayrollBatchJobResponseDTO publish(PayrollBatchJob job) {
+        PayrollBatchJobResponseDTO response = job.toResponse();
+        persist(job, response);
+        try {
+            messagingTemplate.convertAndSend(PROGRESS_TOPIC_PREFIX + job.getBatchId(), response);
+        } catch (Exception e) {
+            log.warn("급여 배치 진행률 전송 실패 - jobId={}, cause={}", job.getJobId(), e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 작업 상태 스냅샷 저장
+     *  - 진행 중에는 RUNNING_PERSIST_INTERVAL 마다 한 번만, 제출/종료 시점은 항상 저장
+     *
+     * @param job      작업 상태
+     * @param response 저장할 스냅샷
+     */
+    private void persist(PayrollBatchJob job, PayrollBatchJobResponseDTO response) {
+        boolean running = response.status().equals(PayrollBatchJobStatus.RUNNING.name());
+        if (running && !job.tryMarkPersisted(RUNNING_PERSIST_INTERVAL)) {
+            return;
+        }
+        try {
+            jobRepository.save(response);
+        } catch (Exception e) {
+            log.warn("급여 배치 작업 상태 저장 실패 - jobId={}, cause={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 종료 작업 제거 (메모리 + 저장소)
+     */
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+        try {
+            jobRepository.deleteFinishedBefore(threshold);
+        } catch (Exception e) {
+            log.warn("종료된 급여 배치 작업 정리 실패 - cause={}", e.getMessage());
+        }
+    }
+
+    private static String lockName(Integer batchId) {
+        return "payrollBatchCalculate_" + batchId;
+    }
+}
@@ -4,20 +4,21 @@ import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
-import com.c4.hero.domain.payroll.batch.entity.Payroll;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
 import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
 import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
 import com.c4.hero.domain.payroll.common.type.PayrollBatchStatus;
 import com.c4.hero.domain.payroll.common.type.PayrollStatus;
-import com.c4.hero.domain.payroll.payment.entity.PaymentHistory;
 import com.c4.hero.domain.payroll.payment.repository.PaymentHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -41,11 +42,15 @@ import java.util.List;
  *  2025/12/18 - 동근 급여 지급(pay) 로직 및 PaymentHistory 연동 추가
  *             - 클래스 레벨 트랜잭션 제거 및 상태 전이 트랜잭션 분리
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/01/12 - 동근 계산 결과(처리량) 반환
+ *  2026/01/14 - 동근 지급 이력 일괄 생성(INSERT ... SELECT anti-join)으로 변경
+ *  2026/01/15 - 동근 계산 대상 검증 분리 및 진행률 콜백 지원 (비동기 계산 작업용)
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.5
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
@@ -80,10 +85,56 @@ public class PayrollBatchService {
      *
      * @param batchId     급여 배치 ID
      * @param employeeIds 선택 사원 ID 목록
+     * @return 계산 결과 및 처리량
+     */
+    public PayrollCalculationResultResponseDTO calculate(Integer batchId, List<Integer> employeeIds) {
+        return calculate(batchId, employeeIds, PayrollCalculationProgressListener.NONE);
+    }
+
+    /**
+     * 급여 배치 계산 실행 (진행률 통지)
+     *
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 선택 사원 ID 목록
+     * @param listener    진행률 콜백
+     * @return 계산 결과 및 처리량
      */
-    public void calculate(Integer batchId, List<Integer> employeeIds) {
+    public PayrollCalculationResultResponseDTO calculate(
+            Integer batchId,
+            List<Integer> employeeIds,
+            PayrollCalculationProgressListener listener
+    ) {
         PayrollBatch batch = getBatchOrThrow(batchId);
+        List<Integer> targets = resolveTargets(batch, employeeIds);
 
+        PayrollCalculationResultResponseDTO result = calculationService.calculateEmployees(batch, targets, listener);
+
+        if (batch.getStatus() == PayrollBatchStatus.READY) {
+            batchStatusTxService.markCalculatedInNewTx(batchId);
+        }
+        return result;
+    }
+
+    /**
+     * 급여 배치 계산 가능 여부 검증 및 대상 사원 확정
+     * (비동기 계산 작업 제출 전 요청 스레드에서 먼저 검증하기 위해 분리)
+     *
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 선택 사원 ID 목록 (없으면 전체 대상)
+     * @return 계산 대상 사원 ID 목록
+     */
+    public List<Integer> resolveCalculationTargets(Integer batchId, List<Integer> employeeIds) {
+        return resolveTargets(getBatchOrThrow(batchId), employeeIds);
+    }
+
+    /**
+     * 배치 상태 검증 후 계산 대상 사원 목록 결정
+     *
+     * @param batch       급여 배치 엔티티
+     * @param employeeIds 선택 사원 ID 목록
+     * @return 계산 대상 사원 ID 목록
+     */
+    private List<Integer> resolveTargets(PayrollBatch batch, List<Integer> employeeIds) {
         if (batch.getStatus() == PayrollBatchStatus.CONFIRMED || batch.getStatus() == PayrollBatchStatus.PAID) {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_LOCKED);
         }
@@ -101,12 +152,7 @@ public class PayrollBatchService {
         if (targets.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-
-        calculationService.calculateEmployees(batch, targets);
-
-        if (batch.getStatus() == PayrollBatchStatus.READY) {
-            batchStatusTxService.markCalculatedInNewTx(batchId);
-        }
+        return targets;
     }
 
     /**
@@ -171,22 +217,16 @@ public class PayrollBatchService {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_HAS_FAILED);
         }
 
-        List<Payroll> payrolls = payrollRepository.findAllByBatchId(batchId);
-        if (payrolls.isEmpty()) {
+        if (!payrollRepository.existsByBatchId(batchId)) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지급할 급여 데이터가 없습니다.");
         }
 
-        for (Payroll pr : payrolls) {
-            if (paymentHistoryRepository.existsByPayrollId(pr.getPayrollId())) continue;
+        // 미지급 급여만 골라 지급 이력 일괄 생성 (급여 건수와 무관하게 1회 왕복)
+        int paidCount = paymentHistoryRepository.insertCompletedForUnpaid(
+                batchId, LocalDate.now(), LocalDateTime.now()
+        );
+        log.info("급여 배치 지급 처리 - batchId={}, 지급 이력 생성={}", batchId, paidCount);
 
-            paymentHistoryRepository.save(
-                    PaymentHistory.completed(
-                            pr.getPayrollId(),
-                            pr.getTotalPay(),
-                            null
-                    )
-            );
-        }
         batch.markPaid(employeeId);
     }
 }
@@ -0,0 +1,35 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+/**
+ * <pre>
+ * Interface Name : PayrollCalculationProgressListener
+ * Description    : 급여 배치 계산 진행률 콜백
+ *
+ * 사용 목적
+ *  - 청크(또는 사원) 계산이 끝날 때마다 성공/실패/스킵 건수를 전달받아
+ *    비동기 작업 진행률(완료/실패/잔여/ETA) 갱신 및 STOMP 푸시에 사용
+ *  - 계산 워커 스레드에서 동시에 호출될 수 있으므로 구현체는 스레드 안전해야 함
+ *
+ * History
+ *  2026/01/15 - 동근 최초 작성
+ *  2026/01/22 - 동근 확정(락)된 급여 스킵 건수 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@FunctionalInterface
+public interface PayrollCalculationProgressListener {
+
+    /** 진행률을 사용하지 않는 경우 */
+    PayrollCalculationProgressListener NONE = (success, failed, skipped) -> { };
+
+    /**
+     * 계산 단위(청크/사원) 완료 통지
+     *
+     * @param success 이번 단위에서 성공한 사원 수
+     * @param failed  이번 단위에서 실패한 사원 수
+     * @param skipped 이번 단위에서 확정(락)된 급여라 건너뛴 사원 수
+     */
+    void onProgress(int success, int failed, int skipped);
+}
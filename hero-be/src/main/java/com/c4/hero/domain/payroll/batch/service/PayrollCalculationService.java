@@ -1,11 +1,20 @@
 package com.c4.hero.domain.payroll.batch.service;
 
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
-import lombok.RequiredArgsConstructor;
+import com.c4.hero.domain.payroll.batch.service.PayrollEmployeeCalculateTxService.Outcome;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.service.PayrollPolicyCompileService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <pre>
@@ -14,34 +23,198 @@ import java.util.List;
  *
  *  급여 배치 시스템 마무리 되면 수당+공제 기능 추가 할 예정입니당
  *
+ * 계산 방식 (청크 병렬 계산)
+ *  - 대상 사원을 chunkSize 단위로 분할
+ *  - 청크별로 전용 스레드 풀(payrollCalculationExecutor)에서 하나의 트랜잭션으로 계산
+ *  - 청크 트랜잭션이 실패하면 해당 청크만 사원 단위(REQUIRES_NEW)로 재처리하여
+ *    성공 사원은 반영, 실패 사원은 FAILED 로 기록 (기존 FAILED/락 규칙 유지)
+ *  - parallelism <= 1 이면 기존과 동일하게 사원 단위 순차 계산
+ *
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 사원 단위 계산/Tx를 PayrollEmployeeCalculateTxService 로 분리
  *             - 클래스 레벨 트랜잭션 제거
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/01/12 - 동근 청크 분할 + 병렬 계산 및 처리량(사원/초) 집계 추가
+ *  2026/01/13 - 동근 계산 입력값 일괄 조회(PayrollBatchInputLoader) 적용
+ *  2026/01/15 - 동근 진행률 콜백(PayrollCalculationProgressListener) 추가
+ *  2026/01/22 - 동근 배치 시작 시 항목 정책 1회 컴파일 후 계산 스레드 공유
+ *  2026/01/22 - 동근 확정(락)된 급여를 성공 건수에서 분리하여 스킵으로 집계
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.7
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
-@RequiredArgsConstructor
 public class PayrollCalculationService {
 
     private final PayrollEmployeeCalculateTxService employeeTxService;
+    private final PayrollBatchInputLoader inputLoader;
+    private final PayrollPolicyCompileService policyCompileService;
+    private final ThreadPoolTaskExecutor calculationExecutor;
+    private final int chunkSize;
+    private final int parallelism;
 
+    public PayrollCalculationService(
+            PayrollEmployeeCalculateTxService employeeTxService,
+            PayrollBatchInputLoader inputLoader,
+            PayrollPolicyCompileService policyCompileService,
+            @Qualifier("payrollCalculationExecutor") ThreadPoolTaskExecutor calculationExecutor,
+            @Value("${payroll.batch.chunk-size:100}") int chunkSize,
+            @Value("${payroll.batch.parallelism:4}") int parallelism
+    ) {
+        this.employeeTxService = employeeTxService;
+        this.inputLoader = inputLoader;
+        this.policyCompileService = policyCompileService;
+        this.calculationExecutor = calculationExecutor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
 
     /**
      * 배치 내 사원 리스트 대상 급여 계산 실행
      *
      * @param batch       급여 배치 엔티티
      * @param employeeIds 계산 대상 사원 ID 목록
+     * @return 계산 결과 및 처리량
+     */
+    public PayrollCalculationResultResponseDTO calculateEmployees(PayrollBatch batch, List<Integer> employeeIds) {
+        return calculateEmployees(batch, employeeIds, PayrollCalculationProgressListener.NONE);
+    }
+
+    /**
+     * 배치 내 사원 리스트 대상 급여 계산 실행 (진행률 통지)
+     *
+     * @param batch       급여 배치 엔티티
+     * @param employeeIds 계산 대상 사원 ID 목록
+     * @param listener    청크/사원 완료 시 호출되는 진행률 콜백
+     * @return 계산 결과 및 처리량
      */
-    public void calculateEmployees(PayrollBatch batch, List<Integer> employeeIds) {
-        for (Integer empId : employeeIds) {
-            employeeTxService.calculateOne(batch, empId); // 사원 단위 분리 트랜잭션 처리
+    public PayrollCalculationResultResponseDTO calculateEmployees(
+            PayrollBatch batch,
+            List<Integer> employeeIds,
+            PayrollCalculationProgressListener listener
+    ) {
+        long startedAt = System.nanoTime();
+
+        // 항목 정책은 배치당 1회 컴파일 (이후 사원별 평가는 DB 조회 없이 메모리에서 수행)
+        CompiledPayrollPolicy policy = policyCompileService.compileForBatch(batch);
+
+        // 계산 입력값(기본급/근무시간/인상/조정/부서/직급)은 대상 전체를 한 번에 조회
+        PayrollBatchInputs inputs = inputLoader.load(batch.getSalaryMonth(), employeeIds, policy);
+
+        List<List<Integer>> chunks = partition(employeeIds, chunkSize);
+        List<ChunkResult> results;
+
+        if (parallelism <= 1) {
+            results = new ArrayList<>();
+            for (Integer empId : employeeIds) {
+                Outcome outcome = employeeTxService.calculateOne(batch, empId, inputs); // 사원 단위 분리 트랜잭션 처리
+                ChunkResult result = ChunkResult.of(outcome);
+                results.add(result);
+                listener.onProgress(result.success(), result.failed(), result.skipped());
+            }
+        } else {
+            List<CompletableFuture<ChunkResult>> futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> calculateChunk(batch, chunk, inputs), calculationExecutor)
+                            .thenApply(result -> {
+                                listener.onProgress(result.success(), result.failed(), result.skipped());
+                                return result;
+                            }))
+                    .toList();
+            results = futures.stream().map(CompletableFuture::join).toList();
         }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        int success = results.stream().mapToInt(ChunkResult::success).sum();
+        int failed = results.stream().mapToInt(ChunkResult::failed).sum();
+        int skipped = results.stream().mapToInt(ChunkResult::skipped).sum();
+        int fallback = (int) results.stream().filter(ChunkResult::fellBack).count();
+        double throughput = elapsedMillis == 0
+                ? employeeIds.size()
+                : employeeIds.size() * 1000.0 / elapsedMillis;
+
+        log.info("급여 배치 계산 완료 - batchId={}, 대상={}, 성공={}, 실패={}, 스킵={}, 청크={}(재처리 {}), {}ms, {} 사원/초",
+                batch.getBatchId(), employeeIds.size(), success, failed, skipped, chunks.size(), fallback,
+                elapsedMillis, String.format("%.1f", throughput));
+
+        return new PayrollCalculationResultResponseDTO(
+                batch.getBatchId(),
+                employeeIds.size(),
+                success,
+                failed,
+                skipped,
+                chunks.size(),
+                fallback,
+                parallelism,
+                elapsedMillis,
+                throughput
+        );
     }
-}
 
+    /**
+     * 청크 단위 계산
+     *  - 청크 트랜잭션 실패 시 사원 단위 트랜잭션으로 재처리
+     *
+     * @param batch  급여 배치 엔티티
+     * @param chunk  청크 사원 ID 목록
+     * @param inputs 일괄 조회된 계산 입력값
+     * @return 청크 처리 결과
+     */
+    private ChunkResult calculateChunk(PayrollBatch batch, List<Integer> chunk, PayrollBatchInputs inputs) {
+        try {
+            int skipped = employeeTxService.calculateChunk(batch, chunk, inputs);
+            return new ChunkResult(chunk.size() - skipped, 0, skipped, false);
+        } catch (Exception e) {
+            log.warn("급여 청크 계산 실패, 사원 단위 재처리 - batchId={}, size={}, cause={}",
+                    batch.getBatchId(), chunk.size(), e.getMessage());
+
+            int success = 0;
+            int skipped = 0;
+            for (Integer empId : chunk) {
+                switch (employeeTxService.calculateOne(batch, empId, inputs)) {
+                    case CALCULATED -> success++;
+                    case SKIPPED -> skipped++;
+                    case FAILED -> { }
+                }
+            }
+            return new ChunkResult(success, chunk.size() - success - skipped, skipped, true);
+        }
+    }
+
+    /**
+     * 목록을 size 단위로 분할
+     *
+     * @param source 원본 목록
+     * @param size   청크 크기
+     * @return 분할된 청크 목록
+     */
+    private static List<List<Integer>> partition(List<Integer> source, int size) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += size) {
+            chunks.add(List.copyOf(source.subList(from, Math.min(from + size, source.size()))));
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크 처리 결과
+     *
+     * @param success  성공 사원 수
+     * @param failed   실패 사원 수
+     * @param skipped  확정(락)된 급여라 계산하지 않은 사원 수
+     * @param fellBack 사원 단위 재처리 여부
+     */
+    private record ChunkResult(int success, int failed, int skipped, boolean fellBack) {
+
+        static ChunkResult of(Outcome outcome) {
+            return new ChunkResult(
+                    outcome == Outcome.CALCULATED ? 1 : 0,
+                    outcome == Outcome.FAILED ? 1 : 0,
+                    outcome == Outcome.SKIPPED ? 1 : 0,
+                    false);
+        }
+    }
+}
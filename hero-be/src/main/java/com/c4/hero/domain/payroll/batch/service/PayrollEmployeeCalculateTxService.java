@@ -2,20 +2,28 @@ package com.c4.hero.domain.payroll.batch.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
-import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
-import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
-import com.c4.hero.domain.payroll.adjustment.repository.PayrollRaiseRepository;
 import com.c4.hero.domain.payroll.batch.entity.Payroll;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
 import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
 import com.c4.hero.domain.payroll.batch.repository.PayrollItemRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollJdbcRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollJdbcRepository.CalculatedPayroll;
+import com.c4.hero.domain.payroll.batch.repository.PayrollJdbcRepository.ExistingPayroll;
+import com.c4.hero.domain.payroll.batch.repository.PayrollJdbcRepository.NewPayrollItem;
+import com.c4.hero.domain.payroll.batch.repository.PayrollJdbcRepository.NewPolicyItem;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
 import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceService;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <pre>
  * Class Name : PayrollEmployeeCalculateTxService
@@ -24,10 +32,19 @@ import org.springframework.transaction.annotation.Transactional;
  * History
  *   2025/12/18 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/01/12 - 동근 청크 단위 트랜잭션 계산(calculateChunk) 추가
+ *   2026/01/13 - 동근 사원 단위 조회 제거, 일괄 조회 입력값(PayrollBatchInputs) 기반 계산으로 변경
+ *   2026/01/14 - 동근 청크 계산 결과 JDBC 배치 저장 적용
+ *   2026/01/22 - 동근 배치에 고정된 항목 정책(수당/공제) 평가 결과 반영
+ *   2026/01/22 - 동근 확정(락)된 급여는 성공이 아닌 스킵으로 집계
  * </pre>
  *
+ * 수당/공제 합계
+ *  - 항목 정책이 있는 배치: 정책 평가 결과 + 승인 조정 (재계산 시 이전 합계를 누적하지 않음)
+ *  - 항목 정책이 없는 배치: 기존 급여 합계 + 승인 조정 (기존 방식 유지)
+ *
  * @author 동근
- * @version 1.1
+ * @version 1.6
  */
 @PayrollAdminOnly
 @Service
@@ -36,69 +53,169 @@ public class PayrollEmployeeCalculateTxService {
 
     private final PayrollRepository payrollRepository;
     private final PayrollItemRepository payrollItemRepository;
+    private final PayrollJdbcRepository payrollJdbcRepository;
     private final PayrollAttendanceService attendanceService;
-    private final PayrollRaiseRepository payrollRaiseRepository;
-    private final PayrollAdjustmentQueryMapper payrollAdjustmentQueryMapper;
 
     /**
      * 단일 사원 급여 계산 (REQUIRES_NEW 트랜잭션 사용)
      *
      * @param batch  급여 배치 엔티티
      * @param empId  사원 ID
+     * @param inputs 일괄 조회된 계산 입력값
+     * @return 계산 결과 (실패 시 FAILED 상태로 저장됨, 확정된 급여는 SKIPPED)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void calculateOne(PayrollBatch batch, Integer empId) {
+    public Outcome calculateOne(PayrollBatch batch, Integer empId, PayrollBatchInputs inputs) {
         try {
-            int baseSalary = attendanceService.getBaseSalary(empId); // 근태 연동(기본급 조회)
-
-            baseSalary = payrollRaiseRepository
-                    .findTopByEmployeeIdAndEffectiveMonthAndStatusOrderByRaiseIdDesc(
-                            empId, batch.getSalaryMonth(), "APPROVED"
-                    )
-                    .map(PayrollRaise::getAfterSalary)
-                    .orElse(baseSalary);
-
-            int overtimePay = attendanceService.calculateOvertime(batch.getSalaryMonth(), empId); //연장근무 수당 계산
-
-            Payroll payroll = payrollRepository
-                    .findByEmployeeIdAndSalaryMonth(empId, batch.getSalaryMonth()) //기존 급여가 있으면 조회
-                    .orElseGet(() -> Payroll.ready(empId, batch.getBatchId(), batch.getSalaryMonth()));
-            //없으면 ready상태 엔티티 생성
-
-            if (payroll.isLocked()) return; // 상태 검증용 (true상태면 계산 스킵)
-
-            int allowanceTotal = payroll.getAllowanceTotal() == null ? 0 : payroll.getAllowanceTotal();
-            int deductionTotal = payroll.getDeductionTotal() == null ? 0 : payroll.getDeductionTotal();
-
-            int manualAdjustNet = payrollAdjustmentQueryMapper
-                    .sumApprovedAdjustmentNet(empId, batch.getSalaryMonth());
-            if (manualAdjustNet != 0) {
-                // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
-                // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
-                // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
-                if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
-                else deductionTotal += Math.abs(manualAdjustNet);
+            return calculate(batch, empId, inputs) ? Outcome.CALCULATED : Outcome.SKIPPED;
+        } catch (BusinessException be) {
+            saveFailed(batch, empId, be.getMessage());
+        } catch (Exception e) {
+            saveFailed(batch, empId, "시스템 오류로 계산에 실패했습니다.");
+        }
+        return Outcome.FAILED;
+    }
+
+    /**
+     * 사원 청크 단위 급여 계산 (청크 전체를 하나의 REQUIRES_NEW 트랜잭션으로 처리)
+     *  - 기존 급여 조회 1회 + 급여/항목 JDBC 배치 저장 (사원 단위 save 제거)
+     *  - 한 명이라도 실패하면 예외를 그대로 던져 청크 전체를 롤백
+     *  - 호출 측은 실패한 청크를 사원 단위(calculateOne)로 재처리하여 FAILED 기록을 남김
+     *
+     * @param batch  급여 배치 엔티티
+     * @param empIds 청크에 포함된 사원 ID 목록
+     * @param inputs 일괄 조회된 계산 입력값
+     * @return 확정(락) 상태라 계산을 건너뛴 사원 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int calculateChunk(PayrollBatch batch, List<Integer> empIds, PayrollBatchInputs inputs) {
+        Map<Integer, ExistingPayroll> existing = payrollJdbcRepository.findExisting(empIds, batch.getSalaryMonth());
+
+        List<CalculatedPayroll> rows = new ArrayList<>(empIds.size());
+        Map<Integer, PayrollPolicyResult> policyResults = new HashMap<>();
+        int skipped = 0;
+        for (Integer empId : empIds) {
+            ExistingPayroll prev = existing.get(empId);
+            if (prev != null && prev.isLocked()) { // 확정된 급여는 계산 스킵
+                skipped++;
+                continue;
+            }
+
+            int baseSalary = inputs.effectiveSalary(empId);
+            int overtimePay = attendanceService.calculateOvertimePay(inputs.baseSalary(empId), inputs.workedMinutes(empId));
+
+            int allowanceTotal;
+            int deductionTotal;
+            if (inputs.hasPolicy()) {
+                PayrollPolicyResult policyResult = inputs.evaluatePolicy(empId, overtimePay);
+                policyResults.put(empId, policyResult);
+                allowanceTotal = policyResult.allowanceTotal();
+                deductionTotal = policyResult.deductionTotal();
+            } else {
+                allowanceTotal = prev == null ? 0 : prev.allowanceTotal();
+                deductionTotal = prev == null ? 0 : prev.deductionTotal();
             }
 
+            int manualAdjustNet = inputs.adjustmentNet(empId);
+            if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
+            else if (manualAdjustNet < 0) deductionTotal += Math.abs(manualAdjustNet);
 
-            //급여 계산 적용하는 로직
-            payroll.applyCalculated(batch.getBatchId(), baseSalary, overtimePay, allowanceTotal, deductionTotal); // 호출로 급여 관련 반영
-            Payroll saved = payrollRepository.save(payroll);
+            rows.add(new CalculatedPayroll(
+                    prev == null ? null : prev.payrollId(),
+                    empId, baseSalary, overtimePay, allowanceTotal, deductionTotal
+            ));
+        }
+        if (rows.isEmpty()) return skipped;
+
+        Map<Integer, Integer> payrollIds = payrollJdbcRepository.saveCalculated(batch.getBatchId(), batch.getSalaryMonth(), rows);
+
+        //연장근무 수당 항목 일괄 갱신
+        List<NewPayrollItem> overtimeItems = rows.stream()
+                .filter(r -> r.overtimePay() > 0)
+                .map(r -> new NewPayrollItem(payrollIds.get(r.employeeId()), "연장근무수당", r.overtimePay(), "Y"))
+                .toList();
+        payrollJdbcRepository.replaceItems(List.copyOf(payrollIds.values()), "ALLOWANCE", "OVERTIME", overtimeItems);
+
+        //항목 정책 수당/공제 항목 일괄 갱신
+        if (inputs.hasPolicy()) {
+            List<NewPolicyItem> policyItems = rows.stream()
+                    .flatMap(r -> policyResults.get(r.employeeId()).items().stream()
+                            .map(i -> new NewPolicyItem(payrollIds.get(r.employeeId()),
+                                    i.itemType(), i.itemCode(), i.itemName(), i.amount(), i.taxableYn())))
+                    .toList();
+            payrollJdbcRepository.replacePolicyItems(
+                    List.copyOf(payrollIds.values()), inputs.policyItemCodes(), policyItems);
+        }
+        return skipped;
+    }
 
-            //연장근무 수당 항목 갱신
-            payrollItemRepository.deleteByPayrollIdAndItemTypeAndItemCode(
-                    saved.getPayrollId(), "ALLOWANCE", "OVERTIME"
+    /**
+     * 단일 사원 급여 계산 본문 (호출 측 트랜잭션에 참여, 예외는 호출 측에서 처리)
+     *
+     * @param batch  급여 배치 엔티티
+     * @param empId  사원 ID
+     * @param inputs 일괄 조회된 계산 입력값
+     * @return 계산 반영 여부 (확정된 급여면 false)
+     */
+    private boolean calculate(PayrollBatch batch, Integer empId, PayrollBatchInputs inputs) {
+        int baseSalary = inputs.effectiveSalary(empId); // 기본급 (승인된 인상이 있으면 인상 후 급여)
+
+        //연장근무 수당 계산 (시급 산정은 인상 전 기본급 기준)
+        int overtimePay = attendanceService.calculateOvertimePay(inputs.baseSalary(empId), inputs.workedMinutes(empId));
+
+        Payroll payroll = payrollRepository
+                .findByEmployeeIdAndSalaryMonth(empId, batch.getSalaryMonth()) //기존 급여가 있으면 조회
+                .orElseGet(() -> Payroll.ready(empId, batch.getBatchId(), batch.getSalaryMonth()));
+        //없으면 ready상태 엔티티 생성
+
+        if (payroll.isLocked()) return false; // 상태 검증용 (true상태면 계산 스킵)
+
+        PayrollPolicyResult policyResult = inputs.evaluatePolicy(empId, overtimePay);
+
+        int allowanceTotal;
+        int deductionTotal;
+        if (inputs.hasPolicy()) {
+            // 항목 정책 적용 배치는 정책 결과로 다시 산정 (이전 합계 누적 없음)
+            allowanceTotal = policyResult.allowanceTotal();
+            deductionTotal = policyResult.deductionTotal();
+        } else {
+            allowanceTotal = payroll.getAllowanceTotal() == null ? 0 : payroll.getAllowanceTotal();
+            deductionTotal = payroll.getDeductionTotal() == null ? 0 : payroll.getDeductionTotal();
+        }
+
+        int manualAdjustNet = inputs.adjustmentNet(empId);
+        if (manualAdjustNet != 0) {
+            // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
+            // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
+            // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
+            if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
+            else deductionTotal += Math.abs(manualAdjustNet);
+        }
+
+
+        //급여 계산 적용하는 로직
+        payroll.applyCalculated(batch.getBatchId(), baseSalary, overtimePay, allowanceTotal, deductionTotal); // 호출로 급여 관련 반영
+        Payroll saved = payrollRepository.save(payroll);
+
+        //연장근무 수당 항목 갱신
+        payrollItemRepository.deleteByPayrollIdAndItemTypeAndItemCode(
+                saved.getPayrollId(), "ALLOWANCE", "OVERTIME"
+        );
+        if (overtimePay > 0) {
+            payrollItemRepository.save(
+                    PayrollItem.of(saved.getPayrollId(), "ALLOWANCE", "OVERTIME", "연장근무수당", overtimePay, "Y")
             );
-            if (overtimePay > 0) {
-                payrollItemRepository.save(
-                        PayrollItem.of(saved.getPayrollId(), "ALLOWANCE", "OVERTIME", "연장근무수당", overtimePay, "Y")
-                );
-            }
-        } catch (BusinessException be) {
-            saveFailed(batch, empId, be.getMessage());
-        } catch (Exception e) {
-            saveFailed(batch, empId, "시스템 오류로 계산에 실패했습니다.");
         }
+
+        //항목 정책 수당/공제 항목 갱신
+        if (inputs.hasPolicy()) {
+            payrollItemRepository.deleteByPayrollIdAndItemCodeIn(saved.getPayrollId(), inputs.policyItemCodes());
+            payrollItemRepository.saveAll(policyResult.items().stream()
+                    .map(i -> PayrollItem.of(saved.getPayrollId(),
+                            i.itemType(), i.itemCode(), i.itemName(), i.amount(), i.taxableYn()))
+                    .toList());
+        }
+        return true;
     }
 
     /**
@@ -119,4 +236,16 @@ public class PayrollEmployeeCalculateTxService {
 
         }
     }
+
+    /**
+     * 사원 단위 계산 결과
+     */
+    public enum Outcome {
+        /** 계산 반영 */
+        CALCULATED,
+        /** 확정(락)된 급여라 계산하지 않음 */
+        SKIPPED,
+        /** 계산 실패 (FAILED 상태로 저장) */
+        FAILED
+    }
 }
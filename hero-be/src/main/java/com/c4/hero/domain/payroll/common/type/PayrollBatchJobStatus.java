@@ -0,0 +1,41 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollBatchJobStatus
+ * Description : 급여 배치 비동기 계산 작업(Job) 상태를 나타내는 Enum
+ *
+ * 작업 상태 흐름
+ *  QUEUED -> RUNNING -> COMPLETED
+ *                 or
+ *               FAILED
+ *
+ * History
+ *  2026/01/15 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public enum PayrollBatchJobStatus {
+
+    /**
+     * 작업 제출 완료 (실행 대기)
+     */
+    QUEUED,
+
+    /**
+     * 계산 진행 중
+     */
+    RUNNING,
+
+    /**
+     * 계산 완료 (일부 사원이 FAILED 일 수 있음)
+     */
+    COMPLETED,
+
+    /**
+     * 작업 자체가 비정상 종료된 상태
+     */
+    FAILED
+}
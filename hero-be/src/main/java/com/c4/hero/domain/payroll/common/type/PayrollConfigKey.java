@@ -10,10 +10,11 @@ import java.util.stream.Collectors;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/01/22 - 동근 FORMULA 항목 수식 설정 키(FORMULA.{itemCode}) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public enum PayrollConfigKey {
     /** 급여 지급일 (1~31) */
@@ -43,4 +44,20 @@ public enum PayrollConfigKey {
      */
     public static final Set<String> ALLOWED =
             Arrays.stream(values()).map(Enum::name).collect(Collectors.toUnmodifiableSet());
+
+    /**
+     * FORMULA 계산 방식 항목의 수식 설정 키 접두어 (예: FORMULA.MEAL)
+     */
+    public static final String FORMULA_PREFIX = "FORMULA.";
+
+    /**
+     * 설정 키 허용 여부 (고정 키 또는 FORMULA.{itemCode})
+     *
+     * @param key 설정 키
+     * @return 허용되면 true
+     */
+    public static boolean isAllowed(String key) {
+        return ALLOWED.contains(key)
+                || (key.startsWith(FORMULA_PREFIX) && key.length() > FORMULA_PREFIX.length());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.c4.hero.domain.payroll.integration.attendance.dto;
+
+/**
+ * <pre>
+ * DTO Name : EmployeeWorkSummaryDto
+ * Description : 급여 배치 일괄 계산용 사원별 기본급 + 월 근무 시간 집계 DTO
+ *
+ * 사용 목적
+ *  - 배치 대상 전체 사원의 기본급/근무시간을 한 번의 집계 쿼리로 조회
+ *
+ * History
+ *  2026/01/13 - 동근 최초 작성
+ *  2026/01/22 - 동근 항목 정책 대상 판별용 부서/직급 ID 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ *
+ * @param employeeId    사원 ID
+ * @param baseSalary    기본급 (없으면 null)
+ * @param workedMinutes 해당 월 총 근무 시간(분 단위)
+ * @param departmentId  소속 부서 ID (없으면 null)
+ * @param gradeId       직급 ID (없으면 null)
+ */
+public record EmployeeWorkSummaryDto(
+        Integer employeeId,
+        Integer baseSalary,
+        Integer workedMinutes,
+        Integer departmentId,
+        Integer gradeId
+) {}
@@ -1,8 +1,11 @@
 package com.c4.hero.domain.payroll.integration.attendance.mapper;
 
+import com.c4.hero.domain.payroll.integration.attendance.dto.EmployeeWorkSummaryDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * <pre>
  * Mapper Name : PayrollAttendanceMapper
@@ -20,10 +23,11 @@ import org.apache.ibatis.annotations.Param;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/01/13 - 동근 배치 대상 사원 일괄 집계 조회 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  */
 
 @Mapper
@@ -73,4 +77,17 @@ public interface PayrollAttendanceMapper {
     int countWorkDaysInMonth(@Param("employeeId") Integer employeeId,
                              @Param("start") String start,
                              @Param("end") String end);
-}
\ No newline at end of file
+
+    /**
+     * 사원 목록 기준 기본급 + 특정 월 총 근무 시간(분) 일괄 조회
+     * @param employeeIds 사원 ID 목록
+     * @param start 조회 시작일 (YYYY-MM-01)
+     * @param end 조회 종료일 (YYYY-MM-DD)
+     * @return 사원별 기본급/근무시간 목록 (근태 기록이 없으면 workedMinutes = 0)
+     * 사용 목적
+     *   - 급여 배치 계산 시 사원 단위 조회(N회)를 집합 조회(1회)로 대체
+     */
+    List<EmployeeWorkSummaryDto> selectWorkSummaries(@Param("employeeIds") List<Integer> employeeIds,
+                                                     @Param("start") String start,
+                                                     @Param("end") String end);
+}
@@ -11,9 +11,10 @@ package com.c4.hero.domain.payroll.integration.attendance.service;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/01/13 - 동근 집계값 기반 초과근무 수당 계산 추가 (배치 일괄 조회용)
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  * </pre>
  */
 public interface PayrollAttendanceService {
@@ -32,4 +33,12 @@ public interface PayrollAttendanceService {
      * @return 초과근무 수당 금액 (원 단위)
      */
     int calculateOvertime(String salaryMonth, Integer employeeId);
-}
\ No newline at end of file
+
+    /**
+     * 이미 집계된 기본급/근무시간으로 초과근무 수당 계산 (DB 조회 없음)
+     * @param baseSalary 기본급
+     * @param workedMinutes 해당 월 총 근무 시간(분)
+     * @return 초과근무 수당 금액 (원 단위)
+     */
+    int calculateOvertimePay(int baseSalary, int workedMinutes);
+}
@@ -24,10 +24,11 @@ import java.time.YearMonth;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/01/13 - 동근 초과근무 수당 산식 분리(calculateOvertimePay)
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  */
 
 @Service
@@ -96,14 +97,29 @@ public class PayrollAttendanceServiceImpl implements PayrollAttendanceService {
         Integer workedMinObj = mapper.sumWorkedMinutesInMonth(employeeId, start, end);
         int workedMin = workedMinObj == null ? 0 : workedMinObj;
 
+        return calculateOvertimePay(getBaseSalary(employeeId), workedMin);
+    }
+
+    /**
+     * 집계된 기본급/근무시간 기반 초과근무 수당 계산
+     *
+     * @param baseSalary    기본급
+     * @param workedMinutes 해당 월 총 근무 시간(분)
+     * @return 초과근무 수당 금액
+     *
+     * 사용 목적
+     *  - 급여 배치에서 일괄 조회한 값으로 계산할 때 사원 단위 재조회 없이 동일 규칙 적용
+     */
+    @Override
+    public int calculateOvertimePay(int baseSalary, int workedMinutes) {
         // 기준 근무 시간 (MVP 기준: 209시간)
         int standardMin = 209 * 60;
 
         // 초과근무 시간(분)
-        int overtimeMin = Math.max(0, workedMin - standardMin);
+        int overtimeMin = Math.max(0, workedMinutes - standardMin);
 
         // 시급계산 = baseSalary / 209시간 (MVP)
-        int hourly = (int) Math.floor((double)getBaseSalary(employeeId) / 209.0);
+        int hourly = (int) Math.floor((double) baseSalary / 209.0);
 
         // 초과근무 OT수당 계산 = OT시간 * 시급 * 1.5 (MVP  1.5배 가산)
         double overtimeHours = overtimeMin / 60.0;
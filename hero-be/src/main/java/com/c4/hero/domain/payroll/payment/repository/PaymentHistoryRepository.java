@@ -2,8 +2,14 @@ package com.c4.hero.domain.payroll.payment.repository;
 
 import com.c4.hero.domain.payroll.payment.entity.PaymentHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 /**
  * <pre>
  * Repository Name : PaymentHistoryRepository
@@ -12,13 +18,15 @@ import org.springframework.stereotype.Repository;
  * 역할
  *  - 급여 지급(PAID) 처리 시 생성되는 PaymentHistory 엔티티 저장/조회
  *  - 특정 payrollId 에 대한 지급 이력이 이미 존재하는지 검사
+ *  - 배치 단위 미지급 급여 지급 이력 일괄 생성 (INSERT ... SELECT)
  *
  * History
  *   2025/12/17 - 동근 최초 작성
+ *   2026/01/14 - 동근 배치 단위 지급 이력 일괄 생성 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Repository
 public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory, Integer> {
@@ -30,4 +38,33 @@ public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory,
      * @return 존재하면 true, 없으면 false
      */
     boolean existsByPayrollId(Integer payrollId);
+
+    /**
+     * 배치 내 미지급 급여에 대한 지급 완료(COMPLETED) 이력 일괄 생성
+     *
+     * - 지급 이력이 없는 급여만 anti-join 으로 골라 한 번의 INSERT ... SELECT 로 저장
+     * - 급여 건수와 무관하게 1회 왕복, 재실행 시 이미 지급된 급여는 제외 (멱등)
+     * - 컬럼 값은 PaymentHistory.completed(...) 와 동일 규칙
+     *
+     * @param batchId     배치 ID
+     * @param paymentDate 지급일
+     * @param createdAt   생성 시각
+     * @return 생성된 지급 이력 건수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO tbl_payment_history
+            (payment_date, payment_amount, payment_method, status, created_at, bank_account_id, payroll_id)
+        SELECT :paymentDate, p.total_pay, 'BANK_TRANSFER', 'COMPLETED', :createdAt, NULL, p.payroll_id
+          FROM tbl_payroll p
+          LEFT JOIN tbl_payment_history h
+                 ON h.payroll_id = p.payroll_id
+         WHERE p.batch_id = :batchId
+           AND h.payment_id IS NULL
+        """, nativeQuery = true)
+    int insertCompletedForUnpaid(
+            @Param("batchId") Integer batchId,
+            @Param("paymentDate") LocalDate paymentDate,
+            @Param("createdAt") LocalDateTime createdAt
+    );
 }
@@ -0,0 +1,332 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name : CompiledPayrollPolicy
+ * Description : 배치 단위로 1회 컴파일된 급여 항목 정책 규칙 집합 (불변)
+ *
+ * 구조
+ *  - 규칙 배열: 수당 → 공제 순, 같은 유형은 priority → itemPolicyId 순으로 정렬
+ *    (공제의 GROSS_PAY / TAXABLE_PAY 기준금액이 모든 수당 적용 후 값이 되도록)
+ *  - 대상 인덱스: 전체 / 부서 ID / 직급 ID / 사원 ID → 규칙 위치(int[], 오름차순)
+ *  - 금액 계산기: FIXED 는 상수, RATE 는 비율을 정수(1/10000 %)로 미리 변환, FORMULA 는 AST
+ *
+ * 평가 (사원 1명)
+ *  - 대상 인덱스 최대 4개를 비트셋으로 합쳐 규칙 순서대로 적용 (DB 조회/문자열 해석 없음)
+ *  - 금액은 1/1,000,000 원 단위 정수로 계산한 뒤 rounding unit/mode 로 한 번만 반올림
+ *  - 생성 이후 변경되지 않으므로 여러 계산 스레드에서 동시에 평가해도 안전
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class CompiledPayrollPolicy {
+
+    /** 적용할 정책이 없는 경우 */
+    public static final CompiledPayrollPolicy EMPTY =
+            new CompiledPayrollPolicy(null, new Rule[0], Set.of(), new int[0], Map.of(), Map.of(), Map.of());
+
+    /** 금액 내부 단위 (1원 = 1,000,000) */
+    private static final long MICROS = 1_000_000L;
+
+    private static final Comparator<PolicyRuleDefinition> RULE_ORDER = Comparator
+            .comparing((PolicyRuleDefinition d) -> d.itemType() == ItemType.ALLOWANCE ? 0 : 1)
+            .thenComparing(d -> d.priority() == null ? 0 : d.priority())
+            .thenComparing(d -> d.itemPolicyId() == null ? Integer.MAX_VALUE : d.itemPolicyId());
+
+    private final Integer policyId;
+    private final Rule[] rules;
+    private final Set<String> itemCodes;
+    private final int[] forAll;
+    private final Map<Integer, int[]> byDepartment;
+    private final Map<Integer, int[]> byGrade;
+    private final Map<Integer, int[]> byEmployee;
+
+    private CompiledPayrollPolicy(Integer policyId, Rule[] rules, Set<String> itemCodes, int[] forAll,
+                                  Map<Integer, int[]> byDepartment,
+                                  Map<Integer, int[]> byGrade,
+                                  Map<Integer, int[]> byEmployee) {
+        this.policyId = policyId;
+        this.rules = rules;
+        this.itemCodes = itemCodes;
+        this.forAll = forAll;
+        this.byDepartment = byDepartment;
+        this.byGrade = byGrade;
+        this.byEmployee = byEmployee;
+    }
+
+    /**
+     * 항목 정책 정의 컴파일
+     *
+     * @param policyId    급여 정책 ID
+     * @param definitions 항목 정책 정의 (순서 무관)
+     * @return 컴파일된 규칙 집합
+     * @throws IllegalArgumentException 수식 오류, 대상 값 오류, 필수 값 누락
+     */
+    public static CompiledPayrollPolicy compile(Integer policyId, List<PolicyRuleDefinition> definitions) {
+        List<PolicyRuleDefinition> sorted = definitions.stream().sorted(RULE_ORDER).toList();
+
+        Rule[] rules = new Rule[sorted.size()];
+        List<Integer> all = new ArrayList<>();
+        Map<Integer, List<Integer>> departments = new HashMap<>();
+        Map<Integer, List<Integer>> grades = new HashMap<>();
+        Map<Integer, List<Integer>> employees = new HashMap<>();
+
+        for (int i = 0; i < sorted.size(); i++) {
+            PolicyRuleDefinition definition = sorted.get(i);
+            rules[i] = Rule.of(definition);
+
+            List<PolicyRuleDefinition.Target> targets = definition.targets();
+            if (targets == null || targets.isEmpty()) {
+                all.add(i);
+                continue;
+            }
+            for (PolicyRuleDefinition.Target target : targets) {
+                if (target.type() == PayrollTargetType.ALL) {
+                    all.add(i);
+                    continue;
+                }
+                Integer key = parseTargetValue(definition, target);
+                Map<Integer, List<Integer>> index = switch (target.type()) {
+                    case DEPARTMENT -> departments;
+                    case POSITION -> grades;
+                    default -> employees;
+                };
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Set<String> itemCodes = sorted.stream()
+                .map(PolicyRuleDefinition::itemCode)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new CompiledPayrollPolicy(policyId, rules, itemCodes, toArray(all),
+                freeze(departments), freeze(grades), freeze(employees));
+    }
+
+    /**
+     * 사원 1명 평가
+     *
+     * @param employeeId    사원 ID
+     * @param departmentId  부서 ID (없으면 0)
+     * @param gradeId       직급 ID (없으면 0)
+     * @param baseSalary    기본급 (인상 반영)
+     * @param overtimePay   연장근무수당
+     * @param workedMinutes 월 근무 시간(분)
+     * @return 평가 결과
+     */
+    public PayrollPolicyResult evaluate(int employeeId, int departmentId, int gradeId,
+                                        int baseSalary, int overtimePay, int workedMinutes) {
+        if (rules.length == 0) {
+            return PayrollPolicyResult.EMPTY;
+        }
+
+        double[] vars = new double[PolicyVariable.SIZE];
+        vars[PolicyVariable.BASE_SALARY.ordinal()] = baseSalary;
+        vars[PolicyVariable.OVERTIME_PAY.ordinal()] = overtimePay;
+        vars[PolicyVariable.GROSS_PAY.ordinal()] = (double) baseSalary + overtimePay;
+        vars[PolicyVariable.TAXABLE_PAY.ordinal()] = (double) baseSalary + overtimePay;
+        vars[PolicyVariable.WORKED_HOURS.ordinal()] = workedMinutes / 60.0;
+
+        long[] selected = new long[(rules.length + 63) >>> 6];
+        mark(selected, forAll);
+        mark(selected, byDepartment.get(departmentId));
+        mark(selected, byGrade.get(gradeId));
+        mark(selected, byEmployee.get(employeeId));
+
+        long allowanceTotal = 0;
+        long deductionTotal = 0;
+        List<PayrollPolicyResult.Item> items = new ArrayList<>();
+
+        for (int word = 0; word < selected.length; word++) {
+            long bits = selected[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                Rule rule = rules[index];
+                long amount = rule.apply(vars);
+                if (amount <= 0) continue;
+
+                if (rule.allowance) {
+                    allowanceTotal += amount;
+                    vars[PolicyVariable.GROSS_PAY.ordinal()] += amount;
+                    if (rule.taxable) vars[PolicyVariable.TAXABLE_PAY.ordinal()] += amount;
+                } else {
+                    deductionTotal += amount;
+                }
+                items.add(new PayrollPolicyResult.Item(
+                        rule.itemType, rule.itemCode, rule.itemName, Math.toIntExact(amount), rule.taxableYn));
+            }
+        }
+
+        return new PayrollPolicyResult(Math.toIntExact(allowanceTotal), Math.toIntExact(deductionTotal), items);
+    }
+
+    /**
+     * @return 적용할 항목 정책이 없으면 true (정책 미적용 배치)
+     */
+    public boolean isEmpty() {
+        return rules.length == 0;
+    }
+
+    /**
+     * @return 급여 정책 ID (정책 미적용 배치면 null)
+     */
+    public Integer policyId() {
+        return policyId;
+    }
+
+    /**
+     * @return 정책에 포함된 항목 코드 (재계산 시 기존 정책 항목 교체 기준)
+     */
+    public Set<String> itemCodes() {
+        return itemCodes;
+    }
+
+    /**
+     * @return 규칙 수
+     */
+    public int ruleCount() {
+        return rules.length;
+    }
+
+    private static void mark(long[] selected, int[] indexes) {
+        if (indexes == null) return;
+        for (int index : indexes) {
+            selected[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private static Integer parseTargetValue(PolicyRuleDefinition definition, PolicyRuleDefinition.Target target) {
+        try {
+            return Integer.valueOf(target.value().trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("항목 " + definition.itemCode() + " 의 " + target.type()
+                    + " 대상 값은 ID(숫자)여야 합니다: " + target.value());
+        }
+    }
+
+    private static int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).distinct().toArray();
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, List<Integer>> index) {
+        Map<Integer, int[]> frozen = new HashMap<>(index.size() * 2);
+        index.forEach((key, value) -> frozen.put(key, toArray(value)));
+        return Map.copyOf(frozen);
+    }
+
+    /**
+     * 1/1,000,000 원 단위 금액을 rounding unit/mode 로 반올림
+     */
+    static long round(long micros, long unit, RoundingModeType mode) {
+        long divisor = MICROS * unit;
+        long quotient = Math.floorDiv(micros, divisor);
+        long remainder = Math.floorMod(micros, divisor);
+        if (remainder != 0) {
+            switch (mode) {
+                case CEIL -> quotient++;
+                case HALF_UP -> {
+                    if (remainder >= divisor - remainder) quotient++;
+                }
+                case FLOOR -> { }
+            }
+        }
+        return quotient * unit;
+    }
+
+    /** 금액 계산기 (1/1,000,000 원 단위) */
+    @FunctionalInterface
+    private interface AmountFunction {
+        long micros(double[] vars);
+    }
+
+    /** 컴파일된 항목 규칙 */
+    private static final class Rule {
+        private final String itemType;
+        private final String itemCode;
+        private final String itemName;
+        private final String taxableYn;
+        private final boolean allowance;
+        private final boolean taxable;
+        private final AmountFunction amount;
+        private final long roundingUnit;
+        private final RoundingModeType roundingMode;
+
+        private Rule(PolicyRuleDefinition d, AmountFunction amount) {
+            this.itemType = d.itemType().name();
+            this.itemCode = d.itemCode();
+            this.itemName = d.itemName() == null ? d.itemCode() : d.itemName();
+            this.taxableYn = d.taxableYn() == null ? "Y" : d.taxableYn();
+            this.allowance = d.itemType() == ItemType.ALLOWANCE;
+            this.taxable = "Y".equals(this.taxableYn);
+            this.amount = amount;
+            this.roundingUnit = d.roundingUnit() == null || d.roundingUnit() <= 0 ? 1 : d.roundingUnit();
+            this.roundingMode = d.roundingMode() == null ? RoundingModeType.HALF_UP : d.roundingMode();
+        }
+
+        static Rule of(PolicyRuleDefinition d) {
+            if (d.itemType() == null || d.calcMethod() == null || d.itemCode() == null) {
+                throw new IllegalArgumentException("항목 정책의 유형/계산 방식/코드는 필수입니다. itemPolicyId=" + d.itemPolicyId());
+            }
+            return new Rule(d, switch (d.calcMethod()) {
+                case FIXED -> fixed(d);
+                case RATE -> rate(d);
+                case FORMULA -> formula(d);
+            });
+        }
+
+        long apply(double[] vars) {
+            long micros = amount.micros(vars);
+            return micros <= 0 ? 0 : round(micros, roundingUnit, roundingMode);
+        }
+
+        private static AmountFunction fixed(PolicyRuleDefinition d) {
+            long micros = (d.fixedAmount() == null ? 0L : d.fixedAmount()) * MICROS;
+            return vars -> micros;
+        }
+
+        private static AmountFunction rate(PolicyRuleDefinition d) {
+            if (d.rate() == null) {
+                throw new IllegalArgumentException("항목 " + d.itemCode() + " 의 RATE 비율이 없습니다.");
+            }
+            // 기준금액(원) × 비율(%) / 100 = 기준금액 × (비율 × 10,000) 마이크로원
+            long ratePerMillion = d.rate().movePointRight(4).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            int slot = PolicyVariable.of(d.baseAmountType() == null
+                    ? BaseAmountType.BASE_SALARY
+                    : d.baseAmountType()).ordinal();
+            return vars -> Math.round(vars[slot]) * ratePerMillion;
+        }
+
+        private static AmountFunction formula(PolicyRuleDefinition d) {
+            Formula formula;
+            try {
+                formula = FormulaCompiler.compile(d.formula());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("항목 " + d.itemCode() + " 수식 오류 - " + e.getMessage());
+            }
+            return vars -> {
+                double value = formula.evaluate(vars);
+                return Double.isFinite(value) ? Math.round(value * MICROS) : 0L;
+            };
+        }
+    }
+}
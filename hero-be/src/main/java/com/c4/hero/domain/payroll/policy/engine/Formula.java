@@ -0,0 +1,25 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+/**
+ * <pre>
+ * Interface Name : Formula
+ * Description : 컴파일된 FORMULA 항목 수식 (FormulaCompiler 가 만든 AST)
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Formula {
+
+    /**
+     * 수식 평가
+     *
+     * @param vars PolicyVariable ordinal 위치의 변수 값
+     * @return 계산 결과 (원 단위, 반올림 전)
+     */
+    double evaluate(double[] vars);
+}
@@ -0,0 +1,231 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <pre>
+ * Class Name : FormulaCompiler
+ * Description : FORMULA 항목 수식 문자열을 평가 가능한 AST(Formula) 로 컴파일
+ *
+ * 문법
+ *  expr    := term (('+' | '-') term)*
+ *  term    := unary (('*' | '/') unary)*
+ *  unary   := '-' unary | primary
+ *  primary := 숫자 | 변수 | MIN(expr, expr) | MAX(expr, expr) | '(' expr ')'
+ *
+ *  - 변수: PolicyVariable 이름 (대소문자 무시, 예: BASE_SALARY * 0.1 + WORKED_HOURS * 1000)
+ *  - 0 으로 나누면 0
+ *  - 변수가 없는 부분식은 컴파일 시 상수로 접어 평가 시 연산을 줄임
+ *
+ * 배치 시작 시 1회만 컴파일하고, 사원별 평가는 문자열 해석 없이 노드 호출만 수행
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class FormulaCompiler {
+
+    private final String source;
+    private int pos;
+
+    private FormulaCompiler(String source) {
+        this.source = source;
+    }
+
+    /**
+     * 수식 컴파일
+     *
+     * @param source 수식 문자열
+     * @return 컴파일된 수식
+     * @throws IllegalArgumentException 문법 오류, 알 수 없는 변수/함수
+     */
+    public static Formula compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("수식이 비어 있습니다.");
+        }
+        FormulaCompiler compiler = new FormulaCompiler(source);
+        Node node = compiler.expression();
+        compiler.skipSpaces();
+        if (compiler.pos < source.length()) {
+            throw compiler.error("해석할 수 없는 문자");
+        }
+        return node;
+    }
+
+    private Node expression() {
+        Node left = term();
+        while (true) {
+            if (accept('+')) {
+                left = binary(left, term(), '+');
+            } else if (accept('-')) {
+                left = binary(left, term(), '-');
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node term() {
+        Node left = unary();
+        while (true) {
+            if (accept('*')) {
+                left = binary(left, unary(), '*');
+            } else if (accept('/')) {
+                left = binary(left, unary(), '/');
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node unary() {
+        if (accept('-')) {
+            Node operand = unary();
+            return fold(operand, vars -> -operand.evaluate(vars));
+        }
+        return primary();
+    }
+
+    private Node primary() {
+        skipSpaces();
+        if (pos >= source.length()) {
+            throw error("식이 필요합니다");
+        }
+
+        char c = source.charAt(pos);
+        if (c == '(') {
+            pos++;
+            Node inner = expression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return number();
+        }
+        if (Character.isLetter(c) || c == '_') {
+            return identifier();
+        }
+        throw error("예상하지 못한 문자 '" + c + "'");
+    }
+
+    private Node number() {
+        int start = pos;
+        while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+            pos++;
+        }
+        try {
+            double value = Double.parseDouble(source.substring(start, pos));
+            return new Constant(value);
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("숫자 형식 오류");
+        }
+    }
+
+    private Node identifier() {
+        int start = pos;
+        while (pos < source.length()
+                && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '_')) {
+            pos++;
+        }
+        String name = source.substring(start, pos).toUpperCase(Locale.ROOT);
+
+        if (accept('(')) {
+            List<Node> args = new ArrayList<>();
+            args.add(expression());
+            while (accept(',')) {
+                args.add(expression());
+            }
+            expect(')');
+            return function(name, args, start);
+        }
+
+        try {
+            int slot = PolicyVariable.valueOf(name).ordinal();
+            return vars -> vars[slot];
+        } catch (IllegalArgumentException e) {
+            pos = start;
+            throw error("알 수 없는 변수 '" + name + "'");
+        }
+    }
+
+    private Node function(String name, List<Node> args, int start) {
+        if (args.size() != 2) {
+            pos = start;
+            throw error(name + " 함수는 인자 2개가 필요합니다");
+        }
+        Node a = args.get(0);
+        Node b = args.get(1);
+        return switch (name) {
+            case "MIN" -> fold(a, b, vars -> Math.min(a.evaluate(vars), b.evaluate(vars)));
+            case "MAX" -> fold(a, b, vars -> Math.max(a.evaluate(vars), b.evaluate(vars)));
+            default -> {
+                pos = start;
+                throw error("알 수 없는 함수 '" + name + "'");
+            }
+        };
+    }
+
+    private static Node binary(Node left, Node right, char op) {
+        return switch (op) {
+            case '+' -> fold(left, right, vars -> left.evaluate(vars) + right.evaluate(vars));
+            case '-' -> fold(left, right, vars -> left.evaluate(vars) - right.evaluate(vars));
+            case '*' -> fold(left, right, vars -> left.evaluate(vars) * right.evaluate(vars));
+            default -> fold(left, right, vars -> {
+                double divisor = right.evaluate(vars);
+                return divisor == 0 ? 0 : left.evaluate(vars) / divisor;
+            });
+        };
+    }
+
+    /** 피연산자가 모두 상수면 컴파일 시점에 계산 */
+    private static Node fold(Node operand, Node node) {
+        return operand instanceof Constant ? new Constant(node.evaluate(null)) : node;
+    }
+
+    private static Node fold(Node left, Node right, Node node) {
+        return left instanceof Constant && right instanceof Constant ? new Constant(node.evaluate(null)) : node;
+    }
+
+    private boolean accept(char expected) {
+        skipSpaces();
+        if (pos < source.length() && source.charAt(pos) == expected) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!accept(expected)) {
+            throw error("'" + expected + "' 가 필요합니다");
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " (위치 " + (pos + 1) + "): " + source);
+    }
+
+    /** AST 노드 */
+    private interface Node extends Formula {
+    }
+
+    /** 상수 노드 */
+    private record Constant(double value) implements Node {
+        @Override
+        public double evaluate(double[] vars) {
+            return value;
+        }
+    }
+}
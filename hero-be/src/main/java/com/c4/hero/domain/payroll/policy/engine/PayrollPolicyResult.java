@@ -0,0 +1,40 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name : PayrollPolicyResult
+ * Description : 사원 1명에 대한 항목 정책 평가 결과
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param allowanceTotal 정책 수당 합계
+ * @param deductionTotal 정책 공제 합계
+ * @param items          금액이 0 보다 큰 항목 (평가 순서)
+ */
+public record PayrollPolicyResult(
+        int allowanceTotal,
+        int deductionTotal,
+        List<Item> items
+) {
+
+    /** 적용된 항목이 없는 결과 */
+    public static final PayrollPolicyResult EMPTY = new PayrollPolicyResult(0, 0, List.of());
+
+    /**
+     * 적용된 항목
+     *
+     * @param itemType  ALLOWANCE / DEDUCTION
+     * @param itemCode  항목 코드
+     * @param itemName  항목명
+     * @param amount    금액 (원)
+     * @param taxableYn 과세 여부
+     */
+    public record Item(String itemType, String itemCode, String itemName, int amount, String taxableYn) {}
+}
@@ -0,0 +1,67 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name : PolicyRuleDefinition
+ * Description : 배치에 고정(스냅샷)되는 항목 정책 1건의 계산 정의
+ *
+ *  - BatchPolicySnapshot.snapshotJson 에 PolicySnapshotPayload 로 저장되어
+ *    같은 배치를 재계산해도 배치 최초 계산 시점의 정책으로 계산됨
+ *  - 항목명/과세 여부는 수당/공제 마스터에서, 수식은 정책 설정(FORMULA.{itemCode})에서 함께 고정
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param itemPolicyId   항목 정책 ID
+ * @param itemType       수당/공제
+ * @param itemCode       항목 코드 (수당/공제 마스터 ID)
+ * @param itemName       항목명 (급여 항목 표시용)
+ * @param taxableYn      과세 여부 (수당만 의미 있음)
+ * @param calcMethod     계산 방식
+ * @param fixedAmount    FIXED 금액
+ * @param rate           RATE 비율 (%)
+ * @param baseAmountType RATE 기준금액
+ * @param roundingUnit   반올림 단위 (원)
+ * @param roundingMode   반올림 방식
+ * @param priority       같은 유형 내 평가 순서 (작을수록 먼저)
+ * @param formula        FORMULA 수식
+ * @param targets        적용 대상 (비어 있으면 전체)
+ */
+public record PolicyRuleDefinition(
+        Integer itemPolicyId,
+        ItemType itemType,
+        String itemCode,
+        String itemName,
+        String taxableYn,
+        CalcMethod calcMethod,
+        Integer fixedAmount,
+        BigDecimal rate,
+        BaseAmountType baseAmountType,
+        Integer roundingUnit,
+        RoundingModeType roundingMode,
+        Integer priority,
+        String formula,
+        List<Target> targets
+) {
+
+    /**
+     * 적용 대상
+     *
+     * @param type  대상 유형
+     * @param value 대상 값 (DEPARTMENT: 부서 ID, POSITION: 직급 ID, EMPLOYEE: 사원 ID)
+     */
+    public record Target(PayrollTargetType type, String value) {}
+}
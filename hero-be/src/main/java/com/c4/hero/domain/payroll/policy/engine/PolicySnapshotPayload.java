@@ -0,0 +1,25 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name : PolicySnapshotPayload
+ * Description : BatchPolicySnapshot.snapshotJson 본문 (배치에 고정된 항목 정책 정의 전체)
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param policyId    급여 정책 ID
+ * @param salaryMonth 급여월 (YYYY-MM)
+ * @param rules       급여월에 유효한 활성 항목 정책 정의
+ */
+public record PolicySnapshotPayload(
+        Integer policyId,
+        String salaryMonth,
+        List<PolicyRuleDefinition> rules
+) {}
@@ -0,0 +1,53 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+
+/**
+ * <pre>
+ * Enum Name : PolicyVariable
+ * Description : 항목 정책 계산 시 참조 가능한 사원별 값 (RATE 기준금액, FORMULA 변수)
+ *
+ *  - 평가 시 ordinal 위치의 double[] 슬롯에 값을 담아 이름 조회 없이 접근
+ *  - GROSS_PAY / TAXABLE_PAY 는 수당 항목이 적용될 때마다 누적 (공제는 모든 수당 이후 평가)
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public enum PolicyVariable {
+
+    /** 기본급 (승인된 인상 반영) */
+    BASE_SALARY,
+
+    /** 연장근무수당 */
+    OVERTIME_PAY,
+
+    /** 지급총액 (기본급 + 연장근무수당 + 앞서 적용된 수당) */
+    GROSS_PAY,
+
+    /** 과세대상 (기본급 + 연장근무수당 + 앞서 적용된 과세 수당) */
+    TAXABLE_PAY,
+
+    /** 월 근무 시간 */
+    WORKED_HOURS;
+
+    /** 평가용 슬롯 수 */
+    static final int SIZE = values().length;
+
+    /**
+     * RATE 항목의 기준금액 유형에 해당하는 변수
+     *
+     * @param baseAmountType 기준금액 유형
+     * @return 변수
+     */
+    static PolicyVariable of(BaseAmountType baseAmountType) {
+        return switch (baseAmountType) {
+            case BASE_SALARY -> BASE_SALARY;
+            case GROSS_PAY -> GROSS_PAY;
+            case TAXABLE_PAY -> TAXABLE_PAY;
+        };
+    }
+}
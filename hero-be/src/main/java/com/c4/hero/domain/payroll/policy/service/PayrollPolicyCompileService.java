@@ -0,0 +1,221 @@
+package com.c4.hero.domain.payroll.policy.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.allowance.entity.Allowance;
+import com.c4.hero.domain.payroll.allowance.repository.AllowanceRepository;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollConfigKey;
+import com.c4.hero.domain.payroll.common.type.PolicyStatus;
+import com.c4.hero.domain.payroll.deduction.entity.Deduction;
+import com.c4.hero.domain.payroll.deduction.repository.DeductionRepository;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.PolicyRuleDefinition;
+import com.c4.hero.domain.payroll.policy.engine.PolicySnapshotPayload;
+import com.c4.hero.domain.payroll.policy.entity.BatchPolicySnapshot;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
+import com.c4.hero.domain.payroll.policy.entity.PayrollPolicy;
+import com.c4.hero.domain.payroll.policy.entity.PolicyConfig;
+import com.c4.hero.domain.payroll.policy.repository.BatchPolicySnapshotRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyRepository;
+import com.c4.hero.domain.payroll.policy.repository.PolicyConfigRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name : PayrollPolicyCompileService
+ * Description : 급여 배치 계산 전 항목 정책을 1회 조회/컴파일하는 서비스
+ *
+ * 흐름
+ *  - 배치 스냅샷(BatchPolicySnapshot)이 있으면 스냅샷 JSON 으로 컴파일
+ *    → 재계산 시에도 최초 계산 시점의 규칙을 그대로 사용 (정책이 바뀌어도 배치 결과 재현 가능)
+ *  - 없으면 ACTIVE 정책의 급여월 유효 항목/대상/수식/항목명을 한 번에 조회해
+ *    규칙 정의로 변환 → 컴파일로 검증 → 스냅샷 저장
+ *  - 컴파일 결과는 불변이며 계산 스레드가 공유 (사원별 평가 시 DB 조회 없음)
+ *
+ * 수식(FORMULA) 항목
+ *  - 항목 엔티티에 수식 컬럼이 없으므로 정책 공통 설정의 "FORMULA.{itemCode}" 값을 수식으로 사용
+ *
+ * History
+ *  2026/01/22 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollPolicyCompileService {
+
+    private final BatchPolicySnapshotRepository snapshotRepository;
+    private final PolicySnapshotTxService snapshotTxService;
+    private final PayrollPolicyRepository policyRepository;
+    private final PayrollItemPolicyRepository itemPolicyRepository;
+    private final PayrollItemPolicyTargetRepository targetRepository;
+    private final PolicyConfigRepository configRepository;
+    private final AllowanceRepository allowanceRepository;
+    private final DeductionRepository deductionRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배치에 적용할 항목 정책 컴파일
+     *
+     * @param batch 급여 배치
+     * @return 컴파일된 규칙 집합 (적용할 정책이 없으면 CompiledPayrollPolicy.EMPTY)
+     * @throws BusinessException PAYROLL_POLICY_INVALID (수식/대상 값 오류)
+     */
+    public CompiledPayrollPolicy compileForBatch(PayrollBatch batch) {
+        long startedAt = System.currentTimeMillis();
+
+        Optional<BatchPolicySnapshot> snapshot = snapshotRepository.findByBatchId(batch.getBatchId());
+        PolicySnapshotPayload payload = snapshot.isPresent()
+                ? readSnapshot(snapshot.get())
+                : loadActivePolicy(batch.getSalaryMonth());
+
+        if (payload == null) {
+            log.info("급여 항목 정책 없음 - batchId={}, month={}", batch.getBatchId(), batch.getSalaryMonth());
+            return CompiledPayrollPolicy.EMPTY;
+        }
+
+        CompiledPayrollPolicy compiled = compile(payload);
+
+        if (snapshot.isEmpty()) {
+            snapshotTxService.saveSnapshot(batch.getBatchId(), payload.policyId(),
+                    batch.getSalaryMonth(), objectMapper.writeValueAsString(payload));
+        }
+
+        log.info("급여 항목 정책 컴파일 - batchId={}, policyId={}, 규칙={}, 스냅샷={}, {}ms",
+                batch.getBatchId(), compiled.policyId(), compiled.ruleCount(),
+                snapshot.isPresent() ? "재사용" : "생성", System.currentTimeMillis() - startedAt);
+        return compiled;
+    }
+
+    /**
+     * 급여월에 유효한 ACTIVE 정책을 규칙 정의로 변환
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 스냅샷 본문 (유효한 정책이 없으면 null)
+     */
+    private PolicySnapshotPayload loadActivePolicy(String salaryMonth) {
+        PayrollPolicy policy = policyRepository.findFirstByStatusOrderByPolicyIdDesc(PolicyStatus.ACTIVE)
+                .filter(p -> inPeriod(salaryMonth, p.getSalaryMonthFrom(), p.getSalaryMonthTo()))
+                .orElse(null);
+        if (policy == null) {
+            return null;
+        }
+
+        List<PayrollItemPolicy> items = itemPolicyRepository.findAllByPolicyId(policy.getPolicyId()).stream()
+                .filter(item -> "Y".equals(item.getActiveYn()))
+                .filter(item -> inPeriod(salaryMonth, item.getSalaryMonthFrom(), item.getSalaryMonthTo()))
+                .toList();
+
+        Map<Integer, List<PolicyRuleDefinition.Target>> targets = items.isEmpty()
+                ? Map.of()
+                : targetRepository.findAllByItemPolicyIdIn(
+                                items.stream().map(PayrollItemPolicy::getItemPolicyId).toList()).stream()
+                        .collect(Collectors.groupingBy(PayrollItemPolicyTarget::getItemPolicyId,
+                                Collectors.mapping(t -> new PolicyRuleDefinition.Target(
+                                        t.getPayrollTargetType(), t.getTargetValue()), Collectors.toList())));
+
+        Map<String, String> formulas = configRepository.findAllByPolicyId(policy.getPolicyId()).stream()
+                .filter(config -> "Y".equals(config.getActiveYn()))
+                .filter(config -> config.getConfigKey().startsWith(PayrollConfigKey.FORMULA_PREFIX))
+                .collect(Collectors.toMap(
+                        config -> config.getConfigKey().substring(PayrollConfigKey.FORMULA_PREFIX.length()),
+                        PolicyConfig::getConfigValue,
+                        (a, b) -> b));
+
+        Map<String, Allowance> allowances = allowanceRepository.findAll().stream()
+                .collect(Collectors.toMap(Allowance::getAllowanceId, Function.identity()));
+        Map<String, Deduction> deductions = deductionRepository.findAll().stream()
+                .collect(Collectors.toMap(Deduction::getDeductionId, Function.identity()));
+
+        List<PolicyRuleDefinition> rules = items.stream()
+                .map(item -> toDefinition(item, targets, formulas, allowances, deductions))
+                .toList();
+
+        return new PolicySnapshotPayload(policy.getPolicyId(), salaryMonth, rules);
+    }
+
+    private static PolicyRuleDefinition toDefinition(
+            PayrollItemPolicy item,
+            Map<Integer, List<PolicyRuleDefinition.Target>> targets,
+            Map<String, String> formulas,
+            Map<String, Allowance> allowances,
+            Map<String, Deduction> deductions
+    ) {
+        String itemName = item.getItemCode();
+        String taxableYn = "N";
+        if (item.getItemType() == ItemType.ALLOWANCE) {
+            Allowance allowance = allowances.get(item.getItemCode());
+            if (allowance != null) {
+                itemName = allowance.getAllowanceName();
+                taxableYn = allowance.getTaxableYn();
+            }
+        } else {
+            Deduction deduction = deductions.get(item.getItemCode());
+            if (deduction != null) {
+                itemName = deduction.getDeductionName();
+            }
+        }
+
+        return new PolicyRuleDefinition(
+                item.getItemPolicyId(),
+                item.getItemType(),
+                item.getItemCode(),
+                itemName,
+                taxableYn,
+                item.getCalcMethod(),
+                item.getFixedAmount(),
+                item.getRate(),
+                item.getBaseAmountType(),
+                item.getRoundingUnit(),
+                item.getRoundingMode(),
+                item.getPriority(),
+                item.getCalcMethod() == CalcMethod.FORMULA ? formulas.get(item.getItemCode()) : null,
+                targets.getOrDefault(item.getItemPolicyId(), List.of())
+        );
+    }
+
+    private PolicySnapshotPayload readSnapshot(BatchPolicySnapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.getSnapshotJson(), PolicySnapshotPayload.class);
+        } catch (JacksonException e) {
+            throw new BusinessException(ErrorCode.PAYROLL_POLICY_INVALID,
+                    "배치 정책 스냅샷을 읽을 수 없습니다. batchId=" + snapshot.getBatchId());
+        }
+    }
+
+    private static CompiledPayrollPolicy compile(PolicySnapshotPayload payload) {
+        try {
+            return CompiledPayrollPolicy.compile(payload.policyId(),
+                    payload.rules() == null ? List.of() : payload.rules());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.PAYROLL_POLICY_INVALID, e.getMessage());
+        }
+    }
+
+    /** YYYY-MM 문자열 비교로 적용 기간 포함 여부 판단 (to 가 없으면 무기한) */
+    private static boolean inPeriod(String salaryMonth, String from, String to) {
+        return (from == null || from.compareTo(salaryMonth) <= 0)
+                && (to == null || to.isBlank() || to.compareTo(salaryMonth) >= 0);
+    }
+}
@@ -2,6 +2,7 @@ package com.c4.hero.domain.payroll.policy.service;
 
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.common.type.PayrollConfigKey;
+import com.c4.hero.domain.payroll.policy.engine.FormulaCompiler;
 import com.c4.hero.domain.payroll.policy.dto.response.PolicyConfigResponseDTO;
 import com.c4.hero.domain.payroll.policy.dto.request.PolicyConfigUpsertRequestDTO;
 import com.c4.hero.domain.payroll.policy.entity.PolicyConfig;
@@ -20,10 +21,11 @@ import java.util.List;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/01/22 - 동근 FORMULA.{itemCode} 수식 설정 허용 및 문법 검증
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -67,7 +69,7 @@ public class PolicyConfigService {
 
             if (req.configKey() == null || req.configKey().isBlank())
                 throw new IllegalArgumentException("configKey는 필수입니다.");
-            if (!PayrollConfigKey.ALLOWED.contains(req.configKey()))
+            if (!PayrollConfigKey.isAllowed(req.configKey()))
                 throw new IllegalArgumentException("지원하지 않는 configKey입니다. key=" + req.configKey());
 
             if (req.valueType() == null || req.valueType().isBlank())
@@ -102,6 +104,11 @@ public class PolicyConfigService {
      * - 추후 키 늘어나면 여기 switch에 케이스 추가
      */
     private void validateConfigValue(String key, String value) {
+        if (key.startsWith(PayrollConfigKey.FORMULA_PREFIX)) {
+            // 배치 계산 시점이 아닌 저장 시점에 문법 오류를 알림
+            FormulaCompiler.compile(value);
+            return;
+        }
         switch (key) {
             case "PAYDAY_DAY", "CLOSE_DAY", "PAYSLIP_SEND_DAY"-> {
                 int day;
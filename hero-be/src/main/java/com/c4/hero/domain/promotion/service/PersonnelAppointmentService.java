@@ -1,5 +1,6 @@
 package com.c4.hero.domain.promotion.service;
 
+import com.c4.hero.common.event.OrganizationChangedEvent;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.employee.entity.Grade;
@@ -14,6 +15,7 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,10 +30,11 @@ import java.util.Optional;
  *
  * History
  * 2025/12/31 (승건) 최초 작성
+ * 2026/01/17 (동근) 발령 반영 후 조직 변경 이벤트 발행 (승진 등 직급 변경 포함)
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @Service
@@ -43,6 +46,7 @@ public class PersonnelAppointmentService {
     private final EmployeeGradeRepository gradeRepository;
     private final PromotionCandidateRepository promotionCandidateRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 인사 발령 상세 내용을 기반으로 실제 시스템에 반영합니다.
@@ -106,6 +110,8 @@ public class PersonnelAppointmentService {
             promotionCommandService.confirmFinalApproval(requestDTO);
             log.info("   - 정기 승진 확정");
         }
+
+        eventPublisher.publishEvent(new OrganizationChangedEvent("PERSONNEL_APPOINTMENT"));
     }
 
     /**
@@ -9,6 +9,7 @@ import com.c4.hero.domain.approval.entity.ApprovalTemplate;
 import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
 import com.c4.hero.domain.approval.service.ApprovalCommandService;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
+import com.c4.hero.domain.department.service.DepartmentHierarchyService;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
 import com.c4.hero.domain.employee.entity.Grade;
@@ -60,10 +61,11 @@ import java.util.stream.Collectors;
  * 2025/12/24 (승건) 심사 로직 분리 및 최종 승인 시 직급 변경 로직 추가
  * 2025/12/27 (승건) 1차 심사 통과 시 결재 상신 로직 추가 (기본 결재선 적용)
  * 2025/12/28 (승건) 즉시 승진 로직 추가
+ * 2026/01/22 (동근) 하위 부서 재귀 조회를 부서 계층 스냅샷 조회로 변경
  * </pre>
  *
  * @author 승건
- * @version 1.4
+ * @version 1.5
  */
 @Service
 @RequiredArgsConstructor
@@ -78,6 +80,7 @@ public class PromotionCommandService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeGradeRepository gradeRepository;
     private final EmployeeDepartmentRepository departmentRepository;
+    private final DepartmentHierarchyService departmentHierarchyService;
     private final ApprovalCommandService approvalCommandService;
     private final ObjectMapper objectMapper;
     private final ApprovalTemplateRepository templateRepository;
@@ -231,8 +234,8 @@ public class PromotionCommandService {
             throw new BusinessException(ErrorCode.INVALID_PROMOTION_TARGET_GRADE, "해당 직급으로는 승진 계획을 생성할 수 없습니다.");
         }
 
-        // 4. 대상 부서 및 모든 하위 부서 ID 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(promotionDetail.getDepartmentId());
+        // 4. 대상 부서 및 모든 하위 부서 ID 조회 (부서 계층 스냅샷, 쿼리 없음)
+        List<Integer> departmentIds = departmentHierarchyService.getSubtreeIds(promotionDetail.getDepartmentId());
 
         // 5. 조건에 맞는 승진 후보 직원 조회
         List<Employee> candidates = employeeRepository.findPromotionCandidates(
@@ -255,28 +258,6 @@ public class PromotionCommandService {
         }
     }
 
-    /**
-     * 지정된 부서 ID와 그 아래 모든 하위 부서의 ID 목록을 재귀적으로 조회합니다.
-     *
-     * @param departmentId 최상위 부서 ID
-     * @return 자기 자신을 포함한 모든 하위 부서 ID 목록
-     */
-    private List<Integer> findAllSubDepartmentIds(Integer departmentId) {
-        List<Integer> allSubDepartments = new ArrayList<>();
-        allSubDepartments.add(departmentId); // 자기 자신 포함
-
-        List<EmployeeDepartment> directChildren = departmentRepository.findByParentDepartmentId(departmentId);
-        List<Integer> directChildrenIds = directChildren.stream()
-                .map(EmployeeDepartment::getDepartmentId)
-                .toList();
-
-        for (Integer childId : directChildrenIds) {
-            allSubDepartments.addAll(findAllSubDepartmentIds(childId));
-        }
-
-        return allSubDepartments;
-    }
-
     /**
      * 승진 후보자를 1차 심사합니다. (승인 또는 반려)
      * 대기(WAITING) 상태인 후보자만 처리 가능합니다.
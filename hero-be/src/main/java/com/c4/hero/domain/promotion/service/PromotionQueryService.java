@@ -3,6 +3,7 @@ package com.c4.hero.domain.promotion.service;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.department.service.DepartmentHierarchyService;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
 import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
@@ -36,10 +37,11 @@ import java.util.stream.Collectors;
  * 2025/12/22 (승건) 추천 가능 승진 계획 조회 로직 추가
  * 2025/12/23 (승건) 심사용 승진 계획 상세 조회 로직 추가
  * 2025/12/24 (승건) 심사용 승진 계획 목록 조회 로직 추가
+ * 2026/01/22 (동근) 하위 부서 재귀 조회를 부서 계층 스냅샷 조회로 변경
  * </pre>
  *
  * @author 승건
- * @version 1.3
+ * @version 1.4
  */
 @Service
 @RequiredArgsConstructor
@@ -48,6 +50,7 @@ public class PromotionQueryService {
 
     private final PromotionMapper promotionMapper;
     private final EmployeeDepartmentRepository departmentRepository;
+    private final DepartmentHierarchyService departmentHierarchyService;
     private final EmployeeGradeRepository gradeRepository;
 
     /**
@@ -179,7 +182,7 @@ public class PromotionQueryService {
      */
     public List<PromotionPlanResponseDTO> getRecommendPromotionPlan(Integer departmentId) {
         // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(departmentId);
+        List<Integer> departmentIds = departmentHierarchyService.getSubtreeIds(departmentId);
 
         // 2. 부서 목록이 비어있으면 빈 리스트 반환
         if (departmentIds.isEmpty()) {
@@ -200,7 +203,7 @@ public class PromotionQueryService {
      */
     public PromotionPlanDetailResponseDTO getRecommendPromotionPlanDetail(Integer promotionId, Integer departmentId) {
         // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(departmentId);
+        List<Integer> departmentIds = departmentHierarchyService.getSubtreeIds(departmentId);
 
         // 2. 부서 목록이 비어있으면 예외 처리 (혹은 빈 결과 반환)
         if (departmentIds.isEmpty()) {
@@ -218,26 +221,6 @@ public class PromotionQueryService {
         return response;
     }
 
-    /**
-     * 주어진 부서 ID를 포함한 모든 하위 부서의 ID 목록을 재귀적으로 조회합니다.
-     *
-     * @param parentDepartmentId 시작 부서 ID
-     * @return 해당 부서 및 모든 하위 부서 ID 목록
-     */
-    private List<Integer> findAllSubDepartmentIds(Integer parentDepartmentId) {
-        List<Integer> allDepartmentIds = new ArrayList<>();
-        if (parentDepartmentId != null) {
-            allDepartmentIds.add(parentDepartmentId);
-            // 직속 하위 부서 목록 조회
-            List<EmployeeDepartment> subDepartments = departmentRepository.findByParentDepartmentId(parentDepartmentId);
-            // 각 하위 부서에 대해 재귀적으로 탐색
-            for (EmployeeDepartment subDept : subDepartments) {
-                allDepartmentIds.addAll(findAllSubDepartmentIds(subDept.getDepartmentId()));
-            }
-        }
-        return allDepartmentIds;
-    }
-
     /**
      * 심사용 승진 계획 상세 정보를 조회합니다. (승인 현황 포함)
      *
@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * <pre>
  * Class Name: ExitReasonDTO
@@ -12,16 +15,20 @@ import lombok.NoArgsConstructor;
  *
  * History
  * 2025/12/30 (승건) 최초 작성
+ * 2026/01/16 (동근) 2단 캐시(Redis) 저장을 위해 Serializable 구현
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.1
  */
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ExitReasonDTO {
+public class ExitReasonDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /** 퇴사 사유 ID */
     private Integer exitReasonId;
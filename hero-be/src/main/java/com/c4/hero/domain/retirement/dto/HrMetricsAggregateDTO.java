@@ -0,0 +1,72 @@
+package com.c4.hero.domain.retirement.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: HrMetricsAggregateDTO
+ * Description: 퇴직/정착 분석 대시보드 집계 결과 (월별 스냅샷 payload)
+ *              사원 단위가 아닌 구간/분기/부서/사유 단위 집계 행만 보관
+ *
+ * History
+ * 2026/01/18 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record HrMetricsAggregateDTO(
+        LocalDate baseDate,
+        SummaryCount summary,
+        List<TenureCount> tenures,
+        List<QuarterCount> quarters,
+        List<DepartmentCount> departments,
+        List<ExitReasonCount> exitReasons
+) {
+
+    /** 퇴직 현황 요약 집계 (RetirementStatsMapper.selectSummaryCount) */
+    public record SummaryCount(
+            long countAtStart,
+            long retainedAtEnd,
+            long newHires,
+            long settledNewHires,
+            long earlyLeavers,
+            long employeesOneYearAgo,
+            long retiredInLastYear
+    ) {
+    }
+
+    /** 재직자 근속 연수별 인원 */
+    public record TenureCount(
+            long tenureYear,
+            long employeeCount
+    ) {
+    }
+
+    /** 입사 분기별 인원 / 정착 인원 / 조기 이탈 인원 */
+    public record QuarterCount(
+            int hireYear,
+            int hireQuarter,
+            long hiredCount,
+            long settledCount,
+            long earlyLeaverCount
+    ) {
+    }
+
+    /** 부서별 전체 / 퇴사 인원 */
+    public record DepartmentCount(
+            String departmentName,
+            long totalCount,
+            long retiredCount
+    ) {
+    }
+
+    /** 퇴사 사유별 전체 / 1년 미만 퇴사 인원 */
+    public record ExitReasonCount(
+            String reasonName,
+            long totalCount,
+            long earlyCount
+    ) {
+    }
+}
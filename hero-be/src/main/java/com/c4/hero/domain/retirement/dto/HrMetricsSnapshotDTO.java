@@ -0,0 +1,24 @@
+package com.c4.hero.domain.retirement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: HrMetricsSnapshotDTO
+ * Description: tbl_hr_metrics_snapshot 조회 결과
+ *
+ * History
+ * 2026/01/18 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record HrMetricsSnapshotDTO(
+        String snapshotMonth,
+        LocalDate baseDate,
+        String payload,
+        LocalDateTime refreshedAt
+) {
+}
@@ -0,0 +1,37 @@
+package com.c4.hero.domain.retirement.event;
+
+import com.c4.hero.domain.retirement.service.HrMetricsSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: HrMetricsSnapshotEventListener
+ * Description: 퇴사 승인 이벤트 수신 시 퇴직 분석 당월 스냅샷 무효화
+ *
+ *  - 커밋 이후(AFTER_COMMIT)에만 무효화하여 커밋 전 데이터로 스냅샷이 다시 만들어지는 것을 방지
+ *  - 트랜잭션 밖에서 발행된 경우에도 즉시 무효화(fallbackExecution)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HrMetricsSnapshotEventListener {
+
+    private final HrMetricsSnapshotService hrMetricsSnapshotService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRetirementApproved(RetirementApprovedEvent event) {
+        hrMetricsSnapshotService.invalidate();
+        log.debug("퇴직 분석 스냅샷 무효화 - employeeNumber={}", event.getEmployeeNumber());
+    }
+}
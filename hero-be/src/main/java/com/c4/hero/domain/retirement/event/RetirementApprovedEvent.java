@@ -0,0 +1,30 @@
+package com.c4.hero.domain.retirement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * <pre>
+ * Class Name: RetirementApprovedEvent
+ * Description: 퇴사 승인 처리 이벤트 - 퇴사일/퇴사 기록이 저장된 트랜잭션에서 발행
+ *              커밋 이후 퇴직 분석 스냅샷을 무효화하는 용도
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class RetirementApprovedEvent {
+
+    /** 퇴사 직원 사번 */
+    private final String employeeNumber;
+
+    /** 퇴사일 */
+    private final LocalDate terminationDate;
+}
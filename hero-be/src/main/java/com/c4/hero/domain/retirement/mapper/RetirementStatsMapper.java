@@ -0,0 +1,104 @@
+package com.c4.hero.domain.retirement.mapper;
+
+import com.c4.hero.domain.retirement.dto.HrMetricsAggregateDTO;
+import com.c4.hero.domain.retirement.dto.HrMetricsSnapshotDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name: RetirementStatsMapper
+ * Description: 퇴직/정착 분석 집계 쿼리 및 월별 스냅샷 MyBatis Mapper
+ *
+ * History
+ * 2026/01/18 (동근) 최초 작성
+ * 2026/01/22 (동근) 월별 스냅샷 삭제(무효화) 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Mapper
+public interface RetirementStatsMapper {
+
+    /**
+     * 잔존률/정착률/이직률 계산용 인원 집계 (관리자 부서 제외)
+     *
+     * @param today       기준일
+     * @param periodStart 잔존률 기간 시작일 (기준일 - 3년)
+     * @param oneYearAgo  기준일 - 1년
+     * @return 요약 집계 1행
+     */
+    HrMetricsAggregateDTO.SummaryCount selectSummaryCount(
+            @Param("today") LocalDate today,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("oneYearAgo") LocalDate oneYearAgo
+    );
+
+    /**
+     * 재직자 근속 연수별 인원 (관리자 부서 제외)
+     *
+     * @param today 기준일
+     * @return 근속 연수별 인원
+     */
+    List<HrMetricsAggregateDTO.TenureCount> selectTenureCounts(@Param("today") LocalDate today);
+
+    /**
+     * 입사 분기별 정착/조기 이탈 인원 (관리자 부서 제외)
+     *
+     * @param today 기준일
+     * @return 분기별 인원
+     */
+    List<HrMetricsAggregateDTO.QuarterCount> selectQuarterCounts(@Param("today") LocalDate today);
+
+    /**
+     * 부서별 전체/퇴사 인원 (관리자 부서만 제외, 대기 발령 부서 포함)
+     *
+     * @param today 기준일
+     * @return 부서별 인원
+     */
+    List<HrMetricsAggregateDTO.DepartmentCount> selectDepartmentCounts(@Param("today") LocalDate today);
+
+    /**
+     * 퇴사 사유별 전체/1년 미만 퇴사 인원 (관리자 부서 제외)
+     *
+     * @return 사유별 인원
+     */
+    List<HrMetricsAggregateDTO.ExitReasonCount> selectExitReasonCounts();
+
+    /**
+     * 월별 스냅샷 조회
+     *
+     * @param snapshotMonth 기준월 (YYYY-MM)
+     * @return 스냅샷 (없으면 null)
+     */
+    HrMetricsSnapshotDTO selectSnapshot(@Param("snapshotMonth") String snapshotMonth);
+
+    /**
+     * 월별 스냅샷 저장 (같은 달은 덮어씀)
+     *
+     * @param snapshotMonth 기준월 (YYYY-MM)
+     * @param baseDate      집계 기준일
+     * @param payload       집계 결과 JSON
+     * @param refreshedAt   갱신 시각
+     * @return 영향 행 수
+     */
+    int upsertSnapshot(
+            @Param("snapshotMonth") String snapshotMonth,
+            @Param("baseDate") LocalDate baseDate,
+            @Param("payload") String payload,
+            @Param("refreshedAt") LocalDateTime refreshedAt
+    );
+
+    /**
+     * 월별 스냅샷 삭제 (다음 조회 시 즉시 집계로 다시 저장)
+     *
+     * @param snapshotMonth 기준월 (YYYY-MM)
+     * @return 삭제 행 수
+     */
+    int deleteSnapshot(@Param("snapshotMonth") String snapshotMonth);
+}
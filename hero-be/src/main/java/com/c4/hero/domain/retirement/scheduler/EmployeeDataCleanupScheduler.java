@@ -1,11 +1,14 @@
 package com.c4.hero.domain.retirement.scheduler;
 
+import com.c4.hero.common.cache.CacheNames;
 import com.c4.hero.common.util.EncryptionUtil;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.repository.EmployeeAccountRepository;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import com.c4.hero.domain.employee.service.EmployeeSearchIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,10 +23,12 @@ import java.util.List;
  *
  * History
  * 2025/12/31 (승건) 최초 작성
+ * 2026/01/22 (동근) 익명화 후 사원 이름 캐시 무효화
+ * 2026/01/22 (동근) 익명화 후 이메일/전화번호 검색 인덱스 갱신
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.2
  */
 @Slf4j
 @Component
@@ -33,6 +38,7 @@ public class EmployeeDataCleanupScheduler {
     private final EmployeeRepository employeeRepository;
     private final EmployeeAccountRepository accountRepository;
     private final EncryptionUtil encryptionUtil;
+    private final EmployeeSearchIndexService searchIndexService;
 
     /**
      * 매일 자정(00:00:00)에 실행되어 개인정보 보관 기간이 만료된 직원의 데이터를 익명화합니다.
@@ -40,6 +46,7 @@ public class EmployeeDataCleanupScheduler {
     @Scheduled(cron = "0 0 0 * * *")
 //    @Scheduled(fixedDelay = 10000)
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public void anonymizeExpiredEmployeeData() {
         log.info("Starting expired employee data anonymization scheduler...");
 
@@ -54,6 +61,7 @@ public class EmployeeDataCleanupScheduler {
 
                 // 2. 직원 개인정보 익명화
                 employee.anonymize(encryptionUtil);
+                searchIndexService.reindex(employee);
                 
                 // 3. (선택) 실제 이미지 파일 삭제 로직 추가
                 // if (employee.getImagePath() != null) { FileUtil.deleteFile(employee.getImagePath()); }
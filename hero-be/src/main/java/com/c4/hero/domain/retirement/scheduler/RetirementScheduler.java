@@ -1,5 +1,6 @@
 package com.c4.hero.domain.retirement.scheduler;
 
+import com.c4.hero.common.event.OrganizationChangedEvent;
 import com.c4.hero.domain.employee.entity.Account;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
@@ -7,8 +8,11 @@ import com.c4.hero.domain.employee.repository.EmployeeAccountRepository;
 import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.employee.type.EmployeeStatus;
+import com.c4.hero.domain.retirement.service.HrMetricsSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,10 +27,12 @@ import java.util.List;
  *
  * History
  * 2025/12/30 (승건) 최초 작성
+ * 2026/01/17 (동근) 퇴직 처리 후 조직 변경 이벤트 발행
+ * 2026/01/18 (동근) 퇴직 분석 월별 스냅샷 갱신 추가
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.2
  */
 @Slf4j
 @Component
@@ -36,6 +42,8 @@ public class RetirementScheduler {
     private final EmployeeRepository employeeRepository;
     private final EmployeeAccountRepository accountRepository;
     private final EmployeeDepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HrMetricsSnapshotService hrMetricsSnapshotService;
 
     /**
      * 매일 자정(00:00:00)에 실행되어 퇴사일이 지난 직원의 상태를 퇴직(RETIRED)으로 변경하고,
@@ -73,7 +81,23 @@ public class RetirementScheduler {
                 }
             });
         }
-        
+
+        if (employeeCount > 0) {
+            eventPublisher.publishEvent(new OrganizationChangedEvent("RETIREMENT"));
+        }
+
         log.info("Completed retirement processing. Processed {} employees.", employeeCount);
     }
+
+    /**
+     * 매일 자정(00:05:00)에 퇴직 처리 결과가 반영된 퇴직 분석 집계로 당월 스냅샷을 갱신합니다.
+     * 퇴직 처리(00:00) 트랜잭션 커밋 이후 집계되도록 별도 작업으로 분리합니다.
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    @SchedulerLock(name = "refreshHrMetricsSnapshot", lockAtLeastFor = "PT1M", lockAtMostFor = "PT10M")
+    public void refreshHrMetricsSnapshot() {
+        LocalDate today = LocalDate.now();
+        hrMetricsSnapshotService.refresh(today);
+        log.info("Refreshed HR metrics snapshot. baseDate={}", today);
+    }
 }
@@ -0,0 +1,128 @@
+package com.c4.hero.domain.retirement.service;
+
+import com.c4.hero.domain.retirement.dto.HrMetricsAggregateDTO;
+import com.c4.hero.domain.retirement.dto.HrMetricsSnapshotDTO;
+import com.c4.hero.domain.retirement.mapper.RetirementStatsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * <pre>
+ * Class Name: HrMetricsSnapshotService
+ * Description: 퇴직/정착 분석 집계의 월별 스냅샷 관리
+ *
+ *  - 자정 스케줄러(RetirementScheduler)가 당월 스냅샷을 그날 기준으로 갱신
+ *  - 대시보드는 당월 스냅샷 1행만 읽음 (인원 수와 무관)
+ *  - 스냅샷이 없거나 기준일이 오늘이 아니면(스케줄러 미실행 등) 즉시 집계 후 저장
+ *  - 퇴사 승인이 커밋되면 당월 스냅샷을 삭제해 다음 조회에서 바로 다시 집계 (자정 갱신까지 기다리지 않음)
+ *
+ * History
+ * 2026/01/18 (동근) 최초 작성
+ * 2026/01/22 (동근) 퇴사 승인 시 당월 스냅샷 무효화 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HrMetricsSnapshotService {
+
+    private final RetirementStatsMapper retirementStatsMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 오늘 기준 집계 조회 (스냅샷 우선)
+     *
+     * @return 집계 결과
+     */
+    public HrMetricsAggregateDTO getCurrent() {
+        LocalDate today = LocalDate.now();
+
+        HrMetricsAggregateDTO snapshot = readSnapshot(today);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        HrMetricsAggregateDTO aggregate = aggregate(today);
+        saveSnapshot(aggregate);
+        return aggregate;
+    }
+
+    /**
+     * 기준일로 집계하여 당월 스냅샷 갱신
+     *
+     * @param baseDate 집계 기준일
+     * @return 집계 결과
+     */
+    @Transactional
+    public HrMetricsAggregateDTO refresh(LocalDate baseDate) {
+        HrMetricsAggregateDTO aggregate = aggregate(baseDate);
+        saveSnapshot(aggregate);
+        return aggregate;
+    }
+
+    /**
+     * 당월 스냅샷 무효화 (다음 조회에서 즉시 집계)
+     */
+    public void invalidate() {
+        String snapshotMonth = YearMonth.now().toString();
+        try {
+            retirementStatsMapper.deleteSnapshot(snapshotMonth);
+        } catch (DataAccessException e) {
+            // 삭제 실패 시 자정 갱신까지 이전 스냅샷 유지
+            log.warn("HR 지표 스냅샷 무효화 실패 - snapshotMonth={}, cause={}", snapshotMonth, e.getMessage());
+        }
+    }
+
+    /* =================== private =================== */
+
+    private HrMetricsAggregateDTO aggregate(LocalDate today) {
+        return new HrMetricsAggregateDTO(
+                today,
+                retirementStatsMapper.selectSummaryCount(today, today.minusYears(3), today.minusYears(1)),
+                retirementStatsMapper.selectTenureCounts(today),
+                retirementStatsMapper.selectQuarterCounts(today),
+                retirementStatsMapper.selectDepartmentCounts(today),
+                retirementStatsMapper.selectExitReasonCounts()
+        );
+    }
+
+    private HrMetricsAggregateDTO readSnapshot(LocalDate today) {
+        try {
+            HrMetricsSnapshotDTO row = retirementStatsMapper.selectSnapshot(YearMonth.from(today).toString());
+            if (row == null || !today.equals(row.baseDate())) {
+                return null;
+            }
+            return objectMapper.readValue(row.payload(), HrMetricsAggregateDTO.class);
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("HR 지표 스냅샷 조회 실패, 즉시 집계로 대체 - cause={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveSnapshot(HrMetricsAggregateDTO aggregate) {
+        LocalDate baseDate = aggregate.baseDate();
+        try {
+            retirementStatsMapper.upsertSnapshot(
+                    YearMonth.from(baseDate).toString(),
+                    baseDate,
+                    objectMapper.writeValueAsString(aggregate),
+                    LocalDateTime.now()
+            );
+        } catch (DataAccessException | JacksonException e) {
+            // 스냅샷 저장 실패는 조회 결과에 영향 없음 (다음 조회/스케줄러에서 재시도)
+            log.warn("HR 지표 스냅샷 저장 실패 - baseDate={}, cause={}", baseDate, e.getMessage());
+        }
+    }
+}
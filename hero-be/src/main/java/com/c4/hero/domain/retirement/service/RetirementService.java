@@ -1,5 +1,6 @@
 package com.c4.hero.domain.retirement.service;
 
+import com.c4.hero.common.cache.CacheNames;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.employee.entity.Employee;
@@ -8,20 +9,21 @@ import com.c4.hero.domain.employee.type.EmployeeStatus;
 import com.c4.hero.domain.retirement.dto.*;
 import com.c4.hero.domain.retirement.entity.ExitReasonMaster;
 import com.c4.hero.domain.retirement.entity.Retirement;
+import com.c4.hero.domain.retirement.event.RetirementApprovedEvent;
 import com.c4.hero.domain.retirement.repository.ExitReasonMasterRepository;
 import com.c4.hero.domain.retirement.repository.RetirementRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,10 +33,13 @@ import java.util.stream.Collectors;
  *
  * History
  * 2025/12/30 (승건) 최초 작성
+ * 2026/01/16 (동근) 퇴사 사유 목록 캐시 적용
+ * 2026/01/18 (동근) 퇴직 분석 통계를 집계 쿼리 + 월별 스냅샷 조회로 변경
+ * 2026/01/22 (동근) 퇴사 승인 이벤트 발행 (퇴직 분석 스냅샷 무효화)
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.3
  */
 @Slf4j
 @Service
@@ -44,6 +49,8 @@ public class RetirementService {
     private final ExitReasonMasterRepository exitReasonMasterRepository;
     private final EmployeeRepository employeeRepository;
     private final RetirementRepository retirementRepository;
+    private final HrMetricsSnapshotService hrMetricsSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 활성화된 퇴사 사유 목록을 조회합니다.
@@ -51,6 +58,7 @@ public class RetirementService {
      * @return 퇴사 사유 DTO 리스트
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EXIT_REASONS, key = "'active'", sync = true)
     public List<ExitReasonDTO> getExitReasons() {
         List<ExitReasonMaster> reasons = exitReasonMasterRepository.findAll();
         return reasons.stream()
@@ -70,86 +78,18 @@ public class RetirementService {
      *
      * @return 퇴직 현황 요약 DTO
      */
-    @Transactional(readOnly = true)
     public RetirementSummaryDTO getRetirementSummary() {
-        // 관리자(부서 ID 0) 제외하고 조회
-        List<Employee> allEmployees = employeeRepository.findAll().stream()
-                .filter(e -> e.getEmployeeDepartment() != null && e.getEmployeeDepartment().getDepartmentId() != 0)
-                .collect(Collectors.toList());
-                
-        LocalDate today = LocalDate.now();
-        
-        // 1. 잔존률 (Retention Rate): 최근 3년 (오늘로부터 정확히 3년 전 ~ 현재)
-        LocalDate periodStart = today.minusYears(3);
-
-        // 기간 초 직원 수: 3년 전 시점에 재직 중이었던 직원
-        List<Employee> employeesAtStart = allEmployees.stream()
-                .filter(e -> !e.getHireDate().isAfter(periodStart) &&
-                        (e.getTerminationDate() == null || e.getTerminationDate().isAfter(periodStart)))
-                .collect(Collectors.toList());
-        long countAtStart = employeesAtStart.size();
-
-        // 기간 말 잔존 직원 수: 기간 초 직원 중에서 현재도 퇴사하지 않은 직원
-        long retainedAtEnd = employeesAtStart.stream()
-                .filter(e -> e.getStatus() != EmployeeStatus.RETIRED)
-                .count();
-
-        double retentionRate = countAtStart > 0 ? (double) retainedAtEnd / countAtStart * 100 : 0;
+        HrMetricsAggregateDTO.SummaryCount summary = hrMetricsSnapshotService.getCurrent().summary();
 
+        // 1. 잔존률 (Retention Rate): 3년 전 재직자 중 현재도 재직 중인 비율
         // 2. 정착률 (Settlement Rate): 최근 1년 입사자 중 3개월 이상 근무(또는 재직)한 비율
-        LocalDate oneYearAgo = today.minusYears(1);
-        List<Employee> newHiresInLastYear = allEmployees.stream()
-                .filter(e -> !e.getHireDate().isBefore(oneYearAgo)) // 1년 전 날짜 포함 (>=)
-                .collect(Collectors.toList());
-
-        long newHiresCount = newHiresInLastYear.size();
-
-        long settledNewHiresCount = newHiresInLastYear.stream()
-                .filter(e -> {
-                    if (e.getStatus() != EmployeeStatus.RETIRED) {
-                        return true; // 현재 재직 중이면 정착으로 간주
-                    }
-                    // 퇴사한 경우, 근속 기간이 3개월 이상이면 정착으로 간주
-                    LocalDate endDate = e.getTerminationDate() != null ? e.getTerminationDate() : today;
-                    long daysWorked = ChronoUnit.DAYS.between(e.getHireDate(), endDate);
-                    return daysWorked >= 90;
-                })
-                .count();
-
-        double settlementRate = newHiresCount > 0 ? (double) settledNewHiresCount / newHiresCount * 100 : 0;
-
-        // 3. 종합 이직률 (Total Turnover Rate): 최근 1년 간 퇴사율 (퇴사자 / 1년 전 재직 인원)
-        long employeesOneYearAgo = allEmployees.stream()
-                .filter(e -> !e.getHireDate().isAfter(oneYearAgo) &&
-                        (e.getTerminationDate() == null || e.getTerminationDate().isAfter(oneYearAgo)))
-                .count();
-        
-        long retiredInLastYear = allEmployees.stream()
-                .filter(e -> e.getTerminationDate() != null && e.getTerminationDate().isAfter(oneYearAgo))
-                .count();
-                
-        double totalTurnoverRate = employeesOneYearAgo > 0 ? (double) retiredInLastYear / employeesOneYearAgo * 100 : 0;
-
-        // 4. 신입 1년 내 이직률 (New Hire Turnover Rate): 최근 1년 입사자 중 퇴사자 비율
-        // (조기 이탈률: 3개월 미만 근무 후 퇴사자 비율로 수정)
-        long earlyLeaverCount = newHiresInLastYear.stream()
-                .filter(e -> {
-                    if (e.getStatus() != EmployeeStatus.RETIRED) {
-                        return false;
-                    }
-                    LocalDate endDate = e.getTerminationDate() != null ? e.getTerminationDate() : today;
-                    long daysWorked = ChronoUnit.DAYS.between(e.getHireDate(), endDate);
-                    return daysWorked < 90;
-                })
-                .count();
-        
-        double newHireTurnoverRate = newHiresCount > 0 ? (double) earlyLeaverCount / newHiresCount * 100 : 0;
-
+        // 3. 종합 이직률 (Total Turnover Rate): 최근 1년 간 퇴사자 / 1년 전 재직 인원
+        // 4. 신입 이직률 (조기 이탈률): 최근 1년 입사자 중 3개월 미만 근무 후 퇴사자 비율
         return RetirementSummaryDTO.builder()
-                .retentionRate(Math.round(retentionRate * 100.0) / 100.0)
-                .settlementRate(Math.round(settlementRate * 100.0) / 100.0)
-                .totalTurnoverRate(Math.round(totalTurnoverRate * 100.0) / 100.0)
-                .newHireTurnoverRate(Math.round(newHireTurnoverRate * 100.0) / 100.0)
+                .retentionRate(rate(summary.retainedAtEnd(), summary.countAtStart()))
+                .settlementRate(rate(summary.settledNewHires(), summary.newHires()))
+                .totalTurnoverRate(rate(summary.retiredInLastYear(), summary.employeesOneYearAgo()))
+                .newHireTurnoverRate(rate(summary.earlyLeavers(), summary.newHires()))
                 .build();
     }
 
@@ -159,30 +99,23 @@ public class RetirementService {
      *
      * @return 사유별 퇴직 통계 DTO
      */
-    @Transactional(readOnly = true)
     public ExitReasonStatsResponseDTO getExitReasonStats() {
-        List<Retirement> allRetirements = retirementRepository.findAll().stream()
-                .filter(r -> r.getEmployee().getEmployeeDepartment() != null && r.getEmployee().getEmployeeDepartment().getDepartmentId() != 0)
-                .collect(Collectors.toList());
+        List<HrMetricsAggregateDTO.ExitReasonCount> reasons = hrMetricsSnapshotService.getCurrent().exitReasons();
 
         // 1. 1년 미만 조기 퇴사자 통계
-        List<ExitReasonStatsResponseDTO.ExitReasonStat> earlyLeavers = allRetirements.stream()
-                .filter(r -> r.getWorkingDays() < 365)
-                .collect(Collectors.groupingBy(r -> r.getExitReason().getReasonName(), Collectors.counting()))
-                .entrySet().stream()
-                .map(entry -> ExitReasonStatsResponseDTO.ExitReasonStat.builder()
-                        .reasonName(entry.getKey())
-                        .count(entry.getValue())
+        List<ExitReasonStatsResponseDTO.ExitReasonStat> earlyLeavers = reasons.stream()
+                .filter(reason -> reason.earlyCount() > 0)
+                .map(reason -> ExitReasonStatsResponseDTO.ExitReasonStat.builder()
+                        .reasonName(reason.reasonName())
+                        .count(reason.earlyCount())
                         .build())
                 .collect(Collectors.toList());
 
         // 2. 전체 퇴사자 통계
-        List<ExitReasonStatsResponseDTO.ExitReasonStat> totalLeavers = allRetirements.stream()
-                .collect(Collectors.groupingBy(r -> r.getExitReason().getReasonName(), Collectors.counting()))
-                .entrySet().stream()
-                .map(entry -> ExitReasonStatsResponseDTO.ExitReasonStat.builder()
-                        .reasonName(entry.getKey())
-                        .count(entry.getValue())
+        List<ExitReasonStatsResponseDTO.ExitReasonStat> totalLeavers = reasons.stream()
+                .map(reason -> ExitReasonStatsResponseDTO.ExitReasonStat.builder()
+                        .reasonName(reason.reasonName())
+                        .count(reason.totalCount())
                         .build())
                 .collect(Collectors.toList());
 
@@ -197,46 +130,30 @@ public class RetirementService {
      *
      * @return 근속 연수별 인원 비율 DTO 리스트
      */
-    @Transactional(readOnly = true)
     public List<TenureDistributionDTO> getTenureDistributionStats() {
-        // 관리자 제외
-        List<Employee> activeEmployees = employeeRepository.findAll().stream()
-                .filter(e -> e.getStatus() != EmployeeStatus.RETIRED)
-                .filter(e -> e.getEmployeeDepartment() != null && e.getEmployeeDepartment().getDepartmentId() != 0)
-                .collect(Collectors.toList());
-                
-        long totalActiveEmployees = activeEmployees.size();
+        List<HrMetricsAggregateDTO.TenureCount> tenureCounts = hrMetricsSnapshotService.getCurrent().tenures();
+
+        long totalActiveEmployees = tenureCounts.stream()
+                .mapToLong(HrMetricsAggregateDTO.TenureCount::employeeCount)
+                .sum();
         if (totalActiveEmployees == 0) return new ArrayList<>();
 
-        Map<Long, Long> tenureCounts = activeEmployees.stream()
-                .collect(Collectors.groupingBy(
-                        e -> ChronoUnit.YEARS.between(e.getHireDate(), LocalDate.now()),
-                        Collectors.counting()
-                ));
+        // 0~9년차, 10년차 이상(인덱스 10) 구간별 인원
+        long[] bucketCounts = new long[11];
+        for (HrMetricsAggregateDTO.TenureCount tenure : tenureCounts) {
+            if (tenure.tenureYear() >= 0) {
+                bucketCounts[(int) Math.min(tenure.tenureYear(), 10)] += tenure.employeeCount();
+            }
+        }
 
         List<TenureDistributionDTO> stats = new ArrayList<>();
-        for (long i = 0; i < 10; i++) { // 0~9년차
-            long year = i;
-            long count = tenureCounts.getOrDefault(year, 0L);
-            double rate = (double) count / totalActiveEmployees * 100.0;
+        for (int year = 0; year <= 10; year++) {
             stats.add(TenureDistributionDTO.builder()
-                    .tenureRange(year + "년차")
-                    .percentage(Math.round(rate * 100.0) / 100.0)
+                    .tenureRange(year < 10 ? year + "년차" : "10년차 이상")
+                    .percentage(rate(bucketCounts[year], totalActiveEmployees))
                     .build());
         }
 
-        // 10년차 이상 그룹
-        long countOver10 = tenureCounts.entrySet().stream()
-                .filter(entry -> entry.getKey() >= 10)
-                .mapToLong(Map.Entry::getValue)
-                .sum();
-        
-        double rateOver10 = (double) countOver10 / totalActiveEmployees * 100.0;
-        stats.add(TenureDistributionDTO.builder()
-                .tenureRange("10년차 이상")
-                .percentage(Math.round(rateOver10 * 100.0) / 100.0)
-                .build());
-
         return stats;
     }
 
@@ -246,80 +163,16 @@ public class RetirementService {
      *
      * @return 신입 정착률 및 이직률 DTO 리스트
      */
-    @Transactional(readOnly = true)
     public List<NewHireStatDTO> getNewHireStats() {
-        // 관리자 제외
-        List<Employee> allEmployees = employeeRepository.findAll().stream()
-                .filter(e -> e.getEmployeeDepartment() != null && e.getEmployeeDepartment().getDepartmentId() != 0)
+        return hrMetricsSnapshotService.getCurrent().quarters().stream()
+                .map(quarter -> NewHireStatDTO.builder()
+                        .quarter(quarter.hireYear() + "년 " + quarter.hireQuarter() + "분기")
+                        .settlementRate(rate(quarter.settledCount(), quarter.hiredCount()))
+                        .turnoverRate(rate(quarter.earlyLeaverCount(), quarter.hiredCount()))
+                        .build())
+                // 최신 분기 순으로 정렬
+                .sorted(Comparator.comparing(NewHireStatDTO::getQuarter).reversed())
                 .collect(Collectors.toList());
-                
-        LocalDate today = LocalDate.now();
-
-        // 1. 입사일 기준으로 분기별 그룹화
-        Map<String, List<Employee>> employeesByQuarter = allEmployees.stream()
-                .collect(Collectors.groupingBy(e -> {
-                    int year = e.getHireDate().getYear();
-                    int quarter = e.getHireDate().get(IsoFields.QUARTER_OF_YEAR);
-                    return year + "년 " + quarter + "분기";
-                }));
-
-        List<NewHireStatDTO> stats = new ArrayList<>();
-
-        // 2. 각 분기별로 통계 계산
-        for (Map.Entry<String, List<Employee>> entry : employeesByQuarter.entrySet()) {
-            String quarterLabel = entry.getKey();
-            List<Employee> hiredInQuarter = entry.getValue();
-            long total = hiredInQuarter.size();
-
-            long settledCount = 0;
-            long earlyLeaverCount = 0;
-
-            for (Employee employee : hiredInQuarter) {
-                // 정착률 계산: (재직 중 + 3개월 이상 근무 후 퇴사)
-                boolean isSettled = false;
-                if (employee.getStatus() != EmployeeStatus.RETIRED) {
-                    isSettled = true; // 현재 재직 중이면 정착
-                } else {
-                    LocalDate endDate = employee.getTerminationDate() != null ? employee.getTerminationDate() : today;
-                    long daysWorked = ChronoUnit.DAYS.between(employee.getHireDate(), endDate);
-                    if (daysWorked >= 90) {
-                        isSettled = true; // 3개월 이상 근무 후 퇴사면 정착
-                    }
-                }
-
-                if (isSettled) {
-                    settledCount++;
-                }
-
-                // 신입 이직률 계산: 3개월 미만 근무 후 퇴사한 사람 (조기 이탈자)
-                boolean isEarlyLeaver = false;
-                if (employee.getStatus() == EmployeeStatus.RETIRED) {
-                    LocalDate endDate = employee.getTerminationDate() != null ? employee.getTerminationDate() : today;
-                    long daysWorked = ChronoUnit.DAYS.between(employee.getHireDate(), endDate);
-                    if (daysWorked < 90) {
-                        isEarlyLeaver = true;
-                    }
-                }
-
-                if (isEarlyLeaver) {
-                    earlyLeaverCount++;
-                }
-            }
-
-            double settlementRate = total > 0 ? (double) settledCount / total * 100 : 0;
-            double turnoverRate = total > 0 ? (double) earlyLeaverCount / total * 100 : 0;
-
-            stats.add(NewHireStatDTO.builder()
-                    .quarter(quarterLabel)
-                    .settlementRate(Math.round(settlementRate * 100.0) / 100.0)
-                    .turnoverRate(Math.round(turnoverRate * 100.0) / 100.0)
-                    .build());
-        }
-
-        // 3. 최신 분기 순으로 정렬
-        stats.sort(Comparator.comparing(NewHireStatDTO::getQuarter).reversed());
-
-        return stats;
     }
 
     /**
@@ -327,39 +180,14 @@ public class RetirementService {
      *
      * @return 부서별 이직률 DTO 리스트
      */
-    @Transactional(readOnly = true)
     public List<DepartmentTurnoverDTO> getDepartmentTurnoverStats() {
-        List<Employee> allEmployees = employeeRepository.findAll();
-        LocalDate today = LocalDate.now();
-
-        Map<String, List<Employee>> employeesByDept = allEmployees.stream()
-                .filter(e -> e.getEmployeeDepartment() != null)
-                // 관리자 부서(0)만 제외 (대기 발령 부서(-1)는 포함)
-                .filter(e -> e.getEmployeeDepartment().getDepartmentId() != 0)
-                .collect(Collectors.groupingBy(e -> e.getEmployeeDepartment().getDepartmentName()));
-
-        return employeesByDept.entrySet().stream()
-                .map(entry -> {
-                    String deptName = entry.getKey();
-                    List<Employee> deptEmployees = entry.getValue();
-                    long total = deptEmployees.size();
-                    
-                    // 퇴사자 수 계산: status가 'R'이거나, terminationDate가 오늘 이전인 경우
-                    long retired = deptEmployees.stream()
-                            .filter(e -> e.getStatus() == EmployeeStatus.RETIRED || 
-                                         (e.getTerminationDate() != null && !e.getTerminationDate().isAfter(today)))
-                            .count();
-                            
-                    long current = total - retired;
-                    double turnoverRate = total > 0 ? (double) retired / total * 100 : 0;
-
-                    return DepartmentTurnoverDTO.builder()
-                            .departmentName(deptName)
-                            .currentCount(current)
-                            .retiredCount(retired)
-                            .turnoverRate(Math.round(turnoverRate * 100.0) / 100.0)
-                            .build();
-                })
+        return hrMetricsSnapshotService.getCurrent().departments().stream()
+                .map(department -> DepartmentTurnoverDTO.builder()
+                        .departmentName(department.departmentName())
+                        .currentCount(department.totalCount() - department.retiredCount())
+                        .retiredCount(department.retiredCount())
+                        .turnoverRate(rate(department.retiredCount(), department.totalCount()))
+                        .build())
                 .sorted(Comparator.comparing(DepartmentTurnoverDTO::getTurnoverRate).reversed()) // 이직률 내림차순 정렬
                 .collect(Collectors.toList());
     }
@@ -400,6 +228,9 @@ public class RetirementService {
                 .build();
 
         retirementRepository.save(retirement);
+
+        // 6. 커밋 후 퇴직 분석 스냅샷 무효화
+        eventPublisher.publishEvent(new RetirementApprovedEvent(employeeNumber, terminationDate));
     }
 
     /**
@@ -425,4 +256,12 @@ public class RetirementService {
                 request.getTerminationReasonDetail()
         );
     }
+
+    /**
+     * 비율(%) 계산 후 소수점 둘째 자리 반올림
+     */
+    private static double rate(long count, long total) {
+        double rate = total > 0 ? (double) count / total * 100 : 0;
+        return Math.round(rate * 100.0) / 100.0;
+    }
 }
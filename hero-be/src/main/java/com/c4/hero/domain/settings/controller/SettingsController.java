@@ -1,12 +1,12 @@
 package com.c4.hero.domain.settings.controller;
 
+import com.c4.hero.common.cache.CacheStatsResponseDTO;
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.employee.entity.Employee;
-import com.c4.hero.domain.employee.entity.Grade;
-import com.c4.hero.domain.employee.entity.JobTitle;
 import com.c4.hero.domain.employee.entity.Role;
 import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.dto.WebSocketClusterMetricsDTO;
 import com.c4.hero.domain.notification.service.NotificationCommandService;
 import com.c4.hero.domain.settings.dto.response.DepartmentResponseDTO;
 import com.c4.hero.domain.settings.dto.request.*;
@@ -58,10 +58,13 @@ import java.util.List;
  * 2025/12/24 (혜원) 서비스 파일명 변경 수정, @PreAuthorize로 설정에 진입 가능한 권한체크
  * 2025/12/29 (지윤) 근태 설정 조회 및 삽입문 기능 추가
  * 2026/01/07 (승건) 스웨거 작성
+ * 2026/01/16 (동근) 기준정보 캐시 통계 조회 api
+ * 2026/01/20 (동근) WebSocket 연결/지연 통계 조회 api
+ * 2026/01/22 (동근) 직급/직책 목록 응답을 불변 DTO 로 변경
  * </pre>
  *
  * @author 승건
- * @version 2.0
+ * @version 2.3
  */
 @RestController
 @RequestMapping("/api/settings")
@@ -124,8 +127,8 @@ public class SettingsController {
                     content = @Content(schema = @Schema(implementation = CustomResponse.class)))
     })
     @GetMapping("/grades")
-    public ResponseEntity<CustomResponse<List<Grade>>> getGrades() {
-        List<Grade> grades = settingsQueryService.getAllGrades();
+    public ResponseEntity<CustomResponse<List<SettingsGradeResponseDTO>>> getGrades() {
+        List<SettingsGradeResponseDTO> grades = settingsQueryService.getAllGrades();
 
         log.info("grades: {}", grades);
         return ResponseEntity.ok(CustomResponse.success(grades));
@@ -159,8 +162,8 @@ public class SettingsController {
                     content = @Content(schema = @Schema(implementation = CustomResponse.class)))
     })
     @GetMapping("/job-titles")
-    public ResponseEntity<CustomResponse<List<JobTitle>>> getJobTitles() {
-        List<JobTitle> jobTitles = settingsQueryService.getAllJobTitles();
+    public ResponseEntity<CustomResponse<List<SettingsJobTitleResponseDTO>>> getJobTitles() {
+        List<SettingsJobTitleResponseDTO> jobTitles = settingsQueryService.getAllJobTitles();
 
         log.info("jobTitles: {}", jobTitles);
         return ResponseEntity.ok(CustomResponse.success(jobTitles));
@@ -468,6 +471,21 @@ public class SettingsController {
         return ResponseEntity.ok(CustomResponse.success(health));
     }
 
+    /**
+     * 전체 노드 WebSocket 연결/지연 통계 조회
+     *
+     * @return 노드별 연결 수, 연결 직원 수, 알림 전달 지연(평균/백분위) 및 합계
+     */
+    @Operation(summary = "WebSocket 연결/지연 통계 조회", description = "전체 서버 노드의 WebSocket 연결 수와 알림 전달 지연 통계를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    @GetMapping("/notifications/websocket-metrics")
+    public ResponseEntity<CustomResponse<WebSocketClusterMetricsDTO>> getWebSocketMetrics() {
+        return ResponseEntity.ok(CustomResponse.success(settingsNotificationQueryService.getWebSocketMetrics()));
+    }
+
     /**
      * 근무제(Work System Template) 목록 조회
      *
@@ -504,4 +522,19 @@ public class SettingsController {
         settingsAttendanceService.upsertWorkSystemTemplates(requestList);
         return ResponseEntity.ok(CustomResponse.success("Work system templates upserted successfully"));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기준정보 캐시 적중/미스 통계 조회
+     *
+     * @return 캐시별 L1/L2 적중, 미스, L2 장애 현황
+     */
+    @Operation(summary = "캐시 통계 조회", description = "기준정보 2단 캐시(L1/L2)의 적중/미스 통계를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CustomResponse<List<CacheStatsResponseDTO>>> getCacheStats() {
+        return ResponseEntity.ok(CustomResponse.success(settingsQueryService.getCacheStats()));
+    }
+}
@@ -13,10 +13,11 @@ import java.util.List;
  *
  * History
  * 2025/12/22 (혜원) 최초 작성
+ * 2026/01/22 (동근) 하위 부서 포함 여부 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Getter
 @NoArgsConstructor
@@ -48,6 +49,11 @@ public class SettingsNotificationGroupRequestDTO {
      */
     private List<Integer> departmentIds;
 
+    /**
+     * 대상 부서의 하위 부서 포함 여부 (optional, 기본 false)
+     */
+    private Boolean includeSubDepartments;
+
     /**
      * 대상 직급 ID 목록
      */
@@ -0,0 +1,36 @@
+package com.c4.hero.domain.settings.dto.response;
+
+import com.c4.hero.domain.employee.entity.Grade;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * <pre>
+ * DTO Name : SettingsGradeResponseDTO
+ * Description : 직급 목록 조회 응답 DTO (기준정보 캐시 저장용 불변 객체)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성 - 캐시에 엔티티 대신 불변 DTO 보관
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param gradeId       직급 ID
+ * @param grade         직급명
+ * @param requiredPoint 승진 필요 포인트
+ */
+public record SettingsGradeResponseDTO(
+        Integer gradeId,
+        String grade,
+        Integer requiredPoint
+) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static SettingsGradeResponseDTO from(Grade grade) {
+        return new SettingsGradeResponseDTO(grade.getGradeId(), grade.getGrade(), grade.getRequiredPoint());
+    }
+}
@@ -0,0 +1,34 @@
+package com.c4.hero.domain.settings.dto.response;
+
+import com.c4.hero.domain.employee.entity.JobTitle;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * <pre>
+ * DTO Name : SettingsJobTitleResponseDTO
+ * Description : 직책 목록 조회 응답 DTO (기준정보 캐시 저장용 불변 객체)
+ *
+ * History
+ * 2026/01/22 (동근) 최초 작성 - 캐시에 엔티티 대신 불변 DTO 보관
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param jobTitleId 직책 ID
+ * @param jobTitle   직책명
+ */
+public record SettingsJobTitleResponseDTO(
+        Integer jobTitleId,
+        String jobTitle
+) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static SettingsJobTitleResponseDTO from(JobTitle jobTitle) {
+        return new SettingsJobTitleResponseDTO(jobTitle.getJobTitleId(), jobTitle.getJobTitle());
+    }
+}
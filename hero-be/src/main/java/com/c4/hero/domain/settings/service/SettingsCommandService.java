@@ -1,5 +1,7 @@
 package com.c4.hero.domain.settings.service;
 
+import com.c4.hero.common.cache.CacheNames;
+import com.c4.hero.common.event.OrganizationChangedEvent;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.approval.entity.ApprovalTemplate;
@@ -32,6 +34,9 @@ import com.c4.hero.domain.settings.repository.SettingsDepartmentRepository;
 import com.c4.hero.domain.settings.repository.SettingsLoginPolicyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,10 +60,12 @@ import static com.c4.hero.domain.settings.enums.TargetType.*;
  * 2025/12/19 (민철) 기본 결재선 / 참조 목록 설정적용
  * 2025/12/22 (혜원) 관리자 알림 발송 기능 추가
  * 2025/12/23 (혜원) 알림 관련 SettingsNotificationCommandService로 분리
+ * 2026/01/16 (동근) 부서/직급/직책/서식 설정 변경 시 기준정보 캐시 무효화
+ * 2026/01/17 (동근) 부서/직급/직책 변경 시 조직 변경 이벤트 발행
  * </pre>
  *
  * @author 승건
- * @version 1.1
+ * @version 1.3
  */
 @Service
 @Transactional
@@ -80,6 +87,7 @@ public class SettingsCommandService {
     private final SettingsApprovalRefRepository settingsApprovalRefRepository;
 
     private final EmployeeCommandService employeeCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int ADMIN_DEPARTMENT_ID = 0;
     private static final int TEMP_DEPARTMENT_ID = -1;
@@ -90,6 +98,7 @@ public class SettingsCommandService {
      *
      * @param departmentDtos 부서 정보 목록
      */
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_SEARCH_OPTIONS, allEntries = true)
     public void updateDepartments(List<SettingsDepartmentRequestDTO> departmentDtos) {
         // 1. DEPT_MANAGER 역할 조회
         Role deptManagerRole = roleRepository.findByRole(RoleType.DEPT_MANAGER)
@@ -131,6 +140,8 @@ public class SettingsCommandService {
             departmentsToDelete.sort(Comparator.comparingInt(SettingsDepartment::getDepth).reversed());
             departmentRepository.deleteAll(departmentsToDelete);
         }
+
+        eventPublisher.publishEvent(new OrganizationChangedEvent("DEPARTMENT_SETTINGS"));
     }
 
     /**
@@ -239,6 +250,10 @@ public class SettingsCommandService {
      *
      * @param gradeDtos 직급 정보 목록
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GRADES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.EMPLOYEE_SEARCH_OPTIONS, allEntries = true)
+    })
     public void updateGrades(List<SettingsGradeRequestDTO> gradeDtos) {
         Set<Integer> existingGradeIds = gradeRepository.findAll().stream()
                 .map(Grade::getGradeId)
@@ -276,6 +291,8 @@ public class SettingsCommandService {
             employeeRepository.updateGradeByGradeIds(List.copyOf(existingGradeIds));
             gradeRepository.deleteAllById(existingGradeIds);
         }
+
+        eventPublisher.publishEvent(new OrganizationChangedEvent("GRADE_SETTINGS"));
     }
 
     /**
@@ -283,6 +300,10 @@ public class SettingsCommandService {
      *
      * @param jobTitleDtos 직책 정보 목록
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.JOB_TITLES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.EMPLOYEE_SEARCH_OPTIONS, allEntries = true)
+    })
     public void updateJobTitles(List<SettingsJobTitleRequestDTO> jobTitleDtos) {
         log.info("updateJobTitles: {}", jobTitleDtos);
 
@@ -318,6 +339,8 @@ public class SettingsCommandService {
         if (!existingJobTitleIds.isEmpty()) {
             jobTitleRepository.deleteAllById(existingJobTitleIds);
         }
+
+        eventPublisher.publishEvent(new OrganizationChangedEvent("JOB_TITLE_SETTINGS"));
     }
 
     /**
@@ -385,6 +408,10 @@ public class SettingsCommandService {
      * @return String 설정 저장 성공 / 실패 메시지
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.APPROVAL_TEMPLATE, key = "#templateId"),
+            @CacheEvict(cacheNames = CacheNames.APPROVAL_TEMPLATES, allEntries = true)
+    })
     public void applySettings(Integer templateId, SettingsApprovalRequestDTO settings) {
 
         ApprovalTemplate template = templateRepository.findById(templateId)
@@ -3,9 +3,11 @@ package com.c4.hero.domain.settings.service;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
+import com.c4.hero.domain.department.service.DepartmentHierarchyService;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.employee.type.EmployeeStatus;
+import com.c4.hero.domain.notification.dto.NotificationDTO;
 import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
 import com.c4.hero.domain.notification.service.NotificationCommandService;
 import com.c4.hero.domain.settings.dto.request.SettingsNotificationBroadcastRequestDTO;
@@ -30,10 +32,12 @@ import java.util.List;
  *
  * History
  * 2025/12/24 (혜원) 최초 작성
+ * 2026/01/21 (동근) 대상 직원 알림을 건별 대신 일괄 생성/전송
+ * 2026/01/22 (동근) 그룹 알림 하위 부서 포함 옵션 (부서 계층 스냅샷 사용)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Service
 @Transactional
@@ -44,6 +48,7 @@ public class SettingsNotificationCommandService {
     private final EmployeeRepository employeeRepository;
     private final NotificationCommandService notificationCommandService;
     private final SettingsNotificationHistoryRepository historyRepository;
+    private final DepartmentHierarchyService departmentHierarchyService;
 
     private static final int ADMIN_ID = 0;
 
@@ -100,6 +105,9 @@ public class SettingsNotificationCommandService {
      */
     private List<Employee> getTargetEmployeesForGroup(SettingsNotificationGroupRequestDTO request) {
         List<Integer> deptIds = filterEmptyList(request.getDepartmentIds());
+        if (deptIds != null && Boolean.TRUE.equals(request.getIncludeSubDepartments())) {
+            deptIds = departmentHierarchyService.getSubtreeIds(deptIds);
+        }
         List<Integer> gradeIds = filterEmptyList(request.getGradeIds());
         List<Integer> jobTitleIds = filterEmptyList(request.getJobTitleIds());
 
@@ -133,38 +141,33 @@ public class SettingsNotificationCommandService {
 
     /**
      * 대상 직원들에게 알림 발송 (NotificationCommandService 재사용)
+     * 설정 조회/저장/전송을 직원 수와 무관하게 일괄 처리
      */
     private NotificationSendResult sendNotifications(
             List<Employee> employees, String title, String message, String type, String link) {
 
         int targetCount = employees.size();
-        int successCount = 0;
-        int failureCount = 0;
 
         log.info("Starting notification send to {} employees", targetCount);
 
-        for (Employee employee : employees) {
-            try {
-                NotificationRegistDTO registDTO = NotificationRegistDTO.builder()
+        List<NotificationDTO> notifications = employees.stream()
+                .map(employee -> NotificationDTO.from(NotificationRegistDTO.builder()
                         .employeeId(employee.getEmployeeId())
                         .type(type)
                         .title(title)
                         .message(message)
                         .link(link)
-                        .build();
-
-                if (notificationCommandService.registAndSendNotification(registDTO) != null) {
-                    successCount++;
-                } else {
-                    // 알림 설정으로 수신 거부된 경우
-                    failureCount++;
-                    log.debug("Notification blocked by user settings for employee {}", employee.getEmployeeId());
-                }
-            } catch (Exception e) {
-                log.error("Failed to send notification to employee {}: {}", employee.getEmployeeId(), e.getMessage());
-                failureCount++;
-            }
+                        .build()))
+                .toList();
+
+        int successCount = 0;
+        try {
+            // 알림 설정으로 수신 거부된 직원은 결과에서 제외됨
+            successCount = notificationCommandService.registAndSendNotifications(notifications).size();
+        } catch (Exception e) {
+            log.error("Failed to send notifications to {} employees: {}", targetCount, e.getMessage());
         }
+        int failureCount = targetCount - successCount;
 
         log.info("Notification send completed - Target: {}, Success: {}, Failure: {}",
                 targetCount, successCount, failureCount);
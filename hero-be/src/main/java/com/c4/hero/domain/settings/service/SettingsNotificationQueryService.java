@@ -5,6 +5,8 @@ import com.c4.hero.domain.settings.dto.response.SettingsNotificationHistoryRespo
 import com.c4.hero.domain.settings.dto.response.SettingsNotificationStatisticsResponseDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsWebSocketHealthResponseDTO;
 import com.c4.hero.domain.settings.mapper.SettingsMapper;
+import com.c4.hero.domain.notification.dto.WebSocketClusterMetricsDTO;
+import com.c4.hero.domain.notification.service.WebSocketMetricsService;
 import com.c4.hero.domain.notification.util.WebSocketSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +27,11 @@ import java.util.stream.Collectors;
  *
  * History
  * 2025/12/24 (혜원) 최초 작성
+ * 2026/01/20 (동근) 전체 노드 WebSocket 연결/지연 통계 조회 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @Transactional(readOnly = true)
@@ -38,6 +41,7 @@ public class SettingsNotificationQueryService {
 
     private final SettingsMapper settingsMapper;
     private final WebSocketSessionManager webSocketSessionManager;
+    private final WebSocketMetricsService webSocketMetricsService;
 
     /**
      * 알림 발송 이력 조회 (페이징)
@@ -121,6 +125,15 @@ public class SettingsNotificationQueryService {
                 .build();
     }
 
+    /**
+     * 전체 노드 WebSocket 연결 수 및 알림 전달 지연 통계 조회
+     *
+     * @return 노드별/합계 통계
+     */
+    public WebSocketClusterMetricsDTO getWebSocketMetrics() {
+        return webSocketMetricsService.getClusterMetrics();
+    }
+
     /**
      * 빈 통계 객체 생성
      */
@@ -1,10 +1,11 @@
 package com.c4.hero.domain.settings.service;
 
+import com.c4.hero.common.cache.CacheNames;
+import com.c4.hero.common.cache.CacheStatsResponseDTO;
+import com.c4.hero.common.cache.TwoLevelCacheManager;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
 import com.c4.hero.domain.employee.entity.Employee;
-import com.c4.hero.domain.employee.entity.Grade;
-import com.c4.hero.domain.employee.entity.JobTitle;
 import com.c4.hero.domain.employee.entity.Role;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
 import com.c4.hero.domain.employee.repository.EmployeeJobTitleRepository;
@@ -17,6 +18,8 @@ import com.c4.hero.domain.settings.dto.response.SettingsApprovalResponseDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsDepartmentManagerDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsDepartmentResponseDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsDocumentTemplateResponseDTO;
+import com.c4.hero.domain.settings.dto.response.SettingsGradeResponseDTO;
+import com.c4.hero.domain.settings.dto.response.SettingsJobTitleResponseDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsPermissionsResponseDTO;
 import com.c4.hero.domain.settings.entity.SettingsApprovalLine;
 import com.c4.hero.domain.settings.entity.SettingsApprovalRef;
@@ -26,6 +29,7 @@ import com.c4.hero.domain.settings.repository.SettingsApprovalLineRepository;
 import com.c4.hero.domain.settings.repository.SettingsApprovalRefRepository;
 import com.c4.hero.domain.settings.repository.SettingsDepartmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,10 +53,12 @@ import java.util.stream.Collectors;
  * 2025/12/21 (민철) 서식별 기본 설정 조회 api
  * 2025/12/22 (혜원) 알림 관련 조회 기능 추가
  * 2025/12/23 (혜원) 알림 관련 SettingsNotificationQueryService로 분리
+ * 2026/01/16 (동근) 직급/직책 목록 캐시 적용 및 캐시 통계 조회 추가
+ * 2026/01/22 (동근) 직급/직책 캐시에 엔티티 대신 불변 DTO 보관
  * </pre>
  *
  * @author 승건
- * @version 2.0
+ * @version 2.2
  */
 @Service
 @Transactional(readOnly = true)
@@ -67,6 +73,7 @@ public class SettingsQueryService {
     private final SettingsApprovalRefRepository settingsApprovalRefRepository;
     private final ApprovalTemplateRepository approvalTemplateRepository;
     private final SettingsDepartmentRepository departmentRepository;
+    private final TwoLevelCacheManager cacheManager;
 
     private static final int ADMIN_DEPARTMENT_ID = 0;
     private static final int TEMP_DEPARTMENT_ID = -1;
@@ -162,20 +169,37 @@ public class SettingsQueryService {
 
     /**
      * 전체 직급 목록 조회
+     *  - 캐시된 목록을 모든 호출자가 공유하므로 엔티티가 아닌 불변 DTO 로 보관
      *
-     * @return 직급 목록
+     * @return 직급 목록 (불변)
      */
-    public List<Grade> getAllGrades() {
-        return gradeRepository.findAll();
+    @Cacheable(cacheNames = CacheNames.GRADES, key = "'all-dto'", sync = true)
+    public List<SettingsGradeResponseDTO> getAllGrades() {
+        return gradeRepository.findAll().stream()
+                .map(SettingsGradeResponseDTO::from)
+                .toList();
     }
 
     /**
      * 전체 직책 목록 조회
+     *  - 캐시된 목록을 모든 호출자가 공유하므로 엔티티가 아닌 불변 DTO 로 보관
      *
-     * @return 직책 목록
+     * @return 직책 목록 (불변)
      */
-    public List<JobTitle> getAllJobTitles() {
-        return jobTitleRepository.findAll();
+    @Cacheable(cacheNames = CacheNames.JOB_TITLES, key = "'all-dto'", sync = true)
+    public List<SettingsJobTitleResponseDTO> getAllJobTitles() {
+        return jobTitleRepository.findAll().stream()
+                .map(SettingsJobTitleResponseDTO::from)
+                .toList();
+    }
+
+    /**
+     * 기준정보 캐시 적중/미스 통계 조회
+     *
+     * @return 캐시별 통계
+     */
+    public List<CacheStatsResponseDTO> getCacheStats() {
+        return cacheManager.getStats();
     }
 
     /**
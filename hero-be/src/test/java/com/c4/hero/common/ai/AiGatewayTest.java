@@ -0,0 +1,230 @@
+package com.c4.hero.common.ai;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 HTTP 서버(JDK HttpServer)를 AI 서버 대신 사용하는 AiGateway 단위 테스트
+ */
+class AiGatewayTest {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private AiGateway gateway(int maxConcurrent, Duration timeout, int maxRetries) {
+        return new AiGateway(webClient, new ObjectMapper(), new AiGatewaySpec(
+                maxConcurrent, timeout, maxRetries, Duration.ofMillis(10), Duration.ofMinutes(1), 100));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static BusinessException failureOf(CompletableFuture<?> future) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return (BusinessException) e.getCause();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        throw new AssertionError("요청이 실패하지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("성공: 내용이 같은 요청은 맵 키 순서가 달라도 AI 서버를 한 번만 호출한다")
+    void post_cachesByRequestContent() throws Exception {
+        // Given
+        AtomicInteger hits = new AtomicInteger();
+        server.createContext("/api/analyze/member", exchange ->
+                respond(exchange, 200, "{\"summary\":\"ok-" + hits.incrementAndGet() + "\"}"));
+        AiGateway gateway = gateway(4, Duration.ofSeconds(5), 0);
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("employeeName", "홍길동");
+        first.put("totalScore", 90);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("totalScore", 90);
+        second.put("employeeName", "홍길동");
+
+        // When
+        Map<String, Object> firstResult = gateway.post("/api/analyze/member", first, MAP_TYPE).get(5, TimeUnit.SECONDS);
+        Map<String, Object> secondResult = gateway.post("/api/analyze/member", second, MAP_TYPE).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(firstResult).containsEntry("summary", "ok-1");
+        assertThat(secondResult).isEqualTo(firstResult);
+    }
+
+    @Test
+    @DisplayName("성공: 5xx 응답은 재시도하여 결과를 반환한다")
+    void post_retriesTransientFailure() throws Exception {
+        // Given
+        AtomicInteger hits = new AtomicInteger();
+        server.createContext("/api/analyze/promotion", exchange -> {
+            if (hits.incrementAndGet() == 1) {
+                respond(exchange, 503, "{\"detail\":\"busy\"}");
+            } else {
+                respond(exchange, 200, "{\"result\":\"ok\"}");
+            }
+        });
+        AiGateway gateway = gateway(4, Duration.ofSeconds(5), 2);
+
+        // When
+        Map<String, Object> result = gateway.post("/api/analyze/promotion", Map.of("year", 2025), MAP_TYPE)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result).containsEntry("result", "ok");
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(gateway.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 4xx 응답은 재시도하지 않고 AI_SERVER_ERROR 로 실패한다")
+    void post_doesNotRetryClientError() {
+        // Given
+        AtomicInteger hits = new AtomicInteger();
+        server.createContext("/api/analyze/violation", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 422, "{\"detail\":\"invalid\"}");
+        });
+        AiGateway gateway = gateway(4, Duration.ofSeconds(5), 2);
+
+        // When
+        BusinessException failure = failureOf(gateway.post("/api/analyze/violation", Map.of("guide", "g"), MAP_TYPE));
+
+        // Then
+        assertThat(failure.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_ERROR);
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(gateway.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 응답이 타임아웃을 넘기면 AI_SERVER_TIMEOUT 으로 실패한다")
+    void post_timesOut() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/api/analyze/member", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        AiGateway gateway = gateway(4, Duration.ofMillis(200), 0);
+
+        // When
+        BusinessException failure = failureOf(gateway.post("/api/analyze/member", Map.of("id", 1), MAP_TYPE));
+        release.countDown();
+
+        // Then
+        assertThat(failure.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_TIMEOUT);
+        assertThat(gateway.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 동시 호출 한도를 넘는 요청은 대기 없이 AI_SERVER_BUSY 로 거절된다")
+    void post_rejectsWhenBulkheadFull() throws Exception {
+        // Given
+        CountDownLatch arrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/api/analyze/member", exchange -> {
+            arrived.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{\"summary\":\"ok\"}");
+        });
+        AiGateway gateway = gateway(1, Duration.ofSeconds(5), 0);
+
+        CompletableFuture<Map<String, Object>> running = gateway.post("/api/analyze/member", Map.of("id", 1), MAP_TYPE);
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        BusinessException rejected = failureOf(gateway.post("/api/analyze/member", Map.of("id", 2), MAP_TYPE));
+        release.countDown();
+
+        // Then
+        assertThat(rejected.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_BUSY);
+        assertThat(running.get(5, TimeUnit.SECONDS)).containsEntry("summary", "ok");
+        assertThat(gateway.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 적중 결과를 호출자가 취소해도 다른 호출자의 결과에 영향이 없다")
+    void post_returnsIndependentCopies() throws Exception {
+        // Given
+        server.createContext("/api/analyze/member", exchange -> respond(exchange, 200, "{\"summary\":\"ok\"}"));
+        AiGateway gateway = gateway(4, Duration.ofSeconds(5), 0);
+        gateway.post("/api/analyze/member", Map.of("id", 1), MAP_TYPE).get(5, TimeUnit.SECONDS);
+
+        // When
+        gateway.post("/api/analyze/member", Map.of("id", 1), MAP_TYPE).cancel(true);
+        Map<String, Object> result = gateway.post("/api/analyze/member", Map.of("id", 1), MAP_TYPE)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result).containsEntry("summary", "ok");
+    }
+}
@@ -0,0 +1,146 @@
+package com.c4.hero.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * L2(Redis) 대신 ConcurrentMapCache 를 사용하는 2단 캐시 단위 테스트
+ */
+class TwoLevelCacheTest {
+
+    private static final long RETRY_MILLIS = 60_000;
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> newLocal() {
+        return Caffeine.newBuilder().maximumSize(100).build();
+    }
+
+    @Test
+    @DisplayName("성공: L1 미스 시 L2 값을 반환하고 L1 에 채운다")
+    void lookup_fallsBackToRemote() {
+        // Given
+        ConcurrentMapCache remote = new ConcurrentMapCache("grades");
+        remote.put("all", "from-redis");
+        TwoLevelCache cache = new TwoLevelCache("grades", newLocal(), remote, null, RETRY_MILLIS);
+
+        // When
+        Object first = cache.get("all").get();
+        remote.evict("all");
+        Object second = cache.get("all").get();
+
+        // Then
+        assertThat(first).isEqualTo("from-redis");
+        assertThat(second).isEqualTo("from-redis");
+        CacheStatsResponseDTO stats = cache.stats();
+        assertThat(stats.l2Hits()).isEqualTo(1);
+        assertThat(stats.l1Hits()).isEqualTo(1);
+        assertThat(stats.misses()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 양쪽 미스 시 원본을 한 번만 조회하고 L1/L2 모두에 저장한다")
+    void get_loadsOnceAndWritesThrough() {
+        // Given
+        ConcurrentMapCache remote = new ConcurrentMapCache("grades");
+        TwoLevelCache cache = new TwoLevelCache("grades", newLocal(), remote, null, RETRY_MILLIS);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String first = cache.get("all", () -> "db-" + loads.incrementAndGet());
+        String second = cache.get("all", () -> "db-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("db-1");
+        assertThat(second).isEqualTo("db-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remote.get("all").get()).isEqualTo("db-1");
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().l1Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: evict 는 L1/L2 를 비우고 무효화 메시지를 발행한다")
+    void evict_clearsBothLevelsAndPublishes() {
+        // Given
+        ConcurrentMapCache remote = new ConcurrentMapCache("approvalBookmarks");
+        List<String> published = new ArrayList<>();
+        TwoLevelCache cache = new TwoLevelCache("approvalBookmarks", newLocal(), remote, published::add, RETRY_MILLIS);
+        cache.put(1, List.of(10, 20));
+
+        // When
+        cache.evict(1);
+
+        // Then
+        assertThat(cache.get(1)).isNull();
+        assertThat(remote.get(1)).isNull();
+        assertThat(published).containsExactly("approvalBookmarks");
+    }
+
+    @Test
+    @DisplayName("성공: L2 장애 시 L1 단독으로 동작하고 재시도 대기 시간 동안 L2 를 호출하지 않는다")
+    void remoteFailure_degradesToLocalOnly() {
+        // Given
+        Cache remote = mock(Cache.class);
+        given(remote.get(any())).willThrow(new DataAccessResourceFailureException("redis down"));
+        TwoLevelCache cache = new TwoLevelCache("exitReasons", newLocal(), remote, null, RETRY_MILLIS);
+
+        // When
+        String first = cache.get("active", () -> "db");
+        String second = cache.get("other", () -> "db2");
+
+        // Then
+        assertThat(first).isEqualTo("db");
+        assertThat(second).isEqualTo("db2");
+        verify(remote, times(1)).get(any());
+        CacheStatsResponseDTO stats = cache.stats();
+        assertThat(stats.l2Errors()).isEqualTo(1);
+        assertThat(stats.l2Available()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스의 무효화 메시지를 받으면 L1 만 비우고, 자신의 메시지는 무시한다")
+    void manager_invalidatesPeerLocalCache() {
+        // Given: 두 인스턴스가 같은 L2 를 공유
+        ConcurrentMapCacheManager sharedRemote = new ConcurrentMapCacheManager();
+        TwoLevelCacheSpec spec = new TwoLevelCacheSpec(Duration.ofMinutes(10), 100, Duration.ofHours(1));
+        List<String> messagesFromA = new ArrayList<>();
+
+        TwoLevelCacheManager nodeA = new TwoLevelCacheManager(
+                Map.of(CacheNames.GRADES, spec), spec, sharedRemote, messagesFromA::add, RETRY_MILLIS);
+        TwoLevelCacheManager nodeB = new TwoLevelCacheManager(
+                Map.of(CacheNames.GRADES, spec), spec, sharedRemote, message -> {}, RETRY_MILLIS);
+        nodeA.afterPropertiesSet();
+        nodeB.afterPropertiesSet();
+
+        nodeB.getCache(CacheNames.GRADES).put("all", "v1");
+        nodeB.getCache(CacheNames.GRADES).get("all");
+
+        // When: A 에서 변경 후 evict → 메시지를 B 에 전달
+        nodeA.getCache(CacheNames.GRADES).evict("all");
+        sharedRemote.getCache(CacheNames.GRADES).put("all", "v2");
+        messagesFromA.forEach(nodeB::handleInvalidationMessage);
+        messagesFromA.forEach(nodeA::handleInvalidationMessage);
+
+        // Then
+        assertThat(messagesFromA).hasSize(1);
+        assertThat(nodeB.getCache(CacheNames.GRADES).get("all").get()).isEqualTo("v2");
+        assertThat(nodeB.getStats()).extracting(CacheStatsResponseDTO::cacheName).containsExactly(CacheNames.GRADES);
+    }
+}
@@ -0,0 +1,108 @@
+package com.c4.hero.common.pagination;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.response.CursorPageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서(seek) 페이지네이션 커서/응답 단위 테스트
+ */
+class PageCursorTest {
+
+    private record Row(LocalDate workDate, int id) {}
+
+    @Test
+    @DisplayName("성공: 날짜/일시 커서를 인코딩한 뒤 그대로 복원한다")
+    void encodeDecode_roundTrip() {
+        // Given
+        LocalDate workDate = LocalDate.of(2026, 1, 22);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 22, 9, 30, 15);
+
+        // When
+        PageCursor dateCursor = PageCursor.decode(PageCursor.encode(workDate, 1234L));
+        PageCursor dateTimeCursor = PageCursor.decode(PageCursor.encode(createdAt, 99L));
+
+        // Then
+        assertThat(dateCursor.dateKey()).isEqualTo(workDate);
+        assertThat(dateCursor.id()).isEqualTo(1234L);
+        assertThat(dateTimeCursor.dateTimeKey()).isEqualTo(createdAt);
+        assertThat(dateTimeCursor.id()).isEqualTo(99L);
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 정렬 키가 NULL 인 행의 커서는 빈 키로 인코딩되고 ID 만 복원한다")
+    void encodeDecode_nullKey() {
+        // When
+        PageCursor cursor = PageCursor.decode(PageCursor.encode(null, 42L));
+
+        // Then
+        assertThat(cursor.isNullKey()).isTrue();
+        assertThat(cursor.dateTimeKey()).isNull();
+        assertThat(cursor.dateKey()).isNull();
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("실패: 변조된 커서는 INVALID_INPUT_VALUE 로 거절한다")
+    void decode_rejectsTamperedCursor() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        PageCursor wrongKey = PageCursor.decode(PageCursor.encode("yesterday", 1L));
+        assertThatThrownBy(wrongKey::dateKey).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("성공: size + 1 건이 조회되면 size 건만 반환하고 마지막 행으로 다음 커서를 만든다")
+    void of_trimsExtraRowAndBuildsNextCursor() {
+        // Given
+        LocalDate base = LocalDate.of(2026, 1, 31);
+        List<Row> rows = IntStream.range(0, 11)
+                .mapToObj(i -> new Row(base.minusDays(i), 100 - i))
+                .toList();
+
+        // When
+        CursorPageResponse<Row> page = CursorPageResponse.of(
+                rows, 10, row -> PageCursor.encode(row.workDate(), row.id()), null);
+
+        // Then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getTotalElements()).isNull();
+        PageCursor next = PageCursor.decode(page.getNextCursor());
+        assertThat(next.dateKey()).isEqualTo(base.minusDays(9));
+        assertThat(next.id()).isEqualTo(91L);
+    }
+
+    @Test
+    @DisplayName("성공: 마지막 페이지는 다음 커서가 없다")
+    void of_lastPageHasNoCursor() {
+        // Given
+        List<Row> rows = List.of(new Row(LocalDate.of(2026, 1, 1), 1));
+
+        // When
+        CursorPageResponse<Row> page = CursorPageResponse.of(
+                rows, 10, row -> PageCursor.encode(row.workDate(), row.id()), 1L);
+
+        // Then
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isEqualTo(1L);
+        assertThat(CursorPageResponse.safeSize(0)).isEqualTo(1);
+        assertThat(CursorPageResponse.safeSize(1_000)).isEqualTo(CursorPageResponse.MAX_SIZE);
+    }
+}
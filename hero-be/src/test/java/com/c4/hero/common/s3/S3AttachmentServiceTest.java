@@ -0,0 +1,227 @@
+package com.c4.hero.common.s3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 첨부파일 일괄 업로드/삭제 단위 테스트 (AmazonS3, TransferManager 목)
+ */
+class S3AttachmentServiceTest {
+
+    private AmazonS3 amazonS3;
+    private TransferManager transferManager;
+    private S3AttachmentService attachmentService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        transferManager = mock(TransferManager.class);
+        attachmentService = new S3AttachmentService(amazonS3, new S3Service(amazonS3), transferManager, "hero-bucket");
+        transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    @Test
+    @DisplayName("성공: 1,000건 단위 DeleteObjects 요청으로 나눠 삭제하고 빈 키/중복 키는 제외한다")
+    void deleteAll_batchesByThousand() {
+        // Given
+        List<String> keys = new ArrayList<>(IntStream.rangeClosed(1, 1500)
+                .mapToObj(i -> "approval/" + i + ".pdf")
+                .toList());
+        keys.add("approval/1.pdf");
+        keys.add(null);
+        keys.add("");
+
+        // When
+        attachmentService.deleteAll(keys);
+
+        // Then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3, times(2)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.getKeys().size())
+                .containsExactly(1000, 500);
+        assertThat(captor.getAllValues().get(0).getBucketName()).isEqualTo("hero-bucket");
+    }
+
+    @Test
+    @DisplayName("성공: 일부 키 삭제가 실패해도 예외를 던지지 않는다")
+    void deleteAll_swallowsPartialFailure() {
+        // Given
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willThrow(new MultiObjectDeleteException(List.of(), List.of()));
+
+        // When & Then
+        assertThatCode(() -> attachmentService.deleteAll(List.of("approval/a.pdf")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("성공: 업로드할 파일이 없으면 빈 목록을 반환한다")
+    void uploadAll_emptyFilesDoNothing() {
+        // When
+        List<S3UploadedFile> uploaded = attachmentService.uploadAll(List.of(), "approval");
+
+        // Then
+        assertThat(uploaded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 모든 파일의 전송을 먼저 시작한 뒤 완료를 기다리고 요청 순서대로 결과를 반환한다")
+    void uploadAll_startsAllBeforeWaiting() throws Exception {
+        // Given
+        Upload first = mock(Upload.class);
+        Upload second = mock(Upload.class);
+        Upload third = mock(Upload.class);
+        given(transferManager.upload(any(PutObjectRequest.class))).willReturn(first, second, third);
+
+        // When
+        List<S3UploadedFile> uploaded = attachmentService.uploadAll(
+                List.of(file("a.pdf"), file("b.png"), file("c.docx")), "approval");
+
+        // Then
+        InOrder order = inOrder(transferManager, first, second, third);
+        order.verify(transferManager, times(3)).upload(any(PutObjectRequest.class));
+        order.verify(first).waitForCompletion();
+        order.verify(second).waitForCompletion();
+        order.verify(third).waitForCompletion();
+
+        assertThat(uploaded)
+                .extracting(S3UploadedFile::originalFilename)
+                .containsExactly("a.pdf", "b.png", "c.docx");
+        assertThat(uploaded)
+                .extracting(S3UploadedFile::key)
+                .containsExactlyElementsOf(requestedKeys(3));
+        verify(amazonS3, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    @DisplayName("실패: 한 파일 전송이 실패하면 나머지 전송을 중단하고 올린 키를 모두 삭제한 뒤 FILE_UPLOAD_ERROR")
+    void uploadAll_failureAbortsAndDeletes() throws Exception {
+        // Given
+        Upload first = mock(Upload.class);
+        Upload second = mock(Upload.class);
+        Upload third = mock(Upload.class);
+        given(transferManager.upload(any(PutObjectRequest.class))).willReturn(first, second, third);
+        willThrow(new AmazonClientException("connection reset")).given(second).waitForCompletion();
+
+        // When & Then
+        assertThatThrownBy(() -> attachmentService.uploadAll(
+                List.of(file("a.pdf"), file("b.png"), file("c.docx")), "approval"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_UPLOAD_ERROR);
+
+        verify(first).abort();
+        verify(second).abort();
+        verify(third).abort();
+        verify(third, never()).waitForCompletion();
+        assertThat(deletedKeys()).containsExactlyInAnyOrderElementsOf(requestedKeys(3));
+    }
+
+    @Test
+    @DisplayName("성공: 트랜잭션이 롤백되면 트랜잭션 전에 올린 파일을 삭제한다")
+    void deleteOnRollback_deletesOnRollback() {
+        // Given
+        given(transferManager.upload(any(PutObjectRequest.class))).willReturn(mock(Upload.class), mock(Upload.class));
+        List<S3UploadedFile> uploaded = attachmentService.uploadAll(List.of(file("a.pdf"), file("b.png")), "approval");
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            attachmentService.deleteOnRollback(uploaded);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(deletedKeys()).containsExactlyInAnyOrderElementsOf(
+                uploaded.stream().map(S3UploadedFile::key).toList());
+    }
+
+    @Test
+    @DisplayName("성공: 트랜잭션이 커밋되면 올린 파일을 유지한다")
+    void deleteOnRollback_keepsOnCommit() {
+        // Given
+        given(transferManager.upload(any(PutObjectRequest.class))).willReturn(mock(Upload.class));
+        List<S3UploadedFile> uploaded = attachmentService.uploadAll(List.of(file("a.pdf")), "approval");
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> attachmentService.deleteOnRollback(uploaded));
+
+        // Then
+        verify(amazonS3, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "application/octet-stream", name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> requestedKeys(int count) {
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager, times(count)).upload(captor.capture());
+        return captor.getAllValues().stream().map(PutObjectRequest::getKey).toList();
+    }
+
+    private List<String> deletedKeys() {
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3).deleteObjects(captor.capture());
+        return captor.getValue().getKeys().stream().map(DeleteObjectsRequest.KeyVersion::getKey).toList();
+    }
+
+    /**
+     * 트랜잭션 동기화(afterCompletion)만 동작하는 DB 없는 트랜잭션 매니저
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.c4.hero.common.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Presigned URL 캐시 단위 테스트 (AmazonS3 목)
+ */
+class S3ServiceTest {
+
+    private AmazonS3 amazonS3;
+    private S3Service s3Service;
+    private final AtomicInteger signCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        s3Service = new S3Service(amazonS3);
+        given(amazonS3.generatePresignedUrl(any(), anyString(), any(Date.class))).willAnswer(invocation ->
+                new URL("https://s3.example.com/" + invocation.getArgument(1) + "?sig=" + signCount.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키/만료 일수는 한 번만 서명하고 같은 URL 을 재사용한다")
+    void generatePresignedUrl_reusesCachedUrl() {
+        // When
+        String first = s3Service.generatePresignedUrl("employee/a.png");
+        String second = s3Service.generatePresignedUrl("employee/a.png");
+        String otherDays = s3Service.generatePresignedUrl("employee/a.png", 1);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(otherDays).isNotEqualTo(first);
+        verify(amazonS3, times(2)).generatePresignedUrl(any(), anyString(), any(Date.class));
+    }
+
+    @Test
+    @DisplayName("성공: 만료 시각은 요청 유효기간을 넘지 않도록 1시간 단위로 내림 정렬한다")
+    void generatePresignedUrl_alignsExpirationToHour() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        s3Service.generatePresignedUrl("employee/a.png", 7);
+
+        // Then
+        ArgumentCaptor<Date> captor = ArgumentCaptor.forClass(Date.class);
+        verify(amazonS3).generatePresignedUrl(any(), eq("employee/a.png"), captor.capture());
+        long expiration = captor.getValue().getTime();
+        assertThat(expiration % Duration.ofHours(1).toMillis()).isZero();
+        assertThat(expiration).isLessThanOrEqualTo(System.currentTimeMillis() + Duration.ofDays(7).toMillis());
+        assertThat(expiration).isGreaterThan(before + Duration.ofDays(7).minusHours(1).toMillis());
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 생성 시 빈 키와 중복 키는 제외하고 키별 URL 을 반환한다")
+    void generatePresignedUrls_skipsBlankAndDuplicateKeys() {
+        // When
+        Map<String, String> urls = s3Service.generatePresignedUrls(
+                Arrays.asList("employee/a.png", null, "", "employee/b.png", "employee/a.png"));
+
+        // Then
+        assertThat(urls).containsOnlyKeys("employee/a.png", "employee/b.png");
+        verify(amazonS3, times(2)).generatePresignedUrl(any(), anyString(), any(Date.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.c4.hero.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블라인드 인덱스 단위 테스트 (정규화, 완전 일치 인덱스, 부분 일치 토큰)
+ */
+class BlindIndexUtilTest {
+
+    private final BlindIndexUtil blindIndexUtil = new BlindIndexUtil("", "hero-test-secret-key-0123456789");
+
+    @Test
+    @DisplayName("성공: 정규화 후 같은 값이면 같은 인덱스, 필드나 키가 다르면 다른 인덱스를 만든다")
+    void index_normalizedAndKeyed() {
+        // When
+        byte[] email = blindIndexUtil.emailIndex(" Hong@Hero.com ");
+        byte[] phone = blindIndexUtil.phoneIndex("010-1234-5678");
+        BlindIndexUtil otherKey = new BlindIndexUtil("another-blind-index-key", "hero-test-secret-key-0123456789");
+
+        // Then
+        assertThat(email).hasSize(32).isEqualTo(blindIndexUtil.emailIndex("hong@hero.com"));
+        assertThat(phone).isEqualTo(blindIndexUtil.phoneIndex("01012345678"));
+        assertThat(blindIndexUtil.phoneIndex("hong@hero.com")).isNotEqualTo(email);
+        assertThat(otherKey.emailIndex("hong@hero.com")).isNotEqualTo(email);
+        assertThat(blindIndexUtil.emailIndex(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 부분 검색어의 토큰은 저장된 값의 토큰에 모두 포함된다")
+    void tokens_partialKeywordIsSubset() {
+        // Given
+        Set<String> stored = hex(blindIndexUtil.phoneTokens("010-1234-5678"));
+
+        // When
+        Set<String> keyword = hex(blindIndexUtil.phoneTokens("1234"));
+        Set<String> other = hex(blindIndexUtil.phoneTokens("9999"));
+
+        // Then
+        assertThat(keyword).hasSize(2);
+        assertThat(stored).containsAll(keyword);
+        assertThat(stored).doesNotContainAnyElementsOf(other);
+        assertThat(blindIndexUtil.emailTokens("ho")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 완전한 이메일/휴대전화 번호만 완전 일치 검색어로 판별한다")
+    void isComplete_onlyFullKeywords() {
+        // Then
+        assertThat(BlindIndexUtil.isCompleteEmail(" Hong@Hero.com ")).isTrue();
+        assertThat(BlindIndexUtil.isCompleteEmail("hong@hero")).isFalse();
+        assertThat(BlindIndexUtil.isCompleteEmail("hong")).isFalse();
+        assertThat(BlindIndexUtil.isCompleteEmail(null)).isFalse();
+        assertThat(BlindIndexUtil.isCompletePhone("010-1234-5678")).isTrue();
+        assertThat(BlindIndexUtil.isCompletePhone("1234-5678")).isFalse();
+        assertThat(BlindIndexUtil.isCompletePhone(null)).isFalse();
+    }
+
+    private static Set<String> hex(List<byte[]> tokens) {
+        return tokens.stream()
+                .map(token -> HexFormat.of().formatHex(token))
+                .collect(Collectors.toSet());
+    }
+}
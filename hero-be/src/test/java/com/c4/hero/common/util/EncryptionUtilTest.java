@@ -0,0 +1,132 @@
+package com.c4.hero.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 암호화 유틸 단위 테스트 (스레드별 Cipher 재사용, 일괄 복호화)
+ */
+class EncryptionUtilTest {
+
+    private static final String SECRET = "hero-test-secret-key-0123456789";
+
+    private final EncryptionUtil encryptionUtil = new EncryptionUtil(SECRET);
+
+    @Test
+    @DisplayName("성공: 매번 Cipher 를 만들던 방식과 같은 암호문을 만들고 그대로 복호화한다")
+    void encryptDecrypt_compatibleWithPerCallCipher() throws Exception {
+        // Given
+        String email = "hong@hero.com";
+
+        // When
+        byte[] encrypted = encryptionUtil.encrypt(email);
+
+        // Then
+        assertThat(encrypted).isEqualTo(perCall(Cipher.ENCRYPT_MODE, email.getBytes(StandardCharsets.UTF_8)));
+        assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo(email);
+        assertThat(encryptionUtil.decrypt(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 여러 스레드가 동시에 복호화해도 각자 올바른 평문을 얻는다")
+    void decrypt_threadSafe() throws Exception {
+        // Given
+        List<String> plains = IntStream.range(0, 200).mapToObj(i -> "user" + i + "@hero.com").toList();
+        List<byte[]> encrypted = plains.stream().map(encryptionUtil::encrypt).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < 50; round++) {
+                        for (int i = 0; i < plains.size(); i++) {
+                            if (!plains.get(i).equals(encryptionUtil.decrypt(encrypted.get(i)))) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            // Then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 목록 일괄 복호화는 순서를 유지하고 값이 없거나 손상된 행은 null 로 채운다")
+    void decryptColumn_keepsOrderAndNullsFailures() {
+        // Given - 병렬 경로까지 타도록 3,000건
+        List<byte[]> rows = new ArrayList<>(IntStream.range(0, 3000)
+                .mapToObj(i -> encryptionUtil.encrypt("user" + i + "@hero.com"))
+                .toList());
+        rows.set(10, null);
+        rows.set(20, new byte[]{1, 2, 3});
+
+        // When
+        List<String> emails = encryptionUtil.decryptColumn(rows, row -> row);
+
+        // Then
+        assertThat(emails).hasSize(3000);
+        assertThat(emails.get(0)).isEqualTo("user0@hero.com");
+        assertThat(emails.get(2999)).isEqualTo("user2999@hero.com");
+        assertThat(emails.get(10)).isNull();
+        assertThat(emails.get(20)).isNull();
+        assertThat(encryptionUtil.decrypt(rows.get(30))).isEqualTo("user30@hero.com");
+    }
+
+    @Test
+    @DisplayName("성공: 한글 주소 일괄 복호화 결과가 매번 Cipher 를 만들던 방식의 복호화 결과와 같다")
+    void decryptColumn_matchesPerCallCipher() throws Exception {
+        // Given
+        List<String> addresses = IntStream.range(0, 3000)
+                .mapToObj(i -> "서울시 강남구 테헤란로 " + i + "길")
+                .toList();
+        List<byte[]> rows = addresses.stream().map(encryptionUtil::encrypt).toList();
+
+        // When
+        List<String> batch = encryptionUtil.decryptColumn(rows, row -> row);
+
+        // Then
+        assertThat(batch).containsExactlyElementsOf(addresses);
+        for (int i = 0; i < rows.size(); i += 500) {
+            assertThat(new String(perCall(Cipher.DECRYPT_MODE, rows.get(i)), StandardCharsets.UTF_8))
+                    .isEqualTo(batch.get(i));
+        }
+    }
+
+    /**
+     * 기존 방식: 호출마다 키와 Cipher 를 새로 생성
+     */
+    private static byte[] perCall(int mode, byte[] input) throws Exception {
+        byte[] keyBytes = new byte[16];
+        byte[] sourceKey = SECRET.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < sourceKey.length; i++) {
+            keyBytes[i % 16] ^= sourceKey[i];
+        }
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(mode, new SecretKeySpec(Arrays.copyOf(keyBytes, 16), "AES"));
+        return cipher.doFinal(input);
+    }
+}
@@ -1,13 +1,14 @@
 package com.c4.hero.domain.approval.service;
 
-import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.s3.S3AttachmentService;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
+import com.c4.hero.domain.approval.dto.response.ApprovalTemplateResponseDTO;
 import com.c4.hero.domain.approval.entity.*;
 import com.c4.hero.domain.approval.repository.*;
-import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import com.c4.hero.domain.employee.service.EmployeeNameCacheService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +16,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
@@ -45,13 +48,19 @@ class ApprovalCommandServiceTest {
     @Mock
     private ApprovalTemplateRepository templateRepository;
     @Mock
-    private ApprovalSequenceRepository sequenceRepository;
+    private ApprovalDocNoAllocator docNoAllocator;
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
-    private S3Service s3Service;
+    private S3AttachmentService attachmentService;
     @Mock
-    private EmployeeRepository employeeRepository;
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApprovalTemplateCacheService templateCacheService;
+    @Mock
+    private EmployeeNameCacheService employeeNameCacheService;
+    @Mock
+    private ApprovalInboxService inboxService;
 
     @Test
     @DisplayName("즐겨찾기 토글 - 없을 때 추가")
@@ -105,6 +114,8 @@ class ApprovalCommandServiceTest {
 
         ApprovalDocument savedDoc = ApprovalDocument.builder().docId(10).docStatus("DRAFT").build();
         given(documentRepository.save(any(ApprovalDocument.class))).willReturn(savedDoc);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
 
         // when
         Integer docId = approvalCommandService.createDocument(empId, dto, files, status);
@@ -112,6 +123,7 @@ class ApprovalCommandServiceTest {
         // then
         assertEquals(10, docId);
         verify(documentRepository, times(1)).save(any(ApprovalDocument.class));
+        verify(inboxService, times(1)).refreshDocument(10);
     }
 
     @Test
@@ -138,12 +150,12 @@ class ApprovalCommandServiceTest {
                 .templateId(1)
                 .build();
 
-        ApprovalTemplate template = ApprovalTemplate.builder().templateId(1).templateKey("VACATION").build();
+        ApprovalTemplateResponseDTO template = ApprovalTemplateResponseDTO.builder().templateId(1).templateKey("VACATION").build();
 
         // Mocking repository responses
         given(lineRepository.findById(20)).willReturn(Optional.of(currentLine));
         given(documentRepository.findById(10)).willReturn(Optional.of(document));
-        given(templateRepository.findByTemplateId(1)).willReturn(template);
+        given(templateCacheService.getTemplate(1)).willReturn(template);
 
         // Mocking all lines to simulate next approver exists
         ApprovalLine line1 = ApprovalLine.builder().seq(1).lineStatus("APPROVED").build();
@@ -186,11 +198,11 @@ class ApprovalCommandServiceTest {
                 .templateId(1)
                 .build();
 
-        ApprovalTemplate template = ApprovalTemplate.builder().templateId(1).templateKey("VACATION").build();
+        ApprovalTemplateResponseDTO template = ApprovalTemplateResponseDTO.builder().templateId(1).templateKey("VACATION").build();
 
         given(lineRepository.findById(20)).willReturn(Optional.of(currentLine));
         given(documentRepository.findById(10)).willReturn(Optional.of(document));
-        given(templateRepository.findByTemplateId(1)).willReturn(template);
+        given(templateCacheService.getTemplate(1)).willReturn(template);
 
         // when
         ApprovalActionResponseDTO response = approvalCommandService.processApproval(request, empId);
@@ -201,5 +213,6 @@ class ApprovalCommandServiceTest {
         assertEquals("REJECTED", currentLine.getLineStatus());
         assertEquals("반려합니다.", currentLine.getComment());
         assertEquals("REJECTED", document.getDocStatus());
+        verify(inboxService, times(1)).refreshDocument(10);
     }
 }
\ No newline at end of file
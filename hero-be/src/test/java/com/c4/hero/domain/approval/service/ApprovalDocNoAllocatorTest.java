@@ -0,0 +1,160 @@
+package com.c4.hero.domain.approval.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문서 번호 발급기 단위 테스트
+ * 시퀀스 행 락은 예약을 한 번에 하나씩만 처리하는 가짜 예약 서비스로 대신함
+ */
+class ApprovalDocNoAllocatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 22);
+
+    /**
+     * tbl_approval_sequence 행 락 흉내: 예약은 한 번에 하나씩 처리
+     */
+    private static class FakeReserveService extends ApprovalSequenceReserveService {
+
+        private final Map<String, Long> currentVals = new HashMap<>();
+        private final AtomicInteger blockCalls = new AtomicInteger();
+        private final AtomicInteger singleCalls = new AtomicInteger();
+
+        FakeReserveService() {
+            super(null);
+        }
+
+        @Override
+        public long reserveBlock(String seqType, long count) {
+            blockCalls.incrementAndGet();
+            return reserve(seqType, count);
+        }
+
+        @Override
+        public long reserveInCurrentTransaction(String seqType) {
+            singleCalls.incrementAndGet();
+            return reserve(seqType, 1);
+        }
+
+        private synchronized long reserve(String seqType, long count) {
+            long first = currentVals.getOrDefault(seqType, 0L) + 1;
+            currentVals.put(seqType, first + count - 1);
+            return first;
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 병렬 발급 시 번호가 중복 없이 연속으로 발급되고 블록 단위로만 예약한다")
+    void next_parallelIssuesUniqueContiguousNumbers() throws Exception {
+        // Given
+        FakeReserveService reserveService = new FakeReserveService();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(reserveService, 50, false);
+
+        // When
+        List<String> docNos = issueInParallel(allocator, 16, 500);
+
+        // Then
+        assertThat(docNos).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expectedDocNos(8000));
+        assertThat(reserveService.blockCalls.get()).isEqualTo(8000 / 50);
+        assertThat(reserveService.singleCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 연도가 바뀌면 새 연도 시퀀스에서 1번부터 발급한다")
+    void next_rollsOverToNewYear() {
+        // Given
+        FakeReserveService reserveService = new FakeReserveService();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(reserveService, 50, false);
+        allocator.next(LocalDate.of(2025, 12, 31));
+        allocator.next(LocalDate.of(2025, 12, 31));
+
+        // When
+        String newYear = allocator.next(LocalDate.of(2026, 1, 1));
+
+        // Then
+        assertThat(newYear).isEqualTo("HERO-2026-00001");
+        assertThat(reserveService.blockCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 누락 없는 모드에서는 매번 현재 트랜잭션에서 1개씩 예약한다")
+    void next_gapFreeReservesOneByOne() {
+        // Given
+        FakeReserveService reserveService = new FakeReserveService();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(reserveService, 50, true);
+
+        // When
+        String first = allocator.next(TODAY);
+        String second = allocator.next(TODAY);
+
+        // Then
+        assertThat(first).isEqualTo("HERO-2026-00001");
+        assertThat(second).isEqualTo("HERO-2026-00002");
+        assertThat(reserveService.singleCalls.get()).isEqualTo(2);
+        assertThat(reserveService.blockCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 누락 없는 모드에서 병렬 발급해도 번호가 중복 없이 연속으로 발급된다")
+    void next_gapFreeParallelIssuesUniqueContiguousNumbers() throws Exception {
+        // Given
+        FakeReserveService reserveService = new FakeReserveService();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(reserveService, 50, true);
+
+        // When
+        List<String> docNos = issueInParallel(allocator, 8, 50);
+
+        // Then
+        assertThat(docNos).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expectedDocNos(400));
+        assertThat(reserveService.singleCalls.get()).isEqualTo(400);
+        assertThat(reserveService.blockCalls.get()).isZero();
+    }
+
+    private static List<String> expectedDocNos(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> String.format("HERO-2026-%05d", i))
+                .toList();
+    }
+
+    private List<String> issueInParallel(ApprovalDocNoAllocator allocator, int threads, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<String> issued = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(allocator.next(TODAY));
+                    }
+                    return issued;
+                }));
+            }
+            start.countDown();
+
+            List<String> all = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                all.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.c4.hero.domain.department.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부서 계층 클로저 인덱스 단위 테스트
+ */
+class DepartmentHierarchyTest {
+
+    /**
+     * 1 ─┬─ 2 ─┬─ 4
+     *    │     └─ 5 ── 7
+     *    └─ 3 ─── 6
+     */
+    private final DepartmentHierarchy hierarchy = DepartmentHierarchy.of(parents(
+            1, null, 2, 1, 3, 1, 4, 2, 5, 2, 6, 3, 7, 5));
+
+    @Test
+    @DisplayName("성공: 자기 자신을 포함한 하위 부서를 너비 우선 순서로 반환한다")
+    void subtreeIds() {
+        // When & Then
+        assertThat(hierarchy.subtreeIds(1)).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(hierarchy.subtreeIds(2)).containsExactly(2, 4, 5, 7);
+        assertThat(hierarchy.subtreeIds(6)).containsExactly(6);
+        assertThat(hierarchy.subtreeIds(List.of(5, 2, 6))).containsExactly(5, 7, 2, 4, 6);
+    }
+
+    @Test
+    @DisplayName("성공: 계층에 없는 부서는 자기 자신만, null 은 빈 목록을 반환한다")
+    void subtreeIds_unknown() {
+        // When & Then
+        assertThat(hierarchy.subtreeIds(99)).containsExactly(99);
+        assertThat(hierarchy.subtreeIds((Integer) null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 클로저 행으로 상위/하위 관계와 깊이를 판정한다")
+    void closure() {
+        // When & Then
+        assertThat(hierarchy.isInSubtree(1, 7)).isTrue();
+        assertThat(hierarchy.isInSubtree(3, 7)).isFalse();
+        assertThat(hierarchy.isInSubtree(7, 7)).isTrue();
+        assertThat(hierarchy.depth(1, 7)).isEqualTo(3);
+        assertThat(hierarchy.depth(3, 7)).isEqualTo(-1);
+        assertThat(hierarchy.ancestorIds(7)).containsExactly(5, 2, 1);
+        assertThat(hierarchy.closureSize()).isEqualTo(1 + 2 + 2 + 3 + 3 + 3 + 4);
+    }
+
+    @Test
+    @DisplayName("성공: 상위 부서가 순환하는 데이터도 무한 탐색 없이 인덱스를 만든다")
+    void cycle() {
+        // Given
+        DepartmentHierarchy cyclic = DepartmentHierarchy.of(parents(1, 3, 2, 1, 3, 2));
+
+        // When & Then
+        assertThat(cyclic.subtreeIds(1)).containsExactly(1, 2, 3);
+        assertThat(cyclic.ancestorIds(1)).containsExactly(3, 2);
+    }
+
+    private static Map<Integer, Integer> parents(Integer... pairs) {
+        Map<Integer, Integer> parentById = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            parentById.put(pairs[i], pairs[i + 1]);
+        }
+        return parentById;
+    }
+}
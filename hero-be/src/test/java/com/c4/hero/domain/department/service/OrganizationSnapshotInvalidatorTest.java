@@ -0,0 +1,101 @@
+package com.c4.hero.domain.department.service;
+
+import com.c4.hero.domain.approval.service.OrganizationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 조직 스냅샷 무효화 노드 간 전파 단위 테스트
+ */
+class OrganizationSnapshotInvalidatorTest {
+
+    private DepartmentService departmentService;
+    private OrganizationService organizationService;
+    private DepartmentHierarchyService departmentHierarchyService;
+    private StringRedisTemplate redisTemplate;
+    private OrganizationSnapshotInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        departmentService = mock(DepartmentService.class);
+        organizationService = mock(OrganizationService.class);
+        departmentHierarchyService = mock(DepartmentHierarchyService.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        invalidator = new OrganizationSnapshotInvalidator(
+                departmentService, organizationService, departmentHierarchyService, redisTemplate);
+        ReflectionTestUtils.setField(invalidator, "redisEnabled", true);
+    }
+
+    private void verifyLocallyInvalidated() {
+        verify(departmentService).invalidateOrganizationChart();
+        verify(organizationService).invalidateOrganizationTree();
+        verify(departmentHierarchyService).invalidate();
+    }
+
+    @Test
+    @DisplayName("성공: 로컬 스냅샷을 무효화하고 다른 노드로 무효화 메시지를 발행한다")
+    void invalidateAll_invalidatesLocallyAndPublishes() {
+        // When
+        invalidator.invalidateAll("DEPARTMENT_SETTINGS");
+
+        // Then
+        verifyLocallyInvalidated();
+        verify(redisTemplate).convertAndSend(OrganizationSnapshotInvalidator.INVALIDATION_CHANNEL,
+                invalidator.getInstanceId());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 미사용 시 로컬만 무효화하고 메시지를 발행하지 않는다")
+    void invalidateAll_localOnlyWhenRedisDisabled() {
+        // Given
+        ReflectionTestUtils.setField(invalidator, "redisEnabled", false);
+
+        // When
+        invalidator.invalidateAll("DEPARTMENT_SETTINGS");
+
+        // Then
+        verifyLocallyInvalidated();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("성공: 발행이 실패해도 로컬 무효화는 유지되고 예외를 전파하지 않는다")
+    void invalidateAll_publishFailureIsIgnored() {
+        // Given
+        willThrow(new IllegalStateException("redis down"))
+                .given(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // When
+        invalidator.invalidateAll("RETIREMENT");
+
+        // Then
+        verifyLocallyInvalidated();
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 메시지는 로컬 스냅샷을 무효화하고, 자기 메시지는 무시한다")
+    void handleInvalidationMessage_ignoresOwnMessage() {
+        // When
+        invalidator.handleInvalidationMessage(invalidator.getInstanceId());
+
+        // Then
+        verify(departmentHierarchyService, never()).invalidate();
+
+        // When
+        invalidator.handleInvalidationMessage("other-node");
+
+        // Then
+        verifyLocallyInvalidated();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
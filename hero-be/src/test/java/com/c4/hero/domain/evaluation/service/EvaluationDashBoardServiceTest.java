@@ -0,0 +1,208 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.mapper.DashBoardMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평가 대시보드 단계별 조회/조립 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationDashBoardServiceTest {
+
+    @Mock
+    private DashBoardMapper dashBoardMapper;
+
+    @InjectMocks
+    private EvaluationDashBoardService dashBoardService;
+
+    @Captor
+    private ArgumentCaptor<List<Integer>> formIdsCaptor;
+
+    @Test
+    @DisplayName("성공: 단계별 조회 결과를 상위 ID 기준으로 템플릿 > 평가 > 항목/피평가자 구조로 조립한다")
+    void load_assemble() {
+        // Given
+        when(dashBoardMapper.selectDashBoardEvaluations(List.of(10, 11, 20)))
+                .thenReturn(List.of(evaluation(10, 1), evaluation(11, 1), evaluation(20, 2)));
+        when(dashBoardMapper.selectDashBoardEvaluatees(List.of(10, 11, 20)))
+                .thenReturn(List.of(evaluatee(100, 10), evaluatee(101, 10), evaluatee(200, 20)));
+        when(dashBoardMapper.selectDashBoardItems(List.of(10, 11, 20)))
+                .thenReturn(List.of(item(1000, 10, 5), item(1001, 11, 5), item(1002, 20, 6)));
+        when(dashBoardMapper.selectDashBoardCriterias(List.of(5, 6)))
+                .thenReturn(List.of(criteria(1, 5), criteria(2, 5), criteria(3, 6)));
+        when(dashBoardMapper.selectDashBoardFormItems(List.of(100, 101, 200)))
+                .thenReturn(List.of(formItem(1, 100), formItem(2, 100), formItem(3, 200)));
+        when(dashBoardMapper.selectDashBoardTemplates(List.of(1, 2)))
+                .thenReturn(List.of(template(2), template(1)));
+
+        // When
+        List<DashBoardResponseDTO> result = dashBoardService.load(List.of(10, 11, 20), false);
+
+        // Then
+        assertThat(result).extracting(DashBoardResponseDTO::getEvaluationTemplateId).containsExactly(1, 2);
+
+        DashBoardEvaluationResponseDTO first = result.get(0).getEvaluations().get(0);
+        assertThat(result.get(0).getEvaluations()).extracting(DashBoardEvaluationResponseDTO::getEvaluationId)
+                .containsExactly(10, 11);
+        assertThat(first.getEvaluationItems()).hasSize(1);
+        assertThat(first.getEvaluationItems().get(0).getCriterias())
+                .extracting(DashBoardCriteriaResponseDTO::getCriteriaId).containsExactly(1, 2);
+        assertThat(first.getEvaluatees()).extracting(DashBoardEvaluateeResponseDTO::getEvaluationFormId)
+                .containsExactly(100, 101);
+        assertThat(first.getEvaluatees().get(0).getFormItems()).hasSize(2);
+        assertThat(first.getEvaluatees().get(1).getFormItems()).isEmpty();
+
+        DashBoardEvaluationResponseDTO noForm = result.get(0).getEvaluations().get(1);
+        assertThat(noForm.getEvaluatees()).isEmpty();
+        assertThat(noForm.getEvaluationItems().get(0).getCriterias()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("성공: 요약 조회는 평가 항목/기준/평가서 항목을 조회하지 않고 페이지 정보를 채운다")
+    void selectDashBoardPage_summary() {
+        // Given
+        when(dashBoardMapper.countDashBoardEvaluations(1, 3)).thenReturn(25L);
+        when(dashBoardMapper.selectDashBoardEvaluationIds(1, 3, 20, 10)).thenReturn(List.of(30));
+        when(dashBoardMapper.selectDashBoardEvaluations(List.of(30))).thenReturn(List.of(evaluation(30, 1)));
+        when(dashBoardMapper.selectDashBoardEvaluatees(List.of(30))).thenReturn(List.of(evaluatee(300, 30)));
+        when(dashBoardMapper.selectDashBoardTemplates(List.of(1))).thenReturn(List.of(template(1)));
+
+        // When
+        PageResponse<DashBoardResponseDTO> result = dashBoardService.selectDashBoardPage(1, 3, 2, 10, true);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(25);
+        DashBoardEvaluationResponseDTO evaluation = result.getContent().get(0).getEvaluations().get(0);
+        assertThat(evaluation.getEvaluationItems()).isEmpty();
+        assertThat(evaluation.getEvaluatees().get(0).getFormItems()).isEmpty();
+        verify(dashBoardMapper, never()).selectDashBoardItems(anyList());
+        verify(dashBoardMapper, never()).selectDashBoardCriterias(anyList());
+        verify(dashBoardMapper, never()).selectDashBoardFormItems(anyList());
+    }
+
+    @Test
+    @DisplayName("성공: 평가 수와 관계없이 단계별로 한 번씩만 조회하고, IN 절 크기를 넘는 ID 는 나누어 조회한다")
+    void load_queryCount() {
+        // Given - 평가 60건, 평가당 항목 5개 / 항목당 기준 5개 / 피평가자 20명(평가서 1,200건) / 평가서당 항목 1개
+        List<Integer> evaluationIds = new ArrayList<>();
+        List<DashBoardEvaluationResponseDTO> evaluations = new ArrayList<>();
+        List<DashBoardItemResponseDTO> items = new ArrayList<>();
+        List<DashBoardCriteriaResponseDTO> criterias = new ArrayList<>();
+        List<DashBoardEvaluateeResponseDTO> evaluatees = new ArrayList<>();
+        List<DashBoardFormItemResponseDTO> formItems = new ArrayList<>();
+        for (int e = 0; e < 60; e++) {
+            evaluationIds.add(e);
+            evaluations.add(evaluation(e, 1));
+            for (int i = 0; i < 5; i++) {
+                items.add(item(e * 5 + i, e, i));
+            }
+            for (int f = 0; f < 20; f++) {
+                int formId = e * 20 + f;
+                evaluatees.add(evaluatee(formId, e));
+                formItems.add(formItem(formId, formId));
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            for (int c = 0; c < 5; c++) {
+                criterias.add(criteria(i * 5 + c, i));
+            }
+        }
+        when(dashBoardMapper.selectDashBoardEvaluations(any())).thenReturn(evaluations);
+        when(dashBoardMapper.selectDashBoardEvaluatees(any())).thenReturn(evaluatees);
+        when(dashBoardMapper.selectDashBoardItems(any())).thenReturn(items);
+        when(dashBoardMapper.selectDashBoardCriterias(any())).thenReturn(criterias);
+        when(dashBoardMapper.selectDashBoardFormItems(any())).thenAnswer(invocation -> {
+            List<Integer> formIds = invocation.getArgument(0);
+            return formItems.stream().filter(formItem -> formIds.contains(formItem.getFormId())).toList();
+        });
+        when(dashBoardMapper.selectDashBoardTemplates(any())).thenReturn(List.of(template(1)));
+
+        // When
+        List<DashBoardResponseDTO> result = dashBoardService.load(evaluationIds, false);
+
+        // Then
+        verify(dashBoardMapper).selectDashBoardEvaluations(evaluationIds);
+        verify(dashBoardMapper).selectDashBoardEvaluatees(evaluationIds);
+        verify(dashBoardMapper).selectDashBoardItems(evaluationIds);
+        verify(dashBoardMapper).selectDashBoardCriterias(List.of(0, 1, 2, 3, 4));
+        verify(dashBoardMapper).selectDashBoardTemplates(List.of(1));
+        verify(dashBoardMapper, times(2)).selectDashBoardFormItems(formIdsCaptor.capture());
+        assertThat(formIdsCaptor.getAllValues()).extracting(List::size).containsExactly(1000, 200);
+        verifyNoMoreInteractions(dashBoardMapper);
+
+        DashBoardEvaluationResponseDTO last = result.get(0).getEvaluations().get(59);
+        assertThat(result.get(0).getEvaluations()).hasSize(60);
+        assertThat(last.getEvaluationItems()).hasSize(5)
+                .allSatisfy(item -> assertThat(item.getCriterias()).hasSize(5));
+        assertThat(last.getEvaluatees()).hasSize(20)
+                .allSatisfy(evaluatee -> assertThat(evaluatee.getFormItems()).hasSize(1));
+    }
+
+    private static DashBoardResponseDTO template(int templateId) {
+        DashBoardResponseDTO dto = new DashBoardResponseDTO();
+        dto.setEvaluationTemplateId(templateId);
+        return dto;
+    }
+
+    private static DashBoardEvaluationResponseDTO evaluation(int evaluationId, int templateId) {
+        DashBoardEvaluationResponseDTO dto = new DashBoardEvaluationResponseDTO();
+        dto.setEvaluationId(evaluationId);
+        dto.setEvaluationTemplateId(templateId);
+        return dto;
+    }
+
+    private static DashBoardItemResponseDTO item(int itemId, int evaluationId, int templateItemId) {
+        DashBoardItemResponseDTO dto = new DashBoardItemResponseDTO();
+        dto.setEvaluationItemId(itemId);
+        dto.setEvaluationId(evaluationId);
+        dto.setTemplateItemId(templateItemId);
+        return dto;
+    }
+
+    private static DashBoardCriteriaResponseDTO criteria(int criteriaId, int templateItemId) {
+        DashBoardCriteriaResponseDTO dto = new DashBoardCriteriaResponseDTO();
+        dto.setCriteriaId(criteriaId);
+        dto.setTemplateItemId(templateItemId);
+        return dto;
+    }
+
+    private static DashBoardEvaluateeResponseDTO evaluatee(int formId, int evaluationId) {
+        DashBoardEvaluateeResponseDTO dto = new DashBoardEvaluateeResponseDTO();
+        dto.setEvaluationFormId(formId);
+        dto.setEvaluationId(evaluationId);
+        return dto;
+    }
+
+    private static DashBoardFormItemResponseDTO formItem(int formItemId, int formId) {
+        DashBoardFormItemResponseDTO dto = new DashBoardFormItemResponseDTO();
+        dto.setFormItemId(formItemId);
+        dto.setFormId(formId);
+        return dto;
+    }
+}
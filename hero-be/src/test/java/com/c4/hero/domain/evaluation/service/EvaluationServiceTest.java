@@ -21,6 +21,7 @@ import com.c4.hero.domain.evaluation.dto.item.FormItemUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.item.TemplateItemRequestDTO;
 import com.c4.hero.domain.evaluation.dto.item.TemplateItemUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.period.EvaluationPeriodRequestDTO;
+import com.c4.hero.domain.evaluation.dto.response.EvaluationSaveResultDTO;
 import com.c4.hero.domain.evaluation.dto.score.ItemScoreRequestDTO;
 import com.c4.hero.domain.evaluation.dto.score.ItemScoreUpdateDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateRequestDTO;
@@ -30,12 +31,14 @@ import com.c4.hero.domain.evaluation.entity.FormItem;
 import com.c4.hero.domain.evaluation.entity.*;
 import com.c4.hero.domain.evaluation.mapper.*;
 import com.c4.hero.domain.evaluation.repository.*;
+import com.c4.hero.domain.notification.event.evaluation.EvaluationNotificationEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -93,6 +96,9 @@ class EvaluationServiceTest {
     @Mock
     private ItemScoreRepository itemScoreRepository;
 
+    @Mock
+    private EvaluationJdbcRepository evaluationJdbcRepository;
+
 
     /** Mapper Mocks */
     @Mock
@@ -111,7 +117,10 @@ class EvaluationServiceTest {
     private EvaluationFormMapper evaluationFormMapper;
 
     @Mock
-    private DashBoardMapper dashBoardMapper;
+    private EvaluationDashBoardService dashBoardService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     /** 테스트하려는 실제 evaluationService (내부 의존성들을 Mock 객체로 주입) */
     @InjectMocks
@@ -528,18 +537,20 @@ class EvaluationServiceTest {
                 return e;
             }).when(evaluationRepository).save(any(Evaluation.class));
 
+            when(evaluationJdbcRepository.insertSelectedItems(77, List.of(100))).thenReturn(1);
+            when(evaluationJdbcRepository.insertEvaluatees(77, List.of(
+                    new EvaluationJdbcRepository.NewEvaluatee(11, 0)))).thenReturn(1);
+
             //when
-            Integer evalId = evaluationService.createEvaluation(dto);
+            EvaluationSaveResultDTO result = evaluationService.createEvaluation(dto);
 
             //then
-            assertThat(evalId).isEqualTo(77);
+            assertThat(result.getId()).isEqualTo(77);
+            assertThat(result.getInsertedRows()).isEqualTo(3);
 
             verify(evaluationRepository).save(any(Evaluation.class));
-            verify(selectedItemRepository).save(selectedItemCaptor.capture());
-            assertThat(selectedItemCaptor.getValue().getEvaluationId()).isEqualTo(77);
-
-            verify(evaluateeRepository).save(evaluateeCaptor.capture());
-            assertThat(evaluateeCaptor.getValue().getEvaluationId()).isEqualTo(77);
+            verify(selectedItemRepository, never()).save(any());
+            verify(evaluateeRepository, never()).save(any());
         }
 
         @Test
@@ -617,11 +628,9 @@ class EvaluationServiceTest {
                 return f;
             }).when(formRepository).save(any(EvaluationForm.class));
 
-            doAnswer(inv -> {
-                com.c4.hero.domain.evaluation.entity.FormItem fi = inv.getArgument(0);
-                fi.setFormItemId(99);
-                return fi;
-            }).when(formItemRepository).save(any(com.c4.hero.domain.evaluation.entity.FormItem.class));
+            when(evaluationJdbcRepository.insertFormItems(55, List.of(
+                    new EvaluationJdbcRepository.NewFormItem(100, 0.5f, "desc")))).thenReturn(List.of(99));
+            when(evaluationJdbcRepository.insertItemScores(anyList())).thenReturn(1);
 
             Evaluatee evaluatee = new Evaluatee();
             when(evaluateeRepository.findByEvaluationIdAndEmployeeId(10, 11)).thenReturn(evaluatee);
@@ -629,19 +638,81 @@ class EvaluationServiceTest {
             when(evaluateeRepository.countByEvaluationIdAndStatus(10, 0)).thenReturn(1L);
 
             //when
-            Integer formId = evaluationService.createForm(dto);
+            EvaluationSaveResultDTO result = evaluationService.createForm(dto);
 
             //then
-            assertThat(formId).isEqualTo(55);
+            assertThat(result.getId()).isEqualTo(55);
+            assertThat(result.getInsertedRows()).isEqualTo(3);
 
             verify(formRepository).save(any(EvaluationForm.class));
-            verify(formItemRepository).save(any(com.c4.hero.domain.evaluation.entity.FormItem.class));
-            verify(itemScoreRepository).save(scoreCaptor.capture());
-            assertThat(scoreCaptor.getValue().getScore()).isEqualTo(80f);
+            verify(evaluationJdbcRepository).insertItemScores(List.of(
+                    new EvaluationJdbcRepository.NewItemScore(99, 80, "좋음", "A")));
 
             verify(evaluateeRepository).save(evaluatee);
             assertThat(evaluatee.getStatus()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("성공: 평가서 수정 시 항목/점수를 존재 확인 후 일괄 수정한다")
+        void updateForm_batchUpdate() {
+            // Given
+            EvaluationFormUpdateDTO dto = new EvaluationFormUpdateDTO();
+            dto.setEvaluationFormFormId(55);
+
+            FormItemUpdateDTO item1 = new FormItemUpdateDTO();
+            item1.setFormItemFormItemId(10);
+            item1.setFormItemWeight(0.7f);
+            ItemScoreUpdateDTO score1 = new ItemScoreUpdateDTO();
+            score1.setItemScoreItemScoreId(100);
+            score1.setItemScoreScore(90);
+            item1.setItemScore(score1);
+
+            FormItemUpdateDTO item2 = new FormItemUpdateDTO();
+            item2.setFormItemFormItemId(11);
+            item2.setFormItemWeight(0.3f);
+
+            dto.setFormItems(List.of(item1, item2));
+
+            EvaluationForm form = new EvaluationForm();
+            form.setFormId(55);
+            when(formRepository.findById(55)).thenReturn(Optional.of(form));
+            when(evaluationJdbcRepository.countFormItems(Set.of(10, 11))).thenReturn(2);
+            when(evaluationJdbcRepository.countItemScores(Set.of(100))).thenReturn(1);
+            when(evaluationJdbcRepository.updateFormItems(anyList())).thenReturn(2);
+            when(evaluationJdbcRepository.updateItemScores(anyList())).thenReturn(1);
+
+            // When
+            EvaluationSaveResultDTO result = evaluationService.updateForm(dto);
+
+            // Then
+            assertThat(result.getId()).isEqualTo(55);
+            assertThat(result.getUpdatedRows()).isEqualTo(4);
+            verify(evaluationJdbcRepository).updateItemScores(List.of(
+                    new EvaluationJdbcRepository.ItemScoreUpdate(100, 10, 90, null, null)));
+            verify(formItemRepository, never()).findById(anyInt());
+        }
+
+        @Test
+        @DisplayName("평가서 수정 실패: 없는 평가서 항목이 포함되면 수정하지 않는다")
+        void updateForm_fail_missingItem() {
+            // Given
+            EvaluationFormUpdateDTO dto = new EvaluationFormUpdateDTO();
+            dto.setEvaluationFormFormId(55);
+            FormItemUpdateDTO item = new FormItemUpdateDTO();
+            item.setFormItemFormItemId(10);
+            dto.setFormItems(List.of(item));
+
+            EvaluationForm form = new EvaluationForm();
+            form.setFormId(55);
+            when(formRepository.findById(55)).thenReturn(Optional.of(form));
+            when(evaluationJdbcRepository.countFormItems(Set.of(10))).thenReturn(0);
+
+            // When & Then
+            assertThatThrownBy(() -> evaluationService.updateForm(dto))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("수정할 평가서 항목이 없습니다.");
+            verify(evaluationJdbcRepository, never()).updateFormItems(anyList());
+        }
     }
 
     /** 평가서 채점 */
@@ -690,22 +761,8 @@ class EvaluationServiceTest {
             scoreEntity.setItemScoreId(100);
             when(itemScoreRepository.findById(100)).thenReturn(Optional.of(scoreEntity));
 
-            // 평가서 항목 2개 설정
-            FormItem fi1 = new FormItem();
-            fi1.setFormItemId(201);
-            fi1.setWeight(0.6f);
-
-            FormItem fi2 = new FormItem();
-            fi2.setFormItemId(202);
-            fi2.setWeight(0.4f);
-
-            when(formItemRepository.findByFormId(1)).thenReturn(List.of(fi1, fi2));
-
-            ItemScore s1 = new ItemScore(); s1.setScore(80);
-            ItemScore s2 = new ItemScore(); s2.setScore(90);
-
-            when(itemScoreRepository.findByFormItemId(201)).thenReturn(s1);
-            when(itemScoreRepository.findByFormItemId(202)).thenReturn(s2);
+            // 가중 평균 점수 집계 (80 × 0.6 + 90 × 0.4)
+            when(formItemRepository.calculateWeightedScore(1)).thenReturn(84.0);
 
             // 피평가자 상태 변경
             Evaluatee evaluatee = new Evaluatee();
@@ -726,6 +783,52 @@ class EvaluationServiceTest {
             verify(evaluateeRepository).save(evaluatee);
             assertThat(evaluatee.getStatus()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("성공: 마지막 피평가자 채점 시 등급을 일괄 확정하고 결과 알림을 한 번에 발행한다")
+        void gradingForm_lastEvaluatee_finalizeRanks() {
+            // Given
+            EvaluationFormUpdateDTO dto = new EvaluationFormUpdateDTO();
+            dto.setEvaluationFormFormId(1);
+            dto.setEvaluationFormTotal("총평");
+
+            EvaluationForm form = new EvaluationForm();
+            form.setFormId(1);
+            form.setEvaluationId(7);
+            form.setEmployeeId(11);
+            when(formRepository.findById(1)).thenReturn(Optional.of(form));
+            when(formItemRepository.calculateWeightedScore(1)).thenReturn(90.0);
+            when(evaluateeRepository.countByEvaluationIdAndStatusNot(7, 2)).thenReturn(0L);
+            when(formRepository.countByEvaluationId(7)).thenReturn(40L);
+
+            EvaluationForm f1 = new EvaluationForm();
+            f1.setFormId(1); f1.setEmployeeId(11); f1.setTotalScore(90f); f1.setTotalRank("S");
+            EvaluationForm f2 = new EvaluationForm();
+            f2.setFormId(2); f2.setEmployeeId(12); f2.setTotalScore(70f); f2.setTotalRank("A");
+            when(formRepository.findByEvaluationId(7)).thenReturn(List.of(f1, f2));
+
+            Evaluation evaluation = new Evaluation();
+            evaluation.setEvaluationId(7);
+            evaluation.setName("상반기 평가");
+            when(evaluationRepository.findById(7)).thenReturn(Optional.of(evaluation));
+
+            // When
+            evaluationService.gradingForm(dto);
+
+            // Then - 40명: S 1, A 8, B 26, C 4 → 누적 경계 1 / 9 / 35 / 39
+            verify(formRepository).updateRelativeRanks(7, 1, 9, 35, 39);
+            verify(formItemRepository, never()).findByFormId(anyInt());
+            assertThat(evaluation.getTotalScore()).isEqualTo(80f);
+            assertThat(evaluation.getStatus()).isEqualTo(2);
+
+            ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            EvaluationNotificationEvent.EvaluationGradedBatchEvent event =
+                    (EvaluationNotificationEvent.EvaluationGradedBatchEvent) eventCaptor.getValue();
+            assertThat(event.getForms())
+                    .extracting(EvaluationNotificationEvent.GradedForm::getGrade)
+                    .containsExactly("S", "A");
+        }
     }
 
     /** 대시보드 */
@@ -734,10 +837,10 @@ class EvaluationServiceTest {
     class DashboardTests {
 
         @Test
-        @DisplayName("selectAllDashBoard() mapper 결과 반환")
+        @DisplayName("selectAllDashBoard() 전체 부서 조회 결과 반환")
         void selectAllDashBoard_success() {
             List<DashBoardResponseDTO> list = List.of(new DashBoardResponseDTO());
-            when(dashBoardMapper.selectAllDashBoard()).thenReturn(list);
+            when(dashBoardService.selectDashBoard(null)).thenReturn(list);
 
             List<DashBoardResponseDTO> result = evaluationService.selectAllDashBoard();
 
@@ -745,10 +848,10 @@ class EvaluationServiceTest {
         }
 
         @Test
-        @DisplayName("selectDashBoard(deptId) mapper 결과 반환")
+        @DisplayName("selectDashBoard(deptId) 부서 조회 결과 반환")
         void selectDashBoard_success() {
             List<DashBoardResponseDTO> list = List.of(new DashBoardResponseDTO());
-            when(dashBoardMapper.selectDashBoard(2)).thenReturn(list);
+            when(dashBoardService.selectDashBoard(2)).thenReturn(list);
 
             List<DashBoardResponseDTO> result = evaluationService.selectDashBoard(2);
 
@@ -0,0 +1,117 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.mapper.NotificationMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 알림 다건 일괄 생성/전송 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationCommandServiceTest {
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private NotificationMySettingsService settingsService;
+
+    @Mock
+    private NotificationRelayService notificationRelayService;
+
+    @InjectMocks
+    private NotificationCommandService commandService;
+
+    @Captor
+    private ArgumentCaptor<List<NotificationDTO>> broadcastCaptor;
+
+    private static NotificationDTO notification(int employeeId, String type) {
+        return NotificationDTO.from(NotificationRegistDTO.builder()
+                .employeeId(employeeId)
+                .type(type)
+                .title("출근 미체크")
+                .message("출근 체크를 하지 않았습니다.")
+                .build());
+    }
+
+    private static NotificationSettingsDTO settings(int employeeId, boolean attendanceEnabled) {
+        return NotificationSettingsDTO.builder()
+                .employeeId(employeeId)
+                .attendanceEnabled(attendanceEnabled)
+                .build();
+    }
+
+    /** 드라이버가 multi-row INSERT 의 첫 번째 키만 돌려주는 경우를 흉내냄 */
+    private void givenFirstKeyOnly(int firstId) {
+        willAnswer(invocation -> {
+            List<NotificationDTO> rows = invocation.getArgument(0);
+            rows.get(0).setNotificationId(firstId);
+            return rows.size();
+        }).given(notificationMapper).insertNotifications(anyList());
+    }
+
+    @Test
+    @DisplayName("성공: 수신 거부한 직원을 제외하고 한 번의 INSERT 로 저장한 뒤 한 번에 전송한다")
+    void registAndSendNotifications_filtersAndInsertsOnce() {
+        // Given
+        List<NotificationDTO> pending = List.of(
+                notification(1, "attendance"),
+                notification(2, "attendance"),
+                notification(3, "attendance"));
+        given(settingsService.findSettingsByEmployeeIds(any())).willReturn(Map.of(
+                1, settings(1, true),
+                2, settings(2, false),
+                3, settings(3, true)));
+        givenFirstKeyOnly(100);
+
+        // When
+        List<NotificationDTO> sent = commandService.registAndSendNotifications(pending);
+
+        // Then
+        assertThat(sent).extracting(NotificationDTO::getEmployeeId).containsExactly(1, 3);
+        assertThat(sent).extracting(NotificationDTO::getNotificationId).containsExactly(100, 101);
+        verify(notificationMapper, times(1)).insertNotifications(anyList());
+
+        verify(notificationRelayService).broadcast(broadcastCaptor.capture());
+        assertThat(broadcastCaptor.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("성공: 대량 알림은 INSERT_CHUNK_SIZE 단위로 나누어 저장한다")
+    void registAndSendNotifications_insertsInChunks() {
+        // Given
+        List<NotificationDTO> pending = IntStream.rangeClosed(1, 1_200)
+                .mapToObj(employeeId -> notification(employeeId, "attendance"))
+                .toList();
+        given(settingsService.findSettingsByEmployeeIds(any())).willReturn(Map.of());
+        givenFirstKeyOnly(1);
+
+        // When
+        List<NotificationDTO> sent = commandService.registAndSendNotifications(pending);
+
+        // Then
+        assertThat(sent).hasSize(1_200);
+        verify(notificationMapper, times(3)).insertNotifications(anyList());
+    }
+}
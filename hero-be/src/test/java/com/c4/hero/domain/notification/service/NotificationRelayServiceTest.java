@@ -0,0 +1,118 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRelayMessage;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 노드 간 알림 중계 단위 테스트
+ */
+class NotificationRelayServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private StringRedisTemplate redisTemplate;
+    private WebSocketSessionManager sessionManager;
+    private NotificationRelayService relayService;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        sessionManager = new WebSocketSessionManager();
+        relayService = new NotificationRelayService(messagingTemplate, redisTemplate, objectMapper, sessionManager);
+        ReflectionTestUtils.setField(relayService, "relayEnabled", true);
+    }
+
+    private static NotificationDTO notification(int employeeId) {
+        return NotificationDTO.builder()
+                .notificationId(100)
+                .employeeId(employeeId)
+                .type("APPROVAL")
+                .title("결재 요청")
+                .message("새 결재 문서가 도착했습니다.")
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공: 로컬 구독자에게 전송하고 다른 노드로 중계 메시지를 발행한다")
+    void broadcast_deliversLocallyAndPublishes() {
+        // When
+        relayService.broadcast(notification(7));
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/notifications/7"), any(NotificationDTO.class));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(NotificationRelayService.RELAY_CHANNEL), payload.capture());
+
+        NotificationRelayMessage message = objectMapper.readValue(payload.getValue(), NotificationRelayMessage.class);
+        assertThat(message.origin()).isEqualTo(relayService.getInstanceId());
+        assertThat(message.notifications()).extracting(NotificationDTO::getNotificationId).containsExactly(100);
+        assertThat(sessionManager.getResponseTimeStats().totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 여러 알림도 프레임당 알림 객체 1건으로 전송하고, 중계 메시지는 한 번만 발행한다")
+    void broadcast_sendsOneNotificationPerFrame() {
+        // When
+        relayService.broadcast(List.of(notification(7), notification(7), notification(8)));
+
+        // Then
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/notifications/7"), any(NotificationDTO.class));
+        verify(messagingTemplate).convertAndSend(eq("/topic/notifications/8"), any(NotificationDTO.class));
+        verify(redisTemplate, times(1)).convertAndSend(eq(NotificationRelayService.RELAY_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 발행이 실패해도 로컬 전송은 유지된다")
+    void broadcast_keepsLocalDeliveryWhenRedisFails() {
+        // Given
+        willThrow(new IllegalStateException("redis down"))
+                .given(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // When
+        relayService.broadcast(notification(7));
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/notifications/7"), any(NotificationDTO.class));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 중계 메시지는 로컬 구독자에게 전송하고, 자신의 메시지는 무시한다")
+    void handleRelayMessage_deliversOnlyPeerMessages() {
+        // Given
+        String fromPeer = objectMapper.writeValueAsString(
+                new NotificationRelayMessage("peer-node", System.currentTimeMillis(), List.of(notification(9))));
+        String fromSelf = objectMapper.writeValueAsString(
+                new NotificationRelayMessage(relayService.getInstanceId(), System.currentTimeMillis(), List.of(notification(8))));
+
+        // When
+        relayService.handleRelayMessage(fromPeer);
+        relayService.handleRelayMessage(fromSelf);
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/notifications/9"), any(NotificationDTO.class));
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/notifications/8"), any(NotificationDTO.class));
+    }
+}
@@ -0,0 +1,35 @@
+package com.c4.hero.domain.notification.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WebSocket 다중 세션(탭) 관리 단위 테스트
+ */
+class WebSocketSessionManagerTest {
+
+    private final WebSocketSessionManager sessionManager = new WebSocketSessionManager();
+
+    @Test
+    @DisplayName("성공: 같은 직원의 여러 탭 세션을 모두 유지하고, 하나를 닫아도 나머지는 남는다")
+    void keepsMultipleSessionsPerEmployee() {
+        // Given
+        sessionManager.addSession("tab-1", 7, "홍길동");
+        sessionManager.addSession("tab-2", 7, "홍길동");
+        sessionManager.addSession("tab-3", 8, "김철수");
+
+        // When
+        sessionManager.removeSessionBySessionId("tab-1");
+
+        // Then
+        assertThat(sessionManager.hasSession(7)).isTrue();
+        assertThat(sessionManager.getActiveConnectionCount()).isEqualTo(2);
+        assertThat(sessionManager.getConnectedEmployeeCount()).isEqualTo(2);
+
+        sessionManager.removeSessionBySessionId("tab-2");
+        assertThat(sessionManager.hasSession(7)).isFalse();
+        assertThat(sessionManager.getConnectedEmployeeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컴파일된 급여 항목 정책 단위 테스트 (대상 선택, 평가 순서, 수식, 반올림)
+ */
+class CompiledPayrollPolicyTest {
+
+    @Test
+    @DisplayName("성공: 대상에 해당하는 수당만 적용하고 공제는 모든 수당 적용 후 지급총액 기준으로 계산한다")
+    void evaluate_targetsAndOrder() {
+        // Given
+        CompiledPayrollPolicy policy = CompiledPayrollPolicy.compile(1, List.of(
+                rule(4, ItemType.DEDUCTION, "PENSION", CalcMethod.RATE, null, new BigDecimal("4.5"),
+                        BaseAmountType.GROSS_PAY, 10, RoundingModeType.FLOOR, 0, null, List.of()),
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 100_000, List.of()),
+                fixed(2, ItemType.ALLOWANCE, "TEAM", 50_000,
+                        List.of(new PolicyRuleDefinition.Target(PayrollTargetType.DEPARTMENT, "10"))),
+                fixed(3, ItemType.ALLOWANCE, "BONUS", 30_000,
+                        List.of(new PolicyRuleDefinition.Target(PayrollTargetType.EMPLOYEE, "7")))
+        ));
+
+        // When
+        PayrollPolicyResult target = policy.evaluate(7, 10, 3, 3_000_000, 0, 9_600);
+        PayrollPolicyResult other = policy.evaluate(8, 20, 3, 3_000_000, 0, 9_600);
+
+        // Then
+        assertThat(target.allowanceTotal()).isEqualTo(180_000);
+        assertThat(target.deductionTotal()).isEqualTo(143_100);
+        assertThat(target.items()).extracting(PayrollPolicyResult.Item::itemCode)
+                .containsExactly("MEAL", "TEAM", "BONUS", "PENSION");
+
+        assertThat(other.allowanceTotal()).isEqualTo(100_000);
+        assertThat(other.deductionTotal()).isEqualTo(139_500);
+        assertThat(policy.itemCodes()).containsExactlyInAnyOrder("MEAL", "TEAM", "BONUS", "PENSION");
+    }
+
+    @Test
+    @DisplayName("성공: 수식은 변수/함수를 해석해 계산하고, 문법 오류는 컴파일 시점에 실패한다")
+    void formula_compileAndEvaluate() {
+        // Given
+        CompiledPayrollPolicy policy = CompiledPayrollPolicy.compile(1, List.of(
+                rule(1, ItemType.ALLOWANCE, "HOURLY", CalcMethod.FORMULA, null, null, null, 1,
+                        RoundingModeType.HALF_UP, 0, "max(BASE_SALARY * 0.01, 20000) + WORKED_HOURS * (500 + 500)",
+                        List.of())
+        ));
+
+        // When
+        PayrollPolicyResult result = policy.evaluate(1, 0, 0, 3_000_000, 0, 9_600);
+
+        // Then
+        assertThat(result.allowanceTotal()).isEqualTo(190_000);
+        assertThat(FormulaCompiler.compile("10 / (5 - 5)").evaluate(new double[PolicyVariable.SIZE])).isZero();
+        assertThatThrownBy(() -> FormulaCompiler.compile("BASE_SALARY *"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledPayrollPolicy.compile(1, List.of(
+                rule(1, ItemType.ALLOWANCE, "X", CalcMethod.FORMULA, null, null, null, 1,
+                        RoundingModeType.HALF_UP, 0, "UNKNOWN_PAY * 2", List.of()))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("X");
+    }
+
+    @Test
+    @DisplayName("성공: 반올림 단위/방식에 따라 금액을 한 번만 반올림한다")
+    void round_unitAndMode() {
+        // Given
+        long micros = 1_234_567_890L; // 1,234.56789원
+
+        // When & Then
+        assertThat(CompiledPayrollPolicy.round(micros, 10, RoundingModeType.FLOOR)).isEqualTo(1_230);
+        assertThat(CompiledPayrollPolicy.round(micros, 10, RoundingModeType.CEIL)).isEqualTo(1_240);
+        assertThat(CompiledPayrollPolicy.round(micros, 10, RoundingModeType.HALF_UP)).isEqualTo(1_230);
+        assertThat(CompiledPayrollPolicy.round(1_235_000_000L, 10, RoundingModeType.HALF_UP)).isEqualTo(1_240);
+        assertThat(CompiledPayrollPolicy.round(1_000_000L, 1, RoundingModeType.CEIL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 규칙이 64개를 넘어도 대상에 해당하는 규칙만 빠짐없이 정렬 순서대로 적용한다")
+    void evaluate_manyRules() {
+        // Given - 짝수 번째는 전체 대상, 홀수 번째는 직급 3 대상, 금액은 순번 + 1
+        List<PolicyRuleDefinition> definitions = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            List<PolicyRuleDefinition.Target> targets = i % 2 == 0
+                    ? List.of()
+                    : List.of(new PolicyRuleDefinition.Target(PayrollTargetType.POSITION, "3"));
+            definitions.add(rule(i, ItemType.ALLOWANCE, "A" + i, CalcMethod.FIXED, i + 1, null, null, 1,
+                    RoundingModeType.HALF_UP, i, null, targets));
+        }
+        CompiledPayrollPolicy policy = CompiledPayrollPolicy.compile(1, definitions);
+
+        // When
+        PayrollPolicyResult grade3 = policy.evaluate(1, 10, 3, 3_000_000, 0, 9_600);
+        PayrollPolicyResult grade4 = policy.evaluate(2, 10, 4, 3_000_000, 0, 9_600);
+
+        // Then
+        assertThat(policy.ruleCount()).isEqualTo(130);
+        assertThat(grade3.items()).hasSize(130);
+        assertThat(grade3.allowanceTotal()).isEqualTo(130 * 131 / 2);
+        assertThat(grade3.items()).extracting(PayrollPolicyResult.Item::itemCode)
+                .startsWith("A0", "A1", "A2").endsWith("A128", "A129");
+        assertThat(grade4.items()).hasSize(65);
+        assertThat(grade4.allowanceTotal()).isEqualTo(65 * 65);
+        assertThat(grade4.items()).extracting(PayrollPolicyResult.Item::itemCode)
+                .startsWith("A0", "A2").doesNotContain("A1", "A129");
+    }
+
+    private static PolicyRuleDefinition fixed(int id, ItemType type, String code, int amount,
+                                              List<PolicyRuleDefinition.Target> targets) {
+        return rule(id, type, code, CalcMethod.FIXED, amount, null, null, 1, RoundingModeType.HALF_UP, 0, null, targets);
+    }
+
+    private static PolicyRuleDefinition rule(int id, ItemType type, String code, CalcMethod method,
+                                             Integer fixedAmount, BigDecimal rate, BaseAmountType baseAmountType,
+                                             int roundingUnit, RoundingModeType roundingMode, int priority,
+                                             String formula, List<PolicyRuleDefinition.Target> targets) {
+        return new PolicyRuleDefinition(id, type, code, code, "Y", method, fixedAmount, rate, baseAmountType,
+                roundingUnit, roundingMode, priority, formula, targets);
+    }
+}
@@ -0,0 +1,133 @@
+package com.c4.hero.domain.retirement.service;
+
+import com.c4.hero.domain.retirement.dto.HrMetricsAggregateDTO;
+import com.c4.hero.domain.retirement.dto.HrMetricsSnapshotDTO;
+import com.c4.hero.domain.retirement.mapper.RetirementStatsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 퇴직 분석 월별 스냅샷 조회/재집계/무효화 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class HrMetricsSnapshotServiceTest {
+
+    @Mock
+    private RetirementStatsMapper retirementStatsMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HrMetricsSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new HrMetricsSnapshotService(retirementStatsMapper, objectMapper);
+    }
+
+    @Test
+    @DisplayName("성공: 기준일이 오늘인 당월 스냅샷이 있으면 집계 쿼리 없이 스냅샷을 반환한다")
+    void getCurrent_snapshotHit() {
+        // Given
+        LocalDate today = LocalDate.now();
+        HrMetricsAggregateDTO cached = aggregate(today, 10);
+        when(retirementStatsMapper.selectSnapshot(YearMonth.from(today).toString()))
+                .thenReturn(snapshot(today, objectMapper.writeValueAsString(cached)));
+
+        // When
+        HrMetricsAggregateDTO result = snapshotService.getCurrent();
+
+        // Then
+        assertThat(result).isEqualTo(cached);
+        verify(retirementStatsMapper, never()).selectSummaryCount(any(), any(), any());
+        verify(retirementStatsMapper, never()).upsertSnapshot(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷이 없으면(무효화 직후) 즉시 집계하고 당월 스냅샷으로 저장한다")
+    void getCurrent_missingSnapshot_recompute() {
+        // Given
+        LocalDate today = LocalDate.now();
+        stubAggregate(today, 11);
+        when(retirementStatsMapper.selectSnapshot(YearMonth.from(today).toString())).thenReturn(null);
+
+        // When
+        HrMetricsAggregateDTO result = snapshotService.getCurrent();
+
+        // Then
+        assertThat(result.baseDate()).isEqualTo(today);
+        assertThat(result.summary().retiredInLastYear()).isEqualTo(11);
+        verify(retirementStatsMapper).upsertSnapshot(
+                eq(YearMonth.from(today).toString()), eq(today), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("성공: 기준일이 지난 스냅샷은 사용하지 않고 오늘 기준으로 다시 집계한다")
+    void getCurrent_staleSnapshot_recompute() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        stubAggregate(today, 12);
+        when(retirementStatsMapper.selectSnapshot(YearMonth.from(today).toString()))
+                .thenReturn(snapshot(yesterday, objectMapper.writeValueAsString(aggregate(yesterday, 10))));
+
+        // When
+        HrMetricsAggregateDTO result = snapshotService.getCurrent();
+
+        // Then
+        assertThat(result.summary().retiredInLastYear()).isEqualTo(12);
+        verify(retirementStatsMapper).selectSummaryCount(today, today.minusYears(3), today.minusYears(1));
+    }
+
+    @Test
+    @DisplayName("성공: 무효화하면 당월 스냅샷 행을 삭제한다")
+    void invalidate_deleteCurrentMonth() {
+        // When
+        snapshotService.invalidate();
+
+        // Then
+        verify(retirementStatsMapper).deleteSnapshot(YearMonth.now().toString());
+    }
+
+    private void stubAggregate(LocalDate today, long retiredInLastYear) {
+        HrMetricsAggregateDTO aggregate = aggregate(today, retiredInLastYear);
+        when(retirementStatsMapper.selectSummaryCount(today, today.minusYears(3), today.minusYears(1)))
+                .thenReturn(aggregate.summary());
+        when(retirementStatsMapper.selectTenureCounts(today)).thenReturn(aggregate.tenures());
+        when(retirementStatsMapper.selectQuarterCounts(today)).thenReturn(aggregate.quarters());
+        when(retirementStatsMapper.selectDepartmentCounts(today)).thenReturn(aggregate.departments());
+        when(retirementStatsMapper.selectExitReasonCounts()).thenReturn(aggregate.exitReasons());
+    }
+
+    private HrMetricsAggregateDTO aggregate(LocalDate baseDate, long retiredInLastYear) {
+        return new HrMetricsAggregateDTO(
+                baseDate,
+                new HrMetricsAggregateDTO.SummaryCount(100, 90, 20, 15, 5, 95, retiredInLastYear),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+
+    private HrMetricsSnapshotDTO snapshot(LocalDate baseDate, String payload) {
+        return new HrMetricsSnapshotDTO(YearMonth.from(baseDate).toString(), baseDate, payload, LocalDateTime.now());
+    }
+}